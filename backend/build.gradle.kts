@@ -4,6 +4,7 @@ plugins {
     id("io.spring.dependency-management") version "1.1.4"
     id("jacoco")
     id("org.owasp.dependencycheck") version "10.0.3"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.petpro"
@@ -64,6 +65,16 @@ dependencies {
     implementation("org.apache.commons:commons-lang3:3.14.0")
     implementation("com.google.guava:guava:33.1.0-jre")
 
+    // Hibernate second-level cache (JCache with Caffeine as the local provider) and statistics metrics
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
+    // In-process caches (L1, near cache, single-flight load stats) use Caffeine directly
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("org.hibernate.orm:hibernate-micrometer")
+
+    // Cache value codec (Jackson Smile binary JSON, version managed by Spring Boot)
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+
     // AOP
     implementation("org.springframework.boot:spring-boot-starter-aop")
 
@@ -135,6 +146,14 @@ tasks.check {
     dependsOn(tasks.jacocoTestCoverageVerification)
 }
 
+// JMH Benchmark Configuration (src/jmh/java, 실행: ./gradlew jmh)
+jmh {
+    warmupIterations.set(2)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+}
+
 // OWASP Dependency-Check Configuration
 dependencyCheck {
     failBuildOnCVSS = 7.0f   // CVSS 7.0 이상 취약점 발견 시 빌드 실패
@@ -0,0 +1,110 @@
+package com.petpro.domain.location.index;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 근처 장례식장 검색 벤치마크
+ *
+ * - fullScanGreatCircle: FuneralHomeRepository.findNearbyWithDistance와 같은 방식
+ *   (전체 행에 대해 acos 구면 거리식을 WHERE/SELECT에서 두 번 계산 → 정렬 → LIMIT)
+ * - kdTreeWithinRadius: KdTree 경계 상자 가지치기 + 후보만 Haversine 계산
+ *
+ * DB 왕복/행 매핑 비용은 포함하지 않은 순수 CPU 비교입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NearbySearchBenchmark {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"10"})
+    private int radiusKm;
+
+    private static final int LIMIT = 20;
+
+    private double[] lats;
+    private double[] lngs;
+    private KdTree tree;
+    private double[] queryLats;
+    private double[] queryLngs;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        lats = new double[size];
+        lngs = new double[size];
+        for (int i = 0; i < size; i++) {
+            lats[i] = 34.0 + random.nextDouble() * 4.5;
+            lngs[i] = 126.0 + random.nextDouble() * 3.5;
+        }
+        tree = KdTree.build(lats, lngs);
+
+        queryLats = new double[1024];
+        queryLngs = new double[1024];
+        for (int i = 0; i < queryLats.length; i++) {
+            queryLats[i] = 34.0 + random.nextDouble() * 4.5;
+            queryLngs[i] = 126.0 + random.nextDouble() * 3.5;
+        }
+    }
+
+    @Benchmark
+    public int fullScanGreatCircle() {
+        int q = nextQuery();
+        double lat = queryLats[q];
+        double lng = queryLngs[q];
+
+        List<double[]> rows = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (greatCircle(lat, lng, lats[i], lngs[i]) <= radiusKm) {
+                rows.add(new double[]{i, greatCircle(lat, lng, lats[i], lngs[i])});
+            }
+        }
+        rows.sort(Comparator.comparingDouble(row -> row[1]));
+        return Math.min(rows.size(), LIMIT);
+    }
+
+    @Benchmark
+    public int kdTreeWithinRadius() {
+        int q = nextQuery();
+        return tree.withinRadius(queryLats[q], queryLngs[q], radiusKm, LIMIT, null).size();
+    }
+
+    @Benchmark
+    public int kdTreeNearest() {
+        int q = nextQuery();
+        return tree.nearest(queryLats[q], queryLngs[q], LIMIT, null).size();
+    }
+
+    private int nextQuery() {
+        cursor = (cursor + 1) & (queryLats.length - 1);
+        return cursor;
+    }
+
+    /**
+     * 네이티브 쿼리와 동일한 구면 코사인 법칙 거리식
+     */
+    private static double greatCircle(double lat1, double lng1, double lat2, double lng2) {
+        return EARTH_RADIUS_KM * Math.acos(
+                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                        * Math.cos(Math.toRadians(lng2) - Math.toRadians(lng1))
+                        + Math.sin(Math.toRadians(lat1)) * Math.sin(Math.toRadians(lat2)));
+    }
+}
@@ -0,0 +1,88 @@
+package com.petpro.domain.location.service;
+
+import com.petpro.domain.location.dto.Coordinates;
+import com.petpro.domain.location.dto.DistanceResult;
+import com.petpro.domain.location.index.TopKScan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최근접 K개 선택 벤치마크
+ *
+ * - streamSortAll: DistanceService.calculateDistances 방식 (목적지마다 DistanceResult 생성 → 전체 정렬) 후 앞 K개
+ * - topKHeap: TopKScan (병렬 배열 + 고정 크기 힙, PARALLEL_THRESHOLD 이상이면 ForkJoin)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DistanceTopKBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"10"})
+    private int k;
+
+    private final DistanceService distanceService = new DistanceService();
+
+    private double[] lats;
+    private double[] lngs;
+    private List<Coordinates> destinations;
+    private double[] queryLats;
+    private double[] queryLngs;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        lats = new double[size];
+        lngs = new double[size];
+        destinations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            lats[i] = 34.0 + random.nextDouble() * 4.5;
+            lngs[i] = 126.0 + random.nextDouble() * 3.5;
+            destinations.add(Coordinates.of(lats[i], lngs[i]));
+        }
+
+        queryLats = new double[1024];
+        queryLngs = new double[1024];
+        for (int i = 0; i < queryLats.length; i++) {
+            queryLats[i] = 34.0 + random.nextDouble() * 4.5;
+            queryLngs[i] = 126.0 + random.nextDouble() * 3.5;
+        }
+    }
+
+    @Benchmark
+    public long streamSortAll() {
+        int q = nextQuery();
+        List<DistanceResult> results = distanceService.calculateDistances(
+                Coordinates.of(queryLats[q], queryLngs[q]), destinations);
+        long sum = 0;
+        for (int i = 0; i < k; i++) {
+            sum += results.get(i).getDistanceMeters();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int topKHeap() {
+        int q = nextQuery();
+        return TopKScan.nearest(queryLats[q], queryLngs[q], lats, lngs, k).slot(0);
+    }
+
+    private int nextQuery() {
+        cursor = (cursor + 1) & (queryLats.length - 1);
+        return cursor;
+    }
+}
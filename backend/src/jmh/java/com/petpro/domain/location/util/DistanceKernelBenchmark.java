@@ -0,0 +1,102 @@
+package com.petpro.domain.location.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거리 계산 방식 벤치마크 (기준점 1개 → 대한민국 범위 지점 N개)
+ *
+ * - haversineCalculator: 기존 HaversineCalculator.calculate (쌍마다 toRadians·cos 2회·atan2)
+ * - queryExact: DistanceQuery.exactKm (기준점 값 재사용, asin)
+ * - queryApprox: DistanceQuery.approxKm (등장방형, 삼각함수 없음)
+ * - querySquared: DistanceQuery.squaredDistance (순위 비교용, 제곱근 없음)
+ * - queryWithinRadius: DistanceQuery.isWithinKm (근사 사전 필터 + 경계 부근만 Haversine)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DistanceKernelBenchmark {
+
+    private static final int POINTS = 4096;
+    private static final double QUERY_LAT = 37.5665;
+    private static final double QUERY_LNG = 126.9780;
+    private static final double RADIUS_KM = 50.0;
+
+    private double[] lats;
+    private double[] lngs;
+    private DistanceQuery query;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        lats = new double[POINTS];
+        lngs = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            // 기준점 주변 ±1도 (대부분 100km 이내)
+            lats[i] = QUERY_LAT + (random.nextDouble() * 2 - 1);
+            lngs[i] = QUERY_LNG + (random.nextDouble() * 2 - 1);
+        }
+        query = DistanceQuery.of(QUERY_LAT, QUERY_LNG);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public double haversineCalculator() {
+        double sum = 0;
+        for (int i = 0; i < POINTS; i++) {
+            sum += HaversineCalculator.calculate(QUERY_LAT, QUERY_LNG, lats[i], lngs[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public double queryExact() {
+        double sum = 0;
+        for (int i = 0; i < POINTS; i++) {
+            sum += query.exactKm(lats[i], lngs[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public double queryApprox() {
+        double sum = 0;
+        for (int i = 0; i < POINTS; i++) {
+            sum += query.approxKm(lats[i], lngs[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public double querySquared() {
+        double sum = 0;
+        for (int i = 0; i < POINTS; i++) {
+            sum += query.squaredDistance(lats[i], lngs[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public int queryWithinRadius() {
+        int count = 0;
+        for (int i = 0; i < POINTS; i++) {
+            if (query.isWithinKm(lats[i], lngs[i], RADIUS_KM)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
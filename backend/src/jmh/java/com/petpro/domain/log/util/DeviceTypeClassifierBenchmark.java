@@ -0,0 +1,67 @@
+package com.petpro.domain.log.util;
+
+import com.petpro.domain.log.entity.DeviceType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserAgent 디바이스 유형 판별 벤치마크 (매번 계산 vs 캐시)
+ *
+ * 실제 트래픽과 비슷하게 주요 브라우저·앱 UserAgent 몇 종류가 반복되는 상황을 가정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DeviceTypeClassifierBenchmark {
+
+    private static final String[] USER_AGENTS = {
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) "
+                    + "Chrome/124.0.0.0 Safari/537.36",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/605.1.15 (KHTML, like Gecko) "
+                    + "Version/17.4 Safari/605.1.15",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 17_4 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) "
+                    + "Version/17.4 Mobile/15E148 Safari/604.1",
+            "Mozilla/5.0 (Linux; Android 14; SM-S921N) AppleWebKit/537.36 (KHTML, like Gecko) "
+                    + "Chrome/124.0.0.0 Mobile Safari/537.36",
+            "Mozilla/5.0 (Linux; Android 13; SM-X710N) AppleWebKit/537.36 (KHTML, like Gecko) "
+                    + "Chrome/124.0.0.0 Safari/537.36",
+            "Mozilla/5.0 (iPad; CPU OS 17_4 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) "
+                    + "Version/17.4 Mobile/15E148 Safari/604.1",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64; rv:125.0) Gecko/20100101 Firefox/125.0",
+            "okhttp/4.12.0"
+    };
+
+    private String[] requests;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        // 문자열 동일성 비교로 캐시가 유리해지지 않도록 요청마다 새 문자열 사용
+        requests = new String[1024];
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = new String(USER_AGENTS[i % USER_AGENTS.length]);
+        }
+    }
+
+    @Benchmark
+    public DeviceType classify() {
+        return RequestContextUtil.classifyDeviceType(next());
+    }
+
+    @Benchmark
+    public DeviceType cached() {
+        return RequestContextUtil.detectDeviceType(next());
+    }
+
+    private String next() {
+        cursor = (cursor + 1) & (requests.length - 1);
+        return requests[cursor];
+    }
+}
@@ -0,0 +1,114 @@
+package com.petpro.global.cache;
+
+import com.petpro.domain.funeralhome.dto.FuneralHomeResponse;
+import com.petpro.domain.region.dto.RegionResponse;
+import com.petpro.domain.region.entity.RegionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 값 형식 벤치마크 (JSON vs SMILE)
+ *
+ * - 근처 검색 결과: FuneralHomeResponse.NearbyResult (항목 100개)
+ * - 지역 계층: RegionResponse.HierarchyListDto (광역 17개 × 시군구 15개)
+ *
+ * 직렬화 크기는 Setup에서 표준 출력으로 기록합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheCodecBenchmark {
+
+    @Param({"JSON", "SMILE"})
+    private CacheCodec codec;
+
+    private CacheValueSerializer serializer;
+    private FuneralHomeResponse.NearbyResult nearby;
+    private RegionResponse.HierarchyListDto hierarchy;
+    private byte[] nearbyBytes;
+    private byte[] hierarchyBytes;
+
+    @Setup
+    public void setUp() {
+        serializer = new CacheValueSerializer(codec, 0);
+        nearby = nearbyResult(100);
+        hierarchy = hierarchy(17, 15);
+        nearbyBytes = serializer.serialize(nearby);
+        hierarchyBytes = serializer.serialize(hierarchy);
+        System.out.printf("%n[%s] payload bytes: nearby=%d, hierarchy=%d%n",
+                codec, nearbyBytes.length, hierarchyBytes.length);
+    }
+
+    @Benchmark
+    public byte[] serializeNearby() {
+        return serializer.serialize(nearby);
+    }
+
+    @Benchmark
+    public Object deserializeNearby() {
+        return serializer.deserialize(nearbyBytes);
+    }
+
+    @Benchmark
+    public byte[] serializeHierarchy() {
+        return serializer.serialize(hierarchy);
+    }
+
+    @Benchmark
+    public Object deserializeHierarchy() {
+        return serializer.deserialize(hierarchyBytes);
+    }
+
+    private static FuneralHomeResponse.NearbyResult nearbyResult(int size) {
+        List<FuneralHomeResponse.ListItem> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(FuneralHomeResponse.ListItem.builder()
+                    .id((long) i)
+                    .name("반려동물 장례식장 " + i)
+                    .roadAddress("경기도 성남시 분당구 판교역로 " + i)
+                    .phone("031-000-" + i)
+                    .locName("경기도")
+                    .hasCrematorium(i % 2 == 0)
+                    .hasColumbarium(i % 3 == 0)
+                    .hasFuneral(true)
+                    .latitude(new BigDecimal("37.3").add(BigDecimal.valueOf(i, 4)))
+                    .longitude(new BigDecimal("127.1").add(BigDecimal.valueOf(i, 4)))
+                    .distance(i * 0.137)
+                    .build());
+        }
+        return FuneralHomeResponse.NearbyResult.builder().content(items).totalCount(size).radius(10).build();
+    }
+
+    private static RegionResponse.HierarchyListDto hierarchy(int metros, int citiesPerMetro) {
+        List<RegionResponse.HierarchyDto> regions = new ArrayList<>(metros);
+        for (int m = 0; m < metros; m++) {
+            List<RegionResponse.HierarchyDto> cities = new ArrayList<>(citiesPerMetro);
+            for (int c = 0; c < citiesPerMetro; c++) {
+                cities.add(RegionResponse.HierarchyDto.builder()
+                        .code(String.format("%02d%03d", m + 11, c * 10))
+                        .name("시군구 " + c)
+                        .type(RegionType.CITY)
+                        .children(List.of())
+                        .build());
+            }
+            regions.add(RegionResponse.HierarchyDto.builder()
+                    .code(String.valueOf(m + 11))
+                    .name("광역시도 " + m)
+                    .type(RegionType.METRO)
+                    .children(cities)
+                    .build());
+        }
+        return new RegionResponse.HierarchyListDto(regions);
+    }
+}
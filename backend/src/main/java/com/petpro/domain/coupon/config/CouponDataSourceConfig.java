@@ -1,5 +1,7 @@
 package com.petpro.domain.coupon.config;
 
+import com.petpro.global.cache.SecondLevelCacheSupport;
+import com.petpro.global.config.SecondLevelCacheConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import jakarta.persistence.EntityManagerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -22,6 +24,7 @@ import java.util.Map;
  * 쿠폰 데이터베이스 설정
  *
  * 별도의 데이터소스, EntityManagerFactory, TransactionManager 설정
+ * Hibernate 2차 캐시는 메인 유닛과 별도의 캐시 관리자(SecondLevelCacheConfig의 coupon 유닛 영역)를 사용합니다.
  */
 @Configuration
 @EnableTransactionManagement
@@ -50,7 +53,8 @@ public class CouponDataSourceConfig {
     @Bean
     public LocalContainerEntityManagerFactoryBean couponEntityManagerFactory(
             EntityManagerFactoryBuilder builder,
-            @Qualifier("couponDataSource") DataSource dataSource) {
+            @Qualifier("couponDataSource") DataSource dataSource,
+            SecondLevelCacheConfig secondLevelCacheConfig) {
 
         Map<String, Object> properties = new HashMap<>();
         properties.put("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
@@ -58,6 +62,7 @@ public class CouponDataSourceConfig {
         properties.put("hibernate.format_sql", true);
         properties.put("hibernate.physical_naming_strategy",
                 "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy");
+        SecondLevelCacheSupport.apply(properties, "coupon", secondLevelCacheConfig);
 
         return builder
                 .dataSource(dataSource)
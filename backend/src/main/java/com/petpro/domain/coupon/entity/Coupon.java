@@ -2,6 +2,8 @@ package com.petpro.domain.coupon.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -11,8 +13,12 @@ import java.util.List;
 
 /**
  * 쿠폰 마스터 엔티티
+ *
+ * Hibernate 2차 캐시(coupons 영역, 조건 목록은 coupons.conditions 영역) 대상
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "coupons")
 @Table(name = "coupons", indexes = {
     @Index(name = "idx_coupons_type", columnList = "couponTypeId"),
     @Index(name = "idx_coupons_issue_type", columnList = "issueType"),
@@ -114,6 +120,7 @@ public class Coupon {
     // ========== 조건 ==========
 
     @OneToMany(mappedBy = "coupon", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "coupons.conditions")
     @Builder.Default
     private List<CouponCondition> conditions = new ArrayList<>();
 
@@ -2,13 +2,19 @@ package com.petpro.domain.coupon.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 /**
  * 쿠폰 조건 엔티티 (EAV 패턴)
+ *
+ * Hibernate 2차 캐시(couponConditions 영역) 대상
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "couponConditions")
 @Table(name = "coupon_conditions", indexes = {
     @Index(name = "idx_coupon_conditions_coupon", columnList = "coupon_id")
 })
@@ -2,13 +2,19 @@ package com.petpro.domain.coupon.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 /**
  * 쿠폰 유형 엔티티
+ *
+ * Hibernate 2차 캐시(couponTypes 영역) 대상
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "couponTypes")
 @Table(name = "coupon_types")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
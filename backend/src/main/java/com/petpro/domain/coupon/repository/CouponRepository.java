@@ -2,10 +2,15 @@ package com.petpro.domain.coupon.repository;
 
 import com.petpro.domain.coupon.entity.AutoIssueEvent;
 import com.petpro.domain.coupon.entity.Coupon;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,8 +23,17 @@ import java.util.Optional;
 @Repository
 public interface CouponRepository extends JpaRepository<Coupon, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Coupon> findByCode(String code);
 
+    /**
+     * 발급용 조회 (행 잠금)
+     * 잠금 조회는 2차 캐시를 거치지 않으므로 다른 노드에서 바뀐 발급 수량도 최신 값으로 읽습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Coupon c WHERE c.id = :id")
+    Optional<Coupon> findByIdForUpdate(@Param("id") Long id);
+
     List<Coupon> findByIsActiveTrue();
 
     Page<Coupon> findByIsActiveTrue(Pageable pageable);
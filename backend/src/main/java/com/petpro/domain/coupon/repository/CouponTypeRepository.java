@@ -1,7 +1,10 @@
 package com.petpro.domain.coupon.repository;
 
 import com.petpro.domain.coupon.entity.CouponType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,7 +16,9 @@ import java.util.Optional;
 @Repository
 public interface CouponTypeRepository extends JpaRepository<CouponType, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<CouponType> findByCode(String code);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<CouponType> findByIsActiveTrue();
 }
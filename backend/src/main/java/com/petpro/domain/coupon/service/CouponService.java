@@ -107,7 +107,8 @@ public class CouponService {
 
     @Transactional(transactionManager = "couponTransactionManager")
     public CouponResponse.MyCoupon issueCoupon(Long couponId, Long userId) {
-        Coupon coupon = couponRepository.findById(couponId)
+        // 발급 수량은 2차 캐시가 아닌 DB에서 잠금과 함께 읽음
+        Coupon coupon = couponRepository.findByIdForUpdate(couponId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
 
         if (!coupon.canIssue()) {
@@ -0,0 +1,50 @@
+package com.petpro.domain.funeralhome.config;
+
+import com.petpro.domain.funeralhome.service.GovApiService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 장례식장 동기화 설정
+ *
+ * 바인딩 시 값 범위를 검증하며, 범위를 벗어나면 애플리케이션이 시작되지 않습니다.
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "app.funeral-home.sync")
+public class FuneralHomeSyncConfig {
+
+    /** 동기화 저장 방식 */
+    private Engine engine = Engine.BATCH;
+
+    /**
+     * API 페이지 크기 (BATCH 방식에서는 커밋 단위)
+     * 공공 API의 numOfRows 최대값(100)을 넘으면 API가 줄여서 응답하므로 마지막 페이지 판단이 틀어짐
+     */
+    @Min(1)
+    @Max(GovApiService.MAX_NUM_OF_ROWS)
+    private int pageSize = 100;
+
+    /** 공공 API 페이지 동시 조회 수 (1이면 한 페이지씩 순차 조회) */
+    private int fetchConcurrency = 4;
+
+    /** 조회 후 처리 대기 페이지 수 (처리가 밀리면 조회도 대기) */
+    private int fetchQueueCapacity = 8;
+
+    /** 동기화 실행 리스 보유 시간 (초, 페이지마다 연장) */
+    private long leaseTtlSeconds = 600;
+
+    public enum Engine {
+        /** 페이지 단위 JDBC batch upsert, 페이지마다 커밋 */
+        BATCH,
+        /** 항목마다 조회 후 엔티티 저장, 전체를 한 트랜잭션으로 처리 */
+        ENTITY
+    }
+}
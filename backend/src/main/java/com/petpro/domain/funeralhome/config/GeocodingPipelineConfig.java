@@ -0,0 +1,33 @@
+package com.petpro.domain.funeralhome.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 장례식장 Geocoding 파이프라인 설정
+ *
+ * 초당 요청 수와 재시도 횟수는 GoogleMapsConfig(location.google-maps)를 따릅니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.funeral-home.geocoding")
+public class GeocodingPipelineConfig {
+
+    /** 동시에 API를 호출하는 가상 스레드 워커 수 */
+    private int workers = 16;
+
+    /** 대상 조회 및 좌표 일괄 저장 단위 */
+    private int batchSize = 100;
+
+    /** 재시도 기본 대기 시간 (ms, 시도마다 2배씩 증가) */
+    private long retryBackoffMs = 500;
+
+    /** 애플리케이션 시작 시 좌표 없는 항목 처리 재개 여부 (여러 노드가 동시에 재시작할 때 API 호출이 몰리지 않도록 기본 꺼짐) */
+    private boolean resumeOnStartup = false;
+
+    /** 파이프라인 실행 리스 보유 시간 (초, 배치마다 연장) */
+    private long leaseTtlSeconds = 300;
+}
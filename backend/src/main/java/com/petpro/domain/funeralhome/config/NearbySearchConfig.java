@@ -0,0 +1,40 @@
+package com.petpro.domain.funeralhome.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 근처 장례식장 검색 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.funeral-home.nearby")
+public class NearbySearchConfig {
+
+    /** 검색 방식 (INDEX: 메모리 공간 인덱스, SQL: DB 네이티브 쿼리) */
+    private Mode mode = Mode.INDEX;
+
+    /** 검색 결과 캐시 설정 */
+    private Cache cache = new Cache();
+
+    public enum Mode {
+        /** 메모리 KD-Tree 인덱스 사용 (인덱스 미적재 시 SQL로 대체) */
+        INDEX,
+        /** FuneralHomeRepository.findNearbyWithDistance 사용 */
+        SQL
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /** 캐시 사용 여부 */
+        private boolean enabled = true;
+
+        /** 검색 좌표를 양자화할 geohash 정밀도 (6: 약 1.2km x 0.6km 셀) */
+        private int geohashPrecision = 6;
+    }
+}
@@ -43,6 +43,8 @@ public class AdminFuneralHomeController {
             @RequestParam(required = false) Boolean hasColumbarium,
             @Parameter(description = "활성화 상태")
             @RequestParam(required = false) Boolean isActive,
+            @Parameter(description = "정렬 기준 (NAME: 이름순, RELEVANCE: 키워드 일치도순)")
+            @RequestParam(defaultValue = "NAME") FuneralHomeRequest.ListSort sort,
             @Parameter(description = "페이지 번호")
             @RequestParam(defaultValue = "0") Integer page,
             @Parameter(description = "페이지 크기")
@@ -55,6 +57,7 @@ public class AdminFuneralHomeController {
                 .hasFuneral(hasFuneral)
                 .hasColumbarium(hasColumbarium)
                 .isActive(isActive) // 관리자는 모든 상태 조회 가능
+                .sort(sort)
                 .page(page)
                 .size(size)
                 .build();
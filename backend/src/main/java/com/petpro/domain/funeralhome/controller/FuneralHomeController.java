@@ -78,6 +78,8 @@ public class FuneralHomeController {
             @RequestParam(required = false) Boolean hasFuneral,
             @Parameter(description = "납골당 필터")
             @RequestParam(required = false) Boolean hasColumbarium,
+            @Parameter(description = "정렬 기준 (NAME: 이름순, RELEVANCE: 키워드 일치도순)")
+            @RequestParam(defaultValue = "NAME") FuneralHomeRequest.ListSort sort,
             @Parameter(description = "페이지 번호")
             @RequestParam(defaultValue = "0") Integer page,
             @Parameter(description = "페이지 크기")
@@ -90,6 +92,7 @@ public class FuneralHomeController {
                 .hasFuneral(hasFuneral)
                 .hasColumbarium(hasColumbarium)
                 .isActive(true) // 사용자 API는 활성화된 항목만
+                .sort(sort)
                 .page(page)
                 .size(size)
                 .build();
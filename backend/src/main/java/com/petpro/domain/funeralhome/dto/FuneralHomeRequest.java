@@ -62,6 +62,9 @@ public class FuneralHomeRequest {
         private Boolean hasColumbarium;
         private Boolean isActive;
 
+        @Builder.Default
+        private ListSort sort = ListSort.NAME;
+
         @Builder.Default
         private Integer page = 0;
 
@@ -69,6 +72,16 @@ public class FuneralHomeRequest {
         private Integer size = 20;
     }
 
+    /**
+     * 목록 정렬 기준
+     */
+    public enum ListSort {
+        /** 이름순 */
+        NAME,
+        /** 키워드 일치도순 (이름 > 도로명 주소 > 지번 주소, 전체 일치 > 앞부분 일치 > 부분 일치), 같으면 이름순 */
+        RELEVANCE
+    }
+
     /**
      * 상태 변경 요청 (관리자)
      */
@@ -57,6 +57,39 @@ public class FuneralHomeResponse {
         public static ListItem from(FuneralHome home) {
             return from(home, null);
         }
+
+        /**
+         * 거리만 바꾼 사본 생성 (캐시된 후보를 호출자 좌표 기준으로 재정렬할 때 사용)
+         */
+        public ListItem withDistance(Double distance) {
+            return ListItem.builder()
+                    .id(id)
+                    .name(name)
+                    .roadAddress(roadAddress)
+                    .phone(phone)
+                    .locName(locName)
+                    .hasCrematorium(hasCrematorium)
+                    .hasColumbarium(hasColumbarium)
+                    .hasFuneral(hasFuneral)
+                    .latitude(latitude)
+                    .longitude(longitude)
+                    .distance(distance)
+                    .build();
+        }
+    }
+
+    /**
+     * 근처 검색 후보 캐시 항목
+     *
+     * geohash 셀 중심 기준으로 (반경 + 셀 외접 반경) 안에 있는 장례식장 전체를 보관합니다.
+     * 셀 안의 어느 좌표에서 검색하더라도 반경 내 결과는 모두 이 후보에 포함됩니다.
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class NearbyCandidates {
+        private List<ListItem> content;
     }
 
     /**
@@ -90,7 +123,7 @@ public class FuneralHomeResponse {
         private Services services;
         private Location location;
         private Boolean isActive;
-        private LocalDateTime syncedAt;
+        private LocalDateTime syncedAt; // 동기화로 내용이 마지막으로 바뀐 시간
         private LocalDateTime createdAt;
 
         public static Detail from(FuneralHome home) {
@@ -154,8 +187,11 @@ public class FuneralHomeResponse {
         private Integer insertedCount;
         private Integer updatedCount;
         private Integer deletedCount;
+        private Integer unchangedCount;
         private Integer errorCount;
         private String errorMessage;
+        private Long elapsedMs;
+        private Double rowsPerSecond;
 
         public static SyncLogItem from(FuneralHomeSyncLog log) {
             return SyncLogItem.builder()
@@ -168,8 +204,11 @@ public class FuneralHomeResponse {
                     .insertedCount(log.getInsertedCount())
                     .updatedCount(log.getUpdatedCount())
                     .deletedCount(log.getDeletedCount())
+                    .unchangedCount(log.getUnchangedCount())
                     .errorCount(log.getErrorCount())
                     .errorMessage(log.getErrorMessage())
+                    .elapsedMs(log.getElapsedMs())
+                    .rowsPerSecond(log.getRowsPerSecond())
                     .build();
         }
     }
@@ -189,6 +228,9 @@ public class FuneralHomeResponse {
         private Integer insertedCount;
         private Integer updatedCount;
         private Integer deletedCount;
+        private Integer unchangedCount;
+        private Integer errorCount;
+        private Double rowsPerSecond;
         private String message;
     }
 }
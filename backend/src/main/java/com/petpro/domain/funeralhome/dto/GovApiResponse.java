@@ -2,6 +2,7 @@ package com.petpro.domain.funeralhome.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.petpro.domain.funeralhome.entity.FuneralHome;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -81,6 +82,14 @@ public class GovApiResponse {
         /** 전화번호 */
         private String telno;
 
+        /**
+         * 동기화 내용 지문 (FuneralHome.contentHash와 비교)
+         */
+        public String contentHash() {
+            return FuneralHome.contentHashOf(roadAddr, lotAddr, telno,
+                    hasCrematorium(), hasColumbarium(), hasFuneral());
+        }
+
         /**
          * 화장장 보유 여부
          */
@@ -3,16 +3,27 @@ package com.petpro.domain.funeralhome.entity;
 import com.petpro.global.common.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Objects;
 
 /**
  * 장례식장 엔티티
  *
  * 공공데이터포털 동물장묘업 API로부터 동기화된 장례식장 정보
+ *
+ * Hibernate 2차 캐시(funeralHomes 영역) 대상이며, JDBC 동기화 후에는 FuneralHomeEntityCacheEvictor가 영역을 비웁니다.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "funeralHomes")
 @Table(name = "funeral_homes", indexes = {
     @Index(name = "idx_funeral_homes_loc_code", columnList = "locCode"),
     @Index(name = "idx_funeral_homes_is_active", columnList = "isActive"),
@@ -88,6 +99,13 @@ public class FuneralHome extends BaseEntity {
     /** Geocoding 완료 시간 */
     private LocalDateTime geocodedAt;
 
+    /** 주소로 좌표를 찾지 못한 Geocoding 실패 상태 (주소가 바뀌면 초기화, 값이 있으면 Geocoding 대상에서 제외) */
+    @Column(length = 30)
+    private String geocodeStatus;
+
+    /** Geocoding 실패 기록 시간 */
+    private LocalDateTime geocodeAttemptedAt;
+
     // ========== 상태 ==========
 
     /** 활성화 여부 */
@@ -98,9 +116,16 @@ public class FuneralHome extends BaseEntity {
     /** 검증 완료 시간 */
     private LocalDateTime verifiedAt;
 
-    /** 마지막 동기화 시간 */
+    /**
+     * 동기화로 내용이 마지막으로 바뀐 시간
+     * 내용 지문이 같아 건너뛴 항목은 갱신하지 않습니다 (마지막 동기화 실행 시각은 funeral_home_sync_logs 참고).
+     */
     private LocalDateTime syncedAt;
 
+    /** 동기화 내용 지문 (API가 갱신하는 필드의 SHA-256, 변경 감지용) */
+    @Column(length = 64)
+    private String contentHash;
+
     // ========== 비즈니스 메서드 ==========
 
     /**
@@ -121,6 +146,7 @@ public class FuneralHome extends BaseEntity {
                 .hasFuneral(funeral)
                 .isActive(true)
                 .syncedAt(LocalDateTime.now())
+                .contentHash(contentHashOf(roadAddr, lotAddr, phone, crematorium, columbarium, funeral))
                 .build();
     }
 
@@ -129,6 +155,11 @@ public class FuneralHome extends BaseEntity {
      */
     public void updateFromApi(String roadAddr, String lotAddr, String phone,
                               boolean crematorium, boolean columbarium, boolean funeral) {
+        if (!Objects.equals(this.roadAddress, roadAddr) || !Objects.equals(this.lotAddress, lotAddr)) {
+            // 주소가 바뀌면 이전 주소의 Geocoding 실패 기록은 의미가 없음
+            this.geocodeStatus = null;
+            this.geocodeAttemptedAt = null;
+        }
         this.roadAddress = roadAddr;
         this.lotAddress = lotAddr;
         this.phone = phone;
@@ -136,6 +167,30 @@ public class FuneralHome extends BaseEntity {
         this.hasColumbarium = columbarium;
         this.hasFuneral = funeral;
         this.syncedAt = LocalDateTime.now();
+        this.contentHash = contentHashOf(roadAddr, lotAddr, phone, crematorium, columbarium, funeral);
+    }
+
+    /**
+     * 동기화 내용 지문 계산
+     * updateFromApi가 갱신하는 필드만 대상으로 하며, 같은 값이면 항상 같은 지문이 나옵니다.
+     */
+    public static String contentHashOf(String roadAddr, String lotAddr, String phone,
+                                       boolean crematorium, boolean columbarium, boolean funeral) {
+        StringBuilder source = new StringBuilder(256);
+        for (String field : new String[]{roadAddr, lotAddr, phone}) {
+            // null과 빈 문자열을 구분하고, 필드 경계를 구분자로 고정
+            source.append(field == null ? "\u0000" : field).append('\u001F');
+        }
+        source.append(crematorium ? 'Y' : 'N')
+                .append(columbarium ? 'Y' : 'N')
+                .append(funeral ? 'Y' : 'N');
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     /**
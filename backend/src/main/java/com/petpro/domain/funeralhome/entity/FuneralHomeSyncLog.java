@@ -58,6 +58,10 @@ public class FuneralHomeSyncLog {
     @Builder.Default
     private Integer deletedCount = 0;
 
+    /** 내용이 바뀌지 않아 건너뛴 건수 (updatedCount는 내용이 바뀐 기존 항목) */
+    @Builder.Default
+    private Integer unchangedCount = 0;
+
     /** 에러 건수 */
     @Builder.Default
     private Integer errorCount = 0;
@@ -66,6 +70,15 @@ public class FuneralHomeSyncLog {
     @Column(columnDefinition = "TEXT")
     private String errorMessage;
 
+    /** 소요 시간 (ms) */
+    private Long elapsedMs;
+
+    /** 초당 처리 건수 */
+    private Double rowsPerSecond;
+
+    /** 실행 리스 펜싱 토큰 */
+    private Long fencingToken;
+
     // ========== 비즈니스 메서드 ==========
 
     /**
@@ -79,6 +92,15 @@ public class FuneralHomeSyncLog {
                 .build();
     }
 
+    /**
+     * 동기화 시작 로그 생성 (실행 리스 보유)
+     */
+    public static FuneralHomeSyncLog start(SyncType syncType, long fencingToken) {
+        FuneralHomeSyncLog syncLog = start(syncType);
+        syncLog.fencingToken = fencingToken;
+        return syncLog;
+    }
+
     /**
      * 동기화 완료 처리
      */
@@ -113,4 +135,21 @@ public class FuneralHomeSyncLog {
         this.status = SyncStatus.FAILED;
         this.errorMessage = errorMessage;
     }
+
+    /**
+     * 변경 없음 건수 기록
+     */
+    public void recordUnchanged(int unchanged) {
+        this.unchangedCount = unchanged;
+    }
+
+    /**
+     * 처리 속도 기록 (totalCount 기준)
+     */
+    public void recordThroughput(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+        this.rowsPerSecond = elapsedMs > 0 && totalCount != null
+                ? totalCount * 1000.0 / elapsedMs
+                : null;
+    }
 }
@@ -0,0 +1,19 @@
+package com.petpro.domain.funeralhome.event;
+
+/**
+ * 장례식장 데이터 변경 이벤트
+ *
+ * 동기화 완료, 관리자 상태 변경 등 funeral_homes 테이블이 바뀐 뒤 발행되며,
+ * 메모리 인덱스처럼 테이블 내용을 복제해 두는 컴포넌트가 재적재 시점으로 사용합니다.
+ * 변경한 노드에서 발행된 이벤트는 FuneralHomeDataChangeBroadcaster가 다른 노드에 전달하고,
+ * 다른 노드는 remote=true인 이벤트로 다시 발행해 같은 리스너(재적재 후 캐시 비우기)를 실행합니다.
+ *
+ * @param reason 변경 사유 (로그용)
+ * @param remote 다른 노드에서 전달된 이벤트 여부 (다시 전달하지 않음)
+ */
+public record FuneralHomeDataChangedEvent(String reason, boolean remote) {
+
+    public FuneralHomeDataChangedEvent(String reason) {
+        this(reason, false);
+    }
+}
@@ -0,0 +1,15 @@
+package com.petpro.domain.funeralhome.event;
+
+import com.petpro.domain.funeralhome.entity.SyncType;
+
+/**
+ * 장례식장 동기화 완료 이벤트
+ *
+ * 공공 API 동기화가 성공적으로 끝난 뒤 발행되며, Geocoding 파이프라인처럼
+ * 동기화 결과를 이어받아 처리하는 후속 단계의 시작 신호로 사용합니다.
+ *
+ * @param syncType 동기화 유형
+ * @param syncLogId 동기화 로그 ID
+ */
+public record FuneralHomeSyncCompletedEvent(SyncType syncType, Long syncLogId) {
+}
@@ -0,0 +1,178 @@
+package com.petpro.domain.funeralhome.repository;
+
+import com.petpro.domain.funeralhome.dto.GovApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 장례식장 JDBC 레포지토리
+ *
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 여러 행을 한 번에 갱신하는 일괄 작업용입니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FuneralHomeJdbcRepository {
+
+    private static final String UPDATE_COORDINATES_SQL = """
+            UPDATE funeral_homes
+               SET latitude = ?, longitude = ?, geocoded_at = ?, updated_at = ?
+             WHERE id = ?
+               AND latitude IS NULL
+            """;
+
+    private static final String MARK_GEOCODE_FAILED_SQL = """
+            UPDATE funeral_homes
+               SET geocode_status = ?, geocode_attempted_at = ?
+             WHERE id = ?
+               AND latitude IS NULL
+            """;
+
+    /**
+     * (name, loc_code) unique 인덱스(uk_funeral_homes_name_loc_code) 기준 upsert
+     * 갱신 시 FuneralHome.updateFromApi와 같은 컬럼만 바꾸며, 활성 여부·좌표는 유지합니다.
+     * 내용 지문이 같으면 갱신하지 않으므로 updated_at, synced_at, WAL이 불필요하게 바뀌지 않습니다.
+     * (synced_at은 "동기화로 내용이 마지막으로 바뀐 시간"입니다)
+     * 주소가 바뀐 행은 Geocoding 실패 기록을 지워 다시 Geocoding 대상이 되게 합니다.
+     */
+    private static final String UPSERT_FROM_API_SQL = """
+            INSERT INTO funeral_homes (
+                name, road_address, lot_address, phone, loc_code, loc_name,
+                has_crematorium, has_columbarium, has_funeral, content_hash,
+                is_active, synced_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, ?, ?, ?)
+            ON CONFLICT (name, loc_code) DO UPDATE SET
+                road_address = EXCLUDED.road_address,
+                lot_address = EXCLUDED.lot_address,
+                phone = EXCLUDED.phone,
+                has_crematorium = EXCLUDED.has_crematorium,
+                has_columbarium = EXCLUDED.has_columbarium,
+                has_funeral = EXCLUDED.has_funeral,
+                content_hash = EXCLUDED.content_hash,
+                geocode_status = CASE
+                    WHEN funeral_homes.road_address IS DISTINCT FROM EXCLUDED.road_address
+                      OR funeral_homes.lot_address IS DISTINCT FROM EXCLUDED.lot_address THEN NULL
+                    ELSE funeral_homes.geocode_status
+                END,
+                synced_at = EXCLUDED.synced_at,
+                updated_at = EXCLUDED.updated_at
+            WHERE funeral_homes.content_hash IS DISTINCT FROM EXCLUDED.content_hash
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 공공 API 항목 일괄 upsert (JDBC batch, 단일 트랜잭션)
+     *
+     * @param items 저장할 항목 (같은 키가 중복되지 않아야 함)
+     * @param syncedAt 동기화 시각
+     * @return 처리된 행 수
+     */
+    @Transactional
+    public int upsertFromApi(List<GovApiResponse.Item> items, LocalDateTime syncedAt) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+        Timestamp timestamp = Timestamp.valueOf(syncedAt);
+        int[][] results = jdbcTemplate.batchUpdate(UPSERT_FROM_API_SQL, items, items.size(),
+                (ps, item) -> {
+                    ps.setString(1, item.getNm());
+                    ps.setString(2, item.getRoadAddr());
+                    ps.setString(3, item.getLotAddr());
+                    ps.setString(4, item.getTelno());
+                    ps.setString(5, item.getLocCode());
+                    ps.setString(6, item.getLocName());
+                    ps.setBoolean(7, item.hasCrematorium());
+                    ps.setBoolean(8, item.hasColumbarium());
+                    ps.setBoolean(9, item.hasFuneral());
+                    ps.setString(10, item.contentHash());
+                    ps.setTimestamp(11, timestamp);
+                    ps.setTimestamp(12, timestamp);
+                    ps.setTimestamp(13, timestamp);
+                });
+        return sumUpdateCounts(results);
+    }
+
+    /**
+     * 좌표 일괄 저장 (JDBC batch, 단일 트랜잭션)
+     * 그 사이 다른 경로로 좌표가 입력된 행은 덮어쓰지 않습니다.
+     *
+     * @param updates 저장할 좌표 목록
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    public int updateCoordinates(List<CoordinateUpdate> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] results = jdbcTemplate.batchUpdate(UPDATE_COORDINATES_SQL, updates, updates.size(),
+                (ps, update) -> {
+                    ps.setBigDecimal(1, BigDecimal.valueOf(update.latitude()));
+                    ps.setBigDecimal(2, BigDecimal.valueOf(update.longitude()));
+                    ps.setTimestamp(3, now);
+                    ps.setTimestamp(4, now);
+                    ps.setLong(5, update.id());
+                });
+        return sumUpdateCounts(results);
+    }
+
+    /**
+     * Geocoding 실패 일괄 기록 (JDBC batch, 단일 트랜잭션)
+     * 기록된 행은 주소가 바뀔 때까지 Geocoding 대상에서 빠집니다.
+     *
+     * @param failures 실패 항목
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    public int markGeocodeFailed(List<GeocodeFailure> failures) {
+        if (failures.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] results = jdbcTemplate.batchUpdate(MARK_GEOCODE_FAILED_SQL, failures, failures.size(),
+                (ps, failure) -> {
+                    ps.setString(1, failure.status());
+                    ps.setTimestamp(2, now);
+                    ps.setLong(3, failure.id());
+                });
+        return sumUpdateCounts(results);
+    }
+
+    private static int sumUpdateCounts(int[][] results) {
+        int total = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // 드라이버가 건수를 알려주지 않는 경우 성공 1건으로 계산
+                total += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 좌표 갱신 항목
+     *
+     * @param id 장례식장 ID
+     * @param latitude 위도
+     * @param longitude 경도
+     */
+    public record CoordinateUpdate(long id, double latitude, double longitude) {
+    }
+
+    /**
+     * Geocoding 실패 항목
+     *
+     * @param id 장례식장 ID
+     * @param status 실패 상태 (GeocodingException.Status 이름)
+     */
+    public record GeocodeFailure(long id, String status) {
+    }
+}
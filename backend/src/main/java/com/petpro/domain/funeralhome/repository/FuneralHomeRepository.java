@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,16 @@ public interface FuneralHomeRepository extends JpaRepository<FuneralHome, Long>
      */
     Optional<FuneralHome> findByNameAndLocCode(String name, String locCode);
 
+    /**
+     * 전체 장례식장의 동기화 키·내용 지문 조회 (동기화 시작 시 한 번)
+     */
+    @Query("""
+            SELECT f.id AS id, f.name AS name, f.locCode AS locCode,
+                   f.contentHash AS contentHash, f.isActive AS isActive
+            FROM FuneralHome f
+            """)
+    List<SyncKey> findAllSyncKeys();
+
     /**
      * 이름으로 장례식장 목록 조회
      */
@@ -45,7 +56,40 @@ public interface FuneralHomeRepository extends JpaRepository<FuneralHome, Long>
     List<FuneralHome> findByLatitudeIsNullAndIsActiveTrue();
 
     /**
-     * 특정 시간 이후 동기화된 장례식장 ID 목록 조회
+     * Geocoding 대기 건수 (좌표가 없고 주소로 좌표를 찾지 못한 기록도 없는 활성 장례식장)
+     */
+    @Query("""
+            SELECT COUNT(f) FROM FuneralHome f
+            WHERE f.isActive = true
+              AND f.latitude IS NULL
+              AND f.geocodeStatus IS NULL
+            """)
+    long countGeocodingTargets();
+
+    /**
+     * Geocoding 대상 조회 (ID 순 키셋 페이징)
+     * 엔티티 대신 주소만 조회하여 영속성 컨텍스트를 거치지 않습니다.
+     * 주소로 좌표를 찾지 못한 기록이 있는 행(geocodeStatus)은 주소가 바뀔 때까지 제외합니다.
+     */
+    @Query("""
+            SELECT f.id AS id, f.roadAddress AS roadAddress, f.lotAddress AS lotAddress
+            FROM FuneralHome f
+            WHERE f.isActive = true
+              AND f.latitude IS NULL
+              AND f.geocodeStatus IS NULL
+              AND f.id > :afterId
+            ORDER BY f.id
+            """)
+    List<GeocodingTarget> findGeocodingTargets(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * 좌표가 등록된 활성 장례식장 전체 조회 (메모리 공간 인덱스 적재용)
+     */
+    @Query("SELECT f FROM FuneralHome f WHERE f.isActive = true AND f.latitude IS NOT NULL AND f.longitude IS NOT NULL")
+    List<FuneralHome> findAllActiveWithCoordinates();
+
+    /**
+     * 특정 시간 이후 동기화로 내용이 바뀐 장례식장 ID 목록 조회
      */
     @Query("SELECT f.id FROM FuneralHome f WHERE f.syncedAt > :since")
     List<Long> findIdsSyncedAfter(@Param("since") LocalDateTime since);
@@ -86,7 +130,7 @@ public interface FuneralHomeRepository extends JpaRepository<FuneralHome, Long>
     List<Object[]> findNearbyWithDistance(
             @Param("lat") double latitude,
             @Param("lng") double longitude,
-            @Param("radius") int radiusKm,
+            @Param("radius") double radiusKm,
             @Param("limitCount") int limit,
             @Param("hasCrematorium") Boolean hasCrematorium,
             @Param("hasFuneral") Boolean hasFuneral,
@@ -94,20 +138,71 @@ public interface FuneralHomeRepository extends JpaRepository<FuneralHome, Long>
     );
 
     /**
-     * 검색 조건으로 장례식장 페이징 조회
+     * 목록 검색 조건 (메모리 읽기 모델 FuneralHomeFacetIndex와 같은 조건)
+     * 키워드는 이름·도로명 주소·지번 주소를 공백 제거·소문자화한 값의 부분 문자열이며,
+     * :keywordPattern은 호출 측이 정규화하고 LIKE 특수문자를 '!'로 이스케이프한 검색어입니다.
      */
-    @Query("""
-            SELECT f FROM FuneralHome f
-            WHERE (:keyword IS NULL OR f.name LIKE %:keyword% OR f.roadAddress LIKE %:keyword%)
+    String SEARCH_CONDITIONS = """
+            FROM FuneralHome f
+            WHERE (:keywordPattern IS NULL
+                   OR LOWER(REPLACE(f.name, ' ', '')) LIKE CONCAT('%', :keywordPattern, '%') ESCAPE '!'
+                   OR LOWER(REPLACE(f.roadAddress, ' ', '')) LIKE CONCAT('%', :keywordPattern, '%') ESCAPE '!'
+                   OR LOWER(REPLACE(f.lotAddress, ' ', '')) LIKE CONCAT('%', :keywordPattern, '%') ESCAPE '!')
               AND (:locCode IS NULL OR f.locCode = :locCode)
               AND (:hasCrematorium IS NULL OR f.hasCrematorium = :hasCrematorium)
               AND (:hasFuneral IS NULL OR f.hasFuneral = :hasFuneral)
               AND (:hasColumbarium IS NULL OR f.hasColumbarium = :hasColumbarium)
               AND (:isActive IS NULL OR f.isActive = :isActive)
-            ORDER BY f.name
-            """)
+            """;
+
+    /**
+     * 검색 조건으로 장례식장 페이징 조회 (이름순, 같으면 id순)
+     */
+    @Query(value = "SELECT f " + SEARCH_CONDITIONS + " ORDER BY f.name, f.id",
+            countQuery = "SELECT COUNT(f) " + SEARCH_CONDITIONS)
     Page<FuneralHome> findBySearchConditions(
+            @Param("keywordPattern") String keywordPattern,
+            @Param("locCode") String locCode,
+            @Param("hasCrematorium") Boolean hasCrematorium,
+            @Param("hasFuneral") Boolean hasFuneral,
+            @Param("hasColumbarium") Boolean hasColumbarium,
+            @Param("isActive") Boolean isActive,
+            Pageable pageable
+    );
+
+    /**
+     * 검색 조건으로 장례식장 페이징 조회 (키워드 일치도순)
+     *
+     * NgramIndex.score와 같은 순서입니다: 필드(이름 > 도로명 주소 > 지번 주소) →
+     * 일치 유형(전체 > 앞부분 > 부분) → 일치 위치 → 이름 → id
+     *
+     * @param keyword 정규화된 검색어 (이스케이프 전)
+     */
+    @Query(value = "SELECT f " + SEARCH_CONDITIONS + """
+            ORDER BY CASE
+                       WHEN LOWER(REPLACE(f.name, ' ', '')) = :keyword THEN 0
+                       WHEN LOCATE(:keyword, LOWER(REPLACE(f.name, ' ', ''))) = 1 THEN 1
+                       WHEN LOCATE(:keyword, LOWER(REPLACE(f.name, ' ', ''))) > 1 THEN 2
+                       WHEN LOWER(REPLACE(f.roadAddress, ' ', '')) = :keyword THEN 3
+                       WHEN LOCATE(:keyword, LOWER(REPLACE(f.roadAddress, ' ', ''))) = 1 THEN 4
+                       WHEN LOCATE(:keyword, LOWER(REPLACE(f.roadAddress, ' ', ''))) > 1 THEN 5
+                       WHEN LOWER(REPLACE(f.lotAddress, ' ', '')) = :keyword THEN 6
+                       WHEN LOCATE(:keyword, LOWER(REPLACE(f.lotAddress, ' ', ''))) = 1 THEN 7
+                       ELSE 8
+                     END,
+                     CASE
+                       WHEN LOCATE(:keyword, LOWER(REPLACE(f.name, ' ', ''))) > 0
+                         THEN LOCATE(:keyword, LOWER(REPLACE(f.name, ' ', '')))
+                       WHEN LOCATE(:keyword, LOWER(REPLACE(f.roadAddress, ' ', ''))) > 0
+                         THEN LOCATE(:keyword, LOWER(REPLACE(f.roadAddress, ' ', '')))
+                       ELSE LOCATE(:keyword, LOWER(REPLACE(f.lotAddress, ' ', '')))
+                     END,
+                     f.name, f.id
+            """,
+            countQuery = "SELECT COUNT(f) " + SEARCH_CONDITIONS)
+    Page<FuneralHome> findBySearchConditionsOrderByRelevance(
             @Param("keyword") String keyword,
+            @Param("keywordPattern") String keywordPattern,
             @Param("locCode") String locCode,
             @Param("hasCrematorium") Boolean hasCrematorium,
             @Param("hasFuneral") Boolean hasFuneral,
@@ -117,11 +212,11 @@ public interface FuneralHomeRepository extends JpaRepository<FuneralHome, Long>
     );
 
     /**
-     * 동기화 시간 기준 오래된 장례식장 비활성화
+     * ID 목록으로 장례식장 비활성화
      */
     @Modifying
-    @Query("UPDATE FuneralHome f SET f.isActive = false WHERE f.syncedAt < :before AND f.isActive = true")
-    int deactivateOldEntries(@Param("before") LocalDateTime before);
+    @Query("UPDATE FuneralHome f SET f.isActive = false WHERE f.id IN :ids AND f.isActive = true")
+    int deactivateByIds(@Param("ids") Collection<Long> ids);
 
     /**
      * 통계: 총 장례식장 수
@@ -133,4 +228,30 @@ public interface FuneralHomeRepository extends JpaRepository<FuneralHome, Long>
      */
     @Query("SELECT COUNT(f) FROM FuneralHome f WHERE f.isActive = true AND f.latitude IS NOT NULL")
     long countWithCoordinates();
+
+    /**
+     * 동기화 키 프로젝션
+     */
+    interface SyncKey {
+        Long getId();
+
+        String getName();
+
+        String getLocCode();
+
+        String getContentHash();
+
+        Boolean getIsActive();
+    }
+
+    /**
+     * Geocoding 대상 프로젝션
+     */
+    interface GeocodingTarget {
+        Long getId();
+
+        String getRoadAddress();
+
+        String getLotAddress();
+    }
 }
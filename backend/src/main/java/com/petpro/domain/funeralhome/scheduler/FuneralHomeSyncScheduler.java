@@ -1,7 +1,8 @@
 package com.petpro.domain.funeralhome.scheduler;
 
 import com.petpro.domain.funeralhome.service.FuneralHomeSyncService;
-import com.petpro.domain.funeralhome.service.GovApiService;
+import com.petpro.global.exception.BusinessException;
+import com.petpro.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -9,6 +10,9 @@ import org.springframework.stereotype.Component;
 
 /**
  * 장례식장 동기화 스케줄러
+ *
+ * 모든 노드에서 실행되지만 동기화 실행 리스를 얻은 한 노드만 동기화하고, 나머지는 건너뜁니다.
+ * API 일일 호출 한도는 날짜별로 공유 관리되므로 별도 초기화가 필요 없습니다.
  */
 @Slf4j
 @Component
@@ -16,7 +20,6 @@ import org.springframework.stereotype.Component;
 public class FuneralHomeSyncScheduler {
 
     private final FuneralHomeSyncService syncService;
-    private final GovApiService govApiService;
 
     /**
      * 증분 동기화 - 매일 02:00 실행
@@ -28,6 +31,8 @@ public class FuneralHomeSyncScheduler {
             var result = syncService.runIncrementalSync();
             log.info("Scheduled incremental sync completed: status={}, inserted={}, updated={}",
                     result.getStatus(), result.getInsertedCount(), result.getUpdatedCount());
+        } catch (BusinessException e) {
+            logSkippedOrFailed("incremental", e);
         } catch (Exception e) {
             log.error("Scheduled incremental sync failed", e);
         }
@@ -44,17 +49,18 @@ public class FuneralHomeSyncScheduler {
             log.info("Scheduled full sync completed: status={}, inserted={}, updated={}, deleted={}",
                     result.getStatus(), result.getInsertedCount(),
                     result.getUpdatedCount(), result.getDeletedCount());
+        } catch (BusinessException e) {
+            logSkippedOrFailed("full", e);
         } catch (Exception e) {
             log.error("Scheduled full sync failed", e);
         }
     }
 
-    /**
-     * API 호출 카운트 리셋 - 매일 자정 실행
-     */
-    @Scheduled(cron = "0 0 0 * * *")
-    public void resetApiCallCount() {
-        log.info("Resetting daily API call count");
-        govApiService.resetDailyCount();
+    private void logSkippedOrFailed(String syncType, BusinessException e) {
+        if (e.getErrorCode() == ErrorCode.SYNC_ALREADY_RUNNING) {
+            log.info("Scheduled {} sync skipped: another node holds the sync lease", syncType);
+        } else {
+            log.error("Scheduled {} sync failed", syncType, e);
+        }
     }
 }
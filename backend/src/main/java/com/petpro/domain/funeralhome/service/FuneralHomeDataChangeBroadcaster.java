@@ -0,0 +1,87 @@
+package com.petpro.domain.funeralhome.service;
+
+import com.petpro.domain.funeralhome.event.FuneralHomeDataChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 장례식장 데이터 변경 노드 간 전달
+ *
+ * 동기화, 상태 변경, Geocoding은 한 노드에서만 실행되므로 다른 노드의 공간 인덱스·검색 읽기 모델은
+ * 로컬 이벤트만으로는 갱신되지 않습니다. 이 노드에서 발행된 FuneralHomeDataChangedEvent를
+ * 로컬 리스너(재적재, 캐시 비우기)가 모두 처리한 뒤 Redis 채널로 전달하고,
+ * 메시지를 받은 노드는 remote 이벤트로 다시 발행해 자신의 인덱스를 재적재한 뒤 캐시를 비웁니다.
+ * (재적재 전의 노드가 공유 캐시에 채운 이전 후보는 그 노드의 재적재 후 비우기로 제거됨)
+ *
+ * 메시지 형식: {노드 ID}|{변경 사유}
+ * 발행에 실패하면 다른 노드는 다음 변경 또는 재시작 때까지 이전 데이터를 사용합니다.
+ */
+@Slf4j
+@Component
+public class FuneralHomeDataChangeBroadcaster implements MessageListener {
+
+    static final String CHANNEL = "funeralhome:data-changed";
+    private static final char SEPARATOR = '|';
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 자신이 보낸 메시지를 구분하기 위한 노드 ID */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public FuneralHomeDataChangeBroadcaster(StringRedisTemplate redisTemplate,
+                                            RedisMessageListenerContainer listenerContainer,
+                                            ApplicationEventPublisher eventPublisher) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 로컬 변경을 다른 노드에 전달 (인덱스 재적재·캐시 비우기 이후)
+     */
+    @Order(2)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChanged(FuneralHomeDataChangedEvent event) {
+        if (event.remote()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + SEPARATOR + event.reason());
+        } catch (DataAccessException e) {
+            log.warn("Failed to broadcast funeral home data change: reason={}, error={}",
+                    event.reason(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(SEPARATOR);
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        String reason = body.substring(separator + 1);
+        log.info("Funeral home data changed on another node, reloading: reason={}", reason);
+        eventPublisher.publishEvent(new FuneralHomeDataChangedEvent(reason, true));
+    }
+}
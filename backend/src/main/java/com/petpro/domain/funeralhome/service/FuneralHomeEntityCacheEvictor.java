@@ -0,0 +1,36 @@
+package com.petpro.domain.funeralhome.service;
+
+import com.petpro.domain.funeralhome.entity.FuneralHome;
+import com.petpro.domain.funeralhome.event.FuneralHomeDataChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 장례식장 엔티티 2차 캐시 비우기
+ *
+ * 동기화 upsert(FuneralHomeJdbcRepository)는 JDBC로 funeral_homes를 직접 바꾸므로 Hibernate가 2차 캐시를 갱신하지 못합니다.
+ * 데이터 변경 이벤트를 받으면 funeralHomes 영역을 비워 이후 조회가 DB의 최신 값을 읽게 합니다.
+ * 다른 리스너(공간 인덱스 재적재 등)가 엔티티를 다시 읽기 전에 실행되도록 가장 먼저 실행합니다.
+ */
+@Slf4j
+@Component
+public class FuneralHomeEntityCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public FuneralHomeEntityCacheEvictor(@Qualifier("entityManagerFactory") EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChanged(FuneralHomeDataChangedEvent event) {
+        entityManagerFactory.getCache().evict(FuneralHome.class);
+        log.debug("Funeral home second-level cache evicted: reason={}", event.reason());
+    }
+}
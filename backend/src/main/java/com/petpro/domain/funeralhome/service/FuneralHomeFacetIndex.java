@@ -0,0 +1,325 @@
+package com.petpro.domain.funeralhome.service;
+
+import com.petpro.domain.funeralhome.dto.FuneralHomeRequest;
+import com.petpro.domain.funeralhome.dto.FuneralHomeResponse;
+import com.petpro.domain.funeralhome.entity.FuneralHome;
+import com.petpro.domain.funeralhome.event.FuneralHomeDataChangedEvent;
+import com.petpro.domain.funeralhome.repository.FuneralHomeRepository;
+import com.petpro.global.search.NgramIndex;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장례식장 목록 검색용 메모리 읽기 모델
+ *
+ * 전체 장례식장(비활성 포함)을 이름순으로 정렬해 열 단위 배열로 보관하고,
+ * 필터 값마다 해당 행을 표시한 비트셋을 만들어 둡니다.
+ * - locCode: 지역 코드별 비트셋
+ * - hasCrematorium / hasFuneral / hasColumbarium / isActive: true·false 값별 비트셋
+ * 필터 조합은 비트셋 AND로, 키워드는 이름·도로명 주소·지번 주소의 n-gram 역색인(NgramIndex) 조회 결과와 AND로 거릅니다.
+ * 행 번호가 곧 이름순이므로 결과 비트셋을 앞에서부터 읽으면 정렬된 페이지가 되고, 전체 건수는 비트 수입니다.
+ * 일치도순(RELEVANCE) 정렬은 일치한 행만 점수로 정렬해 페이지를 자릅니다.
+ *
+ * 메트릭
+ * - funeralhome.keyword.search: 키워드 검색 시간 (색인 조회, 확인, 정렬 포함, sort 태그)
+ * - funeralhome.keyword.candidates: 게시 목록 교집합 후 포함 여부를 확인한 행 수
+ *
+ * 애플리케이션 시작 시, 그리고 FuneralHomeDataChangedEvent(동기화 완료, 상태 변경, Geocoding) 수신 시
+ * 전체를 다시 적재하고 스냅샷 참조를 원자적으로 교체합니다.
+ * 변경은 한 노드에서만 일어나므로 다른 노드는 FuneralHomeDataChangeBroadcaster가 전달한 remote 이벤트로 재적재합니다.
+ * 적재 전이거나 적재에 실패한 경우 isReady()가 false를 반환하며, 호출 측은 SQL 검색으로 대체합니다.
+ */
+@Slf4j
+@Component
+public class FuneralHomeFacetIndex {
+
+    /** 이름순 → id순 (SQL 검색의 ORDER BY name과 같은 순서, 이름이 같으면 페이지 간 순서를 고정) */
+    private static final Comparator<FuneralHome> NAME_ORDER = Comparator
+            .comparing(FuneralHome::getName, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(FuneralHome::getId);
+
+    private final FuneralHomeRepository funeralHomeRepository;
+    private final Map<FuneralHomeRequest.ListSort, Timer> keywordTimers;
+    private final DistributionSummary keywordCandidates;
+
+    private volatile Snapshot snapshot;
+
+    public FuneralHomeFacetIndex(FuneralHomeRepository funeralHomeRepository, MeterRegistry meterRegistry) {
+        this.funeralHomeRepository = funeralHomeRepository;
+        Map<FuneralHomeRequest.ListSort, Timer> timers = new HashMap<>();
+        for (FuneralHomeRequest.ListSort sort : FuneralHomeRequest.ListSort.values()) {
+            timers.put(sort, Timer.builder("funeralhome.keyword.search")
+                    .description("Funeral home keyword search latency")
+                    .tag("sort", sort.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.keywordTimers = Map.copyOf(timers);
+        this.keywordCandidates = DistributionSummary.builder("funeralhome.keyword.candidates")
+                .description("Rows verified after n-gram posting list intersection")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 시 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildQuietly("startup");
+    }
+
+    /**
+     * 장례식장 데이터 변경 시 재적재 (트랜잭션 커밋 이후)
+     */
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChanged(FuneralHomeDataChangedEvent event) {
+        rebuildQuietly(event.reason());
+    }
+
+    /**
+     * 전체 재적재
+     */
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        List<FuneralHome> homes = funeralHomeRepository.findAll();
+        this.snapshot = Snapshot.of(homes);
+        log.info("Funeral home facet index rebuilt: size={}, elapsed={}ms",
+                homes.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 읽기 모델 사용 가능 여부
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 적재된 장례식장 수
+     */
+    public int size() {
+        Snapshot current = snapshot;
+        return current != null ? current.items.length : 0;
+    }
+
+    /**
+     * 검색 조건으로 페이지 조회
+     *
+     * 조건은 SQL 검색과 같이 null이면 조건 없음, 값이 있으면 일치 여부로 판단합니다.
+     * 키워드는 이름, 도로명 주소 또는 지번 주소의 부분 문자열이며 공백과 영문 대소문자를 구분하지 않습니다.
+     * 정렬 기준이 RELEVANCE이고 키워드가 있으면 일치도순, 그 외에는 이름순입니다.
+     */
+    public Page<FuneralHomeResponse.ListItem> search(FuneralHomeRequest.ListSearch request, Pageable pageable) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("Funeral home facet index is not loaded yet");
+        }
+        BitSet matches = current.filter(request);
+        if (request.getKeyword() == null || matches.isEmpty()) {
+            return page(current, matches, pageable);
+        }
+
+        FuneralHomeRequest.ListSort sort = request.getSort() != null ? request.getSort() : FuneralHomeRequest.ListSort.NAME;
+        long startedAt = System.nanoTime();
+        NgramIndex.Match match = current.text.match(request.getKeyword());
+        matches.and(match.rows());
+        Page<FuneralHomeResponse.ListItem> result = sort == FuneralHomeRequest.ListSort.RELEVANCE
+                ? rankedPage(current, matches, match.query(), pageable)
+                : page(current, matches, pageable);
+        keywordTimers.get(sort).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        keywordCandidates.record(match.candidates());
+        return result;
+    }
+
+    /**
+     * 이름순 페이지 (행 번호순)
+     */
+    private static Page<FuneralHomeResponse.ListItem> page(Snapshot current, BitSet matches, Pageable pageable) {
+        int total = matches.cardinality();
+        long offset = pageable.getOffset();
+        List<FuneralHomeResponse.ListItem> content = new ArrayList<>(pageable.getPageSize());
+        if (offset < total) {
+            int row = current.skip(matches, (int) offset);
+            while (row >= 0 && content.size() < pageable.getPageSize()) {
+                content.add(current.items[row]);
+                row = matches.nextSetBit(row + 1);
+            }
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 일치도순 페이지 (점수 내림차순, 같으면 이름순)
+     */
+    private static Page<FuneralHomeResponse.ListItem> rankedPage(Snapshot current, BitSet matches, String query,
+                                                                 Pageable pageable) {
+        int[] rows = matches.stream().toArray();
+        long[] scores = new long[current.items.length];
+        for (int row : rows) {
+            scores[row] = current.text.score(row, query);
+        }
+        Integer[] order = Arrays.stream(rows).boxed().toArray(Integer[]::new);
+        Arrays.sort(order, Comparator.comparingLong((Integer row) -> scores[row]).reversed()
+                .thenComparingInt(row -> row));
+
+        long offset = pageable.getOffset();
+        List<FuneralHomeResponse.ListItem> content = new ArrayList<>(pageable.getPageSize());
+        for (long i = offset; i < order.length && content.size() < pageable.getPageSize(); i++) {
+            content.add(current.items[order[(int) i]]);
+        }
+        return new PageImpl<>(content, pageable, order.length);
+    }
+
+    private void rebuildQuietly(String reason) {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Failed to rebuild funeral home facet index (reason={}): {}", reason, e.getMessage());
+        }
+    }
+
+    /**
+     * 불변 읽기 모델 스냅샷 (행 번호 = 이름순 위치)
+     */
+    private static final class Snapshot {
+        private final FuneralHomeResponse.ListItem[] items;
+        private final NgramIndex text;
+        private final BitSet all;
+        private final Map<String, BitSet> byLocCode;
+        private final BooleanFacet crematorium;
+        private final BooleanFacet funeral;
+        private final BooleanFacet columbarium;
+        private final BooleanFacet active;
+
+        private Snapshot(FuneralHomeResponse.ListItem[] items, NgramIndex text,
+                         Map<String, BitSet> byLocCode, BooleanFacet crematorium, BooleanFacet funeral,
+                         BooleanFacet columbarium, BooleanFacet active) {
+            this.items = items;
+            this.text = text;
+            this.all = new BitSet(items.length);
+            this.all.set(0, items.length);
+            this.byLocCode = byLocCode;
+            this.crematorium = crematorium;
+            this.funeral = funeral;
+            this.columbarium = columbarium;
+            this.active = active;
+        }
+
+        static Snapshot of(List<FuneralHome> source) {
+            List<FuneralHome> sorted = new ArrayList<>(source);
+            sorted.sort(NAME_ORDER);
+
+            int n = sorted.size();
+            FuneralHomeResponse.ListItem[] items = new FuneralHomeResponse.ListItem[n];
+            List<String[]> documents = new ArrayList<>(n);
+            Map<String, BitSet> byLocCode = new HashMap<>();
+            BooleanFacet crematorium = new BooleanFacet(n);
+            BooleanFacet funeral = new BooleanFacet(n);
+            BooleanFacet columbarium = new BooleanFacet(n);
+            BooleanFacet active = new BooleanFacet(n);
+
+            for (int row = 0; row < n; row++) {
+                FuneralHome home = sorted.get(row);
+                items[row] = FuneralHomeResponse.ListItem.from(home);
+                documents.add(new String[]{home.getName(), home.getRoadAddress(), home.getLotAddress()});
+                if (home.getLocCode() != null) {
+                    byLocCode.computeIfAbsent(home.getLocCode(), key -> new BitSet(n)).set(row);
+                }
+                crematorium.add(row, home.getHasCrematorium());
+                funeral.add(row, home.getHasFuneral());
+                columbarium.add(row, home.getHasColumbarium());
+                active.add(row, home.getIsActive());
+            }
+
+            return new Snapshot(items, NgramIndex.of(documents), Map.copyOf(byLocCode),
+                    crematorium, funeral, columbarium, active);
+        }
+
+        /**
+         * 키워드를 제외한 조건에 맞는 행 비트셋 (새 비트셋을 반환하며 스냅샷은 변경하지 않음)
+         */
+        BitSet filter(FuneralHomeRequest.ListSearch request) {
+            BitSet result;
+            if (request.getLocCode() != null) {
+                BitSet rows = byLocCode.get(request.getLocCode());
+                if (rows == null) {
+                    return new BitSet();
+                }
+                result = (BitSet) rows.clone();
+            } else {
+                result = (BitSet) all.clone();
+            }
+            crematorium.and(result, request.getHasCrematorium());
+            funeral.and(result, request.getHasFuneral());
+            columbarium.and(result, request.getHasColumbarium());
+            active.and(result, request.getIsActive());
+            return result;
+        }
+
+        /**
+         * offset번째 설정 비트의 행 번호 (64비트 단위로 건너뜀)
+         */
+        int skip(BitSet matches, int offset) {
+            long[] words = matches.toLongArray();
+            int remaining = offset;
+            for (int w = 0; w < words.length; w++) {
+                int bits = Long.bitCount(words[w]);
+                if (remaining < bits) {
+                    long word = words[w];
+                    for (int i = 0; i < remaining; i++) {
+                        word &= word - 1;
+                    }
+                    return w * Long.SIZE + Long.numberOfTrailingZeros(word);
+                }
+                remaining -= bits;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * true·false 값별 비트셋 (null 값은 어느 쪽에도 포함하지 않음)
+     */
+    private static final class BooleanFacet {
+        private final BitSet trueRows;
+        private final BitSet falseRows;
+
+        BooleanFacet(int size) {
+            this.trueRows = new BitSet(size);
+            this.falseRows = new BitSet(size);
+        }
+
+        void add(int row, Boolean value) {
+            if (Boolean.TRUE.equals(value)) {
+                trueRows.set(row);
+            } else if (Boolean.FALSE.equals(value)) {
+                falseRows.set(row);
+            }
+        }
+
+        void and(BitSet result, Boolean expected) {
+            if (expected != null) {
+                result.and(expected ? trueRows : falseRows);
+            }
+        }
+    }
+}
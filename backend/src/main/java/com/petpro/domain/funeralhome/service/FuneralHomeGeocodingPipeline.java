@@ -0,0 +1,404 @@
+package com.petpro.domain.funeralhome.service;
+
+import com.petpro.domain.funeralhome.config.GeocodingPipelineConfig;
+import com.petpro.domain.funeralhome.event.FuneralHomeDataChangedEvent;
+import com.petpro.domain.funeralhome.event.FuneralHomeSyncCompletedEvent;
+import com.petpro.domain.funeralhome.repository.FuneralHomeJdbcRepository;
+import com.petpro.domain.funeralhome.repository.FuneralHomeJdbcRepository.CoordinateUpdate;
+import com.petpro.domain.funeralhome.repository.FuneralHomeJdbcRepository.GeocodeFailure;
+import com.petpro.domain.funeralhome.repository.FuneralHomeRepository;
+import com.petpro.domain.funeralhome.repository.FuneralHomeRepository.GeocodingTarget;
+import com.petpro.domain.location.config.GoogleMapsConfig;
+import com.petpro.domain.location.dto.GeocodingResult;
+import com.petpro.domain.location.exception.GeocodingException;
+import com.petpro.domain.location.service.GeocodingService;
+import com.petpro.domain.location.util.TokenBucketRateLimiter;
+import com.petpro.global.coordination.ClusterCoordinator;
+import com.petpro.global.coordination.ClusterLease;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+/**
+ * 장례식장 Geocoding 파이프라인
+ *
+ * 좌표가 없는(latitude IS NULL) 활성 장례식장을 ID 순으로 읽어, Geocoding 결과 저장소에 이미 있는
+ * 주소는 바로 반영하고 나머지는 가상 스레드 워커에 나눠 API를 호출합니다.
+ * 결과 좌표는 batchSize 단위로 모아 JDBC batch로 저장합니다.
+ * - 동시 호출 수: GeocodingPipelineConfig.workers
+ * - 초당 호출 수: GoogleMapsConfig.requestsPerSecond (토큰 버킷)
+ * - 재시도: GoogleMapsConfig.maxRetries (지수 백오프 + 지터), 연결 실패·타임아웃·5xx·OVER_QUERY_LIMIT·UNKNOWN_ERROR만
+ *
+ * ZERO_RESULTS·INVALID_REQUEST처럼 주소 자체의 문제로 실패한 항목은 geocode_status에 기록하여
+ * 주소가 바뀔 때까지 다시 조회하지 않습니다. 그 밖의 실패는 기록하지 않으므로 다음 실행에서 다시 시도합니다.
+ *
+ * 진행 상태는 DB 자체(좌표가 채워진 행은 다음 조회에서 빠짐)이므로 별도 저장소 없이
+ * 재시작 후 남은 항목부터 이어서 처리합니다. 실행은 노드당 하나로 제한되고,
+ * 클러스터 전체에서는 "funeral-home-geocoding" 리스를 가진 노드 하나만 실행합니다.
+ * 리스는 배치마다 연장하며, 잃으면 새 항목 배정을 멈추고 처리 중인 결과만 저장한 뒤 종료합니다.
+ * (같은 주소의 좌표이므로 다른 노드와 겹쳐 저장되어도 결과는 같습니다)
+ *
+ * 실행 시점: 동기화 완료(커밋 이후), 애플리케이션 시작(resumeOnStartup), 수동 요청
+ * Google Maps API 키가 없으면 GeocodingService가 목 좌표(서울 시청)를 돌려주므로 실행하지 않습니다.
+ * 저장된 좌표가 있으면 FuneralHomeDataChangedEvent를 발행하여 공간 인덱스와 캐시를 갱신합니다.
+ *
+ * 메트릭:
+ * - funeralhome.geocoding.requests{result=success|failure|unresolvable|skipped|stored}
+ * - funeralhome.geocoding.retries
+ * - funeralhome.geocoding.latency
+ * - funeralhome.geocoding.saved
+ * - funeralhome.geocoding.remaining / funeralhome.geocoding.in_flight (gauge)
+ */
+@Slf4j
+@Component
+public class FuneralHomeGeocodingPipeline {
+
+    private static final long MAX_BACKOFF_MS = 30_000;
+    private static final long SHUTDOWN_WAIT_SECONDS = 30;
+    private static final String LEASE_NAME = "funeral-home-geocoding";
+
+    private final FuneralHomeRepository funeralHomeRepository;
+    private final FuneralHomeJdbcRepository funeralHomeJdbcRepository;
+    private final GeocodingService geocodingService;
+    private final GoogleMapsConfig googleMapsConfig;
+    private final GeocodingPipelineConfig config;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClusterCoordinator clusterCoordinator;
+    private final TokenBucketRateLimiter rateLimiter;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong remaining = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile Thread coordinator;
+    private volatile boolean shuttingDown;
+
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter unresolvableCounter;
+    private final Counter skippedCounter;
+    private final Counter storedCounter;
+    private final Counter retryCounter;
+    private final Counter savedCounter;
+    private final Timer latencyTimer;
+
+    public FuneralHomeGeocodingPipeline(FuneralHomeRepository funeralHomeRepository,
+                                        FuneralHomeJdbcRepository funeralHomeJdbcRepository,
+                                        GeocodingService geocodingService,
+                                        GoogleMapsConfig googleMapsConfig,
+                                        GeocodingPipelineConfig config,
+                                        ApplicationEventPublisher eventPublisher,
+                                        ClusterCoordinator clusterCoordinator,
+                                        MeterRegistry meterRegistry) {
+        this.funeralHomeRepository = funeralHomeRepository;
+        this.funeralHomeJdbcRepository = funeralHomeJdbcRepository;
+        this.geocodingService = geocodingService;
+        this.googleMapsConfig = googleMapsConfig;
+        this.config = config;
+        this.eventPublisher = eventPublisher;
+        this.clusterCoordinator = clusterCoordinator;
+        this.rateLimiter = new TokenBucketRateLimiter(
+                googleMapsConfig.getRequestsPerSecond(), googleMapsConfig.getRequestsPerSecond());
+
+        this.successCounter = requestCounter(meterRegistry, "success");
+        this.failureCounter = requestCounter(meterRegistry, "failure");
+        this.unresolvableCounter = requestCounter(meterRegistry, "unresolvable");
+        this.skippedCounter = requestCounter(meterRegistry, "skipped");
+        this.storedCounter = requestCounter(meterRegistry, "stored");
+        this.retryCounter = Counter.builder("funeralhome.geocoding.retries")
+                .description("Geocoding API retries")
+                .register(meterRegistry);
+        this.savedCounter = Counter.builder("funeralhome.geocoding.saved")
+                .description("Funeral home coordinates saved by the geocoding pipeline")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("funeralhome.geocoding.latency")
+                .description("Geocoding API call latency")
+                .register(meterRegistry);
+        Gauge.builder("funeralhome.geocoding.remaining", remaining, AtomicLong::get)
+                .description("Funeral homes waiting for geocoding in the current run")
+                .register(meterRegistry);
+        Gauge.builder("funeralhome.geocoding.in_flight", inFlight, AtomicInteger::get)
+                .description("Geocoding API calls in flight")
+                .register(meterRegistry);
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("funeralhome.geocoding.requests")
+                .description("Funeral home geocoding results")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 시 남은 항목 처리 재개
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (config.isResumeOnStartup()) {
+            requestRun("startup");
+        }
+    }
+
+    /**
+     * 동기화 완료 후 신규 항목 처리 (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSyncCompleted(FuneralHomeSyncCompletedEvent event) {
+        requestRun(event.syncType().name().toLowerCase() + "-sync");
+    }
+
+    /**
+     * 파이프라인 실행 요청
+     * 이미 실행 중이면 무시합니다 (실행 중인 작업이 새로 추가된 항목까지 처리).
+     * API 키가 설정되지 않았으면 목 좌표가 실제 좌표로 저장되지 않도록 실행하지 않습니다.
+     *
+     * @param reason 실행 사유 (로그용)
+     * @return 새로 시작했는지 여부
+     */
+    public boolean requestRun(String reason) {
+        if (shuttingDown) {
+            return false;
+        }
+        if (!googleMapsConfig.isConfigured()) {
+            log.warn("Google Maps API key is not configured, geocoding pipeline skipped (reason={})", reason);
+            return false;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.info("Geocoding pipeline is already running, request ignored (reason={})", reason);
+            return false;
+        }
+        coordinator = Thread.ofVirtual().name("geocoding-pipeline").start(() -> {
+            try {
+                run(reason);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Geocoding pipeline interrupted (reason={})", reason);
+            } catch (Exception e) {
+                log.error("Geocoding pipeline failed (reason={})", reason, e);
+            } finally {
+                remaining.set(0);
+                coordinator = null;
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * 종료 시 새 항목 배정을 멈추고, 처리 중인 항목의 저장까지 기다립니다.
+     * 남은 항목은 다음 시작 시 이어서 처리됩니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        shuttingDown = true;
+        Thread current = coordinator;
+        if (current != null) {
+            current.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_WAIT_SECONDS));
+        }
+    }
+
+    private void run(String reason) throws InterruptedException {
+        // 클러스터 전체에서 하나의 파이프라인만 실행
+        Optional<ClusterLease> acquired = clusterCoordinator.tryAcquireLease(
+                LEASE_NAME, Duration.ofSeconds(config.getLeaseTtlSeconds()));
+        if (acquired.isEmpty()) {
+            log.info("Geocoding pipeline is running on another node, request ignored (reason={})", reason);
+            return;
+        }
+        try (ClusterLease lease = acquired.get()) {
+            run(reason, lease);
+        }
+    }
+
+    private void run(String reason, ClusterLease lease) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        remaining.set(funeralHomeRepository.countGeocodingTargets());
+        log.info("Geocoding pipeline started: reason={}, pending={}", reason, remaining.get());
+
+        Queue<CoordinateUpdate> results = new ConcurrentLinkedQueue<>();
+        Queue<GeocodeFailure> failures = new ConcurrentLinkedQueue<>();
+        Semaphore slots = new Semaphore(config.getWorkers());
+        int batchSize = config.getBatchSize();
+        int saved = 0;
+        long cursor = 0;
+
+        try {
+            try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+                while (!shuttingDown) {
+                    if (!lease.renew()) {
+                        log.error("Geocoding lease lost, stopping pipeline: token={}", lease.getFencingToken());
+                        break;
+                    }
+                    List<GeocodingTarget> targets = funeralHomeRepository.findGeocodingTargets(
+                            cursor, PageRequest.of(0, batchSize));
+                    if (targets.isEmpty()) {
+                        break;
+                    }
+                    // 저장소에 이미 있는 주소는 API 호출 없이 바로 반영
+                    Map<String, GeocodingResult> stored = geocodingService.findStored(
+                            targets.stream().map(FuneralHomeGeocodingPipeline::addressOf)
+                                    .filter(FuneralHomeGeocodingPipeline::hasText)
+                                    .toList());
+                    for (GeocodingTarget target : targets) {
+                        GeocodingResult known = stored.get(addressOf(target));
+                        if (known != null) {
+                            results.add(new CoordinateUpdate(target.getId(), known.getLatitude(), known.getLongitude()));
+                            storedCounter.increment();
+                            remaining.decrementAndGet();
+                            continue;
+                        }
+                        slots.acquire();
+                        workers.execute(() -> {
+                            try {
+                                process(target, results, failures);
+                            } finally {
+                                slots.release();
+                            }
+                        });
+                    }
+                    cursor = targets.get(targets.size() - 1).getId();
+                    saved += saveCoordinates(results, batchSize, false);
+                    flush(failures, batchSize, false, funeralHomeJdbcRepository::markGeocodeFailed);
+                }
+            }
+        } finally {
+            // 워커가 모두 끝난 뒤 남은 결과 저장
+            saved += saveCoordinates(results, batchSize, true);
+            flush(failures, batchSize, true, funeralHomeJdbcRepository::markGeocodeFailed);
+        }
+
+        log.info("Geocoding pipeline completed: reason={}, saved={}, elapsed={}ms",
+                reason, saved, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        if (saved > 0) {
+            eventPublisher.publishEvent(new FuneralHomeDataChangedEvent("geocoding"));
+        }
+    }
+
+    /**
+     * 워커: 한 장례식장의 주소를 좌표로 변환
+     */
+    private void process(GeocodingTarget target, Queue<CoordinateUpdate> results, Queue<GeocodeFailure> failures) {
+        String address = addressOf(target);
+        try {
+            if (!hasText(address)) {
+                skippedCounter.increment();
+                return;
+            }
+            inFlight.incrementAndGet();
+            try {
+                GeocodingResult result = geocodeWithRetry(address);
+                results.add(new CoordinateUpdate(target.getId(), result.getLatitude(), result.getLongitude()));
+                successCounter.increment();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (GeocodingException e) {
+            if (e.isAddressError()) {
+                // 같은 주소로는 다시 호출해도 결과가 같으므로 기록하고 다음 조회에서 제외
+                failures.add(new GeocodeFailure(target.getId(), e.getStatus().name()));
+                unresolvableCounter.increment();
+            } else {
+                failureCounter.increment();
+            }
+            log.warn("Geocoding failed: id={}, status={}", target.getId(), e.getStatus());
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.warn("Geocoding failed: id={}, error={}", target.getId(), e.getMessage());
+        } finally {
+            remaining.decrementAndGet();
+        }
+    }
+
+    private GeocodingResult geocodeWithRetry(String address) throws InterruptedException {
+        int maxRetries = Math.max(0, googleMapsConfig.getMaxRetries());
+        for (int attempt = 0; ; attempt++) {
+            rateLimiter.acquire();
+            Timer.Sample sample = Timer.start();
+            try {
+                return geocodingService.geocode(address);
+            } catch (GeocodingException e) {
+                // 주소·키 문제처럼 다시 호출해도 결과가 같은 실패는 바로 반환
+                if (!e.isRetryable() || attempt >= maxRetries) {
+                    throw e;
+                }
+                retryCounter.increment();
+            } finally {
+                sample.stop(latencyTimer);
+            }
+            Thread.sleep(backoffMillis(attempt));
+        }
+    }
+
+    private long backoffMillis(int attempt) {
+        long base = Math.min(MAX_BACKOFF_MS, config.getRetryBackoffMs() << Math.min(attempt, 16));
+        return base + ThreadLocalRandom.current().nextLong(base / 2 + 1);
+    }
+
+    private int saveCoordinates(Queue<CoordinateUpdate> results, int batchSize, boolean force) {
+        int saved = flush(results, batchSize, force, funeralHomeJdbcRepository::updateCoordinates);
+        savedCounter.increment(saved);
+        return saved;
+    }
+
+    /**
+     * 모인 항목을 batchSize 단위로 저장
+     *
+     * @param force true면 batchSize에 못 미쳐도 남은 항목을 모두 저장
+     * @return 저장된 행 수
+     */
+    private static <T> int flush(Queue<T> pending, int batchSize, boolean force, ToIntFunction<List<T>> writer) {
+        int saved = 0;
+        while (!pending.isEmpty()) {
+            if (!force && pending.size() < batchSize) {
+                break;
+            }
+            List<T> chunk = new ArrayList<>(batchSize);
+            T item;
+            while (chunk.size() < batchSize && (item = pending.poll()) != null) {
+                chunk.add(item);
+            }
+            saved += writer.applyAsInt(chunk);
+        }
+        return saved;
+    }
+
+    private static String addressOf(GeocodingTarget target) {
+        return hasText(target.getRoadAddress()) ? target.getRoadAddress() : target.getLotAddress();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -1,17 +1,21 @@
 package com.petpro.domain.funeralhome.service;
 
+import com.petpro.domain.funeralhome.config.NearbySearchConfig;
 import com.petpro.domain.funeralhome.dto.FuneralHomeRequest;
 import com.petpro.domain.funeralhome.dto.FuneralHomeResponse;
 import com.petpro.domain.funeralhome.entity.FuneralHome;
 import com.petpro.domain.funeralhome.entity.FuneralHomeSyncLog;
+import com.petpro.domain.funeralhome.event.FuneralHomeDataChangedEvent;
 import com.petpro.domain.funeralhome.repository.FuneralHomeRepository;
 import com.petpro.domain.funeralhome.repository.FuneralHomeSyncLogRepository;
 import com.petpro.global.exception.BusinessException;
 import com.petpro.global.exception.ErrorCode;
+import com.petpro.global.search.NgramIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -32,35 +36,96 @@ public class FuneralHomeService {
 
     private final FuneralHomeRepository funeralHomeRepository;
     private final FuneralHomeSyncLogRepository syncLogRepository;
+    private final FuneralHomeSpatialIndex spatialIndex;
+    private final FuneralHomeFacetIndex facetIndex;
+    private final NearbySearchCache nearbySearchCache;
+    private final NearbySearchConfig nearbySearchConfig;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 근처 장례식장 검색
+     *
+     * 캐시가 켜져 있으면 NearbySearchCache가 geohash 셀 단위 후보를 캐시하고 호출자 좌표로 재정렬합니다.
+     * 검색 자체는 메모리 공간 인덱스(FuneralHomeSpatialIndex)를 우선 사용하고,
+     * SQL 모드로 설정되었거나 인덱스가 아직 적재되지 않은 경우 네이티브 쿼리로 처리합니다.
      */
-    @Cacheable(value = "funeralHomes",
-            key = "'nearby:' + #request.latitude + ':' + #request.longitude + ':' + #request.radius")
     public FuneralHomeResponse.NearbyResult findNearby(FuneralHomeRequest.NearbySearch request) {
+        List<FuneralHomeResponse.ListItem> items = nearbySearchCache.isEnabled()
+                ? nearbySearchCache.find(request,
+                        (latitude, longitude, radiusKm) -> searchNearby(
+                                latitude, longitude, radiusKm, Integer.MAX_VALUE, request))
+                : searchNearby(request.getLatitude(), request.getLongitude(),
+                        request.getRadius(), request.getLimit(), request);
+
+        return FuneralHomeResponse.NearbyResult.builder()
+                .content(items)
+                .totalCount(items.size())
+                .radius(request.getRadius())
+                .build();
+    }
+
+    /**
+     * 기준점·반경으로 근처 장례식장 검색 (시설 필터는 request 값 사용)
+     */
+    private List<FuneralHomeResponse.ListItem> searchNearby(double latitude, double longitude, double radiusKm,
+                                                            int limit, FuneralHomeRequest.NearbySearch filter) {
+        if (nearbySearchConfig.getMode() == NearbySearchConfig.Mode.INDEX && spatialIndex.isReady()) {
+            return findNearbyByIndex(latitude, longitude, radiusKm, limit, filter);
+        }
+        return findNearbyBySql(latitude, longitude, radiusKm, limit, filter);
+    }
+
+    /**
+     * 메모리 공간 인덱스로 근처 장례식장 검색
+     */
+    private List<FuneralHomeResponse.ListItem> findNearbyByIndex(double latitude, double longitude, double radiusKm,
+                                                                 int limit, FuneralHomeRequest.NearbySearch filter) {
+        List<FuneralHomeSpatialIndex.Hit> hits = spatialIndex.findWithinRadius(
+                latitude,
+                longitude,
+                radiusKm,
+                limit,
+                filter.getHasCrematorium(),
+                filter.getHasFuneral(),
+                filter.getHasColumbarium()
+        );
+
+        List<FuneralHomeResponse.ListItem> items = new ArrayList<>(hits.size());
+        for (FuneralHomeSpatialIndex.Hit hit : hits) {
+            items.add(FuneralHomeResponse.ListItem.from(hit.home(), roundDistance(hit.distanceKm())));
+        }
+        return items;
+    }
+
+    /**
+     * 네이티브 쿼리로 근처 장례식장 검색 (대체 경로)
+     */
+    private List<FuneralHomeResponse.ListItem> findNearbyBySql(double latitude, double longitude, double radiusKm,
+                                                               int limit, FuneralHomeRequest.NearbySearch filter) {
         List<Object[]> results = funeralHomeRepository.findNearbyWithDistance(
-                request.getLatitude(),
-                request.getLongitude(),
-                request.getRadius(),
-                request.getLimit(),
-                request.getHasCrematorium(),
-                request.getHasFuneral(),
-                request.getHasColumbarium()
+                latitude,
+                longitude,
+                radiusKm,
+                limit,
+                filter.getHasCrematorium(),
+                filter.getHasFuneral(),
+                filter.getHasColumbarium()
         );
 
         List<FuneralHomeResponse.ListItem> items = new ArrayList<>();
         for (Object[] row : results) {
             FuneralHome home = mapToFuneralHome(row);
-            Double distance = ((Number) row[13]).doubleValue();  // distance는 인덱스 13
-            items.add(FuneralHomeResponse.ListItem.from(home, Math.round(distance * 10.0) / 10.0));
+            double distance = ((Number) row[13]).doubleValue();  // distance는 인덱스 13
+            items.add(FuneralHomeResponse.ListItem.from(home, roundDistance(distance)));
         }
+        return items;
+    }
 
-        return FuneralHomeResponse.NearbyResult.builder()
-                .content(items)
-                .totalCount(items.size())
-                .radius(request.getRadius())
-                .build();
+    /**
+     * 거리 표시값 (소수점 첫째 자리 km)
+     */
+    static double roundDistance(double distanceKm) {
+        return Math.round(distanceKm * 10.0) / 10.0;
     }
 
     /**
@@ -91,8 +156,9 @@ public class FuneralHomeService {
 
     /**
      * 장례식장 상세 조회
+     * sync = true: 같은 id의 동시 캐시 미스는 한 번만 조회 (SingleFlightCache)
      */
-    @Cacheable(value = "funeralHomes", key = "'detail:' + #id")
+    @Cacheable(value = "funeralHomes", key = "'detail:' + #id", sync = true)
     public FuneralHomeResponse.Detail findById(Long id) {
         FuneralHome home = funeralHomeRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.FUNERAL_HOME_NOT_FOUND));
@@ -102,24 +168,46 @@ public class FuneralHomeService {
 
     /**
      * 장례식장 목록 조회 (검색)
+     *
+     * 메모리 읽기 모델(FuneralHomeFacetIndex)이 적재되어 있으면 비트셋 필터로 처리하고,
+     * 아직 적재되지 않은 경우 SQL 검색으로 처리합니다.
+     * SQL 검색도 같은 결과를 내도록 키워드를 NgramIndex.normalize로 정규화하여 이름·도로명·지번 주소에서 찾고,
+     * RELEVANCE 정렬은 같은 점수 순서로 정렬합니다.
+     * (DB 쪽은 공백 문자만 제거하므로 탭·전각 문자 등이 섞인 주소는 읽기 모델과 결과가 다를 수 있음)
      */
     public Page<FuneralHomeResponse.ListItem> findBySearchConditions(
             FuneralHomeRequest.ListSearch request) {
         PageRequest pageable = PageRequest.of(request.getPage(), request.getSize());
+        if (facetIndex.isReady()) {
+            return facetIndex.search(request, pageable);
+        }
 
-        Page<FuneralHome> homes = funeralHomeRepository.findBySearchConditions(
-                request.getKeyword(),
-                request.getLocCode(),
-                request.getHasCrematorium(),
-                request.getHasFuneral(),
-                request.getHasColumbarium(),
-                request.getIsActive(),
-                pageable
-        );
+        String keyword = NgramIndex.normalize(request.getKeyword());
+        Page<FuneralHome> homes;
+        if (keyword.isEmpty()) {
+            homes = funeralHomeRepository.findBySearchConditions(null, request.getLocCode(),
+                    request.getHasCrematorium(), request.getHasFuneral(), request.getHasColumbarium(),
+                    request.getIsActive(), pageable);
+        } else if (request.getSort() == FuneralHomeRequest.ListSort.RELEVANCE) {
+            homes = funeralHomeRepository.findBySearchConditionsOrderByRelevance(keyword, escapeLike(keyword),
+                    request.getLocCode(), request.getHasCrematorium(), request.getHasFuneral(),
+                    request.getHasColumbarium(), request.getIsActive(), pageable);
+        } else {
+            homes = funeralHomeRepository.findBySearchConditions(escapeLike(keyword), request.getLocCode(),
+                    request.getHasCrematorium(), request.getHasFuneral(), request.getHasColumbarium(),
+                    request.getIsActive(), pageable);
+        }
 
         return homes.map(FuneralHomeResponse.ListItem::from);
     }
 
+    /**
+     * LIKE 특수문자 이스케이프 (이스케이프 문자 '!', FuneralHomeRepository.SEARCH_CONDITIONS 참고)
+     */
+    static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
     /**
      * 장례식장 상태 변경 (관리자)
      */
@@ -136,6 +224,7 @@ public class FuneralHomeService {
         }
 
         funeralHomeRepository.save(home);
+        eventPublisher.publishEvent(new FuneralHomeDataChangedEvent("status-update:" + id));
         log.info("Funeral home status updated: id={}, isActive={}", id, isActive);
     }
 
@@ -151,8 +240,8 @@ public class FuneralHomeService {
     /**
      * 캐시 삭제
      */
-    @CacheEvict(value = "funeralHomes", allEntries = true)
     public void evictCache() {
+        nearbySearchCache.evictAll();
         log.info("Funeral home cache evicted");
     }
 
@@ -0,0 +1,207 @@
+package com.petpro.domain.funeralhome.service;
+
+import com.petpro.domain.funeralhome.entity.FuneralHome;
+import com.petpro.domain.funeralhome.event.FuneralHomeDataChangedEvent;
+import com.petpro.domain.funeralhome.repository.FuneralHomeRepository;
+import com.petpro.domain.location.index.KdTree;
+import com.petpro.domain.location.index.Neighbors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * 장례식장 메모리 공간 인덱스
+ *
+ * 활성화되고 좌표가 있는 장례식장을 KD-Tree로 적재하여 반경/최근접 검색을
+ * DB 조회 없이 처리합니다. 애플리케이션 시작 시, 그리고 FuneralHomeDataChangedEvent
+ * (동기화 완료, 상태 변경, 다른 노드의 변경) 수신 시 전체를 다시 적재하고 스냅샷 참조를 원자적으로 교체합니다.
+ *
+ * 적재 전이거나 적재에 실패한 경우 isReady()가 false를 반환하며,
+ * 호출 측(FuneralHomeService)은 SQL 검색으로 대체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FuneralHomeSpatialIndex {
+
+    private static final int CREMATORIUM = 1;
+    private static final int FUNERAL = 1 << 1;
+    private static final int COLUMBARIUM = 1 << 2;
+
+    private final FuneralHomeRepository funeralHomeRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 애플리케이션 시작 시 인덱스 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildQuietly("startup");
+    }
+
+    /**
+     * 장례식장 데이터 변경 시 인덱스 재적재 (트랜잭션 커밋 이후)
+     */
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChanged(FuneralHomeDataChangedEvent event) {
+        rebuildQuietly(event.reason());
+    }
+
+    /**
+     * 인덱스 전체 재적재
+     */
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        List<FuneralHome> homes = funeralHomeRepository.findAllActiveWithCoordinates();
+        this.snapshot = Snapshot.of(homes);
+        log.info("Funeral home spatial index rebuilt: size={}, elapsed={}ms",
+                homes.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 인덱스 사용 가능 여부
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 적재된 장례식장 수
+     */
+    public int size() {
+        Snapshot current = snapshot;
+        return current != null ? current.homes.length : 0;
+    }
+
+    /**
+     * 반경 내 장례식장 검색 (거리순)
+     *
+     * 시설 필터는 SQL 검색과 동일하게 null이면 조건 없음, 값이 있으면 일치 여부로 판단합니다.
+     */
+    public List<Hit> findWithinRadius(double latitude, double longitude, double radiusKm, int limit,
+                                      Boolean hasCrematorium, Boolean hasFuneral, Boolean hasColumbarium) {
+        Snapshot current = requireSnapshot();
+        Neighbors neighbors = current.tree.withinRadius(latitude, longitude, radiusKm, limit,
+                current.facilityFilter(hasCrematorium, hasFuneral, hasColumbarium));
+        return current.toHits(neighbors);
+    }
+
+    /**
+     * 가장 가까운 장례식장 k개 검색 (반경 제한 없음)
+     */
+    public List<Hit> findNearest(double latitude, double longitude, int k,
+                                 Boolean hasCrematorium, Boolean hasFuneral, Boolean hasColumbarium) {
+        Snapshot current = requireSnapshot();
+        Neighbors neighbors = current.tree.nearest(latitude, longitude, k,
+                current.facilityFilter(hasCrematorium, hasFuneral, hasColumbarium));
+        return current.toHits(neighbors);
+    }
+
+    private Snapshot requireSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("Funeral home spatial index is not loaded yet");
+        }
+        return current;
+    }
+
+    private void rebuildQuietly(String reason) {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Failed to rebuild funeral home spatial index (reason={}): {}", reason, e.getMessage());
+        }
+    }
+
+    /**
+     * 검색 결과 항목
+     *
+     * @param home 장례식장 (조회 전용 스냅샷)
+     * @param distanceKm 기준점으로부터의 거리 (km)
+     */
+    public record Hit(FuneralHome home, double distanceKm) {
+    }
+
+    /**
+     * 불변 인덱스 스냅샷
+     */
+    private static final class Snapshot {
+        private final KdTree tree;
+        private final FuneralHome[] homes;
+        private final byte[] facilities;
+
+        private Snapshot(KdTree tree, FuneralHome[] homes, byte[] facilities) {
+            this.tree = tree;
+            this.homes = homes;
+            this.facilities = facilities;
+        }
+
+        static Snapshot of(List<FuneralHome> source) {
+            int n = source.size();
+            FuneralHome[] homes = source.toArray(new FuneralHome[0]);
+            double[] lats = new double[n];
+            double[] lngs = new double[n];
+            byte[] facilities = new byte[n];
+
+            for (int i = 0; i < n; i++) {
+                FuneralHome home = homes[i];
+                lats[i] = home.getLatitude().doubleValue();
+                lngs[i] = home.getLongitude().doubleValue();
+                int flags = 0;
+                if (Boolean.TRUE.equals(home.getHasCrematorium())) {
+                    flags |= CREMATORIUM;
+                }
+                if (Boolean.TRUE.equals(home.getHasFuneral())) {
+                    flags |= FUNERAL;
+                }
+                if (Boolean.TRUE.equals(home.getHasColumbarium())) {
+                    flags |= COLUMBARIUM;
+                }
+                facilities[i] = (byte) flags;
+            }
+
+            return new Snapshot(KdTree.build(lats, lngs), homes, facilities);
+        }
+
+        IntPredicate facilityFilter(Boolean hasCrematorium, Boolean hasFuneral, Boolean hasColumbarium) {
+            int mask = 0;
+            int expected = 0;
+            if (hasCrematorium != null) {
+                mask |= CREMATORIUM;
+                expected |= hasCrematorium ? CREMATORIUM : 0;
+            }
+            if (hasFuneral != null) {
+                mask |= FUNERAL;
+                expected |= hasFuneral ? FUNERAL : 0;
+            }
+            if (hasColumbarium != null) {
+                mask |= COLUMBARIUM;
+                expected |= hasColumbarium ? COLUMBARIUM : 0;
+            }
+            if (mask == 0) {
+                return null;
+            }
+            int finalMask = mask;
+            int finalExpected = expected;
+            return slot -> (facilities[slot] & finalMask) == finalExpected;
+        }
+
+        List<Hit> toHits(Neighbors neighbors) {
+            List<Hit> hits = new ArrayList<>(neighbors.size());
+            for (int i = 0; i < neighbors.size(); i++) {
+                hits.add(new Hit(homes[neighbors.slot(i)], neighbors.distanceKm(i)));
+            }
+            return hits;
+        }
+    }
+}
@@ -1,29 +1,49 @@
 package com.petpro.domain.funeralhome.service;
 
+import com.petpro.domain.funeralhome.config.FuneralHomeSyncConfig;
 import com.petpro.domain.funeralhome.dto.FuneralHomeResponse;
 import com.petpro.domain.funeralhome.dto.GovApiResponse;
 import com.petpro.domain.funeralhome.entity.FuneralHome;
 import com.petpro.domain.funeralhome.entity.FuneralHomeSyncLog;
 import com.petpro.domain.funeralhome.entity.SyncStatus;
 import com.petpro.domain.funeralhome.entity.SyncType;
+import com.petpro.domain.funeralhome.event.FuneralHomeDataChangedEvent;
+import com.petpro.domain.funeralhome.event.FuneralHomeSyncCompletedEvent;
+import com.petpro.domain.funeralhome.repository.FuneralHomeJdbcRepository;
 import com.petpro.domain.funeralhome.repository.FuneralHomeRepository;
 import com.petpro.domain.funeralhome.repository.FuneralHomeSyncLogRepository;
-import com.petpro.domain.location.dto.GeocodingResult;
-import com.petpro.domain.location.service.GeocodingService;
+import com.petpro.global.coordination.ClusterCoordinator;
+import com.petpro.global.coordination.ClusterLease;
 import com.petpro.global.exception.BusinessException;
 import com.petpro.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 장례식장 동기화 서비스
+ *
+ * 저장 방식은 app.funeral-home.sync.engine으로 선택합니다.
+ * - BATCH: 시작 시 (name, loc_code) 키를 한 번에 적재하고, API 페이지마다 JDBC batch upsert 후 커밋합니다.
+ *          도중에 실패해도 이미 커밋된 페이지는 유지되며, 실패한 페이지는 오류 건수로 기록됩니다.
+ * - ENTITY: 항목마다 조회 후 엔티티를 저장하며, 전체를 하나의 트랜잭션으로 처리합니다.
+ *
+ * 두 방식 모두 API 항목의 내용 지문(FuneralHome.contentHash)을 저장된 값과 비교하여
+ * 바뀌지 않은 항목은 쓰지 않습니다. 변경된 항목이 하나도 없으면 데이터 변경 이벤트도 발행하지 않으므로
+ * 공간 인덱스 재적재·캐시 비우기가 일어나지 않습니다.
+ * 따라서 FuneralHome.syncedAt은 동기화로 내용이 마지막으로 바뀐 시간이며, 전체 동기화의 비활성화 대상도
+ * 이 값이 아니라 "이번 동기화에서 API에 나타나지 않은 키"로 판단합니다.
+ *
+ * 여러 노드 중 한 노드만 동기화하도록 ClusterCoordinator의 실행 리스를 먼저 획득합니다.
+ * 페이지를 쓰기 전·비활성화 전마다 리스를 연장하며, 그 사이 리스를 잃었으면(만료 후 다른 노드가 획득)
+ * 더 쓰지 않고 중단합니다. 리스의 펜싱 토큰은 동기화 로그에 기록됩니다.
  */
 @Slf4j
 @Service
@@ -31,54 +51,105 @@ import java.util.*;
 public class FuneralHomeSyncService {
 
     private final GovApiService govApiService;
-    private final GeocodingService geocodingService;
     private final FuneralHomeRepository funeralHomeRepository;
+    private final FuneralHomeJdbcRepository funeralHomeJdbcRepository;
     private final FuneralHomeSyncLogRepository syncLogRepository;
+    private final FuneralHomeSyncConfig syncConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClusterCoordinator clusterCoordinator;
 
-    private static final int PAGE_SIZE = 100;
+    /** 동기화 실행 리스 이름 (증분·전체 공통, 동시에 하나만 실행) */
+    private static final String SYNC_LEASE_NAME = "funeral-home-sync";
 
     /**
      * 증분 동기화 실행
      */
-    @Transactional
     public FuneralHomeResponse.SyncResult runIncrementalSync() {
-        // 이미 실행 중인 동기화가 있는지 확인
-        if (syncLogRepository.existsByStatus(SyncStatus.RUNNING)) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        return runSync(SyncType.INCREMENTAL);
+    }
+
+    /**
+     * 전체 동기화 실행
+     * API에 더 이상 없는 장례식장(이번 동기화에서 갱신되지 않은 항목)은 비활성화합니다.
+     */
+    public FuneralHomeResponse.SyncResult runFullSync() {
+        return runSync(SyncType.FULL);
+    }
+
+    private FuneralHomeResponse.SyncResult runSync(SyncType syncType) {
+        // 클러스터 전체에서 하나의 동기화만 실행
+        ClusterLease lease = clusterCoordinator
+                .tryAcquireLease(SYNC_LEASE_NAME, Duration.ofSeconds(syncConfig.getLeaseTtlSeconds()))
+                .orElseThrow(() -> new BusinessException(ErrorCode.SYNC_ALREADY_RUNNING));
+        try (lease) {
+            return runSync(syncType, lease);
         }
+    }
 
-        FuneralHomeSyncLog syncLog = FuneralHomeSyncLog.start(SyncType.INCREMENTAL);
-        syncLog = syncLogRepository.save(syncLog);
+    private FuneralHomeResponse.SyncResult runSync(SyncType syncType, ClusterLease lease) {
+        FuneralHomeSyncLog syncLog = saveSyncLog(FuneralHomeSyncLog.start(syncType, lease.getFencingToken()), lease);
+        String label = syncType == SyncType.FULL ? "전체 동기화" : "증분 동기화";
+        long startedAt = System.nanoTime();
 
         try {
-            SyncResult result = executeSync();
-
-            syncLog.complete(result.totalCount, result.insertedCount,
-                    result.updatedCount, result.deletedCount);
-            syncLogRepository.save(syncLog);
+            SyncResult result = syncConfig.getEngine() == FuneralHomeSyncConfig.Engine.BATCH
+                    ? executeBatchSync(syncType, lease)
+                    : executeEntitySync(syncType, lease);
+
+            SyncStatus status;
+            String message;
+            if (result.errorCount > 0) {
+                status = SyncStatus.PARTIAL;
+                message = label + " 부분 완료 (오류 " + result.errorCount + "건)";
+                syncLog.partial(result.totalCount, result.insertedCount, result.updatedCount,
+                        result.deletedCount, result.errorCount, result.lastError);
+            } else {
+                status = SyncStatus.COMPLETED;
+                message = label + " 완료";
+                syncLog.complete(result.totalCount, result.insertedCount,
+                        result.updatedCount, result.deletedCount);
+            }
+            syncLog.recordUnchanged(result.unchangedCount);
+            syncLog.recordThroughput(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            syncLog = saveSyncLog(syncLog, lease);
 
-            // 좌표 없는 항목 Geocoding 비동기 처리
-            geocodeMissingCoordinates();
+            // 실제로 바뀐 항목이 있을 때만 메모리 인덱스 재적재·캐시 비우기
+            if (result.changedCount() > 0) {
+                eventPublisher.publishEvent(new FuneralHomeDataChangedEvent(syncType.name().toLowerCase() + "-sync"));
+            }
+            // 좌표 없는 항목 Geocoding 파이프라인 실행
+            eventPublisher.publishEvent(new FuneralHomeSyncCompletedEvent(syncType, syncLog.getId()));
 
             return FuneralHomeResponse.SyncResult.builder()
                     .logId(syncLog.getId())
-                    .syncType(SyncType.INCREMENTAL)
-                    .status(SyncStatus.COMPLETED)
+                    .syncType(syncType)
+                    .status(status)
                     .totalCount(result.totalCount)
                     .insertedCount(result.insertedCount)
                     .updatedCount(result.updatedCount)
                     .deletedCount(result.deletedCount)
-                    .message("증분 동기화 완료")
+                    .unchangedCount(result.unchangedCount)
+                    .errorCount(result.errorCount)
+                    .rowsPerSecond(syncLog.getRowsPerSecond())
+                    .message(message)
                     .build();
 
         } catch (Exception e) {
-            log.error("Incremental sync failed", e);
+            log.error("{} sync failed", syncType, e);
             syncLog.fail(e.getMessage());
-            syncLogRepository.save(syncLog);
+            syncLog.recordThroughput(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            try {
+                saveSyncLog(syncLog, lease);
+            } catch (BusinessException fenced) {
+                // 리스를 잃었으면 새 보유자의 기록을 건드리지 않음
+                log.warn("Sync log not updated after lease loss: logId={}, token={}",
+                        syncLog.getId(), lease.getFencingToken());
+            }
 
             return FuneralHomeResponse.SyncResult.builder()
                     .logId(syncLog.getId())
-                    .syncType(SyncType.INCREMENTAL)
+                    .syncType(syncType)
                     .status(SyncStatus.FAILED)
                     .message("동기화 실패: " + e.getMessage())
                     .build();
@@ -86,107 +157,238 @@ public class FuneralHomeSyncService {
     }
 
     /**
-     * 전체 동기화 실행
+     * BATCH 방식 동기화: 변경된 항목만 페이지 단위 upsert + 커밋
      */
-    @Transactional
-    public FuneralHomeResponse.SyncResult runFullSync() {
-        if (syncLogRepository.existsByStatus(SyncStatus.RUNNING)) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT);
-        }
+    private SyncResult executeBatchSync(SyncType syncType, ClusterLease lease) {
+        SyncResult result = new SyncResult();
 
-        FuneralHomeSyncLog syncLog = FuneralHomeSyncLog.start(SyncType.FULL);
-        syncLog = syncLogRepository.save(syncLog);
+        // 기존 키·지문 일괄 적재
+        Map<String, FuneralHomeRepository.SyncKey> existing = loadSyncKeys();
+        Set<String> processedKeys = new HashSet<>();
 
-        try {
-            // 기존 데이터의 syncedAt 기록
-            LocalDateTime syncStartTime = LocalDateTime.now();
+        boolean reachedEnd = forEachPage(result, lease, (pageNo, items) -> {
+            List<GovApiResponse.Item> changed = new ArrayList<>(items.size());
+            for (GovApiResponse.Item item : items) {
+                if (item.getNm() == null || item.getNm().isBlank()) {
+                    log.warn("Skipping item without name: locCode={}", item.getLocCode());
+                    continue;
+                }
+                String key = syncKey(item.getNm(), item.getLocCode());
+                // 중복 방지
+                if (!processedKeys.add(key)) {
+                    continue;
+                }
+                FuneralHomeRepository.SyncKey current = existing.get(key);
+                if (current != null && item.contentHash().equals(current.getContentHash())) {
+                    result.unchangedCount++;
+                } else {
+                    changed.add(item);
+                }
+            }
+
+            try {
+                if (!changed.isEmpty()) {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        requireFence(lease);
+                        funeralHomeJdbcRepository.upsertFromApi(changed, LocalDateTime.now());
+                    });
+                }
+            } catch (BusinessException e) {
+                throw e;
+            } catch (Exception e) {
+                log.error("Failed to write sync page: pageNo={}, size={}", pageNo, changed.size(), e);
+                result.errorCount += changed.size();
+                result.lastError = "page " + pageNo + ": " + e.getMessage();
+                return;
+            }
 
-            SyncResult result = executeSync();
+            for (GovApiResponse.Item item : changed) {
+                if (existing.containsKey(syncKey(item.getNm(), item.getLocCode()))) {
+                    result.updatedCount++;
+                } else {
+                    result.insertedCount++;
+                }
+            }
+        });
 
-            // 동기화되지 않은 데이터 비활성화
-            int deactivated = funeralHomeRepository.deactivateOldEntries(syncStartTime);
-            result.deletedCount += deactivated;
+        if (syncType == SyncType.FULL) {
+            deactivateUnseen(existing.values(), processedKeys, reachedEnd, result, lease);
+        }
 
-            syncLog.complete(result.totalCount, result.insertedCount,
-                    result.updatedCount, result.deletedCount);
-            syncLogRepository.save(syncLog);
+        log.info("Batch sync completed: total={}, inserted={}, updated={}, unchanged={}, deleted={}, errors={}",
+                result.totalCount, result.insertedCount, result.updatedCount,
+                result.unchangedCount, result.deletedCount, result.errorCount);
 
-            // 좌표 없는 항목 Geocoding
-            geocodeMissingCoordinates();
+        return result;
+    }
 
-            return FuneralHomeResponse.SyncResult.builder()
-                    .logId(syncLog.getId())
-                    .syncType(SyncType.FULL)
-                    .status(SyncStatus.COMPLETED)
-                    .totalCount(result.totalCount)
-                    .insertedCount(result.insertedCount)
-                    .updatedCount(result.updatedCount)
-                    .deletedCount(result.deletedCount)
-                    .message("전체 동기화 완료")
-                    .build();
+    /**
+     * ENTITY 방식 동기화: 항목별 엔티티 저장, 전체 단일 트랜잭션
+     */
+    private SyncResult executeEntitySync(SyncType syncType, ClusterLease lease) {
+        return transactionTemplate.execute(status -> {
+            SyncResult result = new SyncResult();
+            Set<String> processedKeys = new HashSet<>();
+
+            boolean reachedEnd = forEachPage(result, lease, (pageNo, items) -> {
+                for (GovApiResponse.Item item : items) {
+                    try {
+                        processItem(item, result, processedKeys);
+                    } catch (Exception e) {
+                        log.warn("Failed to process item: name={}, error={}",
+                                item.getNm(), e.getMessage());
+                    }
+                }
+            });
 
-        } catch (Exception e) {
-            log.error("Full sync failed", e);
-            syncLog.fail(e.getMessage());
-            syncLogRepository.save(syncLog);
+            if (syncType == SyncType.FULL) {
+                deactivateUnseen(loadSyncKeys().values(), processedKeys, reachedEnd, result, lease);
+            }
+            // 커밋 직전 토큰 확인 (이후 커밋까지 다른 노드가 리스를 가져가지 못함)
+            requireFence(lease);
 
-            return FuneralHomeResponse.SyncResult.builder()
-                    .logId(syncLog.getId())
-                    .syncType(SyncType.FULL)
-                    .status(SyncStatus.FAILED)
-                    .message("동기화 실패: " + e.getMessage())
-                    .build();
-        }
+            log.info("Sync completed: total={}, inserted={}, updated={}, unchanged={}, deleted={}",
+                    result.totalCount, result.insertedCount, result.updatedCount,
+                    result.unchangedCount, result.deletedCount);
+
+            return result;
+        });
     }
 
     /**
-     * 동기화 실행 (공통 로직)
+     * API 페이지 순회 (공통 로직)
+     * fetch-concurrency가 1보다 크면 GovApiService.fetchAllPages로 병렬 조회합니다.
+     * 요청 크기, 마지막 페이지 판단, 페이지 수 계산 모두 같은 pageSize(1~100, 설정 바인딩 시 검증)를 사용합니다.
+     *
+     * @return 마지막 페이지까지 읽었는지 여부 (호출 한도로 중단되면 false)
      */
-    private SyncResult executeSync() {
-        SyncResult result = new SyncResult();
+    private boolean forEachPage(SyncResult result, ClusterLease lease, PageHandler handler) {
+        int pageSize = syncConfig.getPageSize();
+        if (syncConfig.getFetchConcurrency() > 1) {
+            // 병렬 조회: 처리는 이 스레드에서, 페이지 도착 순서대로
+            return govApiService.fetchAllPages(pageSize, syncConfig.getFetchConcurrency(),
+                    syncConfig.getFetchQueueCapacity(), (pageNo, response) -> {
+                        List<GovApiResponse.Item> items = response.getItems();
+                        result.recordApiTotal(response.getTotalCount());
+                        if (!items.isEmpty()) {
+                            ensureLeaseHeld(lease);
+                            handler.handle(pageNo, items);
+                            result.totalCount += items.size();
+                        }
+                    });
+        }
+
         int pageNo = 1;
         boolean hasMore = true;
 
-        Set<String> processedKeys = new HashSet<>();
-
         while (hasMore && govApiService.canCall()) {
-            GovApiResponse response = govApiService.fetchFuneralHomes(pageNo, PAGE_SIZE);
+            GovApiResponse response = govApiService.fetchFuneralHomes(pageNo, pageSize);
             List<GovApiResponse.Item> items = response.getItems();
+            result.recordApiTotal(response.getTotalCount());
 
             if (items.isEmpty()) {
                 hasMore = false;
                 continue;
             }
 
-            for (GovApiResponse.Item item : items) {
-                try {
-                    processItem(item, result, processedKeys);
-                } catch (Exception e) {
-                    log.warn("Failed to process item: name={}, error={}",
-                            item.getNm(), e.getMessage());
-                }
-            }
+            ensureLeaseHeld(lease);
+            handler.handle(pageNo, items);
 
             result.totalCount += items.size();
             pageNo++;
 
             // 마지막 페이지 확인
-            if (items.size() < PAGE_SIZE) {
+            if (items.size() < pageSize) {
                 hasMore = false;
             }
         }
+        return !hasMore;
+    }
 
-        log.info("Sync completed: total={}, inserted={}, updated={}, deleted={}",
-                result.totalCount, result.insertedCount, result.updatedCount, result.deletedCount);
+    /**
+     * 쓰기 전 리스 보유 확인 및 연장 (잃었으면 중단)
+     */
+    private void ensureLeaseHeld(ClusterLease lease) {
+        if (!lease.renew()) {
+            log.error("Sync lease lost, aborting: token={}", lease.getFencingToken());
+            throw new BusinessException(ErrorCode.SYNC_LEASE_LOST);
+        }
+    }
 
-        return result;
+    /**
+     * 쓰기 트랜잭션 안에서 펜싱 토큰 확인 (최신 토큰이 아니면 쓰지 않고 중단)
+     * 확인 후 같은 트랜잭션이 끝날 때까지 renew()를 호출하지 않아야 합니다 (ClusterLease.fence 참고).
+     */
+    private void requireFence(ClusterLease lease) {
+        if (!lease.fence()) {
+            log.error("Sync lease fencing check failed, aborting write: token={}", lease.getFencingToken());
+            throw new BusinessException(ErrorCode.SYNC_LEASE_LOST);
+        }
+    }
+
+    private FuneralHomeSyncLog saveSyncLog(FuneralHomeSyncLog syncLog, ClusterLease lease) {
+        return transactionTemplate.execute(status -> {
+            requireFence(lease);
+            return syncLogRepository.save(syncLog);
+        });
+    }
+
+    private Map<String, FuneralHomeRepository.SyncKey> loadSyncKeys() {
+        Map<String, FuneralHomeRepository.SyncKey> keys = new HashMap<>();
+        for (FuneralHomeRepository.SyncKey key : funeralHomeRepository.findAllSyncKeys()) {
+            keys.put(syncKey(key.getName(), key.getLocCode()), key);
+        }
+        return keys;
+    }
+
+    /**
+     * 이번 동기화에서 API에 나타나지 않은 활성 항목 비활성화
+     * 끝까지 읽지 못했거나, 실패한 페이지가 있거나, 읽은 행 수가 API의 totalCount와 다르면
+     * 누락 여부를 알 수 없으므로 건너뜁니다. (API가 0건을 알려도 전체 비활성화를 막기 위해 건너뜀)
+     */
+    private void deactivateUnseen(Collection<FuneralHomeRepository.SyncKey> keys, Set<String> seenKeys,
+                                  boolean reachedEnd, SyncResult result, ClusterLease lease) {
+        if (!reachedEnd || result.errorCount > 0
+                || result.apiTotalCount <= 0 || result.totalCount != result.apiTotalCount) {
+            log.warn("Skipping deactivation: reachedEnd={}, errors={}, seen={}, apiTotal={}",
+                    reachedEnd, result.errorCount, result.totalCount, result.apiTotalCount);
+            return;
+        }
+        List<Long> unseenIds = new ArrayList<>();
+        for (FuneralHomeRepository.SyncKey key : keys) {
+            if (Boolean.TRUE.equals(key.getIsActive())
+                    && !seenKeys.contains(syncKey(key.getName(), key.getLocCode()))) {
+                unseenIds.add(key.getId());
+            }
+        }
+        if (unseenIds.isEmpty()) {
+            return;
+        }
+        ensureLeaseHeld(lease);
+        Integer deactivated = transactionTemplate.execute(status -> {
+            requireFence(lease);
+            return funeralHomeRepository.deactivateByIds(unseenIds);
+        });
+        result.deletedCount += deactivated != null ? deactivated : 0;
+    }
+
+    private static String syncKey(String name, String locCode) {
+        return name + "|" + locCode;
+    }
+
+    /**
+     * 페이지 처리 함수
+     */
+    @FunctionalInterface
+    private interface PageHandler {
+        void handle(int pageNo, List<GovApiResponse.Item> items);
     }
 
     /**
      * 개별 항목 처리
      */
     private void processItem(GovApiResponse.Item item, SyncResult result, Set<String> processedKeys) {
-        String key = item.getNm() + "|" + item.getLocCode();
+        String key = syncKey(item.getNm(), item.getLocCode());
 
         // 중복 방지
         if (processedKeys.contains(key)) {
@@ -198,8 +400,13 @@ public class FuneralHomeSyncService {
                 item.getNm(), item.getLocCode());
 
         if (existing.isPresent()) {
-            // 기존 데이터 업데이트
             FuneralHome home = existing.get();
+            if (item.contentHash().equals(home.getContentHash())) {
+                // 내용 변경 없음
+                result.unchangedCount++;
+                return;
+            }
+            // 기존 데이터 업데이트
             home.updateFromApi(
                     item.getRoadAddr(),
                     item.getLotAddr(),
@@ -228,48 +435,6 @@ public class FuneralHomeSyncService {
         }
     }
 
-    /**
-     * 좌표가 없는 장례식장 Geocoding 처리 (비동기)
-     */
-    @Async
-    public void geocodeMissingCoordinates() {
-        List<FuneralHome> homes = funeralHomeRepository.findByLatitudeIsNullAndIsActiveTrue();
-        log.info("Starting geocoding for {} funeral homes", homes.size());
-
-        int successCount = 0;
-        int failCount = 0;
-
-        for (FuneralHome home : homes) {
-            try {
-                String address = home.getRoadAddress() != null
-                        ? home.getRoadAddress() : home.getLotAddress();
-
-                if (address == null || address.isBlank()) {
-                    continue;
-                }
-
-                GeocodingResult result = geocodingService.geocode(address);
-                if (result != null) {
-                    home.setCoordinates(
-                            BigDecimal.valueOf(result.getLatitude()),
-                            BigDecimal.valueOf(result.getLongitude())
-                    );
-                    funeralHomeRepository.save(home);
-                    successCount++;
-                }
-
-                // Rate limiting (Google API 제한)
-                Thread.sleep(100);
-
-            } catch (Exception e) {
-                log.warn("Geocoding failed for: {}, error: {}", home.getName(), e.getMessage());
-                failCount++;
-            }
-        }
-
-        log.info("Geocoding completed: success={}, fail={}", successCount, failCount);
-    }
-
     /**
      * 동기화 결과 내부 클래스
      */
@@ -278,5 +443,18 @@ public class FuneralHomeSyncService {
         int insertedCount = 0;
         int updatedCount = 0;
         int deletedCount = 0;
+        int unchangedCount = 0;
+        int errorCount = 0;
+        /** API가 알려준 전체 건수 (페이지마다 받은 값 중 최대) */
+        int apiTotalCount = 0;
+        String lastError;
+
+        void recordApiTotal(int count) {
+            apiTotalCount = Math.max(apiTotalCount, count);
+        }
+
+        int changedCount() {
+            return insertedCount + updatedCount + deletedCount;
+        }
     }
 }
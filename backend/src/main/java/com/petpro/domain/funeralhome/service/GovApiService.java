@@ -1,6 +1,7 @@
 package com.petpro.domain.funeralhome.service;
 
 import com.petpro.domain.funeralhome.dto.GovApiResponse;
+import com.petpro.global.coordination.ClusterCoordinator;
 import com.petpro.global.exception.BusinessException;
 import com.petpro.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -12,17 +13,33 @@ import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 공공데이터포털 동물장묘업 API 서비스
+ *
+ * 일일 호출 한도는 HTTP 요청(재시도 포함)마다 호출 직전에 ClusterCoordinator에서 원자적으로 차감하므로
+ * 여러 스레드·여러 노드가 동시에 호출해도 한도를 넘지 않으며, 재시작해도 사용량이 유지됩니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GovApiService {
 
+    /** 일일 호출 한도 이름 */
+    static final String QUOTA_NAME = "gov-api:animal-cremation";
+
+    /** 페이지당 최대 행 수 (API 제한) */
+    public static final int MAX_NUM_OF_ROWS = 100;
+
     private final RestTemplate restTemplate;
+    private final ClusterCoordinator clusterCoordinator;
 
     @Value("${app.gov-api.base-url:https://apis.data.go.kr/1741000/animal_cremation}")
     private String baseUrl;
@@ -36,29 +53,25 @@ public class GovApiService {
     private static final int MAX_RETRIES = 3;
     private static final long RETRY_DELAY_MS = 1000;
 
-    /** 일일 API 호출 카운터 */
-    private final AtomicInteger dailyCallCount = new AtomicInteger(0);
-
     /**
      * API 호출 가능 여부 확인
      */
     public boolean canCall() {
-        return dailyCallCount.get() < dailyLimit;
+        return clusterCoordinator.getQuotaUsed(QUOTA_NAME) < dailyLimit;
     }
 
     /**
-     * 남은 호출 가능 횟수
+     * 호출 1회분 한도 차감 (한도 초과 시 false)
      */
-    public int getRemainingCalls() {
-        return dailyLimit - dailyCallCount.get();
+    private boolean tryAcquireCall() {
+        return clusterCoordinator.tryAcquireQuota(QUOTA_NAME, dailyLimit);
     }
 
     /**
-     * 일일 호출 카운트 리셋 (매일 자정 스케줄러에서 호출)
+     * 남은 호출 가능 횟수
      */
-    public void resetDailyCount() {
-        int previousCount = dailyCallCount.getAndSet(0);
-        log.info("Daily API call count reset. Previous count: {}", previousCount);
+    public int getRemainingCalls() {
+        return Math.max(0, dailyLimit - clusterCoordinator.getQuotaUsed(QUOTA_NAME));
     }
 
     /**
@@ -69,21 +82,27 @@ public class GovApiService {
      * @return API 응답
      */
     public GovApiResponse fetchFuneralHomes(int pageNo, int numOfRows) {
-        if (!canCall()) {
-            log.warn("Daily API call limit reached: {}/{}", dailyCallCount.get(), dailyLimit);
-            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR);
-        }
+        requireValidNumOfRows(numOfRows);
+        return tryFetchFuneralHomes(pageNo, numOfRows)
+                .orElseThrow(() -> new BusinessException(ErrorCode.EXTERNAL_API_ERROR));
+    }
 
+    /**
+     * 장례식장 데이터 조회 (재시도 지원)
+     *
+     * @return API 응답, 호출 한도에 도달하면 빈 값
+     */
+    private Optional<GovApiResponse> tryFetchFuneralHomes(int pageNo, int numOfRows) {
         if (serviceKey == null || serviceKey.isBlank()) {
             log.warn("GOV API service key is not configured. Returning mock data.");
-            return createMockResponse();
+            return Optional.of(createMockResponse());
         }
 
         String url = UriComponentsBuilder.fromHttpUrl(baseUrl)
                 .path("/getAnimalCremationList")
                 .queryParam("serviceKey", serviceKey)
                 .queryParam("pageNo", pageNo)
-                .queryParam("numOfRows", Math.min(numOfRows, 100))
+                .queryParam("numOfRows", numOfRows)
                 .queryParam("type", "json")
                 .build()
                 .toUriString();
@@ -95,9 +114,12 @@ public class GovApiService {
         RestClientException lastException = null;
 
         while (attempts < MAX_RETRIES) {
+            if (!tryAcquireCall()) {
+                log.warn("Daily API call limit reached: limit={}", dailyLimit);
+                return Optional.empty();
+            }
             try {
                 ResponseEntity<GovApiResponse> response = restTemplate.getForEntity(url, GovApiResponse.class);
-                dailyCallCount.incrementAndGet();
 
                 GovApiResponse body = response.getBody();
                 if (body == null || !body.isSuccess()) {
@@ -110,7 +132,7 @@ public class GovApiService {
                 log.debug("GOV API response: totalCount={}, items={}",
                         body.getTotalCount(), body.getItems().size());
 
-                return body;
+                return Optional.of(body);
             } catch (RestClientException e) {
                 lastException = e;
                 attempts++;
@@ -133,13 +155,122 @@ public class GovApiService {
 
     /**
      * 전체 데이터 페이지 수 조회
+     *
+     * @param numOfRows 페이지당 행 수 (조회 시 사용하는 값과 같아야 함, 1~100)
      */
     public int getTotalPages(int numOfRows) {
+        requireValidNumOfRows(numOfRows);
         GovApiResponse response = fetchFuneralHomes(1, 1);
         int totalCount = response.getTotalCount();
         return (int) Math.ceil((double) totalCount / numOfRows);
     }
 
+    /**
+     * API가 numOfRows를 조용히 줄이면 페이지 수·마지막 페이지 판단이 틀어지므로 범위 밖 값은 거부
+     */
+    private static void requireValidNumOfRows(int numOfRows) {
+        if (numOfRows < 1 || numOfRows > MAX_NUM_OF_ROWS) {
+            throw new IllegalArgumentException("numOfRows must be between 1 and " + MAX_NUM_OF_ROWS + ": " + numOfRows);
+        }
+    }
+
+    /**
+     * 전체 페이지 병렬 조회
+     *
+     * getTotalPages로 페이지 수를 한 번 구한 뒤, 가상 스레드 concurrency개가 다음 페이지 번호를 나눠 가지며 조회합니다.
+     * 조회 결과는 크기 queueCapacity의 큐를 거쳐 호출 스레드에서 consumer로 전달되므로
+     * 네트워크 대기와 DB 쓰기가 겹치고, 처리가 밀리면 큐가 차서 조회도 멈춥니다.
+     * consumer는 항상 호출 스레드에서 실행되며(트랜잭션 유지), 페이지 도착 순서는 보장하지 않습니다.
+     *
+     * @param numOfRows 페이지당 행 수 (최대 100)
+     * @param concurrency 동시 조회 수
+     * @param queueCapacity 조회 후 처리 대기 페이지 수
+     * @param consumer 페이지 처리
+     * @return 모든 페이지를 처리했는지 여부 (호출 한도로 중단되면 false)
+     * @throws BusinessException 재시도 후에도 조회에 실패한 페이지가 있는 경우 (그 전에 전달된 페이지는 처리된 상태)
+     */
+    public boolean fetchAllPages(int numOfRows, int concurrency, int queueCapacity, PageConsumer consumer) {
+        int totalPages = getTotalPages(numOfRows);
+        if (totalPages <= 0) {
+            return true;
+        }
+
+        int workers = Math.max(1, Math.min(concurrency, totalPages));
+        BlockingQueue<FetchedPage> queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        AtomicInteger nextPage = new AtomicInteger(1);
+        AtomicBoolean stopped = new AtomicBoolean(false);
+        AtomicBoolean quotaExhausted = new AtomicBoolean(false);
+
+        log.info("Fetching GOV API pages in parallel: totalPages={}, concurrency={}", totalPages, workers);
+
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("gov-api-fetch-", 0).factory());
+        try {
+            for (int i = 0; i < workers; i++) {
+                executor.execute(() -> fetchPages(totalPages, numOfRows, nextPage, stopped, quotaExhausted, queue));
+            }
+
+            RuntimeException failure = null;
+            int finished = 0;
+            while (finished < workers) {
+                FetchedPage page = queue.take();
+                if (page == FetchedPage.DONE) {
+                    finished++;
+                } else if (page.error() != null) {
+                    stopped.set(true);
+                    if (failure == null) {
+                        failure = page.error();
+                    }
+                } else if (failure == null) {
+                    consumer.accept(page.pageNo(), page.response());
+                }
+            }
+
+            if (failure != null) {
+                throw failure;
+            }
+            return !quotaExhausted.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR);
+        } finally {
+            // 처리 중 예외가 나면 큐에서 대기 중인 조회 스레드를 깨워 종료
+            stopped.set(true);
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 조회 스레드: 페이지 번호를 하나씩 가져가며 조회 후 큐에 전달
+     */
+    private void fetchPages(int totalPages, int numOfRows, AtomicInteger nextPage, AtomicBoolean stopped,
+                            AtomicBoolean quotaExhausted, BlockingQueue<FetchedPage> queue) {
+        try {
+            while (!stopped.get()) {
+                int pageNo = nextPage.getAndIncrement();
+                if (pageNo > totalPages) {
+                    break;
+                }
+                Optional<GovApiResponse> response;
+                try {
+                    response = tryFetchFuneralHomes(pageNo, numOfRows);
+                } catch (RuntimeException e) {
+                    queue.put(new FetchedPage(pageNo, null, e));
+                    break;
+                }
+                if (response.isEmpty()) {
+                    quotaExhausted.set(true);
+                    stopped.set(true);
+                    break;
+                }
+                queue.put(new FetchedPage(pageNo, response.get(), null));
+            }
+            queue.put(FetchedPage.DONE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * 목업 응답 생성 (API 키 미설정 시)
      */
@@ -147,4 +278,19 @@ public class GovApiService {
         log.info("Returning mock GOV API response for development");
         return new GovApiResponse();
     }
+
+    /**
+     * 병렬 조회 페이지 처리
+     */
+    @FunctionalInterface
+    public interface PageConsumer {
+        void accept(int pageNo, GovApiResponse response);
+    }
+
+    /**
+     * 조회 결과 (error가 있으면 실패, DONE은 조회 스레드 종료 표시)
+     */
+    private record FetchedPage(int pageNo, GovApiResponse response, RuntimeException error) {
+        static final FetchedPage DONE = new FetchedPage(0, null, null);
+    }
 }
@@ -0,0 +1,201 @@
+package com.petpro.domain.funeralhome.service;
+
+import com.petpro.domain.funeralhome.config.NearbySearchConfig;
+import com.petpro.domain.funeralhome.dto.FuneralHomeRequest;
+import com.petpro.domain.funeralhome.dto.FuneralHomeResponse;
+import com.petpro.domain.funeralhome.event.FuneralHomeDataChangedEvent;
+import com.petpro.domain.location.index.TopKHeap;
+import com.petpro.domain.location.util.GeoHash;
+import com.petpro.domain.location.util.HaversineCalculator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 근처 장례식장 검색 캐시
+ *
+ * 검색 좌표를 geohash 셀로 양자화하여, 같은 셀·반경·시설 필터 조합의 요청이 하나의 캐시 항목을 공유합니다.
+ * 캐시에는 셀 중심 기준 (반경 + 셀 외접 반경) 안의 후보 전체를 저장하고,
+ * 조회할 때마다 호출자의 실제 좌표로 거리를 다시 계산해 반경 필터·정렬·limit을 적용합니다.
+ * 따라서 limit은 캐시 키에 포함되지 않으며, 결과는 캐시 없이 검색한 것과 동일합니다.
+ *
+ * 캐시 미스는 Cache.get(key, loader)로 적재하므로, 같은 셀의 동시 미스는 한 번만 조회합니다 (SingleFlightCache).
+ *
+ * 캐시 키: nearby:{geohash}:{radius}:{화장장}:{장례식장}:{납골당} (필터 값 Y/N/*)
+ *
+ * 메트릭:
+ * - funeralhome.nearby.cache.requests{result=hit|miss}
+ * - funeralhome.nearby.cache.evictions
+ */
+@Slf4j
+@Component
+public class NearbySearchCache {
+
+    static final String CACHE_NAME = "funeralHomes";
+    private static final String KEY_PREFIX = "nearby:";
+
+    private final CacheManager cacheManager;
+    private final NearbySearchConfig config;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public NearbySearchCache(CacheManager cacheManager, NearbySearchConfig config, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.config = config;
+        this.hitCounter = Counter.builder("funeralhome.nearby.cache.requests")
+                .description("Nearby search cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("funeralhome.nearby.cache.requests")
+                .description("Nearby search cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("funeralhome.nearby.cache.evictions")
+                .description("Nearby search cache evictions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 후보 조회 함수
+     * 주어진 기준점·반경 안의 장례식장 전체를 반환해야 합니다 (limit 없이).
+     */
+    @FunctionalInterface
+    public interface CandidateLoader {
+        List<FuneralHomeResponse.ListItem> load(double latitude, double longitude, double radiusKm);
+    }
+
+    public boolean isEnabled() {
+        return config.getCache().isEnabled();
+    }
+
+    /**
+     * 캐시를 거쳐 근처 장례식장 검색
+     *
+     * @param request 검색 요청
+     * @param loader 캐시 미스 시 후보 조회 함수
+     * @return 호출자 좌표 기준 거리순 결과 (최대 limit개)
+     */
+    public List<FuneralHomeResponse.ListItem> find(FuneralHomeRequest.NearbySearch request,
+                                                   CandidateLoader loader) {
+        String cell = GeoHash.encode(request.getLatitude(), request.getLongitude(),
+                config.getCache().getGeohashPrecision());
+        String key = cacheKey(cell, request);
+        Cache cache = getCache();
+
+        boolean[] loaded = {false};
+        FuneralHomeResponse.NearbyCandidates candidates;
+        try {
+            candidates = cache.get(key, () -> {
+                loaded[0] = true;
+                GeoHash.Cell bounds = GeoHash.decode(cell);
+                List<FuneralHomeResponse.ListItem> items = loader.load(
+                        bounds.centerLatitude(),
+                        bounds.centerLongitude(),
+                        request.getRadius() + bounds.circumradiusKm());
+                return FuneralHomeResponse.NearbyCandidates.builder()
+                        .content(items)
+                        .build();
+            });
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        if (loaded[0]) {
+            missCounter.increment();
+        } else {
+            hitCounter.increment();
+        }
+
+        return rerank(candidates.getContent(), request);
+    }
+
+    /**
+     * 장례식장 데이터 변경 시 캐시 비우기
+     * 공간 인덱스 재적재(FuneralHomeSpatialIndex) 이후에 실행되도록 순서를 지정합니다.
+     * 다른 노드에서 전달된 변경도 이 노드의 재적재 후 다시 비워, 재적재 전에 채운 이전 후보를 제거합니다.
+     */
+    @Order(1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChanged(FuneralHomeDataChangedEvent event) {
+        evictAll();
+        log.debug("Nearby search cache evicted: reason={}", event.reason());
+    }
+
+    /**
+     * funeralHomes 캐시 전체 비우기
+     */
+    public void evictAll() {
+        getCache().clear();
+        evictionCounter.increment();
+    }
+
+    static String cacheKey(String cell, FuneralHomeRequest.NearbySearch request) {
+        return KEY_PREFIX + cell
+                + ':' + request.getRadius()
+                + ':' + filterToken(request.getHasCrematorium())
+                + ':' + filterToken(request.getHasFuneral())
+                + ':' + filterToken(request.getHasColumbarium());
+    }
+
+    private static String filterToken(Boolean filter) {
+        if (filter == null) {
+            return "*";
+        }
+        return filter ? "Y" : "N";
+    }
+
+    /**
+     * 캐시된 후보를 호출자 좌표 기준으로 재정렬
+     */
+    private List<FuneralHomeResponse.ListItem> rerank(List<FuneralHomeResponse.ListItem> candidates,
+                                                      FuneralHomeRequest.NearbySearch request) {
+        if (candidates == null || candidates.isEmpty()) {
+            return List.of();
+        }
+        double latitude = request.getLatitude();
+        double longitude = request.getLongitude();
+        double radiusKm = request.getRadius();
+
+        TopKHeap heap = new TopKHeap(Math.min(request.getLimit(), candidates.size()));
+        for (int i = 0; i < candidates.size(); i++) {
+            FuneralHomeResponse.ListItem item = candidates.get(i);
+            if (item.getLatitude() == null || item.getLongitude() == null) {
+                continue;
+            }
+            double distance = HaversineCalculator.calculate(latitude, longitude,
+                    item.getLatitude().doubleValue(), item.getLongitude().doubleValue());
+            if (distance <= radiusKm) {
+                heap.offer(i, distance);
+            }
+        }
+
+        int[] indexes = new int[heap.size()];
+        double[] distances = new double[heap.size()];
+        int count = heap.drainSorted(indexes, distances);
+
+        List<FuneralHomeResponse.ListItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(candidates.get(indexes[i]).withDistance(FuneralHomeService.roundDistance(distances[i])));
+        }
+        return items;
+    }
+
+    private Cache getCache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + CACHE_NAME);
+        }
+        return cache;
+    }
+}
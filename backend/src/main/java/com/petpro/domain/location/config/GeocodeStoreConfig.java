@@ -0,0 +1,25 @@
+package com.petpro.domain.location.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Geocoding 결과 저장소 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "location.geocode-store")
+public class GeocodeStoreConfig {
+
+    /** 프로세스 내 캐시(L1) 최대 항목 수 */
+    private long nearCacheMaxSize = 10_000;
+
+    /** 프로세스 내 캐시(L1) 만료 시간 (분) */
+    private long nearCacheTtlMinutes = 60;
+
+    /** 역지오코딩 키의 좌표 소수점 자릿수 (5: 약 1m) */
+    private int reversePrecision = 5;
+}
@@ -29,6 +29,9 @@ public class GoogleMapsConfig {
     /** 최대 재시도 횟수 */
     private int maxRetries = 3;
 
+    /** 초당 최대 요청 수 (Geocoding API 할당량, 기본 50 QPS) */
+    private int requestsPerSecond = 50;
+
     /** API 키가 설정되어 있는지 확인 */
     public boolean isConfigured() {
         return apiKey != null && !apiKey.isBlank();
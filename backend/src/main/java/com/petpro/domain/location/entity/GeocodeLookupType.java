@@ -0,0 +1,11 @@
+package com.petpro.domain.location.entity;
+
+/**
+ * Geocoding 조회 유형
+ */
+public enum GeocodeLookupType {
+    /** 주소 → 좌표 (키: 정규화된 주소) */
+    ADDRESS,
+    /** 좌표 → 주소 (키: 반올림한 "위도,경도") */
+    REVERSE
+}
@@ -0,0 +1,128 @@
+package com.petpro.domain.location.entity;
+
+import com.petpro.domain.location.dto.GeocodingResult;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Geocoding 결과 엔티티
+ *
+ * Google Geocoding API 응답을 조회 키(정규화된 주소 또는 좌표)별로 영구 보관하여
+ * Redis 캐시가 비워져도 같은 주소로 유료 API를 다시 호출하지 않도록 합니다.
+ */
+@Entity
+@Table(name = "geocoded_addresses", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_geocoded_addresses_lookup", columnNames = {"lookupType", "lookupKey"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class GeocodedAddress {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 조회 유형 */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private GeocodeLookupType lookupType;
+
+    /** 조회 키 */
+    @Column(nullable = false, length = 500)
+    private String lookupKey;
+
+    /** API가 반환한 전체 주소 */
+    @Column(length = 500)
+    private String formattedAddress;
+
+    /** 위도 */
+    @Column(nullable = false, precision = 10, scale = 7)
+    private BigDecimal latitude;
+
+    /** 경도 */
+    @Column(nullable = false, precision = 10, scale = 7)
+    private BigDecimal longitude;
+
+    /** Google Place ID */
+    private String placeId;
+
+    // ========== 주소 구성요소 ==========
+
+    @Column(length = 100)
+    private String country;
+
+    @Column(length = 100)
+    private String province;
+
+    @Column(length = 100)
+    private String city;
+
+    @Column(length = 100)
+    private String district;
+
+    @Column(length = 200)
+    private String street;
+
+    @Column(length = 50)
+    private String streetNumber;
+
+    @Column(length = 20)
+    private String postalCode;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * API 응답으로 엔티티 생성
+     */
+    public static GeocodedAddress of(GeocodeLookupType lookupType, String lookupKey, GeocodingResult result) {
+        GeocodingResult.AddressComponents components = result.getComponents();
+        LocalDateTime now = LocalDateTime.now();
+        return GeocodedAddress.builder()
+                .lookupType(lookupType)
+                .lookupKey(lookupKey)
+                .formattedAddress(result.getFormattedAddress())
+                .latitude(BigDecimal.valueOf(result.getLatitude()))
+                .longitude(BigDecimal.valueOf(result.getLongitude()))
+                .placeId(result.getPlaceId())
+                .country(components != null ? components.getCountry() : null)
+                .province(components != null ? components.getProvince() : null)
+                .city(components != null ? components.getCity() : null)
+                .district(components != null ? components.getDistrict() : null)
+                .street(components != null ? components.getStreet() : null)
+                .streetNumber(components != null ? components.getStreetNumber() : null)
+                .postalCode(components != null ? components.getPostalCode() : null)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * 저장된 값을 Geocoding 결과 DTO로 변환
+     */
+    public GeocodingResult toResult() {
+        return GeocodingResult.builder()
+                .formattedAddress(formattedAddress)
+                .latitude(latitude.doubleValue())
+                .longitude(longitude.doubleValue())
+                .placeId(placeId)
+                .components(GeocodingResult.AddressComponents.builder()
+                        .country(country)
+                        .province(province)
+                        .city(city)
+                        .district(district)
+                        .street(street)
+                        .streetNumber(streetNumber)
+                        .postalCode(postalCode)
+                        .build())
+                .build();
+    }
+}
@@ -2,17 +2,102 @@ package com.petpro.domain.location.exception;
 
 import com.petpro.global.exception.BusinessException;
 import com.petpro.global.exception.ErrorCode;
+import lombok.Getter;
 
 /**
  * 지오코딩 관련 예외
+ *
+ * status로 다시 호출하면 성공할 수 있는 실패(재시도 대상)와
+ * 같은 주소로는 다시 호출해도 결과가 같은 실패를 구분합니다.
  */
+@Getter
 public class GeocodingException extends BusinessException {
 
+    /** 실패 상태 (상태를 알 수 없으면 null) */
+    private final Status status;
+
     public GeocodingException() {
         super(ErrorCode.GEOCODING_FAILED);
+        this.status = null;
     }
 
     public GeocodingException(String message) {
         super(ErrorCode.GEOCODING_FAILED, message);
+        this.status = null;
+    }
+
+    public GeocodingException(String message, Status status) {
+        super(ErrorCode.GEOCODING_FAILED, message);
+        this.status = status;
+    }
+
+    /**
+     * 잠시 후 다시 호출하면 성공할 수 있는 실패인지 여부
+     */
+    public boolean isRetryable() {
+        return status != null && status.isRetryable();
+    }
+
+    /**
+     * 주소 자체의 문제로 같은 주소는 다시 호출해도 실패하는지 여부
+     */
+    public boolean isAddressError() {
+        return status != null && status.isAddressError();
+    }
+
+    /**
+     * 지오코딩 실패 상태
+     * Google Geocoding API 응답 status 값과 HTTP 호출 단계의 실패를 함께 표현합니다.
+     */
+    @Getter
+    public enum Status {
+        /** 주소에 해당하는 결과 없음 (ZERO_RESULTS 또는 결과가 빈 응답) */
+        ZERO_RESULTS(false, true),
+        /** 주소 등 요청 값이 잘못됨 */
+        INVALID_REQUEST(false, true),
+        /** API 키 거부 */
+        REQUEST_DENIED(false, false),
+        /** 일일 한도 초과 또는 결제 문제 */
+        OVER_DAILY_LIMIT(false, false),
+        /** 초당 호출 한도 초과 (HTTP 429 포함) */
+        OVER_QUERY_LIMIT(true, false),
+        /** API 서버 내부 오류 */
+        UNKNOWN_ERROR(true, false),
+        /** 연결 실패, 타임아웃 */
+        IO_ERROR(true, false),
+        /** HTTP 5xx */
+        SERVER_ERROR(true, false),
+        /** HTTP 4xx (429 제외) */
+        CLIENT_ERROR(false, false),
+        /** 해석할 수 없는 응답 */
+        INVALID_RESPONSE(false, false);
+
+        /** 재시도 대상 여부 */
+        private final boolean retryable;
+
+        /** 주소 자체의 문제 여부 */
+        private final boolean addressError;
+
+        Status(boolean retryable, boolean addressError) {
+            this.retryable = retryable;
+            this.addressError = addressError;
+        }
+
+        /**
+         * API 응답 status 값으로 변환 (알 수 없는 값은 UNKNOWN_ERROR)
+         */
+        public static Status fromApiStatus(String apiStatus) {
+            if (apiStatus == null) {
+                return INVALID_RESPONSE;
+            }
+            return switch (apiStatus) {
+                case "ZERO_RESULTS" -> ZERO_RESULTS;
+                case "INVALID_REQUEST" -> INVALID_REQUEST;
+                case "REQUEST_DENIED" -> REQUEST_DENIED;
+                case "OVER_DAILY_LIMIT" -> OVER_DAILY_LIMIT;
+                case "OVER_QUERY_LIMIT" -> OVER_QUERY_LIMIT;
+                default -> UNKNOWN_ERROR;
+            };
+        }
     }
 }
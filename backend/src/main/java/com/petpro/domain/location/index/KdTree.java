@@ -0,0 +1,283 @@
+package com.petpro.domain.location.index;
+
+import com.petpro.domain.location.util.HaversineCalculator;
+
+import java.util.function.IntPredicate;
+
+/**
+ * 위경도 좌표용 정적 2차원 KD-Tree
+ *
+ * 좌표를 박싱 없이 double[] 배열로 보관하고, 배열 자체를 중앙값 기준으로 재배치한
+ * 암시적(implicit) 트리 구조를 사용합니다. 빌드 후에는 불변이므로 여러 스레드에서
+ * 동시에 조회해도 안전하며, 갱신이 필요하면 새 트리를 만들어 참조를 교체합니다.
+ *
+ * 지원 조회:
+ * - withinRadius: 반경 내 지점을 가까운 순으로 최대 limit개 (경계 상자로 후보를 좁힌 뒤 Haversine 계산)
+ * - nearest: 가장 가까운 k개 지점 (반경 제한 없음)
+ *
+ * 대한민국 범위 데이터를 전제로 하므로 경도 ±180° 경계(날짜변경선) 처리는 하지 않습니다.
+ */
+public final class KdTree {
+
+    private static final double EARTH_RADIUS_KM = HaversineCalculator.EARTH_RADIUS_KM;
+
+    /** 트리 순서로 재배치된 위도 */
+    private final double[] lats;
+
+    /** 트리 순서로 재배치된 경도 */
+    private final double[] lngs;
+
+    /** 트리 위치 → 입력 배열에서의 원본 위치 */
+    private final int[] slots;
+
+    private KdTree(double[] lats, double[] lngs, int[] slots) {
+        this.lats = lats;
+        this.lngs = lngs;
+        this.slots = slots;
+    }
+
+    /**
+     * 좌표 배열로 트리 생성
+     * 입력 배열은 복사하여 사용하므로 호출자가 이후에 수정해도 영향을 받지 않습니다.
+     *
+     * @param latitudes 위도 배열
+     * @param longitudes 경도 배열 (latitudes와 같은 길이)
+     * @return 생성된 트리 (조회 결과의 slot은 입력 배열의 인덱스)
+     */
+    public static KdTree build(double[] latitudes, double[] longitudes) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("latitudes and longitudes must have the same length");
+        }
+        int n = latitudes.length;
+        int[] slots = new int[n];
+        for (int i = 0; i < n; i++) {
+            slots[i] = i;
+        }
+        KdTree tree = new KdTree(latitudes.clone(), longitudes.clone(), slots);
+        tree.buildRange(0, n, 0);
+        return tree;
+    }
+
+    public int size() {
+        return slots.length;
+    }
+
+    /**
+     * 반경 내 지점을 가까운 순으로 조회
+     *
+     * @param latitude 기준 위도
+     * @param longitude 기준 경도
+     * @param radiusKm 반경 (km)
+     * @param limit 최대 결과 수
+     * @param filter slot 단위 추가 조건 (null이면 전체)
+     * @return 거리 오름차순 결과
+     */
+    public Neighbors withinRadius(double latitude, double longitude, double radiusKm,
+                                  int limit, IntPredicate filter) {
+        if (slots.length == 0 || limit <= 0 || radiusKm < 0) {
+            return Neighbors.empty();
+        }
+        RadiusQuery query = new RadiusQuery(latitude, longitude, radiusKm, limit, filter);
+        query.search(0, slots.length, 0);
+        return Neighbors.from(query.heap);
+    }
+
+    /**
+     * 가장 가까운 k개 지점 조회
+     *
+     * @param latitude 기준 위도
+     * @param longitude 기준 경도
+     * @param k 결과 수
+     * @param filter slot 단위 추가 조건 (null이면 전체)
+     * @return 거리 오름차순 결과
+     */
+    public Neighbors nearest(double latitude, double longitude, int k, IntPredicate filter) {
+        if (slots.length == 0 || k <= 0) {
+            return Neighbors.empty();
+        }
+        NearestQuery query = new NearestQuery(latitude, longitude, k, filter);
+        query.search(0, slots.length, 0);
+        return Neighbors.from(query.heap);
+    }
+
+    // ========== 빌드 ==========
+
+    private void buildRange(int lo, int hi, int depth) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        select(lo, hi - 1, mid, (depth & 1) == 0 ? lats : lngs);
+        buildRange(lo, mid, depth + 1);
+        buildRange(mid + 1, hi, depth + 1);
+    }
+
+    /**
+     * Quickselect: [left, right] 구간에서 k번째 원소가 제자리에 오도록 재배치
+     * 이후 k 왼쪽은 모두 coords[k] 이하, 오른쪽은 모두 coords[k] 이상이 됩니다.
+     */
+    private void select(int left, int right, int k, double[] coords) {
+        while (right > left) {
+            int pivotIndex = partition(coords, left, right, (left + right) >>> 1);
+            if (pivotIndex == k) {
+                return;
+            }
+            if (k < pivotIndex) {
+                right = pivotIndex - 1;
+            } else {
+                left = pivotIndex + 1;
+            }
+        }
+    }
+
+    private int partition(double[] coords, int left, int right, int pivotIndex) {
+        double pivot = coords[pivotIndex];
+        swap(pivotIndex, right);
+        int store = left;
+        for (int i = left; i < right; i++) {
+            if (coords[i] < pivot) {
+                swap(store, i);
+                store++;
+            }
+        }
+        swap(right, store);
+        return store;
+    }
+
+    private void swap(int a, int b) {
+        double lat = lats[a];
+        lats[a] = lats[b];
+        lats[b] = lat;
+        double lng = lngs[a];
+        lngs[a] = lngs[b];
+        lngs[b] = lng;
+        int slot = slots[a];
+        slots[a] = slots[b];
+        slots[b] = slot;
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 반경 조회: 반경을 감싸는 위경도 경계 상자로 가지치기하고,
+     * 상자 안에 들어온 후보에 대해서만 Haversine 거리를 계산합니다.
+     */
+    private final class RadiusQuery {
+        private final double latitude;
+        private final double longitude;
+        private final double radiusKm;
+        private final IntPredicate filter;
+        private final TopKHeap heap;
+        private final double minLat;
+        private final double maxLat;
+        private final double minLng;
+        private final double maxLng;
+
+        RadiusQuery(double latitude, double longitude, double radiusKm, int limit, IntPredicate filter) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.radiusKm = radiusKm;
+            this.filter = filter;
+            this.heap = new TopKHeap(Math.min(limit, slots.length));
+
+            double angular = radiusKm / EARTH_RADIUS_KM;
+            double dLat = Math.toDegrees(angular);
+            double cosLat = Math.cos(Math.toRadians(latitude));
+            double sinAngular = Math.sin(Math.min(angular, Math.PI / 2));
+            // 구면 위 반경 원에 외접하는 경도 폭: asin(sin(d/R) / cos(lat))
+            double dLng = sinAngular >= cosLat ? 180.0 : Math.toDegrees(Math.asin(sinAngular / cosLat));
+
+            this.minLat = latitude - dLat;
+            this.maxLat = latitude + dLat;
+            this.minLng = longitude - dLng;
+            this.maxLng = longitude + dLng;
+        }
+
+        void search(int lo, int hi, int depth) {
+            if (lo >= hi) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            double nodeLat = lats[mid];
+            double nodeLng = lngs[mid];
+
+            if (nodeLat >= minLat && nodeLat <= maxLat && nodeLng >= minLng && nodeLng <= maxLng) {
+                int slot = slots[mid];
+                if (filter == null || filter.test(slot)) {
+                    double distance = HaversineCalculator.calculate(latitude, longitude, nodeLat, nodeLng);
+                    if (distance <= radiusKm) {
+                        heap.offer(slot, distance);
+                    }
+                }
+            }
+
+            boolean latAxis = (depth & 1) == 0;
+            double split = latAxis ? nodeLat : nodeLng;
+            if ((latAxis ? minLat : minLng) <= split) {
+                search(lo, mid, depth + 1);
+            }
+            if ((latAxis ? maxLat : maxLng) >= split) {
+                search(mid + 1, hi, depth + 1);
+            }
+        }
+    }
+
+    /**
+     * k-최근접 조회: 가까운 쪽 하위 트리를 먼저 탐색하고,
+     * 분할면까지의 최소 거리가 현재 k번째 거리보다 작을 때만 반대쪽을 탐색합니다.
+     */
+    private final class NearestQuery {
+        private final double latitude;
+        private final double longitude;
+        private final double cosLat;
+        private final IntPredicate filter;
+        private final TopKHeap heap;
+
+        NearestQuery(double latitude, double longitude, int k, IntPredicate filter) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.cosLat = Math.cos(Math.toRadians(latitude));
+            this.filter = filter;
+            this.heap = new TopKHeap(Math.min(k, slots.length));
+        }
+
+        void search(int lo, int hi, int depth) {
+            if (lo >= hi) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            int slot = slots[mid];
+            if (filter == null || filter.test(slot)) {
+                double distance = HaversineCalculator.calculate(latitude, longitude, lats[mid], lngs[mid]);
+                heap.offer(slot, distance);
+            }
+
+            boolean latAxis = (depth & 1) == 0;
+            double diff = latAxis ? latitude - lats[mid] : longitude - lngs[mid];
+            if (diff <= 0) {
+                search(lo, mid, depth + 1);
+                if (lowerBoundKm(latAxis, diff) < heap.threshold()) {
+                    search(mid + 1, hi, depth + 1);
+                }
+            } else {
+                search(mid + 1, hi, depth + 1);
+                if (lowerBoundKm(latAxis, diff) < heap.threshold()) {
+                    search(lo, mid, depth + 1);
+                }
+            }
+        }
+
+        /**
+         * 분할면 반대쪽 지점까지의 최소 거리 (km)
+         * - 위도 분할: 위도 차이만큼의 자오선 거리
+         * - 경도 분할: 분할 자오선 대원까지의 거리 asin(cos(lat)·|sin(Δlng)|)
+         */
+        private double lowerBoundKm(boolean latAxis, double diffDegrees) {
+            double diff = Math.toRadians(Math.abs(diffDegrees));
+            if (latAxis) {
+                return EARTH_RADIUS_KM * diff;
+            }
+            return EARTH_RADIUS_KM * Math.asin(Math.min(1.0, cosLat * Math.abs(Math.sin(diff))));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.petpro.domain.location.index;
+
+/**
+ * 공간 인덱스 조회 결과
+ *
+ * 인덱스에 등록된 원본 위치(slot)와 거리(km)를 거리 오름차순으로 보관합니다.
+ */
+public final class Neighbors {
+
+    private static final Neighbors EMPTY = new Neighbors(new int[0], new double[0], 0);
+
+    private final int[] slots;
+    private final double[] distancesKm;
+    private final int size;
+
+    Neighbors(int[] slots, double[] distancesKm, int size) {
+        this.slots = slots;
+        this.distancesKm = distancesKm;
+        this.size = size;
+    }
+
+    static Neighbors empty() {
+        return EMPTY;
+    }
+
+    static Neighbors from(TopKHeap heap) {
+        int[] slots = new int[heap.size()];
+        double[] distances = new double[heap.size()];
+        int size = heap.drainSorted(slots, distances);
+        return new Neighbors(slots, distances, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * i번째로 가까운 지점의 원본 위치
+     */
+    public int slot(int i) {
+        return slots[i];
+    }
+
+    /**
+     * i번째로 가까운 지점까지의 거리 (km)
+     */
+    public double distanceKm(int i) {
+        return distancesKm[i];
+    }
+}
@@ -0,0 +1,130 @@
+package com.petpro.domain.location.index;
+
+/**
+ * 거리 기준 상위 K개 선택용 고정 크기 최대 힙
+ *
+ * 원소를 객체로 박싱하지 않고 int 식별자와 double 키를 병렬 배열로 보관합니다.
+ * 힙이 가득 찬 상태에서는 현재 최댓값보다 작은 키만 받아들이므로
+ * N개 중 K개를 고를 때 O(N log K) 시간과 O(K) 메모리만 사용합니다.
+ */
+public final class TopKHeap {
+
+    private final int[] ids;
+    private final double[] keys;
+    private int size;
+
+    public TopKHeap(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.ids = new int[capacity];
+        this.keys = new double[capacity];
+    }
+
+    /**
+     * 원소 추가 시도
+     *
+     * @param id 원소 식별자 (배열 인덱스 등)
+     * @param key 정렬 키 (거리)
+     * @return 힙에 들어갔으면 true
+     */
+    public boolean offer(int id, double key) {
+        if (size < ids.length) {
+            ids[size] = id;
+            keys[size] = key;
+            siftUp(size++);
+            return true;
+        }
+        if (key >= keys[0]) {
+            return false;
+        }
+        ids[0] = id;
+        keys[0] = key;
+        siftDown(0, size);
+        return true;
+    }
+
+    /**
+     * 다른 힙의 원소를 모두 추가 시도 (병렬 구간 결과 병합용, other는 변경하지 않음)
+     */
+    public void offerAll(TopKHeap other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.ids[i], other.keys[i]);
+        }
+    }
+
+    /**
+     * 현재 보관 중인 키 중 최댓값 (힙이 가득 차지 않았으면 +Infinity)
+     * 공간 탐색 시 가지치기 기준으로 사용합니다.
+     */
+    public double threshold() {
+        return size < ids.length ? Double.POSITIVE_INFINITY : keys[0];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isFull() {
+        return size == ids.length;
+    }
+
+    /**
+     * 보관 중인 원소를 키 오름차순으로 정렬하여 결과 배열에 복사
+     * 힙 정렬 방식으로 내부 배열을 정렬하므로 호출 후 힙은 비워집니다.
+     *
+     * @param outIds 식별자 결과 배열 (길이 >= size)
+     * @param outKeys 키 결과 배열 (길이 >= size)
+     * @return 결과 원소 수
+     */
+    public int drainSorted(int[] outIds, double[] outKeys) {
+        int count = size;
+        for (int end = count - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
+        }
+        System.arraycopy(ids, 0, outIds, 0, count);
+        System.arraycopy(keys, 0, outKeys, 0, count);
+        size = 0;
+        return count;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (keys[parent] >= keys[index]) {
+                return;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index, int limit) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= limit) {
+                return;
+            }
+            int largest = left;
+            int right = left + 1;
+            if (right < limit && keys[right] > keys[left]) {
+                largest = right;
+            }
+            if (keys[index] >= keys[largest]) {
+                return;
+            }
+            swap(index, largest);
+            index = largest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        double key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+    }
+}
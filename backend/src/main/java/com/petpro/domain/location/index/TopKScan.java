@@ -0,0 +1,146 @@
+package com.petpro.domain.location.index;
+
+import com.petpro.domain.location.util.DistanceQuery;
+import com.petpro.domain.location.util.HaversineCalculator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntPredicate;
+
+/**
+ * 좌표 배열 전체 스캔 기반 최근접 K개 선택
+ *
+ * 인덱스를 만들 가치가 없는 일회성·소규모 후보 집합(근처 검색 후보, 군집 중심, 추천 후보 등)에서
+ * 가장 가까운 K개를 고를 때 사용하는 공통 기본 연산입니다.
+ * 좌표는 위도·경도 병렬 배열로 받고, TopKHeap으로 선택하므로 원소마다 객체를 만들지 않습니다.
+ * 위도 차이만으로 계산한 거리(실제 거리의 하한)가 현재 K번째 거리보다 크면 Haversine 계산을 건너뜁니다.
+ * 원소 수가 PARALLEL_THRESHOLD 이상이면 공용 ForkJoinPool에서 구간별로 나눠 선택한 뒤 병합합니다.
+ */
+public final class TopKScan {
+
+    /** 병렬 처리 기준 원소 수 */
+    public static final int PARALLEL_THRESHOLD = 32_768;
+
+    /** 병렬 처리 시 구간 최소 크기 */
+    private static final int MIN_CHUNK = 8_192;
+
+    /** 위도 1도당 거리 (km) */
+    private static final double KM_PER_DEGREE = Math.toRadians(1) * HaversineCalculator.EARTH_RADIUS_KM;
+
+    private TopKScan() {
+        // 유틸리티 클래스
+    }
+
+    /**
+     * 가장 가까운 k개 지점 선택
+     *
+     * @param latitude 기준 위도
+     * @param longitude 기준 경도
+     * @param lats 후보 위도 (NaN이면 제외)
+     * @param lngs 후보 경도
+     * @param k 결과 수
+     * @return 거리 오름차순 결과 (slot은 배열 인덱스)
+     */
+    public static Neighbors nearest(double latitude, double longitude, double[] lats, double[] lngs, int k) {
+        return nearest(latitude, longitude, lats, lngs, k, Double.POSITIVE_INFINITY, null);
+    }
+
+    /**
+     * 반경 내에서 가장 가까운 k개 지점 선택
+     *
+     * @param latitude 기준 위도
+     * @param longitude 기준 경도
+     * @param lats 후보 위도 (NaN이면 제외)
+     * @param lngs 후보 경도
+     * @param k 결과 수
+     * @param maxDistanceKm 최대 거리 (km)
+     * @param filter 인덱스 단위 추가 조건 (null이면 전체, 병렬 처리 시 여러 스레드에서 호출됨)
+     * @return 거리 오름차순 결과 (slot은 배열 인덱스)
+     */
+    public static Neighbors nearest(double latitude, double longitude, double[] lats, double[] lngs,
+                                    int k, double maxDistanceKm, IntPredicate filter) {
+        if (lats.length != lngs.length) {
+            throw new IllegalArgumentException("latitude/longitude length mismatch: "
+                    + lats.length + " != " + lngs.length);
+        }
+        int n = lats.length;
+        if (n == 0 || k <= 0 || !(maxDistanceKm >= 0)) {
+            return Neighbors.empty();
+        }
+
+        int capacity = Math.min(k, n);
+        TopKHeap heap;
+        if (n >= PARALLEL_THRESHOLD) {
+            heap = ForkJoinPool.commonPool().invoke(new ScanTask(latitude, longitude, lats, lngs,
+                    capacity, maxDistanceKm, filter, 0, n));
+        } else {
+            heap = new TopKHeap(capacity);
+            scan(DistanceQuery.of(latitude, longitude), latitude, lats, lngs, maxDistanceKm, filter, 0, n, heap);
+        }
+        return Neighbors.from(heap);
+    }
+
+    private static void scan(DistanceQuery query, double latitude, double[] lats, double[] lngs,
+                             double maxDistanceKm, IntPredicate filter, int from, int to, TopKHeap heap) {
+        for (int i = from; i < to; i++) {
+            double lat = lats[i];
+            double bound = Math.min(maxDistanceKm, heap.threshold());
+            // 위도 차이 거리 > 기준이면 실제 거리도 기준보다 큼 (NaN도 여기서 제외)
+            if (!(Math.abs(lat - latitude) * KM_PER_DEGREE <= bound)) {
+                continue;
+            }
+            if (filter != null && !filter.test(i)) {
+                continue;
+            }
+            double distance = query.exactKm(lat, lngs[i]);
+            if (distance <= bound) {
+                heap.offer(i, distance);
+            }
+        }
+    }
+
+    /**
+     * 구간 분할 선택: 구간마다 힙을 따로 채운 뒤 병합
+     */
+    private static final class ScanTask extends RecursiveTask<TopKHeap> {
+
+        private final double latitude;
+        private final double longitude;
+        private final double[] lats;
+        private final double[] lngs;
+        private final int capacity;
+        private final double maxDistanceKm;
+        private final IntPredicate filter;
+        private final int from;
+        private final int to;
+
+        ScanTask(double latitude, double longitude, double[] lats, double[] lngs, int capacity,
+                 double maxDistanceKm, IntPredicate filter, int from, int to) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.lats = lats;
+            this.lngs = lngs;
+            this.capacity = capacity;
+            this.maxDistanceKm = maxDistanceKm;
+            this.filter = filter;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TopKHeap compute() {
+            if (to - from <= MIN_CHUNK) {
+                TopKHeap heap = new TopKHeap(capacity);
+                scan(DistanceQuery.of(latitude, longitude), latitude, lats, lngs, maxDistanceKm, filter, from, to, heap);
+                return heap;
+            }
+            int mid = (from + to) >>> 1;
+            ScanTask left = new ScanTask(latitude, longitude, lats, lngs, capacity, maxDistanceKm, filter, from, mid);
+            ScanTask right = new ScanTask(latitude, longitude, lats, lngs, capacity, maxDistanceKm, filter, mid, to);
+            left.fork();
+            TopKHeap merged = right.compute();
+            merged.offerAll(left.join());
+            return merged;
+        }
+    }
+}
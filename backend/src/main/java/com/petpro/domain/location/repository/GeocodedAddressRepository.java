@@ -0,0 +1,68 @@
+package com.petpro.domain.location.repository;
+
+import com.petpro.domain.location.entity.GeocodeLookupType;
+import com.petpro.domain.location.entity.GeocodedAddress;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Geocoding 결과 레포지토리
+ */
+@Repository
+public interface GeocodedAddressRepository extends JpaRepository<GeocodedAddress, Long> {
+
+    /**
+     * 조회 키로 단건 조회
+     */
+    Optional<GeocodedAddress> findByLookupTypeAndLookupKey(GeocodeLookupType lookupType, String lookupKey);
+
+    /**
+     * 조회 키 목록으로 일괄 조회 (한 번의 IN 쿼리)
+     */
+    List<GeocodedAddress> findByLookupTypeAndLookupKeyIn(GeocodeLookupType lookupType, Collection<String> lookupKeys);
+
+    /**
+     * 저장 또는 갱신 (동시에 같은 키를 저장해도 unique 제약 위반 없이 마지막 값으로 갱신)
+     * 변경 테이블을 지정하여 네이티브 쿼리가 2차 캐시 전체를 비우지 않게 합니다.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "geocoded_addresses"))
+    @Query(value = """
+            INSERT INTO geocoded_addresses (
+                lookup_type, lookup_key, formatted_address, latitude, longitude, place_id,
+                country, province, city, district, street, street_number, postal_code,
+                created_at, updated_at)
+            VALUES (
+                :#{#a.lookupType.name()}, :#{#a.lookupKey}, :#{#a.formattedAddress},
+                :#{#a.latitude}, :#{#a.longitude}, :#{#a.placeId},
+                :#{#a.country}, :#{#a.province}, :#{#a.city}, :#{#a.district},
+                :#{#a.street}, :#{#a.streetNumber}, :#{#a.postalCode},
+                :#{#a.createdAt}, :#{#a.updatedAt})
+            ON CONFLICT (lookup_type, lookup_key) DO UPDATE SET
+                formatted_address = EXCLUDED.formatted_address,
+                latitude = EXCLUDED.latitude,
+                longitude = EXCLUDED.longitude,
+                place_id = EXCLUDED.place_id,
+                country = EXCLUDED.country,
+                province = EXCLUDED.province,
+                city = EXCLUDED.city,
+                district = EXCLUDED.district,
+                street = EXCLUDED.street,
+                street_number = EXCLUDED.street_number,
+                postal_code = EXCLUDED.postal_code,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void upsert(@Param("a") GeocodedAddress address);
+}
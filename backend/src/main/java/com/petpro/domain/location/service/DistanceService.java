@@ -2,6 +2,10 @@ package com.petpro.domain.location.service;
 
 import com.petpro.domain.location.dto.Coordinates;
 import com.petpro.domain.location.dto.DistanceResult;
+import com.petpro.domain.location.index.Neighbors;
+import com.petpro.domain.location.index.TopKScan;
+import com.petpro.domain.location.util.DistanceKernel;
+import com.petpro.domain.location.util.DistanceQuery;
 import com.petpro.domain.location.util.HaversineCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,7 +51,34 @@ public class DistanceService {
     }
 
     /**
-     * 반경 내에 있는지 확인
+     * 가장 가까운 k개 목적지 선택 (좌표 배열 일괄 처리)
+     * 전체를 정렬하지 않고 크기 k의 힙으로 선택하며, 목적지가 많으면 병렬로 처리합니다.
+     *
+     * @param latitude 기준 위도
+     * @param longitude 기준 경도
+     * @param lats 목적지 위도 배열
+     * @param lngs 목적지 경도 배열 (lats와 같은 길이)
+     * @param k 결과 수
+     * @return 거리 오름차순 결과 (slot은 목적지 배열 인덱스, 거리는 km)
+     */
+    public Neighbors findNearest(double latitude, double longitude, double[] lats, double[] lngs, int k) {
+        return TopKScan.nearest(latitude, longitude, lats, lngs, k);
+    }
+
+    /**
+     * 반경 내에서 가장 가까운 k개 목적지 선택 (좌표 배열 일괄 처리)
+     *
+     * @param radiusKm 반경 (km)
+     * @see #findNearest(double, double, double[], double[], int)
+     */
+    public Neighbors findNearestWithin(double latitude, double longitude, double[] lats, double[] lngs,
+                                       int k, double radiusKm) {
+        return TopKScan.nearest(latitude, longitude, lats, lngs, k, radiusKm, null);
+    }
+
+    /**
+     * 반경 내에 있는지 확인 (Haversine 기준)
+     * 등장방형 근사로 확실한 경우를 먼저 가르고, 경계 부근만 Haversine으로 계산합니다.
      *
      * @param from 시작 좌표
      * @param to 끝 좌표
@@ -55,7 +86,18 @@ public class DistanceService {
      * @return 반경 내이면 true
      */
     public boolean isWithinRadius(Coordinates from, Coordinates to, double radiusKm) {
-        double distance = calculateHaversineDistance(from, to);
-        return distance <= radiusKm;
+        return DistanceQuery.of(from.getLatitude(), from.getLongitude())
+                .isWithinKm(to.getLatitude(), to.getLongitude(), radiusKm);
+    }
+
+    /**
+     * 선택한 거리 계산 방식으로 반경 내에 있는지 확인
+     * EQUIRECTANGULAR는 후보를 넉넉히 거르는 사전 필터용이며, 오차 범위는 DistanceKernel을 참고합니다.
+     *
+     * @param kernel 거리 계산 방식
+     */
+    public boolean isWithinRadius(Coordinates from, Coordinates to, double radiusKm, DistanceKernel kernel) {
+        return DistanceQuery.of(from.getLatitude(), from.getLongitude())
+                .distanceKm(kernel, to.getLatitude(), to.getLongitude()) <= radiusKm;
     }
 }
@@ -0,0 +1,252 @@
+package com.petpro.domain.location.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.petpro.domain.location.config.GeocodeStoreConfig;
+import com.petpro.domain.location.dto.GeocodingResult;
+import com.petpro.domain.location.entity.GeocodeLookupType;
+import com.petpro.domain.location.entity.GeocodedAddress;
+import com.petpro.domain.location.repository.GeocodedAddressRepository;
+import com.petpro.domain.location.util.KoreanAddressNormalizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Geocoding 결과 저장소
+ *
+ * 주소는 KoreanAddressNormalizer로 정규화한 값을 키로 사용하므로 공백·괄호·시도 약칭 등
+ * 표기만 다른 주소는 같은 결과를 공유합니다. 조회 순서는 다음과 같습니다.
+ * 1. L1: 프로세스 내 캐시 (크기·시간 제한)
+ * 2. L2: Redis "geocoding" 캐시
+ * 3. geocoded_addresses 테이블 (영구 보관)
+ * 하위 계층에서 찾으면 상위 계층을 다시 채웁니다. Redis나 DB 장애 시에는 해당 계층을 건너뜁니다.
+ *
+ * 메트릭:
+ * - geocoding.store.requests{tier=l1|redis|db|miss}
+ * - geocoding.store.hit.ratio (L1~DB 중 어디서든 찾은 비율)
+ */
+@Slf4j
+@Component
+public class GeocodeStore {
+
+    static final String CACHE_NAME = "geocoding";
+    private static final String ADDRESS_PREFIX = "addr:";
+    private static final String REVERSE_PREFIX = "rev:";
+
+    private final GeocodedAddressRepository repository;
+    private final CacheManager cacheManager;
+    private final GeocodeStoreConfig config;
+    private final Cache<String, GeocodingResult> nearCache;
+
+    private final Counter l1HitCounter;
+    private final Counter redisHitCounter;
+    private final Counter dbHitCounter;
+    private final Counter missCounter;
+
+    public GeocodeStore(GeocodedAddressRepository repository, CacheManager cacheManager,
+                        GeocodeStoreConfig config, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.cacheManager = cacheManager;
+        this.config = config;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(config.getNearCacheMaxSize())
+                .expireAfterWrite(config.getNearCacheTtlMinutes(), TimeUnit.MINUTES)
+                .build();
+
+        this.l1HitCounter = requestCounter(meterRegistry, "l1");
+        this.redisHitCounter = requestCounter(meterRegistry, "redis");
+        this.dbHitCounter = requestCounter(meterRegistry, "db");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        Gauge.builder("geocoding.store.hit.ratio", this, GeocodeStore::hitRatio)
+                .description("Ratio of geocoding lookups answered without calling the API")
+                .register(meterRegistry);
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String tier) {
+        return Counter.builder("geocoding.store.requests")
+                .description("Geocode store lookups by answering tier")
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+
+    // ========== 주소 → 좌표 ==========
+
+    /**
+     * 주소로 저장된 결과 조회
+     *
+     * @param address 원본 주소 (정규화는 내부에서 수행)
+     */
+    public Optional<GeocodingResult> findByAddress(String address) {
+        String key = KoreanAddressNormalizer.normalize(address);
+        if (key == null) {
+            return Optional.empty();
+        }
+        return find(GeocodeLookupType.ADDRESS, key);
+    }
+
+    /**
+     * 여러 주소를 한 번에 조회
+     * L1에 없는 주소는 DB IN 쿼리 한 번으로 조회합니다 (Redis는 키별 왕복이므로 거치지 않음).
+     *
+     * @param addresses 원본 주소 목록
+     * @return 원본 주소 → 결과 (찾은 주소만 포함)
+     */
+    public Map<String, GeocodingResult> findAllByAddresses(Collection<String> addresses) {
+        Map<String, GeocodingResult> found = new HashMap<>();
+        Map<String, List<String>> pending = new HashMap<>();
+
+        for (String address : addresses) {
+            String key = KoreanAddressNormalizer.normalize(address);
+            if (key == null) {
+                continue;
+            }
+            GeocodingResult cached = nearCache.getIfPresent(ADDRESS_PREFIX + key);
+            if (cached != null) {
+                l1HitCounter.increment();
+                found.put(address, cached);
+            } else {
+                pending.computeIfAbsent(key, k -> new ArrayList<>()).add(address);
+            }
+        }
+        if (pending.isEmpty()) {
+            return found;
+        }
+
+        try {
+            for (GeocodedAddress entry : repository.findByLookupTypeAndLookupKeyIn(
+                    GeocodeLookupType.ADDRESS, pending.keySet())) {
+                GeocodingResult result = entry.toResult();
+                nearCache.put(ADDRESS_PREFIX + entry.getLookupKey(), result);
+                List<String> originals = pending.remove(entry.getLookupKey());
+                if (originals != null) {
+                    for (String original : originals) {
+                        dbHitCounter.increment();
+                        found.put(original, result);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Geocode store bulk lookup failed: {}", e.getMessage());
+        }
+        pending.values().forEach(originals -> missCounter.increment(originals.size()));
+        return found;
+    }
+
+    /**
+     * 주소 변환 결과 저장
+     */
+    public void saveAddress(String address, GeocodingResult result) {
+        String key = KoreanAddressNormalizer.normalize(address);
+        if (key != null) {
+            save(GeocodeLookupType.ADDRESS, key, result);
+        }
+    }
+
+    // ========== 좌표 → 주소 ==========
+
+    /**
+     * 좌표로 저장된 역지오코딩 결과 조회
+     */
+    public Optional<GeocodingResult> findByCoordinates(double latitude, double longitude) {
+        return find(GeocodeLookupType.REVERSE, reverseKey(latitude, longitude));
+    }
+
+    /**
+     * 역지오코딩 결과 저장
+     */
+    public void saveCoordinates(double latitude, double longitude, GeocodingResult result) {
+        save(GeocodeLookupType.REVERSE, reverseKey(latitude, longitude), result);
+    }
+
+    String reverseKey(double latitude, double longitude) {
+        int scale = config.getReversePrecision();
+        return BigDecimal.valueOf(latitude).setScale(scale, RoundingMode.HALF_UP).toPlainString()
+                + ',' + BigDecimal.valueOf(longitude).setScale(scale, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    // ========== 공통 ==========
+
+    private Optional<GeocodingResult> find(GeocodeLookupType type, String key) {
+        String cacheKey = cacheKey(type, key);
+
+        GeocodingResult result = nearCache.getIfPresent(cacheKey);
+        if (result != null) {
+            l1HitCounter.increment();
+            return Optional.of(result);
+        }
+
+        result = getFromRedis(cacheKey);
+        if (result != null) {
+            redisHitCounter.increment();
+            nearCache.put(cacheKey, result);
+            return Optional.of(result);
+        }
+
+        try {
+            Optional<GeocodedAddress> entry = repository.findByLookupTypeAndLookupKey(type, key);
+            if (entry.isPresent()) {
+                dbHitCounter.increment();
+                result = entry.get().toResult();
+                nearCache.put(cacheKey, result);
+                putToRedis(cacheKey, result);
+                return Optional.of(result);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Geocode store lookup failed: type={}, error={}", type, e.getMessage());
+        }
+
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    private void save(GeocodeLookupType type, String key, GeocodingResult result) {
+        String cacheKey = cacheKey(type, key);
+        nearCache.put(cacheKey, result);
+        putToRedis(cacheKey, result);
+        try {
+            repository.upsert(GeocodedAddress.of(type, key, result));
+        } catch (RuntimeException e) {
+            log.warn("Failed to persist geocoding result: type={}, error={}", type, e.getMessage());
+        }
+    }
+
+    private static String cacheKey(GeocodeLookupType type, String key) {
+        return (type == GeocodeLookupType.ADDRESS ? ADDRESS_PREFIX : REVERSE_PREFIX) + key;
+    }
+
+    private GeocodingResult getFromRedis(String cacheKey) {
+        try {
+            org.springframework.cache.Cache cache = cacheManager.getCache(CACHE_NAME);
+            return cache != null ? cache.get(cacheKey, GeocodingResult.class) : null;
+        } catch (RuntimeException e) {
+            log.debug("Geocoding cache read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putToRedis(String cacheKey, GeocodingResult result) {
+        try {
+            org.springframework.cache.Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null) {
+                cache.put(cacheKey, result);
+            }
+        } catch (RuntimeException e) {
+            log.debug("Geocoding cache write failed: {}", e.getMessage());
+        }
+    }
+
+    private double hitRatio() {
+        double hits = l1HitCounter.count() + redisHitCounter.count() + dbHitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+}
@@ -5,18 +5,25 @@ import com.petpro.domain.location.dto.Coordinates;
 import com.petpro.domain.location.dto.GeocodingResult;
 import com.petpro.domain.location.dto.GeocodingResult.AddressComponents;
 import com.petpro.domain.location.exception.GeocodingException;
+import com.petpro.domain.location.exception.GeocodingException.Status;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * 지오코딩 서비스
  * Google Maps Geocoding API를 사용하여 주소와 좌표 간 변환을 수행합니다.
+ * API 호출 전 GeocodeStore(L1 → Redis → DB)를 먼저 확인하고, 호출 결과는 저장소에 보관합니다.
  */
 @Slf4j
 @Service
@@ -25,10 +32,12 @@ public class GeocodingService {
     private static final String GEOCODING_URL = "https://maps.googleapis.com/maps/api/geocode/json";
 
     private final GoogleMapsConfig config;
+    private final GeocodeStore geocodeStore;
     private final RestTemplate restTemplate;
 
-    public GeocodingService(GoogleMapsConfig config) {
+    public GeocodingService(GoogleMapsConfig config, GeocodeStore geocodeStore) {
         this.config = config;
+        this.geocodeStore = geocodeStore;
         this.restTemplate = new RestTemplate();
     }
 
@@ -38,13 +47,17 @@ public class GeocodingService {
      * @param address 주소
      * @return 지오코딩 결과
      */
-    @Cacheable(value = "geocoding", key = "#address")
     public GeocodingResult geocode(String address) {
         if (!config.isConfigured()) {
             log.warn("Google Maps API key is not configured. Using mock response.");
             return createMockResult(address);
         }
 
+        Optional<GeocodingResult> stored = geocodeStore.findByAddress(address);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
         String url = UriComponentsBuilder.fromHttpUrl(GEOCODING_URL)
                 .queryParam("address", address)
                 .queryParam("key", config.getApiKey())
@@ -53,13 +66,29 @@ public class GeocodingService {
                 .build()
                 .toUriString();
 
+        GeocodingResult result;
         try {
             Map<String, Object> response = restTemplate.getForObject(url, Map.class);
-            return parseGeocodingResponse(response);
+            result = parseGeocodingResponse(response);
+        } catch (GeocodingException e) {
+            log.warn("Geocoding failed for address: {}, status={}", address, e.getStatus());
+            throw new GeocodingException("주소 변환 실패: " + address, e.getStatus());
         } catch (Exception e) {
             log.error("Geocoding failed for address: {}", address, e);
-            throw new GeocodingException("주소 변환 실패: " + address);
+            throw new GeocodingException("주소 변환 실패: " + address, statusOf(e));
         }
+        geocodeStore.saveAddress(address, result);
+        return result;
+    }
+
+    /**
+     * 저장소에 이미 있는 주소 변환 결과 일괄 조회 (API 호출 없음)
+     *
+     * @param addresses 주소 목록
+     * @return 주소 → 지오코딩 결과 (저장소에 있는 주소만 포함)
+     */
+    public Map<String, GeocodingResult> findStored(Collection<String> addresses) {
+        return geocodeStore.findAllByAddresses(addresses);
     }
 
     /**
@@ -69,13 +98,17 @@ public class GeocodingService {
      * @param longitude 경도
      * @return 지오코딩 결과
      */
-    @Cacheable(value = "geocoding", key = "#latitude + ',' + #longitude")
     public GeocodingResult reverseGeocode(double latitude, double longitude) {
         if (!config.isConfigured()) {
             log.warn("Google Maps API key is not configured. Using mock response.");
             return createMockReverseResult(latitude, longitude);
         }
 
+        Optional<GeocodingResult> stored = geocodeStore.findByCoordinates(latitude, longitude);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
         String url = UriComponentsBuilder.fromHttpUrl(GEOCODING_URL)
                 .queryParam("latlng", latitude + "," + longitude)
                 .queryParam("key", config.getApiKey())
@@ -83,13 +116,19 @@ public class GeocodingService {
                 .build()
                 .toUriString();
 
+        GeocodingResult result;
         try {
             Map<String, Object> response = restTemplate.getForObject(url, Map.class);
-            return parseGeocodingResponse(response);
+            result = parseGeocodingResponse(response);
+        } catch (GeocodingException e) {
+            log.warn("Reverse geocoding failed for coordinates: {}, {}, status={}", latitude, longitude, e.getStatus());
+            throw new GeocodingException("좌표 변환 실패: " + latitude + ", " + longitude, e.getStatus());
         } catch (Exception e) {
             log.error("Reverse geocoding failed for coordinates: {}, {}", latitude, longitude, e);
-            throw new GeocodingException("좌표 변환 실패: " + latitude + ", " + longitude);
+            throw new GeocodingException("좌표 변환 실패: " + latitude + ", " + longitude, statusOf(e));
         }
+        geocodeStore.saveCoordinates(latitude, longitude, result);
+        return result;
     }
 
     /**
@@ -100,16 +139,37 @@ public class GeocodingService {
         return Coordinates.of(result.getLatitude(), result.getLongitude());
     }
 
+    /**
+     * API 호출 단계의 예외를 실패 상태로 변환
+     * 연결 실패·5xx·429는 재시도 대상, 그 밖의 4xx와 응답 해석 실패는 재시도하지 않습니다.
+     */
+    private static Status statusOf(Exception e) {
+        if (e instanceof ResourceAccessException) {
+            return Status.IO_ERROR;
+        }
+        if (e instanceof RestClientResponseException responseException) {
+            HttpStatusCode code = responseException.getStatusCode();
+            if (code.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                return Status.OVER_QUERY_LIMIT;
+            }
+            return code.is5xxServerError() ? Status.SERVER_ERROR : Status.CLIENT_ERROR;
+        }
+        return Status.INVALID_RESPONSE;
+    }
+
     @SuppressWarnings("unchecked")
     private GeocodingResult parseGeocodingResponse(Map<String, Object> response) {
+        if (response == null) {
+            throw new GeocodingException("Empty geocoding response", Status.INVALID_RESPONSE);
+        }
         String status = (String) response.get("status");
         if (!"OK".equals(status)) {
-            throw new GeocodingException("Geocoding API error: " + status);
+            throw new GeocodingException("Geocoding API error: " + status, Status.fromApiStatus(status));
         }
 
         List<Map<String, Object>> results = (List<Map<String, Object>>) response.get("results");
         if (results == null || results.isEmpty()) {
-            throw new GeocodingException("No results found");
+            throw new GeocodingException("No results found", Status.ZERO_RESULTS);
         }
 
         Map<String, Object> firstResult = results.get(0);
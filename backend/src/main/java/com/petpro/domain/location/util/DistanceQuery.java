@@ -0,0 +1,100 @@
+package com.petpro.domain.location.util;
+
+/**
+ * 기준점 고정 거리 계산기
+ *
+ * 한 기준점에서 여러 지점까지의 거리를 잴 때 기준점의 라디안 값과 cos(위도)를 한 번만 계산합니다.
+ * - exactKm: Haversine (HaversineCalculator.calculate와 같은 값)
+ * - approxKm: 등장방형 근사 (오차 범위는 DistanceKernel 참고)
+ * - squaredDistance: 순위 비교 전용 값 (approxKm과 같은 순서, 제곱근·단위 변환 생략)
+ * - isWithinKm: 근사로 확실한 경우를 먼저 가르고 경계 부근만 Haversine으로 판정 (결과는 Haversine 기준)
+ */
+public final class DistanceQuery {
+
+    /** 위도 1도당 거리 (km) */
+    private static final double KM_PER_DEGREE = Math.toRadians(1) * HaversineCalculator.EARTH_RADIUS_KM;
+
+    /** 대한민국 범위 안에서 등장방형 근사의 최대 상대 오차 (측정값 2.1%에 여유를 둔 값) */
+    static final double KOREA_MAX_RELATIVE_ERROR = 0.025;
+
+    private final double latitude;
+    private final double longitude;
+    private final double latRad;
+    private final double cosLat;
+    private final boolean inKorea;
+
+    private DistanceQuery(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.latRad = Math.toRadians(latitude);
+        this.cosLat = Math.cos(latRad);
+        this.inKorea = CoordinateValidator.isInKorea(latitude, longitude);
+    }
+
+    /**
+     * 기준점으로 계산기 생성
+     */
+    public static DistanceQuery of(double latitude, double longitude) {
+        return new DistanceQuery(latitude, longitude);
+    }
+
+    /**
+     * 선택한 방식으로 거리 계산 (km)
+     */
+    public double distanceKm(DistanceKernel kernel, double lat, double lng) {
+        return kernel == DistanceKernel.EQUIRECTANGULAR ? approxKm(lat, lng) : exactKm(lat, lng);
+    }
+
+    /**
+     * Haversine 거리 (km)
+     */
+    public double exactKm(double lat, double lng) {
+        double lat2Rad = Math.toRadians(lat);
+        double sinDLat = Math.sin((lat2Rad - latRad) / 2);
+        double sinDLon = Math.sin(Math.toRadians(lng - longitude) / 2);
+        double a = sinDLat * sinDLat + cosLat * Math.cos(lat2Rad) * sinDLon * sinDLon;
+        return 2 * HaversineCalculator.EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 등장방형 근사 거리 (km)
+     */
+    public double approxKm(double lat, double lng) {
+        return Math.sqrt(squaredDistance(lat, lng)) * KM_PER_DEGREE;
+    }
+
+    /**
+     * 순위 비교용 제곱 거리 (도² 단위, 작을수록 가까움)
+     * 거리 값이 필요 없는 정렬·최솟값 비교에만 사용하며, 반경과 비교할 때는 squaredRadius로 변환합니다.
+     */
+    public double squaredDistance(double lat, double lng) {
+        double dx = (lng - longitude) * cosLat;
+        double dy = lat - latitude;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * 반경(km)을 squaredDistance와 같은 단위로 변환
+     */
+    public static double squaredRadius(double radiusKm) {
+        double degrees = radiusKm / KM_PER_DEGREE;
+        return degrees * degrees;
+    }
+
+    /**
+     * 반경 내 여부 (Haversine 기준)
+     * 두 지점이 모두 대한민국 범위 안이면 근사 거리가 오차 범위 밖으로 확실한 경우 Haversine 계산을 생략합니다.
+     */
+    public boolean isWithinKm(double lat, double lng, double radiusKm) {
+        if (inKorea && CoordinateValidator.isInKorea(lat, lng)) {
+            double approx = approxKm(lat, lng);
+            if (approx <= radiusKm * (1 - KOREA_MAX_RELATIVE_ERROR)) {
+                return true;
+            }
+            if (approx > radiusKm * (1 + KOREA_MAX_RELATIVE_ERROR)) {
+                return false;
+            }
+        }
+        return exactKm(lat, lng) <= radiusKm;
+    }
+}
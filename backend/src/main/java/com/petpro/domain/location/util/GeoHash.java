@@ -0,0 +1,153 @@
+package com.petpro.domain.location.util;
+
+import java.util.Arrays;
+
+/**
+ * Geohash 인코딩 유틸리티
+ *
+ * 위경도를 base32 문자열 셀로 양자화합니다. 같은 접두사를 가진 좌표는 같은 격자 셀에 속하며,
+ * 정밀도(문자 수)별 셀 크기는 대략 다음과 같습니다 (위도 37° 기준).
+ * - 5: 약 4.9km x 4.9km
+ * - 6: 약 1.2km x 0.6km
+ * - 7: 약 153m x 153m
+ */
+public final class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final int[] DECODE = new int[128];
+
+    public static final int MAX_PRECISION = 12;
+
+    static {
+        Arrays.fill(DECODE, -1);
+        for (int i = 0; i < BASE32.length; i++) {
+            DECODE[BASE32[i]] = i;
+        }
+    }
+
+    private GeoHash() {
+        // 유틸리티 클래스
+    }
+
+    /**
+     * 좌표를 geohash 문자열로 인코딩
+     *
+     * @param latitude 위도
+     * @param longitude 경도
+     * @param precision 문자 수 (1~12)
+     * @return geohash 문자열
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("precision must be between 1 and " + MAX_PRECISION);
+        }
+        double minLat = -90.0;
+        double maxLat = 90.0;
+        double minLng = -180.0;
+        double maxLng = 180.0;
+
+        char[] hash = new char[precision];
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+        int length = 0;
+
+        while (length < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash[length++] = BASE32[ch];
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return new String(hash);
+    }
+
+    /**
+     * geohash 문자열이 가리키는 셀 영역 계산
+     *
+     * @param hash geohash 문자열
+     * @return 셀 경계
+     */
+    public static Cell decode(String hash) {
+        double minLat = -90.0;
+        double maxLat = 90.0;
+        double minLng = -180.0;
+        double maxLng = 180.0;
+        boolean evenBit = true;
+
+        for (int i = 0; i < hash.length(); i++) {
+            char c = hash.charAt(i);
+            int value = c < DECODE.length ? DECODE[c] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("Invalid geohash character: " + c);
+            }
+            for (int mask = 16; mask > 0; mask >>= 1) {
+                boolean set = (value & mask) != 0;
+                if (evenBit) {
+                    double mid = (minLng + maxLng) / 2;
+                    if (set) {
+                        minLng = mid;
+                    } else {
+                        maxLng = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (set) {
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new Cell(minLat, maxLat, minLng, maxLng);
+    }
+
+    /**
+     * geohash 셀 경계
+     */
+    public record Cell(double minLat, double maxLat, double minLng, double maxLng) {
+
+        public double centerLatitude() {
+            return (minLat + maxLat) / 2;
+        }
+
+        public double centerLongitude() {
+            return (minLng + maxLng) / 2;
+        }
+
+        /**
+         * 셀 중심에서 가장 먼 모서리까지의 거리 (km)
+         * 셀 안의 어느 점이든 중심으로부터 이 거리 이내에 있습니다.
+         */
+        public double circumradiusKm() {
+            double lat = centerLatitude();
+            double lng = centerLongitude();
+            return Math.max(
+                    HaversineCalculator.calculate(lat, lng, minLat, maxLng),
+                    HaversineCalculator.calculate(lat, lng, maxLat, maxLng));
+        }
+    }
+}
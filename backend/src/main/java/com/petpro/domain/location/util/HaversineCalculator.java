@@ -7,7 +7,8 @@ import com.petpro.domain.location.dto.Coordinates;
  */
 public final class HaversineCalculator {
 
-    private static final double EARTH_RADIUS_KM = 6371.0;
+    /** 지구 평균 반지름 (km) */
+    public static final double EARTH_RADIUS_KM = 6371.0;
 
     private HaversineCalculator() {
         // 유틸리티 클래스
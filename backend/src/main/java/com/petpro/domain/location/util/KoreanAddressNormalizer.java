@@ -0,0 +1,99 @@
+package com.petpro.domain.location.util;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 한국 주소 정규화 유틸리티
+ *
+ * 같은 위치를 가리키는 도로명/지번 주소의 표기 차이를 없애 Geocoding 결과 저장소의 키로 사용합니다.
+ * - 유니코드 NFKC 정규화 (전각 문자, 호환 자모)
+ * - 괄호 안 참고항목 제거: "테헤란로 152 (역삼동, 강남파이낸스센터)" → "테헤란로 152"
+ * - 맨 앞 "대한민국" 제거, 시도 약칭을 정식 명칭으로 통일: "서울시", "서울" → "서울특별시"
+ * - 쉼표 제거, 연속 공백 축약, 번지 하이픈 주변 공백 제거: "123 - 4번지" → "123-4"
+ * - 영문 소문자화
+ */
+public final class KoreanAddressNormalizer {
+
+    private static final Pattern PARENTHESES = Pattern.compile("\\([^)]*\\)|\\[[^]]*]");
+    private static final Pattern COMMAS = Pattern.compile("[,·]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern HYPHEN = Pattern.compile("\\s*[-‐‑–—]\\s*");
+    private static final Pattern BUNJI = Pattern.compile("(\\d)\\s*번지");
+
+    private static final String COUNTRY = "대한민국";
+
+    /**
+     * 시도 약칭/구 명칭 → 현행 정식 명칭
+     * "광주시"는 경기도 광주시와 겹치므로 변환하지 않습니다.
+     */
+    private static final Map<String, String> PROVINCES = Map.ofEntries(
+            Map.entry("서울", "서울특별시"),
+            Map.entry("서울시", "서울특별시"),
+            Map.entry("부산", "부산광역시"),
+            Map.entry("부산시", "부산광역시"),
+            Map.entry("대구", "대구광역시"),
+            Map.entry("대구시", "대구광역시"),
+            Map.entry("인천", "인천광역시"),
+            Map.entry("인천시", "인천광역시"),
+            Map.entry("광주", "광주광역시"),
+            Map.entry("대전", "대전광역시"),
+            Map.entry("대전시", "대전광역시"),
+            Map.entry("울산", "울산광역시"),
+            Map.entry("울산시", "울산광역시"),
+            Map.entry("세종", "세종특별자치시"),
+            Map.entry("세종시", "세종특별자치시"),
+            Map.entry("경기", "경기도"),
+            Map.entry("강원", "강원특별자치도"),
+            Map.entry("강원도", "강원특별자치도"),
+            Map.entry("충북", "충청북도"),
+            Map.entry("충남", "충청남도"),
+            Map.entry("전북", "전북특별자치도"),
+            Map.entry("전라북도", "전북특별자치도"),
+            Map.entry("전남", "전라남도"),
+            Map.entry("경북", "경상북도"),
+            Map.entry("경남", "경상남도"),
+            Map.entry("제주", "제주특별자치도"),
+            Map.entry("제주도", "제주특별자치도")
+    );
+
+    private KoreanAddressNormalizer() {
+        // 유틸리티 클래스
+    }
+
+    /**
+     * 주소 정규화
+     *
+     * @param address 원본 주소
+     * @return 정규화된 주소 (빈 주소면 null)
+     */
+    public static String normalize(String address) {
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+        String value = Normalizer.normalize(address, Normalizer.Form.NFKC);
+        value = PARENTHESES.matcher(value).replaceAll(" ");
+        value = COMMAS.matcher(value).replaceAll(" ");
+        value = BUNJI.matcher(value).replaceAll("$1");
+        value = HYPHEN.matcher(value).replaceAll("-");
+        value = WHITESPACE.matcher(value.trim()).replaceAll(" ");
+        if (value.isEmpty()) {
+            return null;
+        }
+
+        String[] tokens = value.split(" ");
+        int start = 0;
+        if (tokens[0].equals(COUNTRY)) {
+            start = 1;
+        }
+        if (start < tokens.length) {
+            tokens[start] = PROVINCES.getOrDefault(tokens[start], tokens[start]);
+        }
+
+        String normalized = String.join(" ", Arrays.copyOfRange(tokens, start, tokens.length));
+        return normalized.isEmpty() ? null : normalized.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,91 @@
+package com.petpro.domain.location.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 토큰 버킷 방식의 요청 속도 제한기
+ *
+ * 초당 permitsPerSecond개의 토큰이 채워지고, 최대 burst개까지 쌓일 수 있습니다.
+ * acquire()는 토큰이 생길 때까지 호출 스레드를 재우므로 가상 스레드에서 사용하는 것을 전제로 하며,
+ * 잠금은 토큰 계산 구간에서만 잡고 대기 중에는 놓습니다.
+ */
+public final class TokenBucketRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final double permitsPerNano;
+    private final double capacity;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * @param permitsPerSecond 초당 허용 요청 수
+     * @param burst 순간적으로 허용할 최대 요청 수
+     */
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1");
+        }
+        this.permitsPerNano = permitsPerSecond / NANOS_PER_SECOND;
+        this.capacity = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개 획득 (없으면 생길 때까지 대기)
+     *
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos;
+            lock.lock();
+            try {
+                refill();
+                if (tokens >= 1.0) {
+                    tokens -= 1.0;
+                    return;
+                }
+                waitNanos = (long) Math.ceil((1.0 - tokens) / permitsPerNano);
+            } finally {
+                lock.unlock();
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, 1));
+        }
+    }
+
+    /**
+     * 대기 없이 토큰 1개 획득 시도
+     *
+     * @return 획득 여부
+     */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            refill();
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * permitsPerNano);
+            lastRefillNanos = now;
+        }
+    }
+}
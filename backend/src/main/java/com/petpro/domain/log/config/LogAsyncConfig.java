@@ -1,32 +0,0 @@
-package com.petpro.domain.log.config;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-
-import java.util.concurrent.Executor;
-import java.util.concurrent.ThreadPoolExecutor;
-
-/**
- * 로그 비동기 처리 설정
- *
- * 로그 저장을 비동기로 처리하여 비즈니스 로직을 차단하지 않습니다.
- * CallerRunsPolicy를 사용하여 큐가 가득 차면 호출 스레드에서 실행 (로그 유실 방지)
- */
-@Configuration
-@EnableAsync
-public class LogAsyncConfig {
-
-    @Bean("logAsyncExecutor")
-    public Executor logAsyncExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(20);
-        executor.setQueueCapacity(500);
-        executor.setThreadNamePrefix("log-async-");
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
-        executor.initialize();
-        return executor;
-    }
-}
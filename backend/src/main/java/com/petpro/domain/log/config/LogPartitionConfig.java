@@ -0,0 +1,66 @@
+package com.petpro.domain.log.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 행위 로그 파티션 관리 설정
+ *
+ * user_action_logs, admin_action_logs는 created_at 기준 월별 RANGE 파티션으로 나뉩니다.
+ * ActionLogPartitionManager가 checkInterval마다 앞으로 쓸 파티션을 미리 만들고, 보관 기간이 지난 파티션을 삭제 또는 보관합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "log.partition")
+public class LogPartitionConfig {
+
+    /** 사용 여부 */
+    private boolean enabled = true;
+
+    /** 현재 월 이후 미리 만들어 둘 월 파티션 수 */
+    private int monthsAhead = 3;
+
+    /** 파티션 점검 주기 */
+    private Duration checkInterval = Duration.ofHours(6);
+
+    /** 클러스터 리스 보유 시간 (한 노드만 파티션 DDL 실행) */
+    private Duration leaseTtl = Duration.ofMinutes(30);
+
+    /** 사용자 행위 로그 보관 설정 */
+    private Table userActions = new Table(12, Expiry.DROP);
+
+    /** 운영자 행위 로그 보관 설정 */
+    private Table adminActions = new Table(36, Expiry.ARCHIVE);
+
+    @Getter
+    @Setter
+    public static class Table {
+
+        /** 보관 개월 수 (0 이하이면 만료 처리하지 않음) */
+        private int retentionMonths;
+
+        /** 만료된 파티션 처리 방식 */
+        private Expiry expiry;
+
+        public Table() {
+            this(0, Expiry.DROP);
+        }
+
+        public Table(int retentionMonths, Expiry expiry) {
+            this.retentionMonths = retentionMonths;
+            this.expiry = expiry;
+        }
+    }
+
+    public enum Expiry {
+        /** 파티션 삭제 */
+        DROP,
+        /** 파티션 교환(EXCHANGE PARTITION)으로 {테이블}_archive_{yyyyMM} 테이블로 옮긴 뒤 파티션 삭제 */
+        ARCHIVE
+    }
+}
@@ -0,0 +1,66 @@
+package com.petpro.domain.log.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 행위 로그 일괄 저장 설정
+ *
+ * 사용자/운영자 행위 로그는 링 버퍼에 쌓인 뒤 writer 스레드가 batchSize 또는 flushInterval 기준으로 묶어 저장합니다.
+ * 버퍼가 가득 찼거나 로그 DB 저장에 실패하면 디스크 스풀(spool)에 기록하고 나중에 다시 저장합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "log.writer")
+public class LogWriterConfig {
+
+    /** 로그 유형별 링 버퍼 크기 (2의 거듭제곱으로 올림) */
+    private int bufferCapacity = 8192;
+
+    /** 한 번에 저장하는 최대 건수 (JDBC batch 크기) */
+    private int batchSize = 500;
+
+    /** 첫 건이 쌓인 뒤 batchSize를 채우지 못해도 저장하는 최대 대기 시간 */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /** 버퍼를 비우는 writer 스레드 수 */
+    private int writerThreads = 1;
+
+    /** 종료 시 writer 스레드가 남은 로그를 저장하도록 기다리는 최대 시간 */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    /** 디스크 스풀 설정 */
+    private Spool spool = new Spool();
+
+    @Getter
+    @Setter
+    public static class Spool {
+
+        /** 사용 여부 (끄면 버퍼가 가득 찼을 때 호출 스레드에서 DB에 바로 저장하고, 저장 실패 로그는 버림) */
+        private boolean enabled = true;
+
+        /**
+         * 세그먼트 파일 디렉터리 (사용 시 필수, 절대 경로)
+         * 재시작·재배포 후에도 남아 있어야 재저장되므로 컨테이너에서는 볼륨을 마운트한 경로를 지정합니다.
+         */
+        private String directory;
+
+        /** 세그먼트 파일 크기 (메모리 매핑 단위) */
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+        /** 스풀 재저장 확인 주기 */
+        private Duration replayInterval = Duration.ofSeconds(5);
+
+        /** 로그 DB 저장 실패 후 DB를 시도하지 않고 스풀에 바로 기록하는 시간 */
+        private Duration bypassDuration = Duration.ofSeconds(30);
+
+        /** 데이터 오류로 재저장에 연속 실패한 세그먼트를 dead-letter 디렉터리로 옮기기 전 시도 횟수 */
+        private int maxDataErrorAttempts = 3;
+    }
+}
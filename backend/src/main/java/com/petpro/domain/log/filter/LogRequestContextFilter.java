@@ -0,0 +1,63 @@
+package com.petpro.domain.log.filter;
+
+import com.petpro.domain.log.util.LogRequestContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 행위 로그 요청 컨텍스트 필터
+ *
+ * 요청마다 IP, UserAgent, 디바이스 유형, 추적 ID를 한 번 추출해 LogRequestContext로 스레드에 보관합니다.
+ * 추적 ID는 트레이싱이 MDC에 넣은 traceId를 우선 사용하고, 없으면 X-Request-Id 헤더 값이나 새 ID를 MDC에 넣습니다.
+ * 응답에는 X-Request-Id 헤더로 추적 ID를 돌려줍니다.
+ * 트레이싱 필터(ServerHttpObservationFilter) 다음, Spring Security 필터 체인 전에 실행됩니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class LogRequestContextFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String TRACE_ID_MDC_KEY = "traceId";
+
+    /** 클라이언트가 보낸 요청 ID로 허용하는 형식 (로그 주입 방지) */
+    private static final Pattern REQUEST_ID_PATTERN = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String traceId = MDC.get(TRACE_ID_MDC_KEY);
+        boolean ownsMdc = traceId == null;
+        if (ownsMdc) {
+            traceId = resolveRequestId(request.getHeader(REQUEST_ID_HEADER));
+            MDC.put(TRACE_ID_MDC_KEY, traceId);
+        }
+        response.setHeader(REQUEST_ID_HEADER, traceId);
+        LogRequestContext.bind(LogRequestContext.capture(request, traceId));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            LogRequestContext.clear();
+            if (ownsMdc) {
+                MDC.remove(TRACE_ID_MDC_KEY);
+            }
+        }
+    }
+
+    private static String resolveRequestId(String header) {
+        if (header != null && REQUEST_ID_PATTERN.matcher(header).matches()) {
+            return header;
+        }
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+}
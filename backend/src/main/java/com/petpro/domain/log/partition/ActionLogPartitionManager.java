@@ -0,0 +1,217 @@
+package com.petpro.domain.log.partition;
+
+import com.petpro.domain.log.config.LogPartitionConfig;
+import com.petpro.global.coordination.ClusterCoordinator;
+import com.petpro.global.coordination.ClusterLease;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 행위 로그 파티션 관리자
+ *
+ * user_action_logs, admin_action_logs의 월별 RANGE 파티션을 관리합니다.
+ * - 현재 월부터 monthsAhead개월 뒤까지의 파티션을 미리 만듦 (MAXVALUE 파티션 p_max를 나눠 생성)
+ * - 보관 기간이 지난 파티션은 DROP PARTITION으로 삭제하거나, EXCHANGE PARTITION으로 보관 테이블에 옮긴 뒤 삭제
+ * 처음 실행 시 p_max에 있는 기존 로그도 월별 파티션으로 나누며, 보관 기간 이전의 로그는 한 파티션에 모아 바로 만료 처리합니다.
+ *
+ * 파티션 DDL은 클러스터 리스를 가진 한 노드만 실행합니다.
+ *
+ * 메트릭 (table 태그)
+ * - log.partition.created: 만든 파티션 수
+ * - log.partition.expired: 만료 처리한 파티션 수 (expiry 태그: drop, archive)
+ */
+@Slf4j
+@Component
+public class ActionLogPartitionManager {
+
+    static final String USER_ACTION_TABLE = "user_action_logs";
+    static final String ADMIN_ACTION_TABLE = "admin_action_logs";
+
+    private static final String LEASE_NAME = "log-partition-maintenance";
+
+    private final LogPartitionRepository repository;
+    private final ClusterCoordinator clusterCoordinator;
+    private final LogPartitionConfig config;
+    private final MeterRegistry meterRegistry;
+
+    private ScheduledExecutorService scheduler;
+
+    public ActionLogPartitionManager(LogPartitionRepository repository, ClusterCoordinator clusterCoordinator,
+                                     LogPartitionConfig config, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.clusterCoordinator = clusterCoordinator;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 애플리케이션 시작 시 바로 한 번 점검하고 checkInterval마다 반복
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "action-log-partition-manager");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::maintainQuietly, 0,
+                config.getCheckInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 모든 행위 로그 테이블의 파티션 점검 (다른 노드가 점검 중이면 건너뜀)
+     */
+    public void maintain() {
+        Optional<ClusterLease> acquired = clusterCoordinator.tryAcquireLease(LEASE_NAME, config.getLeaseTtl());
+        if (acquired.isEmpty()) {
+            log.debug("Action log partition maintenance skipped: lease held by another node");
+            return;
+        }
+        try (ClusterLease lease = acquired.get()) {
+            maintain(USER_ACTION_TABLE, config.getUserActions());
+            if (lease.renew()) {
+                maintain(ADMIN_ACTION_TABLE, config.getAdminActions());
+            }
+        }
+    }
+
+    private void maintainQuietly() {
+        try {
+            maintain();
+        } catch (Exception e) {
+            log.error("Action log partition maintenance failed: error={}", e.getMessage(), e);
+        }
+    }
+
+    private void maintain(String table, LogPartitionConfig.Table settings) {
+        List<LogPartition> partitions = repository.findPartitions(table);
+        if (partitions.isEmpty()) {
+            log.warn("Action log table is not partitioned, skipping maintenance: table={}", table);
+            return;
+        }
+        boolean hasMonthly = partitions.stream().anyMatch(partition -> !partition.isMaxValue());
+        YearMonth oldestData = hasMonthly ? null : repository.findOldestMonth(table);
+        Plan plan = plan(partitions, YearMonth.now(), oldestData, config.getMonthsAhead(),
+                settings.getRetentionMonths());
+
+        if (!plan.create().isEmpty()) {
+            LogPartition maxValue = partitions.stream().filter(LogPartition::isMaxValue).findFirst().orElse(null);
+            repository.addMonthlyPartitions(table, plan.create(), maxValue);
+            Counter.builder("log.partition.created")
+                    .description("Monthly action log partitions created")
+                    .tag("table", table)
+                    .register(meterRegistry)
+                    .increment(plan.create().size());
+            log.info("Created action log partitions: table={}, from={}, to={}",
+                    table, plan.create().get(0), plan.create().get(plan.create().size() - 1));
+        }
+        for (LogPartition partition : plan.expire()) {
+            expire(table, partition, settings.getExpiry());
+        }
+    }
+
+    private void expire(String table, LogPartition partition, LogPartitionConfig.Expiry expiry) {
+        if (expiry == LogPartitionConfig.Expiry.ARCHIVE) {
+            String archiveTable = table + "_archive_" + partition.name().substring(1);
+            if (!repository.exchangeToArchive(table, partition, archiveTable)) {
+                log.warn("Archive table already holds rows and partition is not empty, skipping expiry: "
+                        + "table={}, partition={}, archive={}", table, partition.name(), archiveTable);
+                return;
+            }
+            log.info("Archived action log partition: table={}, partition={}, archive={}",
+                    table, partition.name(), archiveTable);
+        }
+        repository.dropPartition(table, partition);
+        Counter.builder("log.partition.expired")
+                .description("Expired action log partitions dropped or archived")
+                .tag("table", table)
+                .tag("expiry", expiry.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .increment();
+        log.info("Dropped expired action log partition: table={}, partition={}, upperBound={}",
+                table, partition.name(), partition.upperBound());
+    }
+
+    /**
+     * 파티션 점검 계획
+     *
+     * @param partitions      현재 파티션 (순서대로)
+     * @param current         현재 월
+     * @param oldestData      월 파티션이 하나도 없을 때 가장 오래된 로그의 월 (없으면 null)
+     * @param monthsAhead     현재 월 이후 미리 만들 월 수
+     * @param retentionMonths 보관 개월 수 (0 이하이면 만료 없음)
+     */
+    static Plan plan(List<LogPartition> partitions, YearMonth current, YearMonth oldestData,
+                     int monthsAhead, int retentionMonths) {
+        YearMonth cutoff = retentionMonths > 0 ? current.minusMonths(retentionMonths) : null;
+        LocalDate lastBound = partitions.stream()
+                .map(LogPartition::upperBound)
+                .filter(Objects::nonNull)
+                .max(LocalDate::compareTo)
+                .orElse(null);
+
+        YearMonth next;
+        if (lastBound != null) {
+            next = YearMonth.from(lastBound);
+        } else {
+            next = oldestData != null && oldestData.isBefore(current) ? oldestData : current;
+            // 보관 기간 이전의 로그는 cutoff 직전 월 파티션 하나에 모음 (RANGE 파티션은 하한이 없으므로)
+            if (cutoff != null && next.isBefore(cutoff.minusMonths(1))) {
+                next = cutoff.minusMonths(1);
+            }
+        }
+
+        List<YearMonth> create = new ArrayList<>();
+        for (YearMonth month = next; !month.isAfter(current.plusMonths(Math.max(0, monthsAhead)));
+             month = month.plusMonths(1)) {
+            create.add(month);
+        }
+
+        List<LogPartition> expire = new ArrayList<>();
+        if (cutoff != null) {
+            LocalDate cutoffDate = cutoff.atDay(1);
+            partitions.stream()
+                    .filter(partition -> !partition.isMaxValue() && !partition.upperBound().isAfter(cutoffDate))
+                    .forEach(expire::add);
+            create.stream()
+                    .map(month -> new LogPartition(LogPartitionRepository.partitionName(month),
+                            month.plusMonths(1).atDay(1)))
+                    .filter(partition -> !partition.upperBound().isAfter(cutoffDate))
+                    .forEach(expire::add);
+        }
+        return new Plan(List.copyOf(create), List.copyOf(expire));
+    }
+
+    /**
+     * @param create 새로 만들 월 (순서대로)
+     * @param expire 만료 처리할 파티션
+     */
+    record Plan(List<YearMonth> create, List<LogPartition> expire) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.petpro.domain.log.partition;
+
+import java.time.LocalDate;
+
+/**
+ * 행위 로그 테이블의 RANGE 파티션
+ *
+ * @param name       파티션 이름 (월 파티션은 p{yyyyMM}, 상한 없는 파티션은 p_max)
+ * @param upperBound created_at 상한 (미포함, MAXVALUE 파티션이면 null)
+ */
+public record LogPartition(String name, LocalDate upperBound) {
+
+    public boolean isMaxValue() {
+        return upperBound == null;
+    }
+}
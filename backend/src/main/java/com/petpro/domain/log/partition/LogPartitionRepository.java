@@ -0,0 +1,134 @@
+package com.petpro.domain.log.partition;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 행위 로그 파티션 DDL 레포지토리
+ *
+ * MySQL DDL은 암묵적으로 커밋되므로 트랜잭션 없이 Master에 직접 실행합니다.
+ * 테이블·파티션 이름은 ActionLogPartitionManager가 정한 값만 사용합니다.
+ */
+@Repository
+public class LogPartitionRepository {
+
+    private static final String MAX_VALUE = "MAXVALUE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LogPartitionRepository(@Qualifier("logMasterDataSource") DataSource logMasterDataSource) {
+        this.jdbcTemplate = new JdbcTemplate(logMasterDataSource);
+    }
+
+    /**
+     * 테이블의 RANGE 파티션 목록 (순서대로, 파티션 테이블이 아니면 빈 목록)
+     */
+    public List<LogPartition> findPartitions(String table) {
+        return jdbcTemplate.query("""
+                        SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+                        FROM information_schema.PARTITIONS
+                        WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+                        ORDER BY PARTITION_ORDINAL_POSITION
+                        """,
+                (rs, rowNum) -> new LogPartition(rs.getString(1), parseUpperBound(rs.getString(2))),
+                table);
+    }
+
+    /**
+     * 가장 오래된 로그의 월 (로그가 없으면 null)
+     */
+    public YearMonth findOldestMonth(String table) {
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM " + table, Timestamp.class);
+        return oldest != null ? YearMonth.from(oldest.toLocalDateTime()) : null;
+    }
+
+    /**
+     * 월 파티션 추가
+     *
+     * MAXVALUE 파티션이 있으면 그 파티션을 나누고(REORGANIZE), 없으면 마지막 파티션 뒤에 추가합니다.
+     */
+    public void addMonthlyPartitions(String table, List<YearMonth> months, LogPartition maxValuePartition) {
+        String definitions = months.stream()
+                .map(month -> "PARTITION " + partitionName(month)
+                        + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')")
+                .collect(Collectors.joining(", "));
+        if (maxValuePartition != null) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION " + maxValuePartition.name()
+                    + " INTO (" + definitions + ", PARTITION " + maxValuePartition.name()
+                    + " VALUES LESS THAN (" + MAX_VALUE + "))");
+        } else {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD PARTITION (" + definitions + ")");
+        }
+    }
+
+    public void dropPartition(String table, LogPartition partition) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + partition.name());
+    }
+
+    /**
+     * 파티션을 보관 테이블로 교환
+     *
+     * 보관 테이블은 원본과 같은 구조의 파티션 없는 테이블이며, 교환 후 원본 파티션은 비게 됩니다.
+     * 이전 실행이 중단되어 보관 테이블이 이미 있으면
+     * - 비어 있으면 (만든 뒤 교환 전에 중단) 파티션 제거를 마저 하고 교환합니다.
+     * - 행이 있으면 (교환 후 중단) 다시 교환하지 않습니다.
+     *
+     * @return 교환했거나 이미 보관되어 원본 파티션이 비어 있으면 true
+     */
+    public boolean exchangeToArchive(String table, LogPartition partition, String archiveTable) {
+        if (!tableExists(archiveTable)) {
+            jdbcTemplate.execute("CREATE TABLE " + archiveTable + " LIKE " + table);
+        } else if (!isEmpty(archiveTable)) {
+            return isEmpty(table + " PARTITION (" + partition.name() + ")");
+        }
+        if (isPartitioned(archiveTable)) {
+            jdbcTemplate.execute("ALTER TABLE " + archiveTable + " REMOVE PARTITIONING");
+        }
+        jdbcTemplate.execute("ALTER TABLE " + table + " EXCHANGE PARTITION " + partition.name()
+                + " WITH TABLE " + archiveTable);
+        return true;
+    }
+
+    private boolean isEmpty(String source) {
+        return jdbcTemplate.queryForList("SELECT 1 FROM " + source + " LIMIT 1", Integer.class).isEmpty();
+    }
+
+    private boolean isPartitioned(String table) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+                """, Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    private boolean tableExists(String table) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.TABLES
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?
+                """, Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    static String partitionName(YearMonth month) {
+        return String.format("p%04d%02d", month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * PARTITION_DESCRIPTION 해석 (RANGE COLUMNS(DATETIME)은 '2026-11-01 00:00:00' 형식)
+     */
+    static LocalDate parseUpperBound(String description) {
+        if (description == null || MAX_VALUE.equalsIgnoreCase(description)) {
+            return null;
+        }
+        String value = description.replace("'", "").trim();
+        return LocalDate.parse(value.substring(0, 10));
+    }
+}
@@ -0,0 +1,121 @@
+package com.petpro.domain.log.repository;
+
+import com.petpro.domain.log.entity.AdminActionLog;
+import com.petpro.domain.log.entity.UserActionLog;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 행위 로그 JDBC 레포지토리
+ *
+ * IDENTITY 키 엔티티는 Hibernate가 INSERT를 묶지 않으므로 로그 일괄 저장은 JDBC batch로 처리합니다.
+ * MySQL 드라이버의 rewriteBatchedStatements=true 설정과 함께 사용하면 batch가 다중 행 INSERT 한 문장으로 전송됩니다.
+ * 사용자 행위 로그는 같은 트랜잭션에서 시간별 집계(UserActionRollupRepository)도 함께 누적합니다.
+ */
+@Repository
+public class ActionLogJdbcRepository {
+
+    private static final String INSERT_USER_ACTION_SQL = """
+            INSERT INTO user_action_logs (
+                user_id, action_type, target_type, target_id, description, detail_json,
+                ip_address, user_agent, device_type, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_ADMIN_ACTION_SQL = """
+            INSERT INTO admin_action_logs (
+                admin_id, action_type, target_type, target_id, description, detail_json,
+                ip_address, user_agent, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserActionRollupRepository rollupRepository;
+
+    public ActionLogJdbcRepository(@Qualifier("logDataSource") DataSource logDataSource,
+                                   UserActionRollupRepository rollupRepository) {
+        this.jdbcTemplate = new JdbcTemplate(logDataSource);
+        this.rollupRepository = rollupRepository;
+    }
+
+    /**
+     * 사용자 행위 로그 일괄 저장 및 시간별 집계 누적 (JDBC batch, 단일 트랜잭션)
+     *
+     * @return 저장된 행 수
+     */
+    @Transactional("logTransactionManager")
+    public int insertUserActions(List<UserActionLog> logs) {
+        if (logs.isEmpty()) {
+            return 0;
+        }
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_USER_ACTION_SQL, logs, logs.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getUserId());
+                    ps.setString(2, entry.getActionType().name());
+                    ps.setString(3, entry.getTargetType() != null ? entry.getTargetType().name() : null);
+                    ps.setObject(4, entry.getTargetId(), Types.BIGINT);
+                    ps.setString(5, entry.getDescription());
+                    ps.setString(6, entry.getDetailJson());
+                    ps.setString(7, entry.getIpAddress());
+                    ps.setString(8, entry.getUserAgent());
+                    ps.setString(9, entry.getDeviceType() != null ? entry.getDeviceType().name() : null);
+                    ps.setTimestamp(10, Timestamp.valueOf(entry.getCreatedAt()));
+                });
+        rollupRepository.increment(logs);
+        return sumUpdateCounts(results);
+    }
+
+    /**
+     * 운영자 행위 로그 일괄 저장 (JDBC batch, 단일 트랜잭션)
+     *
+     * @return 저장된 행 수
+     */
+    @Transactional("logTransactionManager")
+    public int insertAdminActions(List<AdminActionLog> logs) {
+        if (logs.isEmpty()) {
+            return 0;
+        }
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_ADMIN_ACTION_SQL, logs, logs.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getAdminId());
+                    ps.setString(2, entry.getActionType().name());
+                    ps.setString(3, entry.getTargetType().name());
+                    ps.setObject(4, entry.getTargetId(), Types.BIGINT);
+                    ps.setString(5, entry.getDescription());
+                    ps.setString(6, entry.getDetailJson());
+                    ps.setString(7, entry.getIpAddress());
+                    ps.setString(8, entry.getUserAgent());
+                    ps.setTimestamp(9, Timestamp.valueOf(entry.getCreatedAt()));
+                });
+        return sumUpdateCounts(results);
+    }
+
+    /**
+     * 사용자·운영자 행위 로그를 한 트랜잭션으로 저장 (스풀 재저장용)
+     *
+     * @return 저장된 행 수
+     */
+    @Transactional("logTransactionManager")
+    public int insertAll(List<UserActionLog> userLogs, List<AdminActionLog> adminLogs) {
+        return insertUserActions(userLogs) + insertAdminActions(adminLogs);
+    }
+
+    private static int sumUpdateCounts(int[][] results) {
+        int total = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // rewriteBatchedStatements 사용 시 드라이버가 건별 결과 대신 SUCCESS_NO_INFO를 반환
+                total += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,159 @@
+package com.petpro.domain.log.repository;
+
+import com.petpro.domain.log.entity.UserActionLog;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 사용자 행위 시간별 집계 레포지토리 (user_action_hourly_rollups)
+ *
+ * 행위 로그를 저장할 때 같은 트랜잭션에서 (시간, 행위 유형, 디바이스 유형)별 건수를 누적합니다.
+ * 통계 조회는 조회 기간 중 온전한 시간 구간을 집계 테이블에서 읽고, 양 끝의 부분 시간만 원본 로그를 집계해 합칩니다.
+ * 따라서 조회 비용은 전체 로그량이 아니라 조회 기간의 시간 수에 비례합니다.
+ */
+@Repository
+public class UserActionRollupRepository {
+
+    /** 디바이스 유형이 없는 로그의 집계 키 */
+    public static final String UNKNOWN_DEVICE = "UNKNOWN";
+
+    /** 행 별칭 형식 (MySQL 8.0.19+, VALUES() 함수는 8.0.20부터 사용 중단) */
+    private static final String UPSERT_SQL = """
+            INSERT INTO user_action_hourly_rollups (bucket_hour, action_type, device_type, action_count)
+            VALUES (?, ?, ?, ?) AS new
+            ON DUPLICATE KEY UPDATE action_count = action_count + new.action_count
+            """;
+
+    private static final String COUNT_SQL_TEMPLATE = """
+            SELECT k, SUM(c) AS c FROM (
+                SELECT %s AS k, SUM(action_count) AS c FROM user_action_hourly_rollups
+                WHERE bucket_hour >= ? AND bucket_hour < ?
+                GROUP BY k
+                UNION ALL
+                SELECT %s AS k, COUNT(*) AS c FROM user_action_logs
+                WHERE (created_at >= ? AND created_at < ?) OR (created_at >= ? AND created_at <= ?)
+                GROUP BY k
+            ) t
+            GROUP BY k
+            ORDER BY k
+            """;
+
+    private static final String ACTION_TYPE_SQL = COUNT_SQL_TEMPLATE.formatted("action_type", "action_type");
+    private static final String HOUR_SQL = COUNT_SQL_TEMPLATE.formatted("HOUR(bucket_hour)", "HOUR(created_at)");
+    private static final String DAY_OF_WEEK_SQL =
+            COUNT_SQL_TEMPLATE.formatted("DAYOFWEEK(bucket_hour)", "DAYOFWEEK(created_at)");
+    private static final String DEVICE_TYPE_SQL = COUNT_SQL_TEMPLATE.formatted(
+            "device_type", "COALESCE(device_type, '" + UNKNOWN_DEVICE + "')");
+
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::bucketHour)
+            .thenComparing(Key::actionType)
+            .thenComparing(Key::deviceType);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserActionRollupRepository(@Qualifier("logDataSource") DataSource logDataSource) {
+        this.jdbcTemplate = new JdbcTemplate(logDataSource);
+    }
+
+    /**
+     * 로그 묶음의 건수를 시간별 집계에 누적 (호출한 쪽 트랜잭션에 참여)
+     */
+    public void increment(List<UserActionLog> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+        // 키 순서대로 갱신해 writer 스레드·스풀 재저장이 동시에 누적해도 행 잠금 순서가 같도록 함
+        Map<Key, Long> counts = new TreeMap<>(KEY_ORDER);
+        for (UserActionLog entry : logs) {
+            Key key = new Key(
+                    entry.getCreatedAt().truncatedTo(ChronoUnit.HOURS),
+                    entry.getActionType().name(),
+                    entry.getDeviceType() != null ? entry.getDeviceType().name() : UNKNOWN_DEVICE);
+            counts.merge(key, 1L, Long::sum);
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new ArrayList<>(counts.entrySet()), counts.size(),
+                (ps, count) -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(count.getKey().bucketHour()));
+                    ps.setString(2, count.getKey().actionType());
+                    ps.setString(3, count.getKey().deviceType());
+                    ps.setLong(4, count.getValue());
+                });
+    }
+
+    /**
+     * 행위 유형별 건수 (start, end 포함)
+     */
+    public Map<String, Long> countByActionType(LocalDateTime start, LocalDateTime end) {
+        return count(ACTION_TYPE_SQL, start, end, (rs, rowNum) -> rs.getString("k"));
+    }
+
+    /**
+     * 시간대(0~23)별 건수 (start, end 포함)
+     */
+    public Map<Integer, Long> countByHour(LocalDateTime start, LocalDateTime end) {
+        return count(HOUR_SQL, start, end, (rs, rowNum) -> rs.getInt("k"));
+    }
+
+    /**
+     * 요일별 건수 (MySQL DAYOFWEEK: 1=일요일 ~ 7=토요일, start, end 포함)
+     */
+    public Map<Integer, Long> countByDayOfWeek(LocalDateTime start, LocalDateTime end) {
+        return count(DAY_OF_WEEK_SQL, start, end, (rs, rowNum) -> rs.getInt("k"));
+    }
+
+    /**
+     * 디바이스 유형별 건수 (디바이스 유형이 없으면 UNKNOWN, start, end 포함)
+     */
+    public Map<String, Long> countByDeviceType(LocalDateTime start, LocalDateTime end) {
+        return count(DEVICE_TYPE_SQL, start, end, (rs, rowNum) -> rs.getString("k"));
+    }
+
+    private <K> Map<K, Long> count(String sql, LocalDateTime start, LocalDateTime end, RowMapper<K> keyMapper) {
+        HourRange range = HourRange.of(start, end);
+        Map<K, Long> counts = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> counts.put(keyMapper.mapRow(rs, 0), rs.getLong("c")),
+                Timestamp.valueOf(range.rollupStart()), Timestamp.valueOf(range.rollupEnd()),
+                Timestamp.valueOf(range.start()), Timestamp.valueOf(range.rollupStart()),
+                Timestamp.valueOf(range.rollupEnd()), Timestamp.valueOf(range.end()));
+        return counts;
+    }
+
+    private record Key(LocalDateTime bucketHour, String actionType, String deviceType) {
+    }
+
+    /**
+     * 조회 기간 분할
+     *
+     * - [rollupStart, rollupEnd): 집계 테이블에서 읽는 온전한 시간 구간
+     * - [start, rollupStart), [rollupEnd, end]: 원본 로그를 집계하는 양 끝의 부분 시간
+     * 기간이 한 시간 안에 있으면 집계 구간은 비고 [rollupEnd, end] 전체를 원본 로그로 집계합니다.
+     */
+    record HourRange(LocalDateTime start, LocalDateTime rollupStart, LocalDateTime rollupEnd, LocalDateTime end) {
+
+        static HourRange of(LocalDateTime start, LocalDateTime end) {
+            LocalDateTime firstFullHour = start.truncatedTo(ChronoUnit.HOURS);
+            if (firstFullHour.isBefore(start)) {
+                firstFullHour = firstFullHour.plusHours(1);
+            }
+            LocalDateTime lastHour = end.truncatedTo(ChronoUnit.HOURS);
+            if (firstFullHour.isAfter(lastHour)) {
+                return new HourRange(start, start, start, end);
+            }
+            return new HourRange(start, firstFullHour, lastHour, end);
+        }
+    }
+}
@@ -2,19 +2,18 @@ package com.petpro.domain.log.service;
 
 import com.petpro.domain.log.dto.LogRequest.AdminActionLogRequest;
 import com.petpro.domain.log.entity.AdminActionLog;
-import com.petpro.domain.log.repository.AdminActionLogRepository;
-import com.petpro.domain.log.util.RequestContextUtil;
+import com.petpro.domain.log.util.LogRequestContext;
+import com.petpro.domain.log.writer.ActionLogBatchWriter;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 운영자 행위 로그 서비스
  *
- * 비동기로 로그를 MySQL에 저장합니다.
+ * 요청 정보(IP, UserAgent)는 LogRequestContextFilter가 만든 요청 컨텍스트 스냅샷을 사용하고(없으면 호출 스레드에서 추출),
+ * 저장은 ActionLogBatchWriter에 맡겨 묶음 단위로 MySQL에 기록합니다.
  * 실패 시 log.error()만 출력하고 예외를 전파하지 않습니다.
  */
 @Slf4j
@@ -22,17 +21,14 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AdminActionLogService {
 
-    private final AdminActionLogRepository adminActionLogRepository;
+    private final ActionLogBatchWriter actionLogBatchWriter;
 
     /**
-     * 운영자 행위 로그 비동기 저장
+     * 운영자 행위 로그 저장 요청
      */
-    @Async("logAsyncExecutor")
-    @Transactional("logTransactionManager")
     public void logAdminAction(AdminActionLogRequest request, HttpServletRequest httpRequest) {
         try {
-            String ipAddress = RequestContextUtil.getClientIp(httpRequest);
-            String userAgent = RequestContextUtil.getUserAgent(httpRequest);
+            LogRequestContext context = LogRequestContext.resolve(httpRequest);
 
             AdminActionLog logEntry = AdminActionLog.create(
                     request.getAdminId(),
@@ -41,12 +37,12 @@ public class AdminActionLogService {
                     request.getTargetId(),
                     request.getDescription(),
                     request.getDetailJson(),
-                    ipAddress,
-                    userAgent
+                    context.ipAddress(),
+                    context.userAgent()
             );
 
-            adminActionLogRepository.save(logEntry);
-            log.debug("운영자 행위 로그 저장 완료: adminId={}, action={}", request.getAdminId(), request.getActionType());
+            actionLogBatchWriter.write(logEntry);
+            log.debug("운영자 행위 로그 저장 요청: adminId={}, action={}", request.getAdminId(), request.getActionType());
         } catch (Exception e) {
             log.error("운영자 행위 로그 저장 실패: adminId={}, action={}, error={}",
                     request.getAdminId(), request.getActionType(), e.getMessage(), e);
@@ -54,10 +50,8 @@ public class AdminActionLogService {
     }
 
     /**
-     * 운영자 행위 로그 비동기 저장 (HttpServletRequest 없이)
+     * 운영자 행위 로그 저장 요청 (HttpServletRequest 없이)
      */
-    @Async("logAsyncExecutor")
-    @Transactional("logTransactionManager")
     public void logAdminAction(AdminActionLogRequest request) {
         try {
             AdminActionLog logEntry = AdminActionLog.create(
@@ -71,8 +65,8 @@ public class AdminActionLogService {
                     null
             );
 
-            adminActionLogRepository.save(logEntry);
-            log.debug("운영자 행위 로그 저장 완료: adminId={}, action={}", request.getAdminId(), request.getActionType());
+            actionLogBatchWriter.write(logEntry);
+            log.debug("운영자 행위 로그 저장 요청: adminId={}, action={}", request.getAdminId(), request.getActionType());
         } catch (Exception e) {
             log.error("운영자 행위 로그 저장 실패: adminId={}, action={}, error={}",
                     request.getAdminId(), request.getActionType(), e.getMessage(), e);
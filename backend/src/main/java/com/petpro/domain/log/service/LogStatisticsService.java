@@ -3,7 +3,7 @@ package com.petpro.domain.log.service;
 import com.petpro.domain.log.dto.StatisticsResponse.*;
 import com.petpro.domain.log.entity.UserActionType;
 import com.petpro.domain.log.repository.AdminActionLogRepository;
-import com.petpro.domain.log.repository.UserActionLogRepository;
+import com.petpro.domain.log.repository.UserActionRollupRepository;
 import com.petpro.domain.log.repository.UserDemographicsSnapshotRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,12 +12,14 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * 로그 통계 서비스
  *
  * MySQL Slave에서 통계 데이터를 조회합니다.
+ * 사용자 행위 통계는 시간별 집계(user_action_hourly_rollups)를 읽고, 조회 기간 양 끝의 부분 시간만 원본 로그를 집계합니다.
  */
 @Slf4j
 @Service
@@ -26,7 +28,7 @@ import java.util.stream.Collectors;
 public class LogStatisticsService {
 
     private final AdminActionLogRepository adminActionLogRepository;
-    private final UserActionLogRepository userActionLogRepository;
+    private final UserActionRollupRepository userActionRollupRepository;
     private final UserDemographicsSnapshotRepository demographicsSnapshotRepository;
 
     /**
@@ -59,11 +61,12 @@ public class LogStatisticsService {
      * 사용자 행위 통계
      */
     public UserActionStatistics getUserActionStatistics(LocalDateTime start, LocalDateTime end) {
-        List<ActionTypeCount> actionTypeCounts = userActionLogRepository.countByActionType(start, end)
+        List<ActionTypeCount> actionTypeCounts = userActionRollupRepository.countByActionType(start, end)
+                .entrySet()
                 .stream()
-                .map(row -> ActionTypeCount.builder()
-                        .actionType(row[0].toString())
-                        .count((Long) row[1])
+                .map(entry -> ActionTypeCount.builder()
+                        .actionType(entry.getKey())
+                        .count(entry.getValue())
                         .build())
                 .collect(Collectors.toList());
 
@@ -76,27 +79,30 @@ public class LogStatisticsService {
      * 사용자 행동 패턴 통계 (시간대, 요일, 디바이스)
      */
     public UserBehaviorStatistics getUserBehaviorStatistics(LocalDateTime start, LocalDateTime end) {
-        List<HourlyDistribution> hourly = userActionLogRepository.countByHour(start, end)
+        List<HourlyDistribution> hourly = userActionRollupRepository.countByHour(start, end)
+                .entrySet()
                 .stream()
-                .map(row -> HourlyDistribution.builder()
-                        .hour(((Number) row[0]).intValue())
-                        .count((Long) row[1])
+                .map(entry -> HourlyDistribution.builder()
+                        .hour(entry.getKey())
+                        .count(entry.getValue())
                         .build())
                 .collect(Collectors.toList());
 
-        List<DayOfWeekDistribution> dayOfWeek = userActionLogRepository.countByDayOfWeek(start, end)
+        List<DayOfWeekDistribution> dayOfWeek = userActionRollupRepository.countByDayOfWeek(start, end)
+                .entrySet()
                 .stream()
-                .map(row -> DayOfWeekDistribution.builder()
-                        .dayOfWeek(((Number) row[0]).intValue())
-                        .count((Long) row[1])
+                .map(entry -> DayOfWeekDistribution.builder()
+                        .dayOfWeek(entry.getKey())
+                        .count(entry.getValue())
                         .build())
                 .collect(Collectors.toList());
 
-        List<DeviceTypeDistribution> deviceType = userActionLogRepository.countByDeviceType(start, end)
+        List<DeviceTypeDistribution> deviceType = userActionRollupRepository.countByDeviceType(start, end)
+                .entrySet()
                 .stream()
-                .map(row -> DeviceTypeDistribution.builder()
-                        .deviceType(row[0] != null ? row[0].toString() : "UNKNOWN")
-                        .count((Long) row[1])
+                .map(entry -> DeviceTypeDistribution.builder()
+                        .deviceType(entry.getKey())
+                        .count(entry.getValue())
                         .build())
                 .collect(Collectors.toList());
 
@@ -111,10 +117,9 @@ public class LogStatisticsService {
      * CS 패턴 분석 (문의 발생률)
      */
     public CsAnalysisStatistics getCsAnalysisStatistics(LocalDateTime start, LocalDateTime end) {
-        Long totalInquiries = userActionLogRepository.countByActionTypeAndCreatedAtBetween(
-                UserActionType.INQUIRY_CREATE, start, end);
-        Long totalOrders = userActionLogRepository.countByActionTypeAndCreatedAtBetween(
-                UserActionType.ORDER_CREATE, start, end);
+        Map<String, Long> actionTypeCounts = userActionRollupRepository.countByActionType(start, end);
+        Long totalInquiries = actionTypeCounts.getOrDefault(UserActionType.INQUIRY_CREATE.name(), 0L);
+        Long totalOrders = actionTypeCounts.getOrDefault(UserActionType.ORDER_CREATE.name(), 0L);
 
         double csRate = totalOrders > 0
                 ? (double) totalInquiries / totalOrders * 100
@@ -1,21 +1,19 @@
 package com.petpro.domain.log.service;
 
 import com.petpro.domain.log.dto.LogRequest.UserActionLogRequest;
-import com.petpro.domain.log.entity.DeviceType;
 import com.petpro.domain.log.entity.UserActionLog;
-import com.petpro.domain.log.repository.UserActionLogRepository;
-import com.petpro.domain.log.util.RequestContextUtil;
+import com.petpro.domain.log.util.LogRequestContext;
+import com.petpro.domain.log.writer.ActionLogBatchWriter;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 사용자 행위 로그 서비스
  *
- * 비동기로 로그를 MySQL에 저장합니다.
+ * 요청 정보(IP, UserAgent)는 LogRequestContextFilter가 만든 요청 컨텍스트 스냅샷을 사용하고(없으면 호출 스레드에서 추출),
+ * 저장은 ActionLogBatchWriter에 맡겨 묶음 단위로 MySQL에 기록합니다.
  * 실패 시 log.error()만 출력하고 예외를 전파하지 않습니다.
  */
 @Slf4j
@@ -23,18 +21,14 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UserActionLogService {
 
-    private final UserActionLogRepository userActionLogRepository;
+    private final ActionLogBatchWriter actionLogBatchWriter;
 
     /**
-     * 사용자 행위 로그 비동기 저장
+     * 사용자 행위 로그 저장 요청
      */
-    @Async("logAsyncExecutor")
-    @Transactional("logTransactionManager")
     public void logUserAction(UserActionLogRequest request, HttpServletRequest httpRequest) {
         try {
-            String ipAddress = RequestContextUtil.getClientIp(httpRequest);
-            String userAgent = RequestContextUtil.getUserAgent(httpRequest);
-            DeviceType deviceType = RequestContextUtil.detectDeviceType(userAgent);
+            LogRequestContext context = LogRequestContext.resolve(httpRequest);
 
             UserActionLog logEntry = UserActionLog.create(
                     request.getUserId(),
@@ -43,13 +37,13 @@ public class UserActionLogService {
                     request.getTargetId(),
                     request.getDescription(),
                     request.getDetailJson(),
-                    ipAddress,
-                    userAgent,
-                    deviceType
+                    context.ipAddress(),
+                    context.userAgent(),
+                    context.deviceType()
             );
 
-            userActionLogRepository.save(logEntry);
-            log.debug("사용자 행위 로그 저장 완료: userId={}, action={}", request.getUserId(), request.getActionType());
+            actionLogBatchWriter.write(logEntry);
+            log.debug("사용자 행위 로그 저장 요청: userId={}, action={}", request.getUserId(), request.getActionType());
         } catch (Exception e) {
             log.error("사용자 행위 로그 저장 실패: userId={}, action={}, error={}",
                     request.getUserId(), request.getActionType(), e.getMessage(), e);
@@ -57,10 +51,8 @@ public class UserActionLogService {
     }
 
     /**
-     * 사용자 행위 로그 비동기 저장 (HttpServletRequest 없이)
+     * 사용자 행위 로그 저장 요청 (HttpServletRequest 없이)
      */
-    @Async("logAsyncExecutor")
-    @Transactional("logTransactionManager")
     public void logUserAction(UserActionLogRequest request) {
         try {
             UserActionLog logEntry = UserActionLog.create(
@@ -75,8 +67,8 @@ public class UserActionLogService {
                     null
             );
 
-            userActionLogRepository.save(logEntry);
-            log.debug("사용자 행위 로그 저장 완료: userId={}, action={}", request.getUserId(), request.getActionType());
+            actionLogBatchWriter.write(logEntry);
+            log.debug("사용자 행위 로그 저장 요청: userId={}, action={}", request.getUserId(), request.getActionType());
         } catch (Exception e) {
             log.error("사용자 행위 로그 저장 실패: userId={}, action={}, error={}",
                     request.getUserId(), request.getActionType(), e.getMessage(), e);
@@ -0,0 +1,75 @@
+package com.petpro.domain.log.util;
+
+import com.petpro.domain.log.entity.DeviceType;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 행위 로그용 요청 컨텍스트 스냅샷
+ *
+ * LogRequestContextFilter가 요청 스레드에서 한 번 만들어 요청이 끝날 때까지 스레드에 보관합니다.
+ * 불변 값이므로 로그 엔티티 생성이나 다른 스레드로 그대로 넘겨도 HttpServletRequest 수명과 무관합니다.
+ *
+ * @param ipAddress  클라이언트 IP
+ * @param userAgent  UserAgent
+ * @param deviceType 디바이스 유형
+ * @param traceId    요청 추적 ID
+ */
+public record LogRequestContext(String ipAddress, String userAgent, DeviceType deviceType, String traceId) {
+
+    /** ip_address 컬럼 길이 (IPv6 텍스트 최대 길이) */
+    public static final int MAX_IP_ADDRESS_LENGTH = 45;
+
+    /** user_agent 컬럼 길이 */
+    public static final int MAX_USER_AGENT_LENGTH = 500;
+
+    private static final ThreadLocal<LogRequestContext> CURRENT = new ThreadLocal<>();
+
+    /**
+     * HTTP 요청에서 스냅샷 생성
+     *
+     * IP와 UserAgent는 클라이언트가 임의로 보낼 수 있는 헤더 값이므로 컬럼 길이에 맞춰 잘라 둡니다.
+     * 길이를 넘는 값이 배치에 섞이면 배치 전체가 저장에 실패하기 때문입니다.
+     */
+    public static LogRequestContext capture(HttpServletRequest request, String traceId) {
+        String userAgent = truncate(RequestContextUtil.getUserAgent(request), MAX_USER_AGENT_LENGTH);
+        return new LogRequestContext(
+                truncate(RequestContextUtil.getClientIp(request), MAX_IP_ADDRESS_LENGTH),
+                userAgent,
+                RequestContextUtil.detectDeviceType(userAgent),
+                traceId
+        );
+    }
+
+    /**
+     * 현재 요청의 스냅샷 (필터를 거치지 않은 스레드면 null)
+     */
+    public static LogRequestContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 요청의 스냅샷, 없으면 주어진 HTTP 요청에서 생성
+     */
+    public static LogRequestContext resolve(HttpServletRequest request) {
+        LogRequestContext context = CURRENT.get();
+        return context != null ? context : capture(request, null);
+    }
+
+    /**
+     * 현재 스레드에 스냅샷 보관 (LogRequestContextFilter 전용)
+     */
+    public static void bind(LogRequestContext context) {
+        CURRENT.set(context);
+    }
+
+    /**
+     * 현재 스레드의 스냅샷 제거 (LogRequestContextFilter 전용)
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
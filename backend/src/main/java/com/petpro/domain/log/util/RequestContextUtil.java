@@ -1,21 +1,36 @@
 package com.petpro.domain.log.util;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.petpro.domain.log.entity.DeviceType;
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.util.Locale;
+
 /**
  * HTTP 요청 컨텍스트 유틸리티
  *
  * IP 주소, UserAgent, DeviceType 추출
+ * 실제 트래픽의 UserAgent 종류는 많지 않으므로 디바이스 유형 판별 결과를 UserAgent 문자열별로 최근 사용 순 캐시에 보관합니다.
  */
 public final class RequestContextUtil {
 
+    /** 디바이스 유형 캐시 최대 항목 수 */
+    static final int DEVICE_TYPE_CACHE_SIZE = 2048;
+
+    /** 이보다 긴 UserAgent는 캐시하지 않음 (캐시 메모리 상한, user_agent 컬럼 길이 500) */
+    static final int MAX_CACHED_USER_AGENT_LENGTH = 512;
+
+    private static final LoadingCache<String, DeviceType> DEVICE_TYPES = Caffeine.newBuilder()
+            .maximumSize(DEVICE_TYPE_CACHE_SIZE)
+            .build(RequestContextUtil::classifyDeviceType);
+
     private RequestContextUtil() {
     }
 
     /**
      * 클라이언트 IP 주소 추출
-     * X-Forwarded-For 헤더를 우선 확인합니다.
+     * X-Forwarded-For 헤더를 우선 확인하며, 여러 홉이 있으면 첫 번째(원 클라이언트) 값만 사용합니다.
      */
     public static String getClientIp(HttpServletRequest request) {
         if (request == null) {
@@ -24,7 +39,8 @@ public final class RequestContextUtil {
 
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
+            int comma = xForwardedFor.indexOf(',');
+            return (comma >= 0 ? xForwardedFor.substring(0, comma) : xForwardedFor).trim();
         }
 
         String xRealIp = request.getHeader("X-Real-IP");
@@ -46,14 +62,27 @@ public final class RequestContextUtil {
     }
 
     /**
-     * UserAgent 문자열로 디바이스 유형 판별
+     * UserAgent 문자열로 디바이스 유형 판별 (캐시 사용)
      */
     public static DeviceType detectDeviceType(String userAgent) {
         if (userAgent == null || userAgent.isEmpty()) {
             return DeviceType.OTHER;
         }
+        if (userAgent.length() > MAX_CACHED_USER_AGENT_LENGTH) {
+            return classifyDeviceType(userAgent);
+        }
+        return DEVICE_TYPES.get(userAgent);
+    }
+
+    /**
+     * UserAgent 문자열로 디바이스 유형 판별 (캐시 없이 매번 계산)
+     */
+    static DeviceType classifyDeviceType(String userAgent) {
+        if (userAgent == null || userAgent.isEmpty()) {
+            return DeviceType.OTHER;
+        }
 
-        String ua = userAgent.toLowerCase();
+        String ua = userAgent.toLowerCase(Locale.ROOT);
 
         if (ua.contains("tablet") || ua.contains("ipad") || ua.contains("playbook")
                 || ua.contains("silk") || (ua.contains("android") && !ua.contains("mobile"))) {
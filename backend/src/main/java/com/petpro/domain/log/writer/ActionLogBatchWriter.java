@@ -0,0 +1,322 @@
+package com.petpro.domain.log.writer;
+
+import com.petpro.domain.log.config.LogWriterConfig;
+import com.petpro.domain.log.entity.AdminActionLog;
+import com.petpro.domain.log.entity.UserActionLog;
+import com.petpro.domain.log.repository.ActionLogJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 행위 로그 일괄 저장기
+ *
+ * 요청 스레드는 로그를 유형별 링 버퍼(LogRingBuffer)에 넣고 바로 반환합니다.
+ * writer 스레드는 버퍼를 비워 batchSize만큼 모이거나 첫 건 이후 flushInterval이 지나면
+ * ActionLogJdbcRepository로 한 트랜잭션에 묶어 저장합니다.
+ * 버퍼가 가득 찼거나 종료 중이면 로그를 디스크 스풀(ActionLogSpool)에 기록하므로 호출 스레드는 로그 DB를 기다리지 않습니다.
+ * 로그 DB 장애로 저장에 실패한 묶음도 스풀에 기록하고, 이후 spool.bypassDuration 동안은 DB를 시도하지 않고 스풀에 바로 기록합니다.
+ * 데이터 오류(LogWriteErrors.isDataError, 값 초과·제약 위반 등)로 실패한 묶음은 장애가 아니므로 한 건씩 다시 저장하고,
+ * 다시 실패한 행만 버립니다. (스풀에 넣으면 재저장에서도 같은 오류가 반복됨)
+ * 스풀에 기록된 로그는 ActionLogSpoolReplayer가 DB 복구 후 다시 저장합니다.
+ * 스풀이 꺼져 있거나 스풀 기록에 실패하면 버퍼 초과분은 호출 스레드에서 DB에 바로 저장하고, 저장 실패 묶음은 버립니다.
+ *
+ * 메트릭 (type 태그: user, admin)
+ * - log.writer.queue.depth: 버퍼에 대기 중인 로그 수
+ * - log.writer.flush.size: 한 번에 저장한 건수
+ * - log.writer.flush.latency: 묶음 저장 시간
+ * - log.writer.spooled: 스풀에 기록한 건수
+ * - log.writer.caller.writes: 버퍼·스풀을 거치지 않고 호출 스레드에서 저장한 건수
+ * - log.writer.failed: 저장에 실패해 버린 건수
+ * - log.writer.rejected: 데이터 오류로 버린 건수
+ */
+@Slf4j
+@Component
+public class ActionLogBatchWriter {
+
+    /** 버퍼가 비었을 때 writer 스레드 대기 시간 */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final LogWriterConfig config;
+    private final ActionLogSpool spool;
+    private final Lane<UserActionLog> userLane;
+    private final Lane<AdminActionLog> adminLane;
+    private final List<Thread> writers = new ArrayList<>();
+
+    private volatile boolean running;
+
+    /** DB 저장 실패 후 bypassUntil(System.nanoTime) 전까지는 DB를 시도하지 않고 스풀에 기록 */
+    private volatile boolean bypassing;
+    private volatile long bypassUntil;
+
+    public ActionLogBatchWriter(ActionLogJdbcRepository repository, ActionLogSpool spool, LogWriterConfig config,
+                                MeterRegistry meterRegistry) {
+        this.config = config;
+        this.spool = spool;
+        this.userLane = new Lane<>("user", repository::insertUserActions, meterRegistry);
+        this.adminLane = new Lane<>("admin", repository::insertAdminActions, meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < Math.max(1, config.getWriterThreads()); i++) {
+            Thread writer = new Thread(this::runWriter, "action-log-writer-" + i);
+            writer.setDaemon(true);
+            writer.start();
+            writers.add(writer);
+        }
+    }
+
+    /**
+     * writer 스레드 종료 후 버퍼에 남은 로그를 모두 저장 (DB 저장에 실패하면 스풀에 기록)
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        long deadline = System.nanoTime() + config.getShutdownTimeout().toNanos();
+        for (Thread writer : writers) {
+            LockSupport.unpark(writer);
+            try {
+                writer.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        writers.clear();
+        userLane.drainAll();
+        adminLane.drainAll();
+    }
+
+    public void write(UserActionLog entry) {
+        userLane.enqueue(entry);
+    }
+
+    public void write(AdminActionLog entry) {
+        adminLane.enqueue(entry);
+    }
+
+    private boolean isBypassing() {
+        if (bypassing && System.nanoTime() - bypassUntil >= 0) {
+            bypassing = false;
+        }
+        return bypassing;
+    }
+
+    private void runWriter() {
+        Batch<UserActionLog> users = new Batch<>(userLane);
+        Batch<AdminActionLog> admins = new Batch<>(adminLane);
+        while (running) {
+            boolean drained = users.fill() | admins.fill();
+            long now = System.nanoTime();
+            users.flushIfDue(now);
+            admins.flushIfDue(now);
+            if (!drained) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        users.flush();
+        admins.flush();
+    }
+
+    /**
+     * 로그 유형별 버퍼, 저장 함수, 메트릭
+     */
+    private final class Lane<T> {
+        private final String type;
+        private final LogRingBuffer<T> buffer;
+        private final Consumer<List<T>> insert;
+        private final DistributionSummary flushSize;
+        private final Timer flushLatency;
+        private final Counter spooled;
+        private final Counter callerWrites;
+        private final Counter failed;
+        private final Counter rejected;
+
+        Lane(String type, Consumer<List<T>> insert, MeterRegistry meterRegistry) {
+            this.type = type;
+            this.buffer = new LogRingBuffer<>(config.getBufferCapacity());
+            this.insert = insert;
+            Gauge.builder("log.writer.queue.depth", buffer, LogRingBuffer::size)
+                    .description("Action logs waiting in the ring buffer")
+                    .tag("type", type)
+                    .register(meterRegistry);
+            this.flushSize = DistributionSummary.builder("log.writer.flush.size")
+                    .description("Action logs written per batch")
+                    .tag("type", type)
+                    .register(meterRegistry);
+            this.flushLatency = Timer.builder("log.writer.flush.latency")
+                    .description("Action log batch insert latency")
+                    .tag("type", type)
+                    .register(meterRegistry);
+            this.spooled = Counter.builder("log.writer.spooled")
+                    .description("Action logs written to the disk spool instead of the log database")
+                    .tag("type", type)
+                    .register(meterRegistry);
+            this.callerWrites = Counter.builder("log.writer.caller.writes")
+                    .description("Action logs written on the caller thread because the buffer was full and the spool was unavailable")
+                    .tag("type", type)
+                    .register(meterRegistry);
+            this.failed = Counter.builder("log.writer.failed")
+                    .description("Action logs dropped after a failed batch insert")
+                    .tag("type", type)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("log.writer.rejected")
+                    .description("Action logs dropped because the log database rejected their values")
+                    .tag("type", type)
+                    .register(meterRegistry);
+        }
+
+        void enqueue(T entry) {
+            if (running && buffer.offer(entry)) {
+                return;
+            }
+            List<T> single = List.of(entry);
+            if (spool(single)) {
+                return;
+            }
+            callerWrites.increment();
+            flush(single);
+        }
+
+        void flush(List<T> batch) {
+            if (batch.isEmpty()) {
+                return;
+            }
+            if (isBypassing() && spool(batch)) {
+                return;
+            }
+            long startedAt = System.nanoTime();
+            try {
+                insert.accept(batch);
+                flushSize.record(batch.size());
+            } catch (Exception e) {
+                if (LogWriteErrors.isDataError(e)) {
+                    insertOneByOne(batch, e);
+                } else {
+                    onOutage(batch, e);
+                }
+            } finally {
+                flushLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        /**
+         * 데이터 오류로 실패한 묶음을 한 건씩 저장 (다시 데이터 오류가 나는 행은 버리고, 장애면 남은 행을 스풀)
+         */
+        private void insertOneByOne(List<T> batch, Exception batchError) {
+            if (batch.size() == 1) {
+                reject(batchError);
+                return;
+            }
+            int written = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                try {
+                    insert.accept(List.of(batch.get(i)));
+                    written++;
+                } catch (Exception e) {
+                    if (!LogWriteErrors.isDataError(e)) {
+                        onOutage(batch.subList(i, batch.size()), e);
+                        break;
+                    }
+                    reject(e);
+                }
+            }
+            if (written > 0) {
+                flushSize.record(written);
+            }
+        }
+
+        private void reject(Exception e) {
+            rejected.increment();
+            log.warn("Log database rejected an action log, dropping it: type={}, error={}", type, e.getMessage());
+        }
+
+        /**
+         * 로그 DB 장애: 스풀에 기록하고 bypassDuration 동안 DB를 건너뜀
+         */
+        private void onOutage(List<T> batch, Exception e) {
+            if (spool.isEnabled()) {
+                bypassUntil = System.nanoTime() + config.getSpool().getBypassDuration().toNanos();
+                bypassing = true;
+            }
+            if (spool(batch)) {
+                log.warn("Log database write failed, spooled action log batch: type={}, size={}, error={}",
+                        type, batch.size(), e.getMessage());
+            } else {
+                failed.increment(batch.size());
+                log.error("Failed to write action log batch: type={}, size={}, error={}",
+                        type, batch.size(), e.getMessage(), e);
+            }
+        }
+
+        private boolean spool(List<T> batch) {
+            if (spool.append(batch)) {
+                spooled.increment(batch.size());
+                return true;
+            }
+            return false;
+        }
+
+        void drainAll() {
+            List<T> batch = new ArrayList<>(config.getBatchSize());
+            while (buffer.drainTo(batch, config.getBatchSize()) > 0) {
+                flush(List.copyOf(batch));
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * writer 스레드별 저장 대기 묶음
+     */
+    private final class Batch<T> {
+        private final Lane<T> lane;
+        private final List<T> pending;
+        private long firstAddedAt;
+
+        Batch(Lane<T> lane) {
+            this.lane = lane;
+            this.pending = new ArrayList<>(config.getBatchSize());
+        }
+
+        /**
+         * 버퍼에서 batchSize까지 채움
+         *
+         * @return 새로 꺼낸 로그가 있으면 true
+         */
+        boolean fill() {
+            boolean wasEmpty = pending.isEmpty();
+            int drained = lane.buffer.drainTo(pending, config.getBatchSize() - pending.size());
+            if (drained > 0 && wasEmpty) {
+                firstAddedAt = System.nanoTime();
+            }
+            return drained > 0;
+        }
+
+        void flushIfDue(long now) {
+            if (pending.size() >= config.getBatchSize()
+                    || (!pending.isEmpty() && now - firstAddedAt >= config.getFlushInterval().toNanos())) {
+                flush();
+            }
+        }
+
+        void flush() {
+            lane.flush(List.copyOf(pending));
+            pending.clear();
+        }
+    }
+}
@@ -0,0 +1,422 @@
+package com.petpro.domain.log.writer;
+
+import com.petpro.domain.log.config.LogWriterConfig;
+import com.petpro.domain.log.entity.AdminActionLog;
+import com.petpro.domain.log.entity.UserActionLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * 행위 로그 디스크 스풀 (로그 DB 장애·지연 시 임시 저장소)
+ *
+ * 로그 DB에 저장하지 못한 로그를 로컬 디스크의 추가 전용 세그먼트 파일에 기록하고,
+ * ActionLogSpoolReplayer가 DB 복구 후 순서대로 다시 저장합니다.
+ *
+ * 세그먼트 파일 (segment-{순번}.spool, segmentSize 크기로 메모리 매핑)
+ * - 헤더 16바이트: [magic 4][version 4][재저장 완료 위치 8]
+ * - 레코드: [길이 4][CRC32 4][본문(ActionLogSpoolCodec)], 길이 0은 끝
+ * 쓰기는 매핑된 버퍼에 복사만 하므로 DB나 fsync를 기다리지 않습니다. (프로세스가 죽어도 OS 페이지 캐시에 남음)
+ * 세그먼트를 닫을 때와 종료 시 force()로 디스크에 내려 씁니다.
+ *
+ * 재저장은 닫힌 세그먼트만 대상으로 하며, 묶음을 저장할 때마다 헤더의 완료 위치를 갱신하므로
+ * 재저장 도중 중단되어도 다음 실행은 이어서 진행합니다. (중단 직전 한 묶음은 중복 저장될 수 있음)
+ * 끝까지 저장한 세그먼트는 삭제합니다.
+ * 데이터 오류(LogWriteErrors.isDataError)로 spool.maxDataErrorAttempts번 연속 실패한 세그먼트는
+ * dead-letter 하위 디렉터리로 옮겨 뒤의 세그먼트를 막지 않게 합니다. (확인 후 수동 처리)
+ * 애플리케이션 시작 시 디렉터리에 남은 세그먼트는 모두 닫힌 세그먼트로 보고 재저장 대상에 포함합니다.
+ */
+@Slf4j
+@Component
+public class ActionLogSpool {
+
+    private static final int MAGIC = 0x41434C47; // "ACLG"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int CHECKPOINT_OFFSET = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".spool";
+    private static final String DEAD_LETTER_DIRECTORY = "dead-letter";
+
+    private final LogWriterConfig.Spool config;
+    private final Counter appendedCounter;
+    private final Counter replayedCounter;
+    private final Counter deadLetteredCounter;
+    private final AtomicLong pendingRecords = new AtomicLong();
+
+    /** 세그먼트별 연속 데이터 오류 횟수 */
+    private final Map<Path, Integer> dataErrorAttempts = new ConcurrentHashMap<>();
+
+    private Path directory;
+    private long nextSequence;
+    private Segment active;
+
+    public ActionLogSpool(LogWriterConfig config, MeterRegistry meterRegistry) {
+        this.config = config.getSpool();
+        this.appendedCounter = Counter.builder("log.spool.appended")
+                .description("Action logs written to the disk spool")
+                .register(meterRegistry);
+        this.replayedCounter = Counter.builder("log.spool.replayed")
+                .description("Spooled action logs replayed into the log database")
+                .register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("log.spool.dead_lettered")
+                .description("Spooled action logs moved to the dead-letter directory after repeated data errors")
+                .register(meterRegistry);
+        Gauge.builder("log.spool.pending", pendingRecords, AtomicLong::get)
+                .description("Spooled action logs waiting for replay")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스풀 디렉터리 준비 및 남은 세그먼트 집계
+     * 디렉터리가 없거나 상대 경로이면 시작에 실패합니다.
+     */
+    @PostConstruct
+    public synchronized void open() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        Path configured = config.getDirectory() != null && !config.getDirectory().isBlank()
+                ? Path.of(config.getDirectory()) : null;
+        if (configured == null || !configured.isAbsolute()) {
+            // 상대 경로는 실행 위치에 따라 달라져 재시작 후 남은 세그먼트를 찾지 못할 수 있음
+            throw new IllegalStateException(
+                    "log.writer.spool.directory must be an absolute path when the spool is enabled: "
+                            + config.getDirectory());
+        }
+        try {
+            directory = configured;
+            Files.createDirectories(directory);
+            long records = 0;
+            List<Path> segments = listSegments();
+            for (Path segment : segments) {
+                nextSequence = Math.max(nextSequence, sequenceOf(segment) + 1);
+                records += countRecords(segment);
+            }
+            pendingRecords.set(records);
+            if (records > 0) {
+                log.warn("Action log spool has pending records from a previous run: segments={}, records={}",
+                        segments.size(), records);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open action log spool: " + config.getDirectory(), e);
+        }
+    }
+
+    /**
+     * 종료 시 현재 세그먼트를 디스크에 내려 쓰고 닫음
+     */
+    @PreDestroy
+    public synchronized void close() {
+        sealActive();
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled() && directory != null;
+    }
+
+    public boolean hasPending() {
+        return pendingRecords.get() > 0;
+    }
+
+    public long pendingRecords() {
+        return pendingRecords.get();
+    }
+
+    /**
+     * 로그 추가
+     *
+     * @return 모두 기록했으면 true, 스풀이 꺼져 있거나 디스크 오류면 false
+     */
+    public synchronized boolean append(Collection<?> entries) {
+        if (!isEnabled()) {
+            return false;
+        }
+        try {
+            for (Object entry : entries) {
+                byte[] payload = ActionLogSpoolCodec.encode(entry);
+                int required = RECORD_HEADER_SIZE + payload.length;
+                if (HEADER_SIZE + required + Integer.BYTES > segmentSize()) {
+                    log.error("Action log record is larger than a spool segment and was dropped: size={}",
+                            payload.length);
+                    continue;
+                }
+                if (active == null || active.remaining() < required + Integer.BYTES) {
+                    sealActive();
+                    active = Segment.create(directory.resolve(PREFIX + String.format("%020d", nextSequence++) + SUFFIX),
+                            segmentSize());
+                }
+                active.append(payload);
+                appendedCounter.increment();
+                pendingRecords.incrementAndGet();
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to append to action log spool: {}", e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 닫힌 세그먼트 목록 (현재 쓰기 중인 세그먼트 제외, 순번순)
+     */
+    public synchronized List<Path> sealedSegments() throws IOException {
+        if (!isEnabled()) {
+            return List.of();
+        }
+        List<Path> segments = listSegments();
+        if (active != null) {
+            segments.remove(active.path);
+        }
+        return segments;
+    }
+
+    /**
+     * 재저장 대상 세그먼트 목록 (현재 세그먼트를 닫은 뒤 순번순)
+     */
+    public synchronized List<Path> sealForReplay() throws IOException {
+        if (!isEnabled()) {
+            return List.of();
+        }
+        sealActive();
+        return listSegments();
+    }
+
+    /**
+     * 닫힌 세그먼트를 묶음 단위로 재저장
+     *
+     * 묶음마다 sink가 성공하면 완료 위치를 기록하고, 끝까지 저장하면 파일을 삭제합니다.
+     * sink가 예외를 던지면 그대로 전파하며 이미 완료한 위치는 유지됩니다.
+     * 단, 데이터 오류가 maxDataErrorAttempts번째 반복되면 전파하지 않고 세그먼트를 dead-letter 디렉터리로 옮깁니다.
+     *
+     * @return 재저장한 레코드 수
+     */
+    public int replay(Path segment, int batchSize, ReplaySink sink) throws IOException {
+        int replayed = 0;
+        boolean deadLetter = false;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            if (!hasValidHeader(buffer)) {
+                Path quarantined = segment.resolveSibling(segment.getFileName() + ".corrupt");
+                log.warn("Action log spool segment has an invalid header, moving aside: {}", quarantined);
+                Files.move(segment, quarantined);
+                return 0;
+            }
+            List<UserActionLog> users = new ArrayList<>();
+            List<AdminActionLog> admins = new ArrayList<>();
+            int position = (int) buffer.getLong(CHECKPOINT_OFFSET);
+            while (true) {
+                int next = nextRecord(buffer, position);
+                if (next > 0) {
+                    byte[] payload = new byte[next - position - RECORD_HEADER_SIZE];
+                    buffer.get(position + RECORD_HEADER_SIZE, payload);
+                    try {
+                        Object entry = ActionLogSpoolCodec.decode(payload);
+                        if (entry instanceof UserActionLog userLog) {
+                            users.add(userLog);
+                        } else {
+                            admins.add((AdminActionLog) entry);
+                        }
+                    } catch (RuntimeException e) {
+                        log.warn("Skipping undecodable action log spool record in {} at offset {}: {}",
+                                segment.getFileName(), position, e.getMessage());
+                        pendingRecords.decrementAndGet();
+                    }
+                    position = next;
+                }
+                if (users.size() + admins.size() >= batchSize || (next <= 0 && users.size() + admins.size() > 0)) {
+                    try {
+                        sink.write(users, admins);
+                    } catch (RuntimeException e) {
+                        if (!LogWriteErrors.isDataError(e)
+                                || dataErrorAttempts.merge(segment, 1, Integer::sum) < config.getMaxDataErrorAttempts()) {
+                            throw e;
+                        }
+                        log.error("Action log spool segment keeps failing with data errors: segment={}, error={}",
+                                segment.getFileName(), e.getMessage());
+                        deadLetter = true;
+                        break;
+                    }
+                    dataErrorAttempts.remove(segment);
+                    int written = users.size() + admins.size();
+                    buffer.putLong(CHECKPOINT_OFFSET, position);
+                    buffer.force();
+                    replayed += written;
+                    replayedCounter.increment(written);
+                    pendingRecords.addAndGet(-written);
+                    users.clear();
+                    admins.clear();
+                }
+                if (next <= 0) {
+                    break;
+                }
+            }
+        }
+        dataErrorAttempts.remove(segment);
+        if (deadLetter) {
+            moveToDeadLetter(segment);
+        } else {
+            Files.deleteIfExists(segment);
+        }
+        return replayed;
+    }
+
+    /**
+     * 세그먼트를 dead-letter 디렉터리로 옮기고 남은 레코드를 대기 건수에서 뺌 (완료 위치는 헤더에 남아 있음)
+     */
+    private void moveToDeadLetter(Path segment) throws IOException {
+        long remaining = countRecords(segment);
+        Path target = segment.resolveSibling(DEAD_LETTER_DIRECTORY).resolve(segment.getFileName());
+        Files.createDirectories(target.getParent());
+        Files.move(segment, target);
+        pendingRecords.addAndGet(-remaining);
+        deadLetteredCounter.increment(remaining);
+        log.error("Moved action log spool segment to dead-letter: target={}, records={}", target, remaining);
+    }
+
+    private void sealActive() {
+        if (active != null) {
+            try {
+                active.close();
+            } catch (IOException e) {
+                log.error("Failed to close action log spool segment: {}", e.getMessage(), e);
+            }
+            active = null;
+        }
+    }
+
+    private int segmentSize() {
+        return (int) Math.min(Integer.MAX_VALUE, config.getSegmentSize().toBytes());
+    }
+
+    private List<Path> listSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            stream.forEach(segments::add);
+        }
+        segments.sort((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)));
+        return segments;
+    }
+
+    private long countRecords(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (!hasValidHeader(buffer)) {
+                return 0;
+            }
+            long count = 0;
+            int position = (int) buffer.getLong(CHECKPOINT_OFFSET);
+            for (int next = nextRecord(buffer, position); next > 0; next = nextRecord(buffer, next)) {
+                count++;
+            }
+            return count;
+        }
+    }
+
+    private static boolean hasValidHeader(MappedByteBuffer buffer) {
+        return buffer.limit() >= HEADER_SIZE && buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION;
+    }
+
+    /**
+     * position의 레코드 다음 위치 (끝이거나 잘린·손상된 레코드면 -1)
+     */
+    private static int nextRecord(MappedByteBuffer buffer, int position) {
+        if (position + RECORD_HEADER_SIZE > buffer.limit()) {
+            return -1;
+        }
+        int length = buffer.getInt(position);
+        if (length <= 0 || position + RECORD_HEADER_SIZE + length > buffer.limit()) {
+            return -1;
+        }
+        byte[] payload = new byte[length];
+        buffer.get(position + RECORD_HEADER_SIZE, payload);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+            log.warn("Corrupted action log spool record at offset {}, ignoring the rest of the segment", position);
+            return -1;
+        }
+        return position + RECORD_HEADER_SIZE + length;
+    }
+
+    private static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    /**
+     * 재저장 대상 (한 번의 호출이 한 트랜잭션이어야 완료 위치와 일치)
+     */
+    @FunctionalInterface
+    public interface ReplaySink {
+        void write(List<UserActionLog> users, List<AdminActionLog> admins);
+    }
+
+    /**
+     * 쓰기 중인 세그먼트
+     */
+    private static final class Segment {
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+
+        private Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment create(Path path, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putLong(HEADER_SIZE);
+            return new Segment(path, channel, buffer);
+        }
+
+        int remaining() {
+            return buffer.remaining();
+        }
+
+        /**
+         * 본문과 CRC를 먼저 쓰고 길이를 마지막에 써서, 중간에 중단되면 길이 0(끝)으로 읽히게 함
+         */
+        void append(byte[] payload) {
+            int position = buffer.position();
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            buffer.putInt(position + Integer.BYTES, (int) crc.getValue());
+            buffer.put(position + RECORD_HEADER_SIZE, payload);
+            buffer.putInt(position, payload.length);
+            buffer.position(position + RECORD_HEADER_SIZE + payload.length);
+        }
+
+        void close() throws IOException {
+            buffer.force();
+            channel.close();
+        }
+    }
+}
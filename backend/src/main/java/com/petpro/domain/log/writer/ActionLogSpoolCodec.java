@@ -0,0 +1,151 @@
+package com.petpro.domain.log.writer;
+
+import com.petpro.domain.log.entity.AdminActionLog;
+import com.petpro.domain.log.entity.AdminActionType;
+import com.petpro.domain.log.entity.DeviceType;
+import com.petpro.domain.log.entity.TargetType;
+import com.petpro.domain.log.entity.UserActionLog;
+import com.petpro.domain.log.entity.UserActionType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 스풀 레코드 직렬화
+ *
+ * 형식: [유형 1바이트][필드...] (가변 길이 문자열은 길이 + UTF-8, null은 길이 -1)
+ * 열거형은 이름으로 저장하므로 상수 순서가 바뀌어도 다시 읽을 수 있습니다.
+ */
+final class ActionLogSpoolCodec {
+
+    static final byte USER = 1;
+    static final byte ADMIN = 2;
+
+    private ActionLogSpoolCodec() {
+    }
+
+    static byte[] encode(Object entry) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            if (entry instanceof UserActionLog log) {
+                out.writeByte(USER);
+                out.writeLong(log.getUserId());
+                writeString(out, name(log.getActionType()));
+                writeString(out, name(log.getTargetType()));
+                writeLong(out, log.getTargetId());
+                writeString(out, log.getDescription());
+                writeString(out, log.getDetailJson());
+                writeString(out, log.getIpAddress());
+                writeString(out, log.getUserAgent());
+                writeString(out, name(log.getDeviceType()));
+                writeTime(out, log.getCreatedAt());
+            } else if (entry instanceof AdminActionLog log) {
+                out.writeByte(ADMIN);
+                out.writeLong(log.getAdminId());
+                writeString(out, name(log.getActionType()));
+                writeString(out, name(log.getTargetType()));
+                writeLong(out, log.getTargetId());
+                writeString(out, log.getDescription());
+                writeString(out, log.getDetailJson());
+                writeString(out, log.getIpAddress());
+                writeString(out, log.getUserAgent());
+                writeTime(out, log.getCreatedAt());
+            } else {
+                throw new IllegalArgumentException("Unsupported action log type: " + entry.getClass().getName());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Object decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte type = in.readByte();
+            if (type == USER) {
+                return UserActionLog.builder()
+                        .userId(in.readLong())
+                        .actionType(UserActionType.valueOf(readString(in)))
+                        .targetType(enumOrNull(TargetType.class, readString(in)))
+                        .targetId(readLong(in))
+                        .description(readString(in))
+                        .detailJson(readString(in))
+                        .ipAddress(readString(in))
+                        .userAgent(readString(in))
+                        .deviceType(enumOrNull(DeviceType.class, readString(in)))
+                        .createdAt(readTime(in))
+                        .build();
+            }
+            if (type == ADMIN) {
+                return AdminActionLog.builder()
+                        .adminId(in.readLong())
+                        .actionType(AdminActionType.valueOf(readString(in)))
+                        .targetType(enumOrNull(TargetType.class, readString(in)))
+                        .targetId(readLong(in))
+                        .description(readString(in))
+                        .detailJson(readString(in))
+                        .ipAddress(readString(in))
+                        .userAgent(readString(in))
+                        .createdAt(readTime(in))
+                        .build();
+            }
+            throw new IllegalArgumentException("Unknown spool record type: " + type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    private static <E extends Enum<E>> E enumOrNull(Class<E> type, String name) {
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        LocalDateTime time = value != null ? value : LocalDateTime.now();
+        out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(time.getNano());
+    }
+
+    private static LocalDateTime readTime(DataInputStream in) throws IOException {
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
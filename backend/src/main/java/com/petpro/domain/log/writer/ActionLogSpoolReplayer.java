@@ -0,0 +1,104 @@
+package com.petpro.domain.log.writer;
+
+import com.petpro.domain.log.config.LogWriterConfig;
+import com.petpro.domain.log.repository.ActionLogJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 행위 로그 스풀 재저장기
+ *
+ * spool.replayInterval마다 스풀에 남은 로그를 로그 DB에 다시 저장합니다.
+ * 닫힌 세그먼트를 먼저 처리하고, 모두 성공했을 때만 쓰기 중인 세그먼트를 닫아 이어서 처리합니다.
+ * (DB 장애 중에 매 주기마다 새 세그먼트가 생기지 않도록)
+ * DB 저장에 실패하면 완료 위치를 유지한 채 다음 주기에 다시 시도합니다.
+ * 데이터 오류로 계속 실패하는 세그먼트는 ActionLogSpool이 dead-letter 디렉터리로 옮기므로 뒤의 세그먼트를 막지 않습니다.
+ */
+@Slf4j
+@Component
+public class ActionLogSpoolReplayer {
+
+    private final ActionLogSpool spool;
+    private final ActionLogJdbcRepository repository;
+    private final LogWriterConfig config;
+
+    private ScheduledExecutorService replayer;
+
+    public ActionLogSpoolReplayer(ActionLogSpool spool, ActionLogJdbcRepository repository, LogWriterConfig config) {
+        this.spool = spool;
+        this.repository = repository;
+        this.config = config;
+    }
+
+    /**
+     * 애플리케이션 시작 시 주기적 재저장 예약 (이전 실행에서 남은 스풀 포함)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!spool.isEnabled()) {
+            return;
+        }
+        long intervalMs = config.getSpool().getReplayInterval().toMillis();
+        replayer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "action-log-spool-replayer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        replayer.scheduleWithFixedDelay(this::replayQuietly, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (replayer != null) {
+            replayer.shutdown();
+            if (!replayer.awaitTermination(config.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                replayer.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * 스풀에 남은 로그 재저장
+     *
+     * @return 재저장한 로그 수
+     */
+    public int replayPending() throws IOException {
+        if (!spool.hasPending()) {
+            return 0;
+        }
+        int replayed = 0;
+        for (Path segment : spool.sealedSegments()) {
+            replayed += replay(segment);
+        }
+        if (spool.hasPending()) {
+            for (Path segment : spool.sealForReplay()) {
+                replayed += replay(segment);
+            }
+        }
+        if (replayed > 0) {
+            log.info("Replayed spooled action logs: count={}, remaining={}", replayed, spool.pendingRecords());
+        }
+        return replayed;
+    }
+
+    private int replay(Path segment) throws IOException {
+        return spool.replay(segment, config.getBatchSize(), repository::insertAll);
+    }
+
+    private void replayQuietly() {
+        try {
+            replayPending();
+        } catch (Exception e) {
+            log.warn("Action log spool replay deferred: pending={}, error={}", spool.pendingRecords(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.petpro.domain.log.writer;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 잠금 없는 다중 생산자/다중 소비자 링 버퍼
+ *
+ * 슬롯마다 순번(sequence)을 두어 생산자와 소비자가 CAS 한 번으로 위치를 차지합니다. (Vyukov bounded MPMC queue)
+ * - 생산자: 슬롯 순번 == 쓰기 위치이면 차지 후 원소를 쓰고 순번을 위치 + 1로 공개
+ * - 소비자: 슬롯 순번 == 읽기 위치 + 1이면 차지 후 원소를 꺼내고 순번을 위치 + 용량으로 돌려줌
+ * 가득 차면 offer()가 즉시 false를 반환하므로 호출 스레드가 대기하지 않습니다.
+ *
+ * @param <E> 원소 타입 (null 불가)
+ */
+public final class LogRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong writePosition = new AtomicLong();
+    private final AtomicLong readPosition = new AtomicLong();
+
+    /**
+     * @param requestedCapacity 최소 용량 (2의 거듭제곱으로 올림)
+     */
+    public LogRingBuffer(int requestedCapacity) {
+        if (requestedCapacity <= 0 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30: " + requestedCapacity);
+        }
+        this.capacity = requestedCapacity == 1 ? 1 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 원소 추가
+     *
+     * @return 버퍼가 가득 차 넣지 못했으면 false
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        long position = writePosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (writePosition.compareAndSet(position, position + 1)) {
+                    elements.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = writePosition.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = writePosition.get();
+            }
+        }
+    }
+
+    /**
+     * 원소 하나 꺼내기
+     *
+     * @return 비어 있으면 null
+     */
+    public E poll() {
+        long position = readPosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - (position + 1);
+            if (diff == 0) {
+                if (readPosition.compareAndSet(position, position + 1)) {
+                    E element = elements.get(index);
+                    elements.lazySet(index, null);
+                    sequences.set(index, position + capacity);
+                    return element;
+                }
+                position = readPosition.get();
+            } else if (diff < 0) {
+                return null;
+            } else {
+                position = readPosition.get();
+            }
+        }
+    }
+
+    /**
+     * 최대 maxElements개를 꺼내 sink에 추가
+     *
+     * @return 꺼낸 원소 수
+     */
+    public int drainTo(Collection<? super E> sink, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            E element = poll();
+            if (element == null) {
+                break;
+            }
+            sink.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * 현재 원소 수 (동시 변경 중에는 근삿값)
+     */
+    public int size() {
+        long size = writePosition.get() - readPosition.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
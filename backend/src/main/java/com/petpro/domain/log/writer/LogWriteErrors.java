@@ -0,0 +1,57 @@
+package com.petpro.domain.log.writer;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.DataTruncation;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Set;
+
+/**
+ * 행위 로그 저장 오류 분류
+ *
+ * 데이터 오류는 특정 행의 값 때문에 실패한 것이므로 다시 시도해도 같은 결과입니다.
+ * (값 초과·형식 오류·제약 위반, 잘림) 그 외 오류(연결 실패, 시간 초과 등)는 로그 DB 장애로 봅니다.
+ */
+final class LogWriteErrors {
+
+    /** MySQL 데이터 오류 코드: 범위 초과, 잘못된 날짜·시간 값, 잘못된 문자열 값, 값이 너무 김 */
+    private static final Set<Integer> MYSQL_DATA_ERROR_CODES = Set.of(1264, 1292, 1366, 1406);
+
+    /** 원인 체인 탐색 깊이 (순환 참조 방지) */
+    private static final int MAX_CAUSE_DEPTH = 16;
+
+    private LogWriteErrors() {
+    }
+
+    /**
+     * 행 데이터 때문에 실패했는지 여부
+     */
+    static boolean isDataError(Throwable error) {
+        Throwable current = error;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof DataIntegrityViolationException) {
+                return true;
+            }
+            if (current instanceof SQLException sql && isDataError(sql)) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    private static boolean isDataError(SQLException error) {
+        if (error instanceof SQLDataException || error instanceof SQLIntegrityConstraintViolationException
+                || error instanceof DataTruncation) {
+            return true;
+        }
+        // SQLSTATE 22xxx: 데이터 예외, 23xxx: 무결성 제약 위반
+        String state = error.getSQLState();
+        if (state != null && (state.startsWith("22") || state.startsWith("23"))) {
+            return true;
+        }
+        return MYSQL_DATA_ERROR_CODES.contains(error.getErrorCode());
+    }
+}
@@ -0,0 +1,21 @@
+package com.petpro.domain.region.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 지역 코드 메모리 레지스트리 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.region.registry")
+public class RegionRegistryConfig {
+
+    /** 주기적 재적재 간격 (0이면 시작 시와 RegionCodeService.evictCache 호출 시(모든 노드)에만 적재) */
+    private Duration refreshInterval = Duration.ofHours(1);
+}
@@ -3,14 +3,20 @@ package com.petpro.domain.region.entity;
 import com.petpro.global.common.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * 지역 코드 엔티티
  *
  * 행정안전부의 지방자치단체 코드를 관리합니다.
  * 장례식장 데이터 필터링 및 지역별 통계에 활용됩니다.
+ *
+ * 변경이 드물어 Hibernate 2차 캐시(regionCodes 영역)에 보관합니다.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "regionCodes")
 @Table(name = "region_codes", indexes = {
     @Index(name = "idx_region_codes_parent", columnList = "parent_code"),
     @Index(name = "idx_region_codes_type", columnList = "type"),
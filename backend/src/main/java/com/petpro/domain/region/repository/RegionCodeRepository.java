@@ -2,34 +2,49 @@ package com.petpro.domain.region.repository;
 
 import com.petpro.domain.region.entity.RegionCode;
 import com.petpro.domain.region.entity.RegionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 지역 코드 레포지토리
+ *
+ * 조회 쿼리는 Hibernate 쿼리 캐시를 사용합니다. (region_codes 변경 시 자동 무효화)
+ */
 @Repository
 public interface RegionCodeRepository extends JpaRepository<RegionCode, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<RegionCode> findByCode(String code);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<RegionCode> findByTypeAndIsActiveTrueOrderBySortOrder(RegionType type);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<RegionCode> findByParentCodeAndIsActiveTrueOrderBySortOrder(String parentCode);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT r FROM RegionCode r WHERE r.type = :type ORDER BY r.sortOrder")
     List<RegionCode> findByType(@Param("type") RegionType type);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT r FROM RegionCode r WHERE r.parentCode = :parentCode ORDER BY r.sortOrder")
     List<RegionCode> findByParentCode(@Param("parentCode") String parentCode);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT COUNT(r) FROM RegionCode r WHERE r.parentCode = :parentCode AND r.isActive = true")
     long countCitiesByMetroCode(@Param("parentCode") String parentCode);
 
     boolean existsByCode(String code);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT r FROM RegionCode r WHERE r.isActive = true ORDER BY r.type, r.sortOrder")
     List<RegionCode> findAllActive();
 }
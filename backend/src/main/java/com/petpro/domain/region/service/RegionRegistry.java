@@ -0,0 +1,249 @@
+package com.petpro.domain.region.service;
+
+import com.petpro.domain.region.config.RegionRegistryConfig;
+import com.petpro.domain.region.dto.RegionResponse.*;
+import com.petpro.domain.region.entity.RegionCode;
+import com.petpro.domain.region.entity.RegionType;
+import com.petpro.domain.region.repository.RegionCodeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지역 코드 메모리 레지스트리
+ *
+ * region_codes 테이블 전체를 한 번의 조회로 읽어 불변 트리 스냅샷으로 보관합니다.
+ * - 코드별 해시 조회
+ * - 상위 코드별 하위 코드 목록 (정렬 완료)
+ * - 광역시/도 목록(활성 시/군/구 수 포함), 시/군/구 목록, 계층 구조, 활성 목록 응답을 미리 만들어 둠
+ * 조회는 스냅샷 참조만 읽으므로 트랜잭션이나 DB 연결 없이 O(1)로 처리됩니다.
+ *
+ * 적재 시점: 애플리케이션 시작, refresh() 호출(RegionCodeService.evictCache, 다른 노드의 요청은
+ * RegionRegistryRefreshBroadcaster로 전달), RegionRegistryConfig.refreshInterval 주기
+ * 재적재는 새 스냅샷을 만든 뒤 참조를 원자적으로 교체하며, 실패하면 기존 스냅샷을 유지합니다.
+ * 시작 시 적재에 실패했다면 첫 조회에서 다시 적재합니다.
+ */
+@Slf4j
+@Component
+public class RegionRegistry {
+
+    /** 정렬 순서(없으면 마지막) → id 순 (DB의 ORDER BY sort_order와 동일한 결과) */
+    private static final Comparator<RegionCode> SORT_ORDER = Comparator
+            .comparing(RegionCode::getSortOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(RegionCode::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final RegionCodeRepository regionCodeRepository;
+    private final RegionRegistryConfig config;
+
+    private volatile Snapshot snapshot;
+
+    private ScheduledExecutorService refresher;
+
+    public RegionRegistry(RegionCodeRepository regionCodeRepository, RegionRegistryConfig config) {
+        this.regionCodeRepository = regionCodeRepository;
+        this.config = config;
+    }
+
+    /**
+     * 애플리케이션 시작 시 적재 및 주기적 재적재 예약
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refreshQuietly("startup");
+        long intervalMs = config.getRefreshInterval().toMillis();
+        if (intervalMs > 0) {
+            refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "region-registry-refresher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            refresher.scheduleWithFixedDelay(() -> refreshQuietly("scheduled"),
+                    intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * 전체 재적재 (완료 후 스냅샷 교체)
+     */
+    public synchronized void refresh() {
+        long startedAt = System.nanoTime();
+        List<RegionCode> regions = regionCodeRepository.findAll();
+        this.snapshot = Snapshot.of(regions);
+        log.info("Region registry loaded: size={}, elapsed={}ms",
+                regions.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 코드로 지역 조회 (활성 여부 무관)
+     *
+     * @return 지역 정보, 없으면 null
+     */
+    public RegionDto find(String code) {
+        return code != null ? current().byCode.get(code) : null;
+    }
+
+    public boolean contains(String code) {
+        return find(code) != null;
+    }
+
+    /**
+     * 하위 지역 코드 목록 (활성 여부 무관, 정렬 순서대로)
+     */
+    public List<String> childCodes(String parentCode) {
+        return parentCode != null ? current().childCodes.getOrDefault(parentCode, List.of()) : List.of();
+    }
+
+    /**
+     * 활성 광역시/도 목록 (활성 시/군/구 수 포함)
+     */
+    public MetroListDto metros() {
+        return current().metros;
+    }
+
+    /**
+     * 지역의 활성 하위 지역 목록
+     *
+     * @return 목록, 지역 코드가 없으면 null
+     */
+    public CityListDto cities(String metroCode) {
+        return metroCode != null ? current().citiesByParent.get(metroCode) : null;
+    }
+
+    /**
+     * 활성 광역시/도와 그 활성 하위 지역 계층
+     */
+    public HierarchyListDto hierarchy() {
+        return current().hierarchy;
+    }
+
+    /**
+     * 전체 활성 지역 (유형명 → 정렬 순서대로)
+     */
+    public List<RegionDto> allActive() {
+        return current().allActive;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                refresh();
+            }
+            return snapshot;
+        }
+    }
+
+    private void refreshQuietly(String reason) {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("Failed to load region registry (reason={}): {}", reason, e.getMessage());
+        }
+    }
+
+    /**
+     * 불변 지역 트리 스냅샷
+     */
+    private static final class Snapshot {
+        private final Map<String, RegionDto> byCode;
+        private final Map<String, List<String>> childCodes;
+        private final Map<String, CityListDto> citiesByParent;
+        private final MetroListDto metros;
+        private final HierarchyListDto hierarchy;
+        private final List<RegionDto> allActive;
+
+        private Snapshot(Map<String, RegionDto> byCode, Map<String, List<String>> childCodes,
+                         Map<String, CityListDto> citiesByParent, MetroListDto metros,
+                         HierarchyListDto hierarchy, List<RegionDto> allActive) {
+            this.byCode = byCode;
+            this.childCodes = childCodes;
+            this.citiesByParent = citiesByParent;
+            this.metros = metros;
+            this.hierarchy = hierarchy;
+            this.allActive = allActive;
+        }
+
+        static Snapshot of(List<RegionCode> source) {
+            List<RegionCode> sorted = new ArrayList<>(source);
+            sorted.sort(SORT_ORDER);
+
+            Map<String, RegionDto> byCode = new HashMap<>(sorted.size() * 2);
+            Map<String, List<RegionCode>> children = new HashMap<>();
+            for (RegionCode region : sorted) {
+                byCode.put(region.getCode(), RegionDto.from(region));
+                if (region.getParentCode() != null) {
+                    children.computeIfAbsent(region.getParentCode(), key -> new ArrayList<>()).add(region);
+                }
+            }
+
+            Map<String, List<String>> childCodes = new HashMap<>(children.size() * 2);
+            children.forEach((parent, list) ->
+                    childCodes.put(parent, list.stream().map(RegionCode::getCode).toList()));
+
+            Map<String, CityListDto> citiesByParent = new HashMap<>(sorted.size() * 2);
+            List<MetroDto> metroDtos = new ArrayList<>();
+            List<HierarchyDto> hierarchyDtos = new ArrayList<>();
+            for (RegionCode region : sorted) {
+                List<RegionCode> activeChildren = children.getOrDefault(region.getCode(), List.of()).stream()
+                        .filter(RegionRegistry::isActive)
+                        .toList();
+                List<CityDto> cityDtos = activeChildren.stream().map(CityDto::from).toList();
+                citiesByParent.put(region.getCode(), CityListDto.builder()
+                        .metroCode(region.getCode())
+                        .metroName(region.getName())
+                        .cities(cityDtos)
+                        .totalCount(cityDtos.size())
+                        .build());
+
+                if (region.getType() == RegionType.METRO && isActive(region)) {
+                    metroDtos.add(MetroDto.of(region, activeChildren.size()));
+                    hierarchyDtos.add(HierarchyDto.of(region, activeChildren));
+                }
+            }
+
+            List<RegionDto> allActive = sorted.stream()
+                    .filter(RegionRegistry::isActive)
+                    .sorted(Comparator.comparing((RegionCode region) -> region.getType().name()).thenComparing(SORT_ORDER))
+                    .map(region -> byCode.get(region.getCode()))
+                    .toList();
+
+            return new Snapshot(
+                    Map.copyOf(byCode),
+                    Map.copyOf(childCodes),
+                    Map.copyOf(citiesByParent),
+                    MetroListDto.builder()
+                            .metros(List.copyOf(metroDtos))
+                            .totalCount(metroDtos.size())
+                            .build(),
+                    HierarchyListDto.builder()
+                            .regions(List.copyOf(hierarchyDtos))
+                            .build(),
+                    allActive);
+        }
+    }
+
+    private static boolean isActive(RegionCode region) {
+        return Boolean.TRUE.equals(region.getIsActive());
+    }
+}
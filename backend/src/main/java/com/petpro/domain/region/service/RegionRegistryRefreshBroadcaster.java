@@ -0,0 +1,75 @@
+package com.petpro.domain.region.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 지역 레지스트리 재적재 노드 간 전달
+ *
+ * RegionRegistry는 노드별 메모리 스냅샷이므로 RegionCodeService.evictCache를 받은 노드만 즉시 재적재됩니다.
+ * 재적재 요청을 Redis 채널로 전달하여 다른 노드도 자신의 스냅샷을 다시 읽도록 합니다.
+ *
+ * 메시지 형식: {노드 ID}
+ * 발행에 실패하면 다른 노드는 RegionRegistryConfig.refreshInterval 주기 재적재 또는 재시작 때까지 이전 스냅샷을 사용합니다.
+ */
+@Slf4j
+@Component
+public class RegionRegistryRefreshBroadcaster implements MessageListener {
+
+    static final String CHANNEL = "region:registry-refresh";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RegionRegistry regionRegistry;
+
+    /** 자신이 보낸 메시지를 구분하기 위한 노드 ID */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RegionRegistryRefreshBroadcaster(StringRedisTemplate redisTemplate,
+                                            RedisMessageListenerContainer listenerContainer,
+                                            RegionRegistry regionRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.regionRegistry = regionRegistry;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 다른 노드에 재적재 요청 (이 노드의 재적재 이후 호출)
+     */
+    public void broadcast() {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to broadcast region registry refresh: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String sender = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (sender.isEmpty() || sender.equals(nodeId)) {
+            return;
+        }
+        log.info("Region codes changed on another node, reloading region registry");
+        try {
+            regionRegistry.refresh();
+        } catch (Exception e) {
+            log.warn("Failed to reload region registry (reason=remote): {}", e.getMessage());
+        }
+    }
+}
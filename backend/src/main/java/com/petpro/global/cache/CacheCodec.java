@@ -0,0 +1,11 @@
+package com.petpro.global.cache;
+
+/**
+ * Redis 캐시 값 형식
+ */
+public enum CacheCodec {
+    /** 타입 정보를 포함한 JSON (기존 GenericJackson2JsonRedisSerializer와 같은 형식) */
+    JSON,
+    /** 타입 정보를 포함한 Smile (이진 JSON, 반복되는 속성 이름·클래스 이름을 참조로 압축) */
+    SMILE
+}
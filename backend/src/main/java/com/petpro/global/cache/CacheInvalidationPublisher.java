@@ -0,0 +1,90 @@
+package com.petpro.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * L1 캐시 무효화 메시지 발행
+ *
+ * 메시지 형식: {노드 ID}|{캐시 이름}|C (전체 삭제) 또는 {노드 ID}|{캐시 이름}|E{키} (키 삭제)
+ * 발행에 실패하면 다른 노드의 L1은 TTL이 지날 때까지 이전 값을 가질 수 있습니다.
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    private static final char SEPARATOR = '|';
+    private static final char CLEAR = 'C';
+    private static final char EVICT = 'E';
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final String channel;
+
+    /** 자신이 보낸 메시지를 구분하기 위한 노드 ID */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(nodeId + SEPARATOR + cacheName + SEPARATOR + EVICT + key);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(nodeId + SEPARATOR + cacheName + SEPARATOR + CLEAR);
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (DataAccessException e) {
+            log.warn("Failed to publish cache invalidation: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 수신한 메시지를 해석합니다.
+     *
+     * @param message 수신 메시지
+     * @return 다른 노드가 보낸 무효화 요청, 자신이 보냈거나 형식이 잘못된 메시지면 null
+     */
+    public Invalidation parse(String message) {
+        int first = message.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : message.indexOf(SEPARATOR, first + 1);
+        if (second < 0 || second + 1 >= message.length()) {
+            log.debug("Ignoring malformed cache invalidation: {}", message);
+            return null;
+        }
+        if (message.regionMatches(0, nodeId, 0, first) && first == nodeId.length()) {
+            return null;
+        }
+        String cacheName = message.substring(first + 1, second);
+        char type = message.charAt(second + 1);
+        if (type == CLEAR) {
+            return new Invalidation(cacheName, null);
+        }
+        if (type == EVICT) {
+            return new Invalidation(cacheName, message.substring(second + 2));
+        }
+        log.debug("Ignoring unknown cache invalidation type: {}", message);
+        return null;
+    }
+
+    /**
+     * 무효화 요청
+     *
+     * @param cacheName 캐시 이름
+     * @param key 삭제할 키 (null이면 전체 삭제)
+     */
+    public record Invalidation(String cacheName, String key) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.petpro.global.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+/**
+ * Redis 캐시 값 직렬화기
+ *
+ * - 쓰기: 캐시 정책의 형식(JSON 또는 SMILE)으로 직렬화하고, 최대 크기를 넘으면 CacheValueTooLargeException
+ * - 읽기: 값 앞부분(Smile 헤더 ":)\n")으로 형식을 판별하므로, 형식을 바꿔 배포해도 기존 항목을 그대로 읽음
+ *
+ * 두 형식 모두 값에 클래스 이름을 포함하여 캐시 하나에 여러 DTO 타입을 저장할 수 있습니다.
+ * DTO에서 필드가 빠져도 기존 항목을 읽을 수 있도록 알 수 없는 속성은 무시합니다.
+ */
+public class CacheValueSerializer implements RedisSerializer<Object> {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private static final ObjectMapper JSON_MAPPER = typedMapper(new JsonFactory());
+
+    private static final ObjectMapper SMILE_MAPPER = typedMapper(SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build());
+
+    private final ObjectMapper writer;
+
+    /** 최대 직렬화 크기 (0 이하이면 제한 없음) */
+    private final long maxValueBytes;
+
+    public CacheValueSerializer(CacheCodec codec, long maxValueBytes) {
+        this.writer = codec == CacheCodec.SMILE ? SMILE_MAPPER : JSON_MAPPER;
+        this.maxValueBytes = maxValueBytes;
+    }
+
+    private static ObjectMapper typedMapper(JsonFactory factory) {
+        ObjectMapper mapper = new ObjectMapper(factory);
+        mapper.registerModule(new JavaTimeModule());
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        return mapper;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY;
+        }
+        byte[] bytes;
+        try {
+            bytes = writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cache value: " + e.getMessage(), e);
+        }
+        if (maxValueBytes > 0 && bytes.length > maxValueBytes) {
+            throw new CacheValueTooLargeException(bytes.length, maxValueBytes);
+        }
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return (isSmile(bytes) ? SMILE_MAPPER : JSON_MAPPER).readValue(bytes, Object.class);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read cache value: " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean isSmile(byte[] bytes) {
+        return bytes.length >= 3 && bytes[0] == ':' && bytes[1] == ')' && bytes[2] == '\n';
+    }
+}
@@ -0,0 +1,14 @@
+package com.petpro.global.cache;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 직렬화한 캐시 값이 정책의 최대 크기를 넘은 경우
+ * SizeLimitedCache가 받아 저장만 건너뜁니다.
+ */
+public class CacheValueTooLargeException extends SerializationException {
+
+    public CacheValueTooLargeException(int size, long maxSize) {
+        super("Cache value of " + size + " bytes exceeds limit of " + maxSize + " bytes");
+    }
+}
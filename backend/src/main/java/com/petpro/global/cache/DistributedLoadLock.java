@@ -0,0 +1,77 @@
+package com.petpro.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 캐시 적재 분산 잠금 (Redis SET NX PX)
+ *
+ * 같은 키의 값을 여러 노드가 동시에 계산하지 않도록, 잠금을 얻은 노드만 계산하고 나머지는 결과가 캐시에 올라오기를 기다립니다.
+ * Redis 호출이 실패하면 잠금 없이 계산하도록 허용합니다 (가용성 우선).
+ */
+@Slf4j
+public class DistributedLoadLock {
+
+    /** 잠금 없이 진행할 때의 토큰 (해제 불필요) */
+    static final String NO_LOCK = "";
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final String keyPrefix;
+
+    public DistributedLoadLock(StringRedisTemplate redisTemplate, String keyPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+    }
+
+    /**
+     * 잠금 획득을 시도합니다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key 캐시 키
+     * @param ttl 잠금 유지 시간 (보유 노드가 죽어도 이 시간 후 풀림)
+     * @return 해제용 토큰, 다른 노드가 보유 중이면 null (Redis 장애 시 NO_LOCK)
+     */
+    public String tryLock(String cacheName, Object key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), token, ttl);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (DataAccessException e) {
+            log.debug("Cache load lock unavailable, loading without lock: {}", e.getMessage());
+            return NO_LOCK;
+        }
+    }
+
+    /**
+     * 자신이 보유한 잠금만 해제합니다.
+     */
+    public void unlock(String cacheName, Object key, String token) {
+        if (token == null || NO_LOCK.equals(token)) {
+            return;
+        }
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey(cacheName, key)), token);
+        } catch (DataAccessException e) {
+            log.debug("Failed to release cache load lock, it will expire: {}", e.getMessage());
+        }
+    }
+
+    private String lockKey(String cacheName, Object key) {
+        return keyPrefix + cacheName + "::" + key;
+    }
+}
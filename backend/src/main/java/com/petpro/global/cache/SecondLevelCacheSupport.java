@@ -0,0 +1,83 @@
+package com.petpro.global.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.petpro.global.config.SecondLevelCacheConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시(JCache + Caffeine) 구성
+ *
+ * 영속성 유닛마다 별도의 JCache CacheManager를 만들어, 쿼리 캐시 영역처럼 이름이 같은 영역이 유닛 간에 섞이지 않게 합니다.
+ * 설정된 영역은 미리 만들어 두며, 설정에 없는 영역은 시작 시 오류로 처리합니다 (크기 제한 없는 캐시가 생기지 않도록).
+ */
+@Slf4j
+public final class SecondLevelCacheSupport {
+
+    private static final String CAFFEINE_PROVIDER = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+
+    /** 테이블별 마지막 변경 시각 (쿼리 캐시 유효성 판단용, 만료·축출되면 안 됨) */
+    private static final String UPDATE_TIMESTAMPS_REGION = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    private SecondLevelCacheSupport() {
+    }
+
+    /**
+     * 영속성 유닛의 Hibernate 속성에 2차 캐시 설정을 추가합니다.
+     *
+     * @param properties EntityManagerFactory 속성
+     * @param persistenceUnit 영속성 유닛 이름
+     * @param config 2차 캐시 설정
+     */
+    public static void apply(Map<String, Object> properties, String persistenceUnit, SecondLevelCacheConfig config) {
+        properties.put("hibernate.generate_statistics", config.isStatisticsEnabled());
+        if (!config.isEnabled()) {
+            properties.put("hibernate.cache.use_second_level_cache", false);
+            properties.put("hibernate.cache.use_query_cache", false);
+            return;
+        }
+        properties.put("hibernate.cache.use_second_level_cache", true);
+        properties.put("hibernate.cache.use_query_cache", true);
+        properties.put("hibernate.cache.region.factory_class", "jcache");
+        properties.put(ConfigSettings.CACHE_MANAGER, createCacheManager(persistenceUnit, config.unit(persistenceUnit)));
+        properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        properties.put("jakarta.persistence.sharedCache.mode", "ENABLE_SELECTIVE");
+    }
+
+    static CacheManager createCacheManager(String persistenceUnit, SecondLevelCacheConfig.Unit unit) {
+        CachingProvider provider = Caching.getCachingProvider(CAFFEINE_PROVIDER);
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("hibernate-" + persistenceUnit), SecondLevelCacheSupport.class.getClassLoader());
+
+        Map<String, SecondLevelCacheConfig.Region> regions = unit.getRegions();
+        regions.forEach((name, region) -> createRegion(cacheManager, name,
+                OptionalLong.of(region.getMaxEntries()), OptionalLong.of(region.getTtl().toNanos())));
+        if (!regions.containsKey(UPDATE_TIMESTAMPS_REGION)) {
+            createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, OptionalLong.empty(), OptionalLong.empty());
+        }
+
+        log.info("Second-level cache regions created: unit={}, regions={}", persistenceUnit, regions.keySet());
+        return cacheManager;
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, OptionalLong maxEntries,
+                                     OptionalLong expireAfterWriteNanos) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maxEntries);
+        configuration.setExpireAfterWrite(expireAfterWriteNanos);
+        // Hibernate가 저장하는 항목은 분해된 불변 상태이므로 직렬화 복사 없이 참조로 보관
+        configuration.setStoreByValue(false);
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -0,0 +1,349 @@
+package com.petpro.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.petpro.global.config.datasource.DataSourceContextHolder;
+import com.petpro.global.config.datasource.DataSourceType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * 캐시 스탬피드 방지 캐시
+ *
+ * 값 로더를 받는 조회(Cache.get(key, loader), @Cacheable(sync = true))에 다음을 적용합니다.
+ * - single-flight: 같은 키의 동시 미스는 노드당 한 번만 계산하고 나머지는 그 결과를 기다림
+ * - 분산 잠금(선택): 잠금을 얻은 노드만 계산하고, 다른 노드는 결과가 캐시에 올라오기를 lockTimeout까지 기다림
+ *   (시간 안에 올라오지 않거나 Redis 장애 시에는 직접 계산)
+ * - 확률적 조기 갱신(선택, XFetch): 적중 시 "계산 시간 × beta × -ln(난수) ≥ 남은 TTL"이면 값을 바로 반환하고
+ *   백그라운드에서 다시 계산. 계산이 오래 걸리고 만료가 가까울수록 갱신 확률이 높아짐
+ *   (적재 시각·계산 시간은 이 노드가 적재한 키만 알고 있으므로, 조기 갱신은 적재한 노드에서만 일어남)
+ *
+ * 로더 없는 get/put/evict는 그대로 위임합니다.
+ * 백그라운드 갱신은 호출 스레드의 데이터소스 라우팅(Master/Slave)을 이어받아 실행합니다.
+ *
+ * 메트릭:
+ * - cache.load.coalesced{cache, scope=local|remote} (다른 계산 결과를 받아 계산을 생략한 횟수)
+ * - cache.load.early.refresh{cache} (조기 갱신 횟수)
+ */
+@Slf4j
+public class SingleFlightCache implements Cache {
+
+    /** 다른 노드의 계산 결과 확인 주기 */
+    private static final long REMOTE_POLL_INTERVAL_MS = 50;
+
+    /** 적재 정보 보관 최대 키 수 */
+    private static final long LOAD_STATS_MAX_SIZE = 10_000;
+
+    private final Cache delegate;
+
+    /** 분산 잠금 (null이면 노드 내에서만 합침) */
+    private final DistributedLoadLock loadLock;
+
+    private final Duration lockTimeout;
+
+    /** Redis TTL (null이면 조기 갱신 안 함) */
+    private final Duration ttl;
+
+    private final double earlyRefreshBeta;
+
+    /** 진행 중인 계산 */
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /** 이 노드가 적재한 키의 적재 시각·계산 시간 (조기 갱신용) */
+    private final com.github.benmanes.caffeine.cache.Cache<Object, LoadStats> loadStats;
+
+    private final Executor refreshExecutor;
+
+    private final LongSupplier clock;
+
+    private final DoubleSupplier random;
+
+    private final Counter localCoalescedCounter;
+    private final Counter remoteCoalescedCounter;
+    private final Counter earlyRefreshCounter;
+
+    public SingleFlightCache(Cache delegate, DistributedLoadLock loadLock, Duration lockTimeout,
+                             Duration ttl, double earlyRefreshBeta, MeterRegistry meterRegistry) {
+        this(delegate, loadLock, lockTimeout, ttl, earlyRefreshBeta, meterRegistry,
+                Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name("cache-refresh-" + delegate.getName() + "-", 0).factory()),
+                System::currentTimeMillis, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    SingleFlightCache(Cache delegate, DistributedLoadLock loadLock, Duration lockTimeout,
+                      Duration ttl, double earlyRefreshBeta, MeterRegistry meterRegistry,
+                      Executor refreshExecutor, LongSupplier clock, DoubleSupplier random) {
+        this.delegate = delegate;
+        this.loadLock = loadLock;
+        this.lockTimeout = lockTimeout;
+        this.ttl = ttl;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.random = random;
+        this.loadStats = Caffeine.newBuilder()
+                .maximumSize(LOAD_STATS_MAX_SIZE)
+                .expireAfterWrite(ttl != null ? ttl.toMillis() : 0, TimeUnit.MILLISECONDS)
+                .build();
+
+        this.localCoalescedCounter = coalescedCounter(meterRegistry, delegate.getName(), "local");
+        this.remoteCoalescedCounter = coalescedCounter(meterRegistry, delegate.getName(), "remote");
+        this.earlyRefreshCounter = Counter.builder("cache.load.early.refresh")
+                .description("Cache entries recomputed before expiry")
+                .tag("cache", delegate.getName())
+                .register(meterRegistry);
+    }
+
+    private static Counter coalescedCounter(MeterRegistry meterRegistry, String cache, String scope) {
+        return Counter.builder("cache.load.coalesced")
+                .description("Cache loads skipped because another load of the same key supplied the value")
+                .tag("cache", cache)
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            refreshEarlyIfDue(key, valueLoader);
+            return (T) cached.get();
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            localCoalescedCounter.increment();
+            return (T) await(running);
+        }
+        try {
+            Object value = loadOnce(key, valueLoader);
+            mine.complete(value);
+            return (T) value;
+        } catch (Throwable e) {
+            // Error(StackOverflowError 등)도 대기 중인 호출을 깨워야 함
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 분산 잠금이 있으면 잠금을 얻은 노드만 계산하고, 아니면 바로 계산합니다.
+     */
+    private Object loadOnce(Object key, Callable<?> valueLoader) {
+        if (loadLock == null) {
+            return compute(key, valueLoader);
+        }
+        String token = loadLock.tryLock(getName(), key, lockTimeout);
+        if (token == null) {
+            ValueWrapper loadedElsewhere = awaitRemoteLoad(key);
+            if (loadedElsewhere != null) {
+                remoteCoalescedCounter.increment();
+                return loadedElsewhere.get();
+            }
+            log.debug("Timed out waiting for another node to load {}::{}, loading locally", getName(), key);
+            return compute(key, valueLoader);
+        }
+        try {
+            // 잠금을 얻기 직전에 다른 노드가 적재를 마쳤을 수 있음
+            ValueWrapper cached = delegate.get(key);
+            return cached != null ? cached.get() : compute(key, valueLoader);
+        } finally {
+            loadLock.unlock(getName(), key, token);
+        }
+    }
+
+    private ValueWrapper awaitRemoteLoad(Object key) {
+        long deadline = clock.getAsLong() + lockTimeout.toMillis();
+        while (clock.getAsLong() < deadline) {
+            try {
+                Thread.sleep(REMOTE_POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            ValueWrapper cached = delegate.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return null;
+    }
+
+    private Object compute(Object key, Callable<?> valueLoader) {
+        long start = clock.getAsLong();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (value == null) {
+            // Redis 캐시는 null 값을 저장하지 않음
+            return null;
+        }
+        long now = clock.getAsLong();
+        delegate.put(key, value);
+        if (ttl != null) {
+            loadStats.put(key, new LoadStats(now, now - start));
+        }
+        return value;
+    }
+
+    /**
+     * XFetch: 남은 TTL이 (계산 시간 × beta × -ln(난수)) 이하이면 백그라운드에서 다시 계산합니다.
+     */
+    private void refreshEarlyIfDue(Object key, Callable<?> valueLoader) {
+        if (earlyRefreshBeta <= 0 || ttl == null) {
+            return;
+        }
+        LoadStats stats = loadStats.getIfPresent(key);
+        if (stats == null) {
+            return;
+        }
+        long remaining = stats.loadedAt() + ttl.toMillis() - clock.getAsLong();
+        double gap = -Math.max(stats.computeMillis(), 1) * earlyRefreshBeta * Math.log(random.getAsDouble());
+        if (gap < remaining) {
+            return;
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, mine) != null) {
+            return;
+        }
+        earlyRefreshCounter.increment();
+        DataSourceType routing = DataSourceContextHolder.peekDataSourceType();
+        try {
+            refreshExecutor.execute(() -> refresh(key, valueLoader, mine, routing));
+        } catch (RuntimeException e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+        }
+    }
+
+    private void refresh(Object key, Callable<?> valueLoader, CompletableFuture<Object> mine,
+                         DataSourceType routing) {
+        DataSourceType previous = DataSourceContextHolder.peekDataSourceType();
+        if (routing != null) {
+            DataSourceContextHolder.setDataSourceType(routing);
+        }
+        String token = loadLock != null ? loadLock.tryLock(getName(), key, lockTimeout) : DistributedLoadLock.NO_LOCK;
+        try {
+            if (token == null) {
+                // 다른 노드가 갱신 중
+                mine.complete(null);
+                return;
+            }
+            mine.complete(compute(key, valueLoader));
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            log.debug("Early refresh failed for {}::{}: {}", getName(), key, e.getMessage());
+        } catch (Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+            if (loadLock != null) {
+                loadLock.unlock(getName(), key, token);
+            }
+            if (previous != null) {
+                DataSourceContextHolder.setDataSourceType(previous);
+            } else {
+                DataSourceContextHolder.clearDataSourceType();
+            }
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        loadStats.invalidate(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        loadStats.invalidate(key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        loadStats.invalidateAll();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        loadStats.invalidateAll();
+        return delegate.invalidate();
+    }
+
+    /**
+     * 적재 정보
+     *
+     * @param loadedAt 적재 시각 (epoch ms)
+     * @param computeMillis 계산에 걸린 시간 (ms)
+     */
+    private record LoadStats(long loadedAt, long computeMillis) {
+    }
+}
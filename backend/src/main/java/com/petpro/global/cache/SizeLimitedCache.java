@@ -0,0 +1,113 @@
+package com.petpro.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 최대 크기를 넘는 값의 저장을 건너뛰는 캐시
+ *
+ * CacheValueSerializer가 크기 초과로 저장을 거부하면 예외를 호출자에게 전달하지 않고 저장만 생략합니다.
+ * 따라서 큰 결과를 반환하는 조회도 캐시 없이 정상적으로 응답합니다.
+ *
+ * 메트릭: cache.value.oversized{cache} (저장을 건너뛴 횟수)
+ */
+@Slf4j
+public class SizeLimitedCache implements Cache {
+
+    private final Cache delegate;
+
+    private final Counter oversizedCounter;
+
+    public SizeLimitedCache(Cache delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.oversizedCounter = Counter.builder("cache.value.oversized")
+                .description("Cache writes skipped because the serialized value exceeded the policy limit")
+                .tag("cache", delegate.getName())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // 로드 후 저장 단계에서 거부되어도 로드한 값은 반환
+        AtomicReference<T> loaded = new AtomicReference<>();
+        try {
+            return delegate.get(key, () -> {
+                T value = valueLoader.call();
+                loaded.set(value);
+                return value;
+            });
+        } catch (CacheValueTooLargeException e) {
+            skipped(key, e);
+            return loaded.get();
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        try {
+            delegate.put(key, value);
+        } catch (CacheValueTooLargeException e) {
+            skipped(key, e);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        try {
+            return delegate.putIfAbsent(key, value);
+        } catch (CacheValueTooLargeException e) {
+            skipped(key, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    private void skipped(Object key, CacheValueTooLargeException e) {
+        oversizedCounter.increment();
+        log.debug("Skipped caching {}::{}: {}", delegate.getName(), key, e.getMessage());
+    }
+}
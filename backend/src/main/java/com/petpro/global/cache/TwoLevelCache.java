@@ -0,0 +1,232 @@
+package com.petpro.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 2계층 캐시 (프로세스 내 L1 + Redis L2)
+ *
+ * - 조회: L1 → L2 순으로 찾고, L2에서 찾은 값은 L1에 채움
+ * - 저장: L2에 저장한 뒤 L1에도 저장
+ * - 삭제(evict·clear): L2와 L1에서 지우고 다른 노드에 무효화 메시지를 보냄
+ *
+ * L1 키는 Redis 키와 같은 문자열 표현(key.toString())을 사용하여 노드 간 무효화 메시지와 일치시킵니다.
+ * L1은 역직렬화된 객체를 그대로 공유하므로 캐시된 값은 변경하지 않고 읽기만 해야 합니다.
+ * 저장(put)은 무효화 메시지를 보내지 않으므로, 값이 바뀌는 경우에는 반드시 evict 또는 clear를 사용해야 합니다.
+ *
+ * 메트릭:
+ * - cache.local.requests{cache, result=hit|miss}
+ * - cache.local.invalidations{cache, source=local|remote}
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+
+    private final Cache remote;
+
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+
+    private final CacheInvalidationPublisher publisher;
+
+    /**
+     * 무효화 세대 (무효화마다 증가)
+     * L2 조회 전후의 세대가 다르면 그 사이 무효화된 것이므로 조회 결과를 L1에 채우지 않습니다.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter localHitCounter;
+    private final Counter localMissCounter;
+    private final Counter localInvalidationCounter;
+    private final Counter remoteInvalidationCounter;
+
+    public TwoLevelCache(String name, Cache remote, long localMaxSize, Duration localTtl,
+                         CacheInvalidationPublisher publisher, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.remote = remote;
+        this.publisher = publisher;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl.toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+
+        this.localHitCounter = requestCounter(meterRegistry, name, "hit");
+        this.localMissCounter = requestCounter(meterRegistry, name, "miss");
+        this.localInvalidationCounter = invalidationCounter(meterRegistry, name, "local");
+        this.remoteInvalidationCounter = invalidationCounter(meterRegistry, name, "remote");
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String cache, String result) {
+        return Counter.builder("cache.local.requests")
+                .description("In-process L1 cache lookups")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter invalidationCounter(MeterRegistry meterRegistry, String cache, String source) {
+        return Counter.builder("cache.local.invalidations")
+                .description("L1 cache invalidations by origin node")
+                .tag("cache", cache)
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHitCounter.increment();
+            return new SimpleValueWrapper(value);
+        }
+        localMissCounter.increment();
+
+        long before = generation.get();
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null) {
+            fillLocal(localKey, wrapper.get(), before);
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        long before = generation.get();
+        T value = remote.get(key, valueLoader);
+        fillLocal(localKey(key), value, before);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        if (value != null) {
+            local.put(localKey(key), value);
+        } else {
+            local.invalidate(localKey(key));
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        long before = generation.get();
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        fillLocal(localKey(key), existing != null ? existing.get() : value, before);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        evictLocal(localKey(key));
+        localInvalidationCounter.increment();
+        publisher.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = remote.evictIfPresent(key);
+        evictLocal(localKey(key));
+        localInvalidationCounter.increment();
+        publisher.publishEvict(name, localKey(key));
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearLocal();
+        localInvalidationCounter.increment();
+        publisher.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        clearLocal();
+        localInvalidationCounter.increment();
+        publisher.publishClear(name);
+        return invalidated;
+    }
+
+    /**
+     * 다른 노드의 삭제 메시지 수신 시 L1에서만 삭제합니다.
+     *
+     * @param localKey 삭제할 키 (null이면 전체)
+     */
+    void onRemoteInvalidation(String localKey) {
+        if (localKey == null) {
+            clearLocal();
+        } else {
+            evictLocal(localKey);
+        }
+        remoteInvalidationCounter.increment();
+    }
+
+    /**
+     * 현재 L1 항목 수 (근사값)
+     */
+    long localSize() {
+        return local.estimatedSize();
+    }
+
+    private void fillLocal(String localKey, Object value, long generationBefore) {
+        if (value == null) {
+            return;
+        }
+        local.put(localKey, value);
+        if (generation.get() != generationBefore) {
+            // 조회하는 동안 무효화됨: 이전 값일 수 있으므로 채우지 않음
+            local.invalidate(localKey);
+        }
+    }
+
+    private void evictLocal(String localKey) {
+        generation.incrementAndGet();
+        local.invalidate(localKey);
+    }
+
+    private void clearLocal() {
+        generation.incrementAndGet();
+        local.invalidateAll();
+    }
+
+    private static String localKey(Object key) {
+        return key.toString();
+    }
+}
@@ -0,0 +1,119 @@
+package com.petpro.global.cache;
+
+import com.petpro.global.config.CachePolicyConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2계층 캐시 관리자
+ *
+ * Redis 캐시 관리자를 감싸 캐시 정책에 따라 다음을 덧붙입니다.
+ * - L1이 설정된 캐시: TwoLevelCache
+ * - 최대 값 크기가 설정된 캐시: SizeLimitedCache (크기 초과 값은 저장하지 않음)
+ * - single-flight가 설정된 캐시: SingleFlightCache (같은 키의 동시 미스를 한 번의 계산으로 합침)
+ * 정책이 없는 캐시는 Redis 캐시를 그대로 제공합니다.
+ * Redis pub/sub 무효화 채널을 구독하여 다른 노드에서 삭제된 항목을 자신의 L1에서도 지웁니다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final CacheManager remoteCacheManager;
+
+    private final Map<String, CachePolicyConfig.Policy> policies;
+
+    private final CacheInvalidationPublisher publisher;
+
+    private final MeterRegistry meterRegistry;
+
+    /** single-flight 분산 잠금 (null이면 노드 내에서만 합침) */
+    private final DistributedLoadLock loadLock;
+
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    /** 무효화 메시지 수신 대상 (L1이 있는 캐시) */
+    private final Map<String, TwoLevelCache> nearCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, Map<String, CachePolicyConfig.Policy> policies,
+                                CacheInvalidationPublisher publisher, MeterRegistry meterRegistry) {
+        this(remoteCacheManager, policies, publisher, meterRegistry, null);
+    }
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, Map<String, CachePolicyConfig.Policy> policies,
+                                CacheInvalidationPublisher publisher, MeterRegistry meterRegistry,
+                                DistributedLoadLock loadLock) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.policies = Map.copyOf(policies);
+        this.publisher = publisher;
+        this.meterRegistry = meterRegistry;
+        this.loadLock = loadLock;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    private Cache createCache(String name) {
+        Cache cache = remoteCacheManager.getCache(name);
+        CachePolicyConfig.Policy policy = policies.get(name);
+        if (cache == null || policy == null) {
+            return cache;
+        }
+        if (policy.getLocalMaxSize() > 0) {
+            log.info("Near cache enabled: cache={}, maxSize={}, ttl={}s",
+                    name, policy.getLocalMaxSize(), policy.getLocalTtlSeconds());
+            TwoLevelCache nearCache = new TwoLevelCache(name, cache, policy.getLocalMaxSize(),
+                    Duration.ofSeconds(policy.getLocalTtlSeconds()), publisher, meterRegistry);
+            nearCaches.put(name, nearCache);
+            cache = nearCache;
+        }
+        if (policy.getMaxValueSize() != null) {
+            // 바깥에 두어 크기 초과로 Redis 저장이 거부되면 L1에도 채우지 않음
+            cache = new SizeLimitedCache(cache, meterRegistry);
+        }
+        if (policy.isSingleFlight()) {
+            // 가장 바깥에 두어 Redis 캐시의 sync 조회(캐시 전체 단일 잠금) 대신 키 단위로 합침
+            log.info("Single-flight loading enabled: cache={}, distributedLock={}, earlyRefreshBeta={}",
+                    name, policy.isDistributedLock() && loadLock != null, policy.getEarlyRefreshBeta());
+            cache = new SingleFlightCache(cache, policy.isDistributedLock() ? loadLock : null,
+                    policy.getLockTimeout(), policy.getTtl(), policy.getEarlyRefreshBeta(), meterRegistry);
+        }
+        return cache;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationPublisher.Invalidation invalidation =
+                publisher.parse(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (invalidation == null) {
+            return;
+        }
+        // 아직 사용하지 않은 캐시는 L1이 비어 있으므로 무시
+        TwoLevelCache cache = nearCaches.get(invalidation.cacheName());
+        if (cache != null) {
+            cache.onRemoteInvalidation(invalidation.key());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.petpro.global.config;
+
+import com.petpro.global.cache.CacheCodec;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캐시별 정책 설정
+ *
+ * 캐시 이름별로 Redis TTL, 값 형식, 최대 값 크기, 프로세스 내 L1 캐시를 지정합니다.
+ * 등록되지 않은 캐시는 기본값(TTL 30분, JSON, 크기 제한 없음, L1 없음)을 사용합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.cache")
+public class CachePolicyConfig {
+
+    /** L1 무효화 메시지 Redis pub/sub 채널 */
+    private String invalidationChannel = "cache:invalidation";
+
+    /** 캐시 적재 분산 잠금 Redis 키 접두어 */
+    private String loadLockKeyPrefix = "cache:load-lock:";
+
+    /** 캐시 이름별 정책 */
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        /** Redis 항목 유지 시간 (null이면 기본 30분) */
+        private Duration ttl;
+
+        /** 값 형식 */
+        private CacheCodec codec = CacheCodec.JSON;
+
+        /** 직렬화한 값의 최대 크기 (넘으면 저장하지 않음, null이면 제한 없음) */
+        private DataSize maxValueSize;
+
+        /** L1 최대 항목 수 (0이면 L1 미사용) */
+        private long localMaxSize;
+
+        /** L1 항목 유지 시간 (초, 다른 노드의 무효화 메시지를 놓쳤을 때 최대 지연) */
+        private long localTtlSeconds = 60;
+
+        /** 같은 키의 동시 캐시 미스를 노드당 한 번의 계산으로 합침 (@Cacheable(sync = true) 또는 Cache.get(key, loader) 경로) */
+        private boolean singleFlight;
+
+        /** singleFlight 계산을 Redis 잠금으로 클러스터 전체에서 한 노드만 수행 */
+        private boolean distributedLock;
+
+        /** 분산 잠금 유지 시간이자 다른 노드의 계산 결과를 기다리는 최대 시간 */
+        private Duration lockTimeout = Duration.ofSeconds(5);
+
+        /** 만료 전 확률적 조기 갱신 계수 (0이면 사용 안 함, 1이 표준, 클수록 일찍 갱신, ttl이 있어야 동작) */
+        private double earlyRefreshBeta;
+    }
+}
@@ -0,0 +1,25 @@
+package com.petpro.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 클러스터 조정(공유 호출 한도, 실행 리스) 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.coordination")
+public class CoordinationConfig {
+
+    /** Redis 사용 여부 (false면 항상 DB 사용) */
+    private boolean redisEnabled = true;
+
+    /** Redis 키 접두사 */
+    private String keyPrefix = "coord:";
+
+    /** 일일 호출 한도의 날짜 기준 시간대 (공공데이터포털은 한국 시간 자정에 초기화) */
+    private String quotaZone = "Asia/Seoul";
+}
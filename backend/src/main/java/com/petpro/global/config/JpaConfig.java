@@ -1,5 +1,6 @@
 package com.petpro.global.config;
 
+import com.petpro.global.cache.SecondLevelCacheSupport;
 import jakarta.persistence.EntityManagerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
@@ -24,6 +25,7 @@ import java.util.Map;
  * 활성화된 기능:
  * - @EnableTransactionManagement: 어노테이션 기반 트랜잭션 관리 활성화
  * - @EnableJpaRepositories: JPA Repository 자동 스캔 및 등록
+ * - Hibernate 2차 캐시·쿼리 캐시 (SecondLevelCacheConfig의 main 유닛 영역)
  *
  * Repository 스캔 범위:
  * - com.petpro.domain 패키지 하위의 Repository 인터페이스
@@ -40,7 +42,8 @@ import java.util.Map;
                 "com.petpro.domain.funeralhome.repository",
                 "com.petpro.domain.region.repository",
                 "com.petpro.domain.pet.repository",
-                "com.petpro.domain.batch.repository"
+                "com.petpro.domain.batch.repository",
+                "com.petpro.domain.location.repository"
         },
         entityManagerFactoryRef = "entityManagerFactory",
         transactionManagerRef = "transactionManager"
@@ -54,7 +57,8 @@ public class JpaConfig {
     @Primary
     public LocalContainerEntityManagerFactoryBean entityManagerFactory(
             EntityManagerFactoryBuilder builder,
-            DataSource dataSource) {
+            DataSource dataSource,
+            SecondLevelCacheConfig secondLevelCacheConfig) {
 
         Map<String, Object> properties = new HashMap<>();
         properties.put("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
@@ -62,6 +66,7 @@ public class JpaConfig {
         properties.put("hibernate.format_sql", true);
         properties.put("hibernate.physical_naming_strategy",
                 "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy");
+        SecondLevelCacheSupport.apply(properties, "main", secondLevelCacheConfig);
 
         return builder
                 .dataSource(dataSource)
@@ -73,7 +78,8 @@ public class JpaConfig {
                         "com.petpro.domain.funeralhome.entity",
                         "com.petpro.domain.region.entity",
                         "com.petpro.domain.pet.entity",
-                        "com.petpro.domain.batch.entity"
+                        "com.petpro.domain.batch.entity",
+                        "com.petpro.domain.location.entity"
                 )
                 .persistenceUnit("main")
                 .properties(properties)
@@ -1,5 +1,11 @@
 package com.petpro.global.config;
 
+import com.petpro.global.cache.CacheCodec;
+import com.petpro.global.cache.CacheInvalidationPublisher;
+import com.petpro.global.cache.CacheValueSerializer;
+import com.petpro.global.cache.DistributedLoadLock;
+import com.petpro.global.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -11,11 +17,16 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * RedisConfig
@@ -26,12 +37,16 @@ import java.time.Duration;
  * 주요 기능:
  * - Redis 연결 팩토리 구성 (Lettuce 사용)
  * - RedisTemplate 설정 (JSON 직렬화)
- * - 캐시 관리자 구성 (도메인별 TTL 설정)
+ * - 캐시 관리자 구성 (app.cache.policies의 캐시별 TTL·값 형식·최대 크기·프로세스 내 L1)
+ * - L1 무효화 메시지 구독 (Redis pub/sub)
  */
 @Configuration
 @EnableCaching
 public class RedisConfig {
 
+    /** 정책에 TTL이 없는 캐시의 기본 TTL */
+    private static final Duration DEFAULT_CACHE_TTL = Duration.ofMinutes(30);
+
     /** Redis 서버 호스트 주소 */
     @Value("${spring.data.redis.host}")
     private String host;
@@ -80,30 +95,71 @@ public class RedisConfig {
 
     /**
      * 캐시 관리자를 생성합니다.
-     * 도메인별로 다른 TTL(Time To Live) 정책을 적용합니다.
+     * application.yml의 app.cache.policies에서 캐시별 정책을 읽어 적용합니다.
      *
-     * 캐시 TTL 설정:
-     * - 기본: 30분
-     * - companies: 1시간 (업체 정보는 자주 변경되지 않음)
-     * - products: 15분 (상품 정보는 비교적 자주 변경됨)
-     * - users: 30분 (사용자 정보는 중간 빈도로 변경됨)
+     * 캐시별 정책:
+     * - ttl: Redis 항목 유지 시간 (기본 30분)
+     * - codec: 값 형식 (JSON | SMILE, 읽기는 형식을 자동 판별하므로 바꿔 배포해도 기존 항목 사용 가능)
+     * - max-value-size: 직렬화한 값의 최대 크기 (넘으면 캐시하지 않음)
+     * - local-max-size / local-ttl-seconds: Redis 앞단 프로세스 내 L1 (삭제 시 다른 노드에 무효화 메시지 발행)
+     * - single-flight / distributed-lock / lock-timeout / early-refresh-beta: 같은 키의 동시 미스 합침과 만료 전 조기 갱신
      *
      * @param connectionFactory Redis 연결 팩토리
-     * @return RedisCacheManager 인스턴스
+     * @param stringRedisTemplate 무효화 메시지 발행·적재 잠금용 템플릿
+     * @param cachePolicyConfig 캐시별 정책 설정
+     * @param meterRegistry 메트릭 레지스트리
+     * @return TwoLevelCacheManager 인스턴스
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(30))
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             CachePolicyConfig cachePolicyConfig,
+                                             MeterRegistry meterRegistry) {
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        cachePolicyConfig.getPolicies().forEach((name, policy) -> cacheConfigurations.put(name,
+                redisCacheConfiguration(
+                        policy.getTtl() != null ? policy.getTtl() : DEFAULT_CACHE_TTL,
+                        policy.getCodec(),
+                        policy.getMaxValueSize() != null ? policy.getMaxValueSize().toBytes() : 0)));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(redisCacheConfiguration(DEFAULT_CACHE_TTL, CacheCodec.JSON, 0))
+                .withInitialCacheConfigurations(cacheConfigurations)
+                .build();
+        redisCacheManager.initializeCaches();
+
+        CacheInvalidationPublisher publisher =
+                new CacheInvalidationPublisher(stringRedisTemplate, cachePolicyConfig.getInvalidationChannel());
+        DistributedLoadLock loadLock =
+                new DistributedLoadLock(stringRedisTemplate, cachePolicyConfig.getLoadLockKeyPrefix());
+        return new TwoLevelCacheManager(redisCacheManager, cachePolicyConfig.getPolicies(), publisher,
+                meterRegistry, loadLock);
+    }
+
+    private static RedisCacheConfiguration redisCacheConfiguration(Duration ttl, CacheCodec codec, long maxValueBytes) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(ttl)
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new CacheValueSerializer(codec, maxValueBytes)))
                 .disableCachingNullValues();
+    }
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
-                .withCacheConfiguration("companies", RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofHours(1)))
-                .withCacheConfiguration("products", RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(15)))
-                .withCacheConfiguration("users", RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(30)))
-                .build();
+    /**
+     * 다른 노드가 보낸 L1 무효화 메시지를 구독합니다.
+     *
+     * @param connectionFactory Redis 연결 팩토리
+     * @param cacheManager 2계층 캐시 관리자 (메시지 수신자)
+     * @param cachePolicyConfig 캐시별 정책 설정
+     * @return RedisMessageListenerContainer 인스턴스
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoLevelCacheManager cacheManager,
+                                                                            CachePolicyConfig cachePolicyConfig) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(cachePolicyConfig.getInvalidationChannel()));
+        return container;
     }
 }
@@ -0,0 +1,62 @@
+package com.petpro.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 설정
+ *
+ * 영속성 유닛(main, coupon)별로 캐시 영역의 최대 항목 수와 유지 시간을 지정합니다.
+ * 캐시는 노드마다 따로 두는 로컬 캐시(JCache + Caffeine)이므로, 다른 노드에서 바뀐 값은 ttl 동안 남아 있을 수 있습니다.
+ * 같은 노드에서 JPA로 바꾼 값은 Hibernate가 커밋 시점에 캐시를 함께 갱신합니다.
+ *
+ * 영역 이름은 엔티티의 @Cache(region)와 쿼리 캐시 영역(default-query-results-region)입니다.
+ * 설정에 없는 영역을 쓰는 엔티티가 있으면 애플리케이션이 시작되지 않습니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.jpa.second-level-cache")
+public class SecondLevelCacheConfig {
+
+    /** 2차 캐시·쿼리 캐시 사용 여부 */
+    private boolean enabled = true;
+
+    /** Hibernate 통계 수집 (hibernate.second.level.cache.requests 등 메트릭) */
+    private boolean statisticsEnabled = true;
+
+    /** 영속성 유닛별 캐시 영역 설정 */
+    private Map<String, Unit> units = new LinkedHashMap<>();
+
+    /**
+     * 영속성 유닛 설정을 반환합니다. (없으면 빈 설정)
+     */
+    public Unit unit(String persistenceUnit) {
+        return units.getOrDefault(persistenceUnit, new Unit());
+    }
+
+    @Getter
+    @Setter
+    public static class Unit {
+
+        /** 영역 이름별 설정 */
+        private Map<String, Region> regions = new LinkedHashMap<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        /** 최대 항목 수 */
+        private long maxEntries = 1000;
+
+        /** 항목 유지 시간 (다른 노드에서 바뀐 값이 남아 있을 수 있는 최대 시간) */
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
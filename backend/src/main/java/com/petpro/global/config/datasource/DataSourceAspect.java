@@ -1,17 +1,27 @@
 package com.petpro.global.config.datasource;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodClassKey;
 import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * DataSourceAspect
@@ -22,6 +32,16 @@ import java.lang.reflect.Method;
  * 라우팅 규칙:
  * - readOnly = true: Slave 데이터소스 사용 (조회 작업)
  * - readOnly = false (기본값): Master 데이터소스 사용 (CUD 작업)
+ * - 어노테이션 탐색 순서: 대상 메서드 → 대상 클래스 → 선언 메서드(인터페이스) → 선언 클래스
+ *   (각 단계에서 @Transactional을 메타 어노테이션으로 가진 합성 어노테이션도 인식)
+ * - 이미 진행 중인 트랜잭션에 참여하는 호출은 바깥 트랜잭션의 데이터소스를 유지하고,
+ *   새 트랜잭션을 여는 호출(REQUIRES_NEW 등)만 자신의 readOnly 속성을 따름
+ *
+ * 라우팅 결정은 (메서드, 대상 클래스)별로 한 번만 계산하여 캐시합니다.
+ *
+ * 메트릭:
+ * - datasource.routing.decisions{service, type} (라우팅 횟수)
+ * - datasource.routing.duration{service, type} (트랜잭션 메서드 실행 시간)
  */
 @Aspect
 @Component
@@ -31,36 +51,121 @@ public class DataSourceAspect {
     /** 로깅을 위한 Logger 인스턴스 */
     private static final Logger log = LoggerFactory.getLogger(DataSourceAspect.class);
 
+    private final MeterRegistry meterRegistry;
+
+    /** (메서드, 대상 클래스)별 라우팅 결정 캐시 */
+    private final Map<MethodClassKey, RoutingDecision> decisions = new ConcurrentHashMap<>();
+
+    public DataSourceAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     /**
-     * @Transactional 어노테이션이 적용된 메서드를 가로채어 데이터소스 타입을 결정합니다.
-     * 메서드 레벨의 어노테이션이 없으면 클래스 레벨의 어노테이션을 확인합니다.
+     * @Transactional 어노테이션(메서드·클래스·메타 어노테이션)이 적용된 메서드를 가로채어 데이터소스 타입을 결정합니다.
      *
      * @param joinPoint AOP 조인 포인트 (대상 메서드 정보 포함)
      * @return 대상 메서드의 실행 결과
      * @throws Throwable 대상 메서드 실행 중 발생한 예외
      */
-    @Around("@annotation(org.springframework.transaction.annotation.Transactional)")
+    @Around("@annotation(org.springframework.transaction.annotation.Transactional)"
+            + " || @within(org.springframework.transaction.annotation.Transactional)"
+            + " || execution(@(@org.springframework.transaction.annotation.Transactional *) * *(..))"
+            + " || within(@(@org.springframework.transaction.annotation.Transactional *) *)")
     public Object determineDataSource(ProceedingJoinPoint joinPoint) throws Throwable {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        Transactional transactional = method.getAnnotation(Transactional.class);
-
-        if (transactional == null) {
-            transactional = joinPoint.getTarget().getClass().getAnnotation(Transactional.class);
-        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> targetClass = joinPoint.getTarget() != null
+                ? AopUtils.getTargetClass(joinPoint.getTarget()) : method.getDeclaringClass();
+        RoutingDecision decision = decisions.computeIfAbsent(new MethodClassKey(method, targetClass),
+                key -> resolve(method, targetClass));
 
-        DataSourceType dataSourceType = DataSourceType.MASTER;
-        if (transactional != null && transactional.readOnly()) {
-            dataSourceType = DataSourceType.SLAVE;
+        DataSourceType previous = DataSourceContextHolder.peekDataSourceType();
+        DataSourceType dataSourceType = decision.type();
+        if (previous != null && !decision.startsNewTransaction()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            // 바깥 트랜잭션에 참여하므로 이미 정해진 커넥션을 그대로 사용
+            dataSourceType = previous;
         }
-
-        log.debug("Method: {}, DataSource: {}", method.getName(), dataSourceType);
         DataSourceContextHolder.setDataSourceType(dataSourceType);
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             return joinPoint.proceed();
         } finally {
-            DataSourceContextHolder.clearDataSourceType();
+            RoutingMeters meters = dataSourceType == DataSourceType.SLAVE ? decision.slave() : decision.master();
+            meters.counter().increment();
+            sample.stop(meters.timer());
+            if (previous != null) {
+                DataSourceContextHolder.setDataSourceType(previous);
+            } else {
+                DataSourceContextHolder.clearDataSourceType();
+            }
+        }
+    }
+
+    private RoutingDecision resolve(Method method, Class<?> targetClass) {
+        Transactional transactional = findTransactional(method, targetClass);
+
+        DataSourceType type = transactional != null && transactional.readOnly()
+                ? DataSourceType.SLAVE : DataSourceType.MASTER;
+        boolean startsNewTransaction = transactional != null && startsNewTransaction(transactional.propagation());
+
+        String service = targetClass.getSimpleName();
+        log.debug("Resolved routing: {}.{} -> {}", service, method.getName(), type);
+        return new RoutingDecision(type, startsNewTransaction,
+                meters(service, DataSourceType.MASTER), meters(service, DataSourceType.SLAVE));
+    }
+
+    /**
+     * 대상 메서드 → 대상 클래스 → 선언 메서드 → 선언 클래스 순으로 @Transactional을 찾습니다.
+     */
+    private static Transactional findTransactional(Method method, Class<?> targetClass) {
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(specificMethod, Transactional.class);
+        if (transactional == null) {
+            transactional = AnnotatedElementUtils.findMergedAnnotation(targetClass, Transactional.class);
         }
+        if (transactional == null && specificMethod != method) {
+            transactional = AnnotatedElementUtils.findMergedAnnotation(method, Transactional.class);
+            if (transactional == null) {
+                transactional = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), Transactional.class);
+            }
+        }
+        return transactional;
+    }
+
+    private static boolean startsNewTransaction(Propagation propagation) {
+        return propagation == Propagation.REQUIRES_NEW
+                || propagation == Propagation.NOT_SUPPORTED
+                || propagation == Propagation.NEVER;
+    }
+
+    private RoutingMeters meters(String service, DataSourceType type) {
+        String typeTag = type.name().toLowerCase();
+        Counter counter = Counter.builder("datasource.routing.decisions")
+                .description("Transactional calls routed to master or slave")
+                .tag("service", service)
+                .tag("type", typeTag)
+                .register(meterRegistry);
+        Timer timer = Timer.builder("datasource.routing.duration")
+                .description("Duration of transactional calls by routed datasource")
+                .tag("service", service)
+                .tag("type", typeTag)
+                .register(meterRegistry);
+        return new RoutingMeters(counter, timer);
+    }
+
+    /**
+     * 메서드별 라우팅 결정
+     *
+     * @param type readOnly 속성에 따른 데이터소스 타입
+     * @param startsNewTransaction 바깥 트랜잭션과 별개로 실행되는지 여부
+     * @param master Master로 실행될 때의 메트릭
+     * @param slave Slave로 실행될 때의 메트릭
+     */
+    private record RoutingDecision(DataSourceType type, boolean startsNewTransaction,
+                                   RoutingMeters master, RoutingMeters slave) {
+    }
+
+    private record RoutingMeters(Counter counter, Timer timer) {
     }
 }
@@ -1,17 +1,21 @@
 package com.petpro.global.config.datasource;
 
 import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 /**
  * DataSourceConfig
@@ -21,7 +25,8 @@ import java.util.Map;
  *
  * 구성 요소:
  * - Master 데이터소스: CUD 작업용 (1개)
- * - Slave 데이터소스: R 작업용 (2개, Round Robin 방식)
+ * - Slave 데이터소스: R 작업용 (2개, datasource.routing.strategy 방식으로 분배, 상태 확인 후 제외/복귀)
+ * - 복제 지연 측정: datasource.routing.consistency=READ_YOUR_WRITES이면 사용자가 최근 쓴 데이터를 반영한 Slave만 사용
  * - LazyConnectionDataSourceProxy: 실제 커넥션 획득을 지연시켜 효율성 향상
  */
 @Configuration
@@ -69,40 +74,89 @@ public class DataSourceConfig {
 
     /**
      * Slave 데이터소스 라우터를 생성합니다.
-     * 여러 Slave 노드 간의 부하 분산을 담당합니다.
+     * 여러 Slave 노드 간의 부하 분산과 상태 확인을 담당하며, 생성 시 주기적 상태 확인을 시작합니다.
      *
      * @param slave1 첫 번째 Slave 데이터소스
      * @param slave2 두 번째 Slave 데이터소스
+     * @param routingConfig Slave 라우팅 설정
      * @return SlaveDataSourceRouter 인스턴스
      */
     @Bean
     public SlaveDataSourceRouter slaveDataSourceRouter(
             @Qualifier("slave1DataSource") DataSource slave1,
-            @Qualifier("slave2DataSource") DataSource slave2) {
-        return new SlaveDataSourceRouter(List.of(slave1, slave2));
+            @Qualifier("slave2DataSource") DataSource slave2,
+            ReplicaRoutingConfig routingConfig) {
+        List<DataSource> slaves = List.of(slave1, slave2);
+        List<ReplicaNode> nodes = IntStream.range(0, slaves.size())
+                .mapToObj(i -> new ReplicaNode("slave" + (i + 1), slaves.get(i), weightOf(routingConfig, i)))
+                .toList();
+
+        SlaveDataSourceRouter router = new SlaveDataSourceRouter(nodes,
+                ReplicaBalancer.of(routingConfig.getStrategy()),
+                routingConfig.getFailureThreshold(),
+                routingConfig.getHealthCheckTimeoutSeconds());
+        router.start(routingConfig.getHealthCheckIntervalMs());
+        return router;
+    }
+
+    /**
+     * 복제 지연 측정기를 생성합니다.
+     * 측정 결과는 READ_YOUR_WRITES 모드의 Slave 선택에만 쓰이므로, 주기적 측정은 이 모드에서만 시작합니다.
+     * (EVENTUAL 모드에서는 Master/Slave에 측정 쿼리를 보내지 않고 datasource.replica.lag 게이지는 NaN)
+     *
+     * @param masterDataSource Master 데이터소스
+     * @param slaveDataSourceRouter Slave 데이터소스 라우터
+     * @param routingConfig Slave 라우팅 설정
+     * @return ReplicationLagMonitor 인스턴스
+     */
+    @Bean
+    public ReplicationLagMonitor replicationLagMonitor(
+            @Qualifier("masterDataSource") DataSource masterDataSource,
+            SlaveDataSourceRouter slaveDataSourceRouter,
+            ReplicaRoutingConfig routingConfig) {
+        ReplicationLagMonitor monitor = new ReplicationLagMonitor(masterDataSource,
+                slaveDataSourceRouter.getNodes(), routingConfig.getHealthCheckTimeoutSeconds());
+        if (routingConfig.getConsistency() == ReplicaRoutingConfig.Consistency.READ_YOUR_WRITES) {
+            monitor.start(routingConfig.getLagSampleIntervalMs());
+        }
+        return monitor;
+    }
+
+    private static int weightOf(ReplicaRoutingConfig routingConfig, int index) {
+        List<Integer> weights = routingConfig.getWeights();
+        return index < weights.size() && weights.get(index) != null ? weights.get(index) : 1;
     }
 
     /**
      * 라우팅 데이터소스를 생성합니다.
      * 트랜잭션의 readOnly 속성에 따라 Master 또는 Slave로 라우팅합니다.
+     * Slave는 커넥션을 얻을 때마다 SlaveDataSourceRouter에서 선택합니다.
      *
      * @param masterDataSource Master 데이터소스
-     * @param slave1DataSource 첫 번째 Slave 데이터소스
-     * @param slave2DataSource 두 번째 Slave 데이터소스
+     * @param slaveDataSourceRouter Slave 데이터소스 라우터
+     * @param routingConfig Slave 라우팅 설정
+     * @param redisTemplate 사용자별 마지막 쓰기 기록 저장소 (없으면 노드 로컬 기록만 사용)
      * @return RoutingDataSource 인스턴스
      */
     @Bean
     public DataSource routingDataSource(
             @Qualifier("masterDataSource") DataSource masterDataSource,
-            @Qualifier("slave1DataSource") DataSource slave1DataSource,
-            @Qualifier("slave2DataSource") DataSource slave2DataSource) {
+            SlaveDataSourceRouter slaveDataSourceRouter,
+            ReplicaRoutingConfig routingConfig,
+            ObjectProvider<StringRedisTemplate> redisTemplate) {
+
+        ReadYourWritesPolicy readYourWritesPolicy = null;
+        if (routingConfig.getConsistency() == ReplicaRoutingConfig.Consistency.READ_YOUR_WRITES) {
+            WriteMarkerStore writeMarkerStore = new WriteMarkerStore(redisTemplate.getIfAvailable(),
+                    routingConfig.getWriteMarkerKeyPrefix(),
+                    Duration.ofSeconds(routingConfig.getWriteMarkerTtlSeconds()));
+            readYourWritesPolicy = new ReadYourWritesPolicy(writeMarkerStore, routingConfig.getClockSkewToleranceMs());
+        }
 
-        RoutingDataSource routingDataSource = new RoutingDataSource();
+        RoutingDataSource routingDataSource = new RoutingDataSource(slaveDataSourceRouter, readYourWritesPolicy);
 
         Map<Object, Object> dataSourceMap = new HashMap<>();
         dataSourceMap.put(DataSourceType.MASTER, masterDataSource);
-        // Slave는 Round Robin으로 선택되므로 기본값으로 slave1 설정
-        dataSourceMap.put(DataSourceType.SLAVE, slave1DataSource);
 
         routingDataSource.setTargetDataSources(dataSourceMap);
         routingDataSource.setDefaultTargetDataSource(masterDataSource);
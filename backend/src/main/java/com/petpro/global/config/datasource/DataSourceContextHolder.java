@@ -55,6 +55,16 @@ public class DataSourceContextHolder {
         return type != null ? type : DataSourceType.MASTER;
     }
 
+    /**
+     * 현재 스레드에 설정된 데이터소스 타입을 그대로 반환합니다.
+     * 중첩 호출에서 바깥 설정을 복원할 때 사용합니다.
+     *
+     * @return 설정된 데이터소스 타입, 설정되지 않았으면 null
+     */
+    public static DataSourceType peekDataSourceType() {
+        return contextHolder.get();
+    }
+
     /**
      * 현재 스레드의 데이터소스 타입을 제거합니다.
      * 트랜잭션 완료 후 메모리 누수를 방지하기 위해 반드시 호출해야 합니다.
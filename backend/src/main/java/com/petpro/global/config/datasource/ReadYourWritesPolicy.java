@@ -0,0 +1,119 @@
+package com.petpro.global.config.datasource;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.LongSupplier;
+
+/**
+ * ReadYourWritesPolicy
+ *
+ * 사용자가 방금 커밋한 데이터를 곧바로 다시 읽을 때 복제가 뒤처진 Slave에서 읽지 않도록 합니다.
+ *
+ * 동작 방식:
+ * - 인증된 사용자의 쓰기 트랜잭션이 Master 커넥션을 얻으면, 커밋 후 그 시각을 WriteMarkerStore에 기록
+ * - 읽기 요청은 "마지막 쓰기 시각 + 시계 오차 허용치" 이후까지 반영한 Slave만 사용
+ *   (반영 시각은 ReplicationLagMonitor가 측정, 조건을 만족하는 Slave가 없으면 Master)
+ *
+ * 실제로 변경이 없었던 쓰기 트랜잭션(readOnly가 아닌 조회)도 쓰기로 기록되므로,
+ * 그 직후의 읽기는 필요 이상으로 Master를 사용할 수 있습니다.
+ * 인증 정보가 없는 요청(비로그인, 배치 작업)은 영향을 받지 않습니다.
+ */
+public class ReadYourWritesPolicy {
+
+    private final WriteMarkerStore writeMarkerStore;
+
+    /** 노드 간 시계 오차 허용치 (ms) */
+    private final long clockSkewToleranceMs;
+
+    /** 커밋 시각 (epoch ms) */
+    private final LongSupplier clock;
+
+    public ReadYourWritesPolicy(WriteMarkerStore writeMarkerStore, long clockSkewToleranceMs) {
+        this(writeMarkerStore, clockSkewToleranceMs, System::currentTimeMillis);
+    }
+
+    ReadYourWritesPolicy(WriteMarkerStore writeMarkerStore, long clockSkewToleranceMs, LongSupplier clock) {
+        this.writeMarkerStore = writeMarkerStore;
+        this.clockSkewToleranceMs = Math.max(0, clockSkewToleranceMs);
+        this.clock = clock;
+    }
+
+    /**
+     * 현재 사용자의 읽기에 필요한 Slave 최소 반영 시각을 반환합니다.
+     *
+     * @return 최소 반영 시각 (epoch ms), 제약이 없으면 0
+     */
+    public long requiredCaughtUpTo() {
+        String userId = currentUserId();
+        if (userId == null) {
+            return 0;
+        }
+        long lastWrite = writeMarkerStore.lastWrite(userId);
+        return lastWrite > 0 ? lastWrite + clockSkewToleranceMs : 0;
+    }
+
+    /**
+     * Master 커넥션 획득 시 호출합니다.
+     * 현재 트랜잭션이 쓰기 트랜잭션이면 커밋 후 사용자 쓰기 시각을 기록하도록 등록합니다 (트랜잭션당 한 번).
+     */
+    public void onMasterConnection() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        String userId = currentUserId();
+        if (userId == null) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, userId);
+        TransactionSynchronizationManager.registerSynchronization(new WriteMarkerSynchronization(userId));
+    }
+
+    private static String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * 커밋 후 쓰기 시각을 기록하는 동기화 콜백
+     * 트랜잭션이 일시 중단(REQUIRES_NEW)되는 동안에는 등록 표시를 풀어 내부 트랜잭션도 따로 기록되게 합니다.
+     */
+    private class WriteMarkerSynchronization implements TransactionSynchronization {
+
+        private final String userId;
+
+        WriteMarkerSynchronization(String userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ReadYourWritesPolicy.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(ReadYourWritesPolicy.this, userId);
+        }
+
+        @Override
+        public void afterCommit() {
+            writeMarkerStore.recordWrite(userId, clock.getAsLong());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ReadYourWritesPolicy.this);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.petpro.global.config.datasource;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ReplicaBalancer
+ *
+ * 정상 Slave 노드 중 이번 요청을 보낼 노드를 고르는 부하 분산 전략입니다.
+ * 구현체는 여러 스레드에서 동시에 호출되므로 스레드 안전해야 합니다.
+ */
+public interface ReplicaBalancer {
+
+    /**
+     * 노드 선택
+     *
+     * @param candidates 정상 노드 목록 (1개 이상)
+     * @return 선택한 노드
+     */
+    ReplicaNode select(List<ReplicaNode> candidates);
+
+    /**
+     * 설정된 방식의 전략을 생성합니다.
+     */
+    static ReplicaBalancer of(ReplicaRoutingConfig.Strategy strategy) {
+        return switch (strategy) {
+            case ROUND_ROBIN -> new RoundRobin();
+            case LEAST_ACTIVE -> new LeastActive();
+            case WEIGHTED -> new Weighted();
+        };
+    }
+
+    /**
+     * Round Robin: 순서대로 분배
+     */
+    final class RoundRobin implements ReplicaBalancer {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public ReplicaNode select(List<ReplicaNode> candidates) {
+            return candidates.get(Math.floorMod(counter.getAndIncrement(), candidates.size()));
+        }
+    }
+
+    /**
+     * Least Active: Hikari 풀의 사용 중 커넥션이 가장 적은 노드
+     * 같으면 Round Robin 순서로 시작 위치를 바꿔 한 노드에 몰리지 않게 합니다.
+     */
+    final class LeastActive implements ReplicaBalancer {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public ReplicaNode select(List<ReplicaNode> candidates) {
+            int size = candidates.size();
+            int start = Math.floorMod(counter.getAndIncrement(), size);
+            ReplicaNode best = null;
+            int bestActive = Integer.MAX_VALUE;
+            for (int i = 0; i < size; i++) {
+                ReplicaNode node = candidates.get((start + i) % size);
+                int active = node.activeConnections();
+                if (active < bestActive) {
+                    best = node;
+                    bestActive = active;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Weighted: 가중치 비율로 무작위 분배
+     */
+    final class Weighted implements ReplicaBalancer {
+
+        @Override
+        public ReplicaNode select(List<ReplicaNode> candidates) {
+            int total = 0;
+            for (ReplicaNode node : candidates) {
+                total += node.getWeight();
+            }
+            int point = ThreadLocalRandom.current().nextInt(total);
+            for (ReplicaNode node : candidates) {
+                point -= node.getWeight();
+                if (point < 0) {
+                    return node;
+                }
+            }
+            return candidates.get(candidates.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.petpro.global.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ReplicaNode
+ *
+ * 라우팅 대상 Slave 노드 하나의 상태(정상 여부, 연속 실패 횟수, 라우팅 횟수, 복제 반영 시각)를 보관합니다.
+ */
+public class ReplicaNode {
+
+    /** 노드 이름 (메트릭 태그) */
+    private final String name;
+
+    /** 노드 데이터소스 */
+    private final DataSource dataSource;
+
+    /** WEIGHTED 방식 가중치 */
+    private final int weight;
+
+    /** 라우팅 대상 여부 */
+    private volatile boolean healthy = true;
+
+    /** 연속 실패 횟수 */
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    /** 이 노드로 라우팅된 횟수 */
+    private final AtomicLong routedCount = new AtomicLong();
+
+    /** 이 시각(epoch ms)까지 Master에서 커밋된 내용은 모두 반영됨 (측정 전에는 0) */
+    private volatile long caughtUpToMillis;
+
+    /** 마지막 측정 기준 복제 지연 (ms, 측정 전에는 -1) */
+    private volatile long replayLagMillis = -1;
+
+    public ReplicaNode(String name, DataSource dataSource, int weight) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.weight = Math.max(1, weight);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public long getRoutedCount() {
+        return routedCount.get();
+    }
+
+    public long getCaughtUpToMillis() {
+        return caughtUpToMillis;
+    }
+
+    public long getReplayLagMillis() {
+        return replayLagMillis;
+    }
+
+    /**
+     * 주어진 시각까지의 Master 커밋을 반영했는지 여부
+     */
+    boolean isCaughtUpTo(long epochMillis) {
+        return caughtUpToMillis >= epochMillis;
+    }
+
+    /**
+     * 복제 측정 결과 기록 (반영 시각은 뒤로 가지 않음)
+     */
+    void recordReplication(long caughtUpTo, long lagMillis) {
+        if (caughtUpTo > caughtUpToMillis) {
+            caughtUpToMillis = caughtUpTo;
+        }
+        replayLagMillis = lagMillis;
+    }
+
+    void recordRouted() {
+        routedCount.incrementAndGet();
+    }
+
+    /**
+     * 성공 기록: 실패 횟수를 초기화하고 다시 라우팅 대상에 포함합니다.
+     *
+     * @return 제외 상태에서 복구되었으면 true
+     */
+    boolean recordSuccess() {
+        consecutiveFailures.set(0);
+        boolean recovered = !healthy;
+        healthy = true;
+        return recovered;
+    }
+
+    /**
+     * 실패 기록: 연속 실패가 threshold 이상이면 라우팅 대상에서 제외합니다.
+     *
+     * @return 이번 실패로 제외되었으면 true
+     */
+    boolean recordFailure(int threshold) {
+        if (consecutiveFailures.incrementAndGet() >= threshold && healthy) {
+            healthy = false;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 즉시 제외 (커넥션 획득 실패 시)
+     *
+     * @return 이번 호출로 제외되었으면 true
+     */
+    boolean markDown() {
+        boolean wasHealthy = healthy;
+        healthy = false;
+        return wasHealthy;
+    }
+
+    /**
+     * Hikari 풀 상태 (풀이 아직 시작되지 않았거나 Hikari가 아니면 null)
+     */
+    HikariPoolMXBean poolMXBean() {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getHikariPoolMXBean();
+        }
+        return null;
+    }
+
+    /**
+     * 사용 중 커넥션 수 (풀 정보가 없으면 0)
+     */
+    int activeConnections() {
+        HikariPoolMXBean pool = poolMXBean();
+        return pool != null ? pool.getActiveConnections() : 0;
+    }
+
+    /**
+     * 풀 포화도 (사용 중 / 최대 크기, 풀 정보가 없으면 0)
+     */
+    double poolSaturation() {
+        if (dataSource instanceof HikariDataSource hikari && hikari.getHikariPoolMXBean() != null) {
+            int max = hikari.getMaximumPoolSize();
+            return max > 0 ? (double) hikari.getHikariPoolMXBean().getActiveConnections() / max : 0.0;
+        }
+        return 0.0;
+    }
+}
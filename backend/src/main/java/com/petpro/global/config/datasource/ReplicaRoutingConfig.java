@@ -0,0 +1,68 @@
+package com.petpro.global.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ReplicaRoutingConfig
+ *
+ * Slave(읽기 복제본) 라우팅 설정입니다.
+ * application.yml의 datasource.routing 설정을 바인딩합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "datasource.routing")
+public class ReplicaRoutingConfig {
+
+    /** 부하 분산 방식 */
+    private Strategy strategy = Strategy.ROUND_ROBIN;
+
+    /** WEIGHTED 방식의 노드별 가중치 (datasource.slave.nodes 순서, 비어 있으면 모두 1) */
+    private List<Integer> weights = new ArrayList<>();
+
+    /** 상태 확인 주기 (ms) */
+    private long healthCheckIntervalMs = 5000;
+
+    /** 상태 확인 쿼리 제한 시간 (초) */
+    private int healthCheckTimeoutSeconds = 2;
+
+    /** 연속 실패 시 제외할 횟수 */
+    private int failureThreshold = 2;
+
+    /** 읽기 일관성 모드 */
+    private Consistency consistency = Consistency.EVENTUAL;
+
+    /** 복제 지연 측정 주기 (ms, READ_YOUR_WRITES 모드에서만 측정, 0이면 측정하지 않음 - 이때는 최근 쓴 사용자의 읽기가 모두 Master로 감) */
+    private long lagSampleIntervalMs = 500;
+
+    /** 사용자별 마지막 쓰기 기록 보관 시간 (초, 이후에는 모든 Slave에서 읽음) */
+    private long writeMarkerTtlSeconds = 60;
+
+    /** 노드 간 시계 오차 허용치 (ms, 마지막 쓰기 시각에 더해 비교) */
+    private long clockSkewToleranceMs = 50;
+
+    /** 마지막 쓰기 기록 Redis 키 접두어 */
+    private String writeMarkerKeyPrefix = "ryw:";
+
+    public enum Strategy {
+        /** 순서대로 분배 */
+        ROUND_ROBIN,
+        /** Hikari 풀의 사용 중 커넥션이 가장 적은 노드 */
+        LEAST_ACTIVE,
+        /** 가중치 비율로 분배 */
+        WEIGHTED
+    }
+
+    public enum Consistency {
+        /** 복제 지연과 무관하게 Slave에서 읽음 */
+        EVENTUAL,
+        /** 사용자가 최근 쓴 데이터를 아직 반영하지 못한 Slave는 건너뛰고, 없으면 Master에서 읽음 */
+        READ_YOUR_WRITES
+    }
+}
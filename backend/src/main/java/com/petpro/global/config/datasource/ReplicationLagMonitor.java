@@ -0,0 +1,211 @@
+package com.petpro.global.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * ReplicationLagMonitor
+ *
+ * Slave가 Master의 어느 시점까지 반영했는지 주기적으로 측정합니다.
+ *
+ * 측정 방식:
+ * - 매 주기마다 Master의 현재 WAL 위치(pg_current_wal_lsn)를 측정 시각과 함께 기록
+ * - 이어서 각 Slave의 재생 위치(pg_last_wal_replay_lsn)를 조회
+ * - 재생 위치 이하인 가장 최근 Master 기록의 시각을 그 Slave의 "반영 시각"으로 삼음
+ *   (그 시각 이전에 커밋된 트랜잭션은 해당 Slave에서 읽을 수 있음)
+ *
+ * 반영 시각은 측정 주기 단위로 보수적으로 계산되므로, 쓰기 직후 최대 한 주기 동안은 Master에서 읽게 됩니다.
+ * 복구 모드가 아닌 노드(승격되었거나 복제가 설정되지 않은 노드)와 조회에 실패한 노드는 반영 시각을 갱신하지 않습니다.
+ *
+ * 메트릭: datasource.replica.lag{replica} (ms, 측정 전에는 NaN)
+ */
+public class ReplicationLagMonitor implements MeterBinder, AutoCloseable {
+
+    /** 로깅을 위한 Logger 인스턴스 */
+    private static final Logger log = LoggerFactory.getLogger(ReplicationLagMonitor.class);
+
+    private static final String MASTER_LSN_SQL =
+            "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '0/0')::bigint";
+
+    private static final String REPLAY_LSN_SQL =
+            "SELECT CASE WHEN pg_is_in_recovery() THEN pg_wal_lsn_diff(pg_last_wal_replay_lsn(), '0/0')::bigint END";
+
+    /** 재생 위치를 알 수 없음 */
+    static final long UNKNOWN_LSN = -1;
+
+    /** 보관할 Master 측정 기록 수 (500ms 주기 기준 약 2분) */
+    private static final int MAX_SAMPLES = 256;
+
+    private final DataSource masterDataSource;
+
+    private final List<ReplicaNode> nodes;
+
+    /** 측정 시각 (epoch ms) */
+    private final LongSupplier clock;
+
+    /** 조회 제한 시간 (초) */
+    private final int queryTimeoutSeconds;
+
+    /** Master 측정 기록 (원형 버퍼, LSN은 측정 순서대로 증가) */
+    private final long[] sampleTimes = new long[MAX_SAMPLES];
+    private final long[] sampleLsns = new long[MAX_SAMPLES];
+    private int sampleCount;
+    private int nextSlot;
+
+    /** 측정 스케줄러 (start 호출 시 생성) */
+    private ScheduledExecutorService sampler;
+
+    public ReplicationLagMonitor(DataSource masterDataSource, List<ReplicaNode> nodes, int queryTimeoutSeconds) {
+        this(masterDataSource, nodes, queryTimeoutSeconds, System::currentTimeMillis);
+    }
+
+    ReplicationLagMonitor(DataSource masterDataSource, List<ReplicaNode> nodes,
+                          int queryTimeoutSeconds, LongSupplier clock) {
+        this.masterDataSource = masterDataSource;
+        this.nodes = List.copyOf(nodes);
+        this.queryTimeoutSeconds = queryTimeoutSeconds;
+        this.clock = clock;
+    }
+
+    /**
+     * Master와 모든 Slave의 WAL 위치를 한 번 측정합니다.
+     * Master를 먼저 조회해야 "Slave 재생 위치 ≥ Master 기록"이 곧 그 시각까지 반영되었음을 뜻합니다.
+     */
+    public void sample() {
+        long now = clock.getAsLong();
+        long masterLsn;
+        try {
+            masterLsn = queryLsn(masterDataSource, MASTER_LSN_SQL);
+        } catch (SQLException | RuntimeException e) {
+            log.debug("Failed to read master WAL position: {}", e.getMessage());
+            return;
+        }
+        if (masterLsn == UNKNOWN_LSN) {
+            return;
+        }
+
+        long[] replayLsns = new long[nodes.size()];
+        for (int i = 0; i < nodes.size(); i++) {
+            try {
+                replayLsns[i] = queryLsn(nodes.get(i).getDataSource(), REPLAY_LSN_SQL);
+            } catch (SQLException | RuntimeException e) {
+                log.debug("Failed to read replay position of {}: {}", nodes.get(i).getName(), e.getMessage());
+                replayLsns[i] = UNKNOWN_LSN;
+            }
+        }
+        record(now, masterLsn, replayLsns);
+    }
+
+    /**
+     * 측정 결과를 기록하고 각 노드의 반영 시각을 갱신합니다.
+     *
+     * @param now 측정 시각 (epoch ms)
+     * @param masterLsn Master WAL 위치
+     * @param replayLsns 노드 순서대로의 재생 위치 (알 수 없으면 UNKNOWN_LSN)
+     */
+    synchronized void record(long now, long masterLsn, long[] replayLsns) {
+        sampleTimes[nextSlot] = now;
+        sampleLsns[nextSlot] = masterLsn;
+        nextSlot = (nextSlot + 1) % MAX_SAMPLES;
+        sampleCount = Math.min(sampleCount + 1, MAX_SAMPLES);
+
+        for (int i = 0; i < nodes.size(); i++) {
+            if (replayLsns[i] == UNKNOWN_LSN) {
+                continue;
+            }
+            long caughtUpTo = caughtUpTo(replayLsns[i]);
+            if (caughtUpTo > 0) {
+                nodes.get(i).recordReplication(caughtUpTo, now - caughtUpTo);
+            }
+        }
+    }
+
+    /**
+     * 재생 위치 이하인 가장 최근 Master 기록의 시각 (없으면 0)
+     */
+    private long caughtUpTo(long replayLsn) {
+        for (int n = 1; n <= sampleCount; n++) {
+            int slot = (nextSlot - n + MAX_SAMPLES) % MAX_SAMPLES;
+            if (sampleLsns[slot] <= replayLsn) {
+                return sampleTimes[slot];
+            }
+        }
+        return 0;
+    }
+
+    private long queryLsn(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+            try (ResultSet rs = statement.executeQuery(sql)) {
+                if (!rs.next()) {
+                    return UNKNOWN_LSN;
+                }
+                long lsn = rs.getLong(1);
+                return rs.wasNull() ? UNKNOWN_LSN : lsn;
+            }
+        }
+    }
+
+    /**
+     * 주기적 측정을 시작합니다.
+     *
+     * @param intervalMs 측정 주기 (ms)
+     */
+    public synchronized void start(long intervalMs) {
+        if (sampler != null || intervalMs <= 0) {
+            return;
+        }
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleWithFixedDelay(this::sampleSafely, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void sampleSafely() {
+        try {
+            sample();
+        } catch (RuntimeException e) {
+            log.warn("Replication lag sampling failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 측정을 중지합니다.
+     */
+    @Override
+    public synchronized void close() {
+        if (sampler != null) {
+            sampler.shutdownNow();
+            sampler = null;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ReplicaNode node : nodes) {
+            Gauge.builder("datasource.replica.lag", node,
+                            n -> n.getReplayLagMillis() < 0 ? Double.NaN : n.getReplayLagMillis())
+                    .description("Replication lag of the replica in milliseconds (sample interval granularity)")
+                    .tag("replica", node.getName())
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        }
+    }
+}
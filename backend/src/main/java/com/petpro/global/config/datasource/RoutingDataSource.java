@@ -2,6 +2,10 @@ package com.petpro.global.config.datasource;
 
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
 
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
 /**
  * RoutingDataSource
  *
@@ -9,11 +13,32 @@ import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
  * 현재 스레드의 컨텍스트에 설정된 데이터소스 타입에 따라 적절한 데이터소스를 선택합니다.
  *
  * 라우팅 규칙:
- * - @Transactional(readOnly = true) -> Slave 데이터소스
+ * - @Transactional(readOnly = true) -> SlaveDataSourceRouter가 고른 Slave 데이터소스
+ *   (정상 Slave가 없거나 커넥션 획득에 실패하면 Master)
+ *   Read-your-writes 모드에서는 현재 사용자의 마지막 쓰기를 반영한 Slave만 사용
  * - @Transactional (기본값) -> Master 데이터소스
  */
 public class RoutingDataSource extends AbstractRoutingDataSource {
 
+    /** Slave 선택 라우터 (없으면 targetDataSources의 SLAVE 항목 사용) */
+    private final SlaveDataSourceRouter slaveRouter;
+
+    /** Read-your-writes 정책 (null이면 복제 지연을 고려하지 않음) */
+    private final ReadYourWritesPolicy readYourWritesPolicy;
+
+    public RoutingDataSource() {
+        this(null);
+    }
+
+    public RoutingDataSource(SlaveDataSourceRouter slaveRouter) {
+        this(slaveRouter, null);
+    }
+
+    public RoutingDataSource(SlaveDataSourceRouter slaveRouter, ReadYourWritesPolicy readYourWritesPolicy) {
+        this.slaveRouter = slaveRouter;
+        this.readYourWritesPolicy = readYourWritesPolicy;
+    }
+
     /**
      * 현재 요청에서 사용할 데이터소스의 Lookup Key를 결정합니다.
      * DataSourceContextHolder에서 현재 스레드의 데이터소스 타입을 조회하여 반환합니다.
@@ -24,4 +49,65 @@ public class RoutingDataSource extends AbstractRoutingDataSource {
     protected Object determineCurrentLookupKey() {
         return DataSourceContextHolder.getDataSourceType();
     }
+
+    /**
+     * 읽기 요청은 커넥션을 얻을 때마다 라우터에서 Slave를 고릅니다.
+     */
+    @Override
+    protected DataSource determineTargetDataSource() {
+        if (slaveRouter != null && determineCurrentLookupKey() == DataSourceType.SLAVE) {
+            long requiredCaughtUpTo = readYourWritesPolicy != null ? readYourWritesPolicy.requiredCaughtUpTo() : 0;
+            DataSource slave = slaveRouter.getNextSlaveDataSource(requiredCaughtUpTo);
+            return slave != null ? slave : getResolvedDefaultDataSource();
+        }
+        return super.determineTargetDataSource();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        trackWrite(target);
+        try {
+            return target.getConnection();
+        } catch (SQLException e) {
+            if (retryOnMaster(target, e)) {
+                return getResolvedDefaultDataSource().getConnection();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        DataSource target = determineTargetDataSource();
+        trackWrite(target);
+        try {
+            return target.getConnection(username, password);
+        } catch (SQLException e) {
+            if (retryOnMaster(target, e)) {
+                return getResolvedDefaultDataSource().getConnection(username, password);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Master 커넥션이면 쓰기 트랜잭션 커밋 시각을 기록하도록 등록합니다.
+     */
+    private void trackWrite(DataSource target) {
+        if (readYourWritesPolicy != null && target == getResolvedDefaultDataSource()) {
+            readYourWritesPolicy.onMasterConnection();
+        }
+    }
+
+    /**
+     * Slave 커넥션 획득 실패 시 해당 Slave를 제외하고 Master로 재시도할지 결정합니다.
+     */
+    private boolean retryOnMaster(DataSource target, SQLException e) {
+        if (slaveRouter == null || target == getResolvedDefaultDataSource() || !slaveRouter.markFailed(target)) {
+            return false;
+        }
+        logger.warn("Slave connection failed, retrying on master: " + e.getMessage());
+        return true;
+    }
 }
@@ -1,56 +1,292 @@
 package com.petpro.global.config.datasource;
 
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * SlaveDataSourceRouter
  *
- * 여러 Slave 데이터소스 간의 부하 분산을 위한 Round Robin 라우터입니다.
- * 읽기 전용 쿼리를 여러 Slave 노드에 균등하게 분배하여 부하를 분산시킵니다.
+ * 여러 Slave 데이터소스 간의 부하 분산과 상태 관리를 담당하는 라우터입니다.
+ * RoutingDataSource가 읽기 요청마다 이 라우터에서 Slave를 고릅니다.
  *
  * 동작 방식:
- * - AtomicInteger 카운터를 사용하여 스레드 안전한 Round Robin 구현
- * - 요청마다 다음 Slave 데이터소스를 순차적으로 반환
+ * - 정상 노드 중 ReplicaBalancer(Round Robin / Least Active / Weighted)가 고른 노드를 반환
+ * - 백그라운드 상태 확인(Connection.isValid)에서 연속 실패한 노드는 제외하고, 성공하면 다시 포함
+ * - 커넥션 획득에 실패한 노드는 상태 확인을 기다리지 않고 즉시 제외
+ * - 정상 노드가 없으면 null을 반환하여 Master로 대체하도록 함
+ * - 최소 반영 시각이 주어지면(Read-your-writes) 그 시각까지 반영한 정상 노드 중에서만 고름
+ *
+ * 메트릭:
+ * - datasource.replica.routed{replica} (replica=master는 Master 대체 횟수)
+ * - datasource.replica.healthy{replica}
+ * - datasource.replica.pool.saturation{replica} (사용 중 커넥션 / 최대 풀 크기)
+ * - datasource.replica.pool.pending{replica} (커넥션 대기 스레드 수)
+ * - datasource.replica.consistency.fallback (반영이 뒤처져 Master로 대체한 횟수, routed{replica=master}에도 포함)
  */
-public class SlaveDataSourceRouter {
+public class SlaveDataSourceRouter implements MeterBinder, AutoCloseable {
 
     /** 로깅을 위한 Logger 인스턴스 */
     private static final Logger log = LoggerFactory.getLogger(SlaveDataSourceRouter.class);
 
-    /** Slave 데이터소스 목록 */
-    private final List<DataSource> slaveDataSources;
+    /** Slave 노드 목록 */
+    private final List<ReplicaNode> nodes;
+
+    /** 부하 분산 전략 */
+    private final ReplicaBalancer balancer;
+
+    /** 연속 실패 시 제외할 횟수 */
+    private final int failureThreshold;
+
+    /** 상태 확인 쿼리 제한 시간 (초) */
+    private final int healthCheckTimeoutSeconds;
+
+    /** 현재 정상 노드 (상태가 바뀔 때만 새 목록으로 교체) */
+    private volatile List<ReplicaNode> healthyNodes;
 
-    /** Round Robin을 위한 원자적 카운터 */
-    private final AtomicInteger counter = new AtomicInteger(0);
+    /** 정상 노드가 없어 Master로 대체한 횟수 */
+    private final AtomicLong masterFallbackCount = new AtomicLong();
+
+    /** 최소 반영 시각을 만족하는 노드가 없어 Master로 대체한 횟수 */
+    private final AtomicLong consistencyFallbackCount = new AtomicLong();
+
+    /** 상태 확인 스케줄러 (start 호출 시 생성) */
+    private ScheduledExecutorService healthChecker;
 
     /**
-     * SlaveDataSourceRouter 생성자
+     * SlaveDataSourceRouter 생성자 (Round Robin, 상태 확인 없이 사용)
      *
      * @param slaveDataSources Slave 데이터소스 목록 (최소 1개 이상 필수)
      * @throws IllegalArgumentException slaveDataSources가 null이거나 비어있는 경우
      */
     public SlaveDataSourceRouter(List<DataSource> slaveDataSources) {
-        if (slaveDataSources == null || slaveDataSources.isEmpty()) {
+        this(toNodes(slaveDataSources), new ReplicaBalancer.RoundRobin(), 1, 2);
+    }
+
+    /**
+     * SlaveDataSourceRouter 생성자
+     *
+     * @param nodes Slave 노드 목록 (최소 1개 이상 필수)
+     * @param balancer 부하 분산 전략
+     * @param failureThreshold 연속 실패 시 제외할 횟수
+     * @param healthCheckTimeoutSeconds 상태 확인 쿼리 제한 시간 (초)
+     */
+    public SlaveDataSourceRouter(List<ReplicaNode> nodes, ReplicaBalancer balancer,
+                                 int failureThreshold, int healthCheckTimeoutSeconds) {
+        if (nodes == null || nodes.isEmpty()) {
             throw new IllegalArgumentException("Slave DataSources cannot be null or empty");
         }
-        this.slaveDataSources = slaveDataSources;
+        this.nodes = List.copyOf(nodes);
+        this.balancer = balancer;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.healthCheckTimeoutSeconds = healthCheckTimeoutSeconds;
+        this.healthyNodes = this.nodes;
+    }
+
+    private static List<ReplicaNode> toNodes(List<DataSource> dataSources) {
+        if (dataSources == null || dataSources.isEmpty()) {
+            throw new IllegalArgumentException("Slave DataSources cannot be null or empty");
+        }
+        List<ReplicaNode> nodes = new ArrayList<>(dataSources.size());
+        for (int i = 0; i < dataSources.size(); i++) {
+            nodes.add(new ReplicaNode("slave" + (i + 1), dataSources.get(i), 1));
+        }
+        return nodes;
     }
 
     /**
-     * Round Robin 방식으로 다음 Slave 데이터소스를 반환합니다.
-     * 카운터 오버플로우 시에도 음수 인덱스를 방지하기 위해 Math.abs를 사용합니다.
+     * 정상 Slave 중 다음 데이터소스를 반환합니다.
      *
-     * @return 다음 순서의 Slave 데이터소스
+     * @return 선택된 Slave 데이터소스, 정상 노드가 없으면 null (Master 사용)
      */
     public DataSource getNextSlaveDataSource() {
-        int index = Math.abs(counter.getAndIncrement() % slaveDataSources.size());
-        log.debug("Routing to slave index: {}", index);
-        return slaveDataSources.get(index);
+        return getNextSlaveDataSource(0);
+    }
+
+    /**
+     * 주어진 시각까지 반영한 정상 Slave 중 다음 데이터소스를 반환합니다.
+     *
+     * @param requiredCaughtUpTo 최소 반영 시각 (epoch ms, 0 이하이면 제약 없음)
+     * @return 선택된 Slave 데이터소스, 조건을 만족하는 노드가 없으면 null (Master 사용)
+     */
+    public DataSource getNextSlaveDataSource(long requiredCaughtUpTo) {
+        List<ReplicaNode> candidates = healthyNodes;
+        if (candidates.isEmpty()) {
+            masterFallbackCount.incrementAndGet();
+            log.debug("No healthy slave, routing to master");
+            return null;
+        }
+        if (requiredCaughtUpTo > 0) {
+            candidates = caughtUpNodes(candidates, requiredCaughtUpTo);
+            if (candidates.isEmpty()) {
+                masterFallbackCount.incrementAndGet();
+                consistencyFallbackCount.incrementAndGet();
+                log.debug("No slave has caught up to {}, routing to master", requiredCaughtUpTo);
+                return null;
+            }
+        }
+        ReplicaNode node = candidates.size() == 1 ? candidates.get(0) : balancer.select(candidates);
+        node.recordRouted();
+        log.debug("Routing to slave: {}", node.getName());
+        return node.getDataSource();
+    }
+
+    /**
+     * 최소 반영 시각을 만족하는 노드 (모두 만족하면 목록을 그대로 반환)
+     */
+    private static List<ReplicaNode> caughtUpNodes(List<ReplicaNode> candidates, long requiredCaughtUpTo) {
+        int caughtUp = 0;
+        for (ReplicaNode node : candidates) {
+            if (node.isCaughtUpTo(requiredCaughtUpTo)) {
+                caughtUp++;
+            }
+        }
+        if (caughtUp == candidates.size()) {
+            return candidates;
+        }
+        List<ReplicaNode> filtered = new ArrayList<>(caughtUp);
+        for (ReplicaNode node : candidates) {
+            if (node.isCaughtUpTo(requiredCaughtUpTo)) {
+                filtered.add(node);
+            }
+        }
+        return filtered;
+    }
+
+    /**
+     * 커넥션 획득에 실패한 Slave를 즉시 라우팅 대상에서 제외합니다.
+     *
+     * @param dataSource 실패한 데이터소스
+     * @return Slave 데이터소스였으면 true (Master로 재시도 가능)
+     */
+    public boolean markFailed(DataSource dataSource) {
+        for (ReplicaNode node : nodes) {
+            if (node.getDataSource() == dataSource) {
+                if (node.markDown()) {
+                    log.warn("Slave {} removed from rotation after connection failure", node.getName());
+                    refreshHealthyNodes();
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 모든 Slave의 상태를 확인하여 라우팅 대상을 갱신합니다.
+     */
+    public void checkHealth() {
+        boolean changed = false;
+        for (ReplicaNode node : nodes) {
+            boolean valid;
+            try (Connection connection = node.getDataSource().getConnection()) {
+                valid = connection.isValid(healthCheckTimeoutSeconds);
+            } catch (SQLException | RuntimeException e) {
+                log.debug("Health check failed for slave {}: {}", node.getName(), e.getMessage());
+                valid = false;
+            }
+
+            if (valid && node.recordSuccess()) {
+                log.info("Slave {} is healthy again, returning to rotation", node.getName());
+                changed = true;
+            } else if (!valid && node.recordFailure(failureThreshold)) {
+                log.warn("Slave {} failed {} consecutive health checks, removed from rotation",
+                        node.getName(), failureThreshold);
+                changed = true;
+            }
+        }
+        if (changed) {
+            refreshHealthyNodes();
+        }
+    }
+
+    private void refreshHealthyNodes() {
+        healthyNodes = nodes.stream().filter(ReplicaNode::isHealthy).toList();
+        if (healthyNodes.isEmpty()) {
+            log.error("No healthy slave available, read queries will use master");
+        }
+    }
+
+    /**
+     * 주기적 상태 확인을 시작합니다.
+     *
+     * @param intervalMs 확인 주기 (ms)
+     */
+    public synchronized void start(long intervalMs) {
+        if (healthChecker != null || intervalMs <= 0) {
+            return;
+        }
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkHealthSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void checkHealthSafely() {
+        try {
+            checkHealth();
+        } catch (RuntimeException e) {
+            log.warn("Replica health check failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 상태 확인을 중지합니다.
+     */
+    @Override
+    public synchronized void close() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+            healthChecker = null;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ReplicaNode node : nodes) {
+            FunctionCounter.builder("datasource.replica.routed", node, ReplicaNode::getRoutedCount)
+                    .description("Read connections routed to each replica")
+                    .tag("replica", node.getName())
+                    .register(registry);
+            Gauge.builder("datasource.replica.healthy", node, n -> n.isHealthy() ? 1 : 0)
+                    .description("Whether the replica is in rotation")
+                    .tag("replica", node.getName())
+                    .register(registry);
+            Gauge.builder("datasource.replica.pool.saturation", node, ReplicaNode::poolSaturation)
+                    .description("Active connections divided by maximum pool size")
+                    .tag("replica", node.getName())
+                    .register(registry);
+            Gauge.builder("datasource.replica.pool.pending", node, n -> {
+                        HikariPoolMXBean pool = n.poolMXBean();
+                        return pool != null ? pool.getThreadsAwaitingConnection() : 0;
+                    })
+                    .description("Threads waiting for a connection from the replica pool")
+                    .tag("replica", node.getName())
+                    .register(registry);
+        }
+        FunctionCounter.builder("datasource.replica.routed", masterFallbackCount, AtomicLong::get)
+                .description("Read connections routed to each replica")
+                .tag("replica", "master")
+                .register(registry);
+        FunctionCounter.builder("datasource.replica.consistency.fallback", consistencyFallbackCount, AtomicLong::get)
+                .description("Reads routed to master because no replica had caught up with the user's last write")
+                .register(registry);
     }
 
     /**
@@ -59,6 +295,20 @@ public class SlaveDataSourceRouter {
      * @return Slave 데이터소스 목록
      */
     public List<DataSource> getAllSlaveDataSources() {
-        return slaveDataSources;
+        return nodes.stream().map(ReplicaNode::getDataSource).toList();
+    }
+
+    /**
+     * 등록된 모든 Slave 노드 목록을 반환합니다.
+     */
+    public List<ReplicaNode> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * 현재 라우팅 대상인 Slave 노드 목록을 반환합니다.
+     */
+    public List<ReplicaNode> getHealthyNodes() {
+        return healthyNodes;
     }
 }
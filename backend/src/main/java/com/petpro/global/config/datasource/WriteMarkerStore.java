@@ -0,0 +1,89 @@
+package com.petpro.global.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WriteMarkerStore
+ *
+ * 사용자별 마지막 쓰기 커밋 시각(epoch ms)을 보관합니다.
+ *
+ * - Redis에 TTL과 함께 저장하여 다른 애플리케이션 노드에서도 조회할 수 있게 함
+ * - 같은 노드의 조회를 위해 로컬에도 보관하며, Redis 장애 시에는 로컬 기록만 사용
+ * - TTL이 지나면 기록이 사라지고 해당 사용자도 모든 Slave에서 읽음
+ */
+public class WriteMarkerStore {
+
+    /** 로깅을 위한 Logger 인스턴스 */
+    private static final Logger log = LoggerFactory.getLogger(WriteMarkerStore.class);
+
+    /** 로컬 기록 최대 사용자 수 */
+    private static final long LOCAL_MAX_SIZE = 100_000;
+
+    /** Redis 템플릿 (null이면 로컬 기록만 사용) */
+    private final StringRedisTemplate redisTemplate;
+
+    private final String keyPrefix;
+
+    private final Duration ttl;
+
+    private final Cache<String, Long> localMarkers;
+
+    public WriteMarkerStore(StringRedisTemplate redisTemplate, String keyPrefix, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.ttl = ttl;
+        this.localMarkers = Caffeine.newBuilder()
+                .maximumSize(LOCAL_MAX_SIZE)
+                .expireAfterWrite(ttl.toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * 사용자의 쓰기 커밋 시각을 기록합니다.
+     *
+     * @param userId 사용자 ID
+     * @param epochMillis 커밋 시각
+     */
+    public void recordWrite(String userId, long epochMillis) {
+        localMarkers.asMap().merge(userId, epochMillis, Math::max);
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(keyPrefix + userId, Long.toString(epochMillis), ttl);
+        } catch (DataAccessException e) {
+            log.debug("Failed to store write marker in Redis, keeping it local: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자의 마지막 쓰기 커밋 시각을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 마지막 쓰기 시각, 기록이 없으면 0
+     */
+    public long lastWrite(String userId) {
+        Long local = localMarkers.getIfPresent(userId);
+        long lastWrite = local != null ? local : 0;
+        if (redisTemplate == null) {
+            return lastWrite;
+        }
+        try {
+            String value = redisTemplate.opsForValue().get(keyPrefix + userId);
+            if (value != null) {
+                lastWrite = Math.max(lastWrite, Long.parseLong(value));
+            }
+        } catch (DataAccessException | NumberFormatException e) {
+            log.debug("Failed to read write marker from Redis, using local marker: {}", e.getMessage());
+        }
+        return lastWrite;
+    }
+}
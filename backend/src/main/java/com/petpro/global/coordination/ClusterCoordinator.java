@@ -0,0 +1,227 @@
+package com.petpro.global.coordination;
+
+import com.petpro.global.config.CoordinationConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클러스터 조정 컴포넌트
+ *
+ * 여러 애플리케이션 노드가 공유하는 두 가지 기능을 제공합니다.
+ * - 일일 호출 한도: 날짜별 카운터를 원자적으로 확인·증가 (노드 재시작과 무관)
+ * - 실행 리스: 한 번에 한 노드만 보유하며, 획득마다 증가하는 펜싱 토큰을 발급
+ *
+ * 리스는 DB(coordination_leases)만 사용합니다. 저장소가 둘이면 Redis 장애를 겪은 노드와 그렇지 않은 노드가
+ * 동시에 리스를 가질 수 있기 때문입니다. 리스를 가진 작업은 쓰기 트랜잭션마다 ClusterLease.fence()로
+ * 토큰이 여전히 최신인지 확인하고 공유 잠금을 잡아, 커밋 전에 다른 노드가 리스를 가져가지 못하게 합니다.
+ *
+ * 호출 한도는 Redis를 우선 사용하고, Redis 호출이 실패하면 DB(api_quota_usage)로 대체합니다.
+ * 두 저장소 사이에서는 이 노드가 마지막으로 본 사용량을 하한으로 넘겨, 전환 후 0부터 다시 세지 않도록 합니다.
+ * (다른 노드가 그 뒤에 사용한 양은 반영되지 않으므로 전환 구간의 한도는 근사치)
+ *
+ * 메트릭: coordination.fallback{operation=quota} (Redis 대신 DB를 사용한 횟수)
+ */
+@Slf4j
+@Component
+public class ClusterCoordinator {
+
+    private static final Duration QUOTA_KEY_TTL = Duration.ofDays(2);
+    private static final DateTimeFormatter QUOTA_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int MAX_TRACKED_QUOTA_KEYS = 1024;
+
+    /**
+     * 한도 미만이면 증가 후 사용량 반환, 한도에 도달했으면 -1
+     * 저장된 값이 ARGV[3](이 노드가 DB에서 본 사용량)보다 작으면 그 값부터 셉니다.
+     */
+    private static final RedisScript<Long> ACQUIRE_QUOTA_SCRIPT = new DefaultRedisScript<>("""
+            local used = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local floor = tonumber(ARGV[3])
+            if used < floor then
+              used = floor
+              redis.call('SET', KEYS[1], used, 'PX', ARGV[2])
+            end
+            if used >= tonumber(ARGV[1]) then
+              return -1
+            end
+            used = redis.call('INCR', KEYS[1])
+            if used == 1 then
+              redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return used
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CoordinationJdbcRepository jdbcRepository;
+    private final CoordinationConfig config;
+    private final ZoneId quotaZone;
+
+    /** 이 노드(프로세스)의 식별자 */
+    @Getter
+    private final String ownerId;
+
+    private final Counter quotaFallbackCounter;
+
+    /** 한도 키별로 이 노드가 마지막으로 본 사용량 (저장소 전환 시 하한) */
+    private final Map<String, Long> lastKnownQuotaUsed = new ConcurrentHashMap<>();
+
+    public ClusterCoordinator(StringRedisTemplate redisTemplate, CoordinationJdbcRepository jdbcRepository,
+                              CoordinationConfig config, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcRepository = jdbcRepository;
+        this.config = config;
+        this.quotaZone = ZoneId.of(config.getQuotaZone());
+        this.ownerId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.quotaFallbackCounter = fallbackCounter(meterRegistry, "quota");
+    }
+
+    private static Counter fallbackCounter(MeterRegistry meterRegistry, String operation) {
+        return Counter.builder("coordination.fallback")
+                .description("Coordination operations served by the database because Redis was unavailable")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    // ========== 일일 호출 한도 ==========
+
+    /**
+     * 오늘 호출 한도에서 1회 차감
+     *
+     * @param name 한도 이름 (API 구분)
+     * @param dailyLimit 일일 한도
+     * @return 한도 안에서 차감했으면 true
+     */
+    public boolean tryAcquireQuota(String name, int dailyLimit) {
+        LocalDate today = LocalDate.now(quotaZone);
+        String key = quotaKey(name, today);
+        long floor = lastKnownQuotaUsed.getOrDefault(key, 0L);
+        if (config.isRedisEnabled()) {
+            try {
+                Long used = redisTemplate.execute(ACQUIRE_QUOTA_SCRIPT, List.of(key),
+                        String.valueOf(dailyLimit), String.valueOf(QUOTA_KEY_TTL.toMillis()), String.valueOf(floor));
+                if (used == null || used < 0) {
+                    rememberQuotaUsed(key, dailyLimit);
+                    return false;
+                }
+                rememberQuotaUsed(key, used);
+                return true;
+            } catch (DataAccessException e) {
+                log.warn("Redis quota check failed, falling back to database: name={}, error={}",
+                        name, e.getMessage());
+                quotaFallbackCounter.increment();
+            }
+        }
+        OptionalLong used = jdbcRepository.tryAcquireQuota(name, today, dailyLimit, floor);
+        if (used.isEmpty()) {
+            rememberQuotaUsed(key, dailyLimit);
+            return false;
+        }
+        rememberQuotaUsed(key, used.getAsLong());
+        return true;
+    }
+
+    /**
+     * 오늘 사용한 호출 수
+     */
+    public int getQuotaUsed(String name) {
+        LocalDate today = LocalDate.now(quotaZone);
+        String key = quotaKey(name, today);
+        if (config.isRedisEnabled()) {
+            try {
+                String used = redisTemplate.opsForValue().get(key);
+                return used != null ? Integer.parseInt(used) : 0;
+            } catch (DataAccessException e) {
+                log.warn("Redis quota read failed, falling back to database: name={}, error={}",
+                        name, e.getMessage());
+                quotaFallbackCounter.increment();
+            }
+        }
+        return (int) Math.max(jdbcRepository.getQuotaUsed(name, today), lastKnownQuotaUsed.getOrDefault(key, 0L));
+    }
+
+    private void rememberQuotaUsed(String key, long used) {
+        if (lastKnownQuotaUsed.size() > MAX_TRACKED_QUOTA_KEYS) {
+            // 지난 날짜 키 정리
+            lastKnownQuotaUsed.clear();
+        }
+        lastKnownQuotaUsed.merge(key, used, Math::max);
+    }
+
+    // ========== 실행 리스 ==========
+
+    /**
+     * 리스 획득 시도 (대기하지 않음)
+     *
+     * @param name 리스 이름 (작업 구분)
+     * @param ttl 보유 시간 (renew로 연장)
+     * @return 획득한 리스, 다른 노드가 보유 중이면 빈 값
+     */
+    public Optional<ClusterLease> tryAcquireLease(String name, Duration ttl) {
+        long ttlMillis = ttl.toMillis();
+        return jdbcRepository.acquireLease(name, ownerId, ttlMillis)
+                .map(token -> {
+                    log.info("Lease acquired: name={}, owner={}, token={}", name, ownerId, token);
+                    return new ClusterLease(name, ownerId, token, ttlMillis, this);
+                });
+    }
+
+    boolean renew(ClusterLease lease) {
+        try {
+            return jdbcRepository.renewLease(lease.getName(), lease.getOwnerId(),
+                    lease.getFencingToken(), lease.getTtlMillis());
+        } catch (DataAccessException e) {
+            // 보유 여부를 확인할 수 없으면 잃은 것으로 간주
+            log.warn("Lease renewal failed: name={}, token={}, error={}",
+                    lease.getName(), lease.getFencingToken(), e.getMessage());
+            return false;
+        }
+    }
+
+    boolean fence(ClusterLease lease) {
+        return jdbcRepository.fenceLease(lease.getName(), lease.getOwnerId(), lease.getFencingToken());
+    }
+
+    void release(ClusterLease lease) {
+        try {
+            jdbcRepository.releaseLease(lease.getName(), lease.getOwnerId(), lease.getFencingToken());
+            log.info("Lease released: name={}, token={}", lease.getName(), lease.getFencingToken());
+        } catch (DataAccessException e) {
+            // 반납하지 못해도 TTL이 지나면 만료됨
+            log.warn("Lease release failed: name={}, token={}, error={}",
+                    lease.getName(), lease.getFencingToken(), e.getMessage());
+        }
+    }
+
+    // ========== 키 ==========
+
+    private String quotaKey(String name, LocalDate date) {
+        return config.getKeyPrefix() + "quota:" + name + ":" + date.format(QUOTA_DATE);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
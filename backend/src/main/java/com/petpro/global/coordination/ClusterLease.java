@@ -0,0 +1,64 @@
+package com.petpro.global.coordination;
+
+import lombok.Getter;
+
+/**
+ * 클러스터 실행 리스
+ *
+ * 펜싱 토큰은 같은 이름의 리스를 획득할 때마다 증가하므로, 작업 기록에 남겨 두면
+ * 만료 후 늦게 도착한 이전 보유자의 작업과 구분할 수 있습니다.
+ * 긴 작업은 쓰기 전마다 renew()로 보유 여부를 확인하고, false면 즉시 중단해야 합니다.
+ * 공유 데이터 쓰기는 같은 트랜잭션에서 fence()로 토큰을 확인해, 만료 후 늦게 도착한 쓰기를 막습니다.
+ */
+@Getter
+public class ClusterLease implements AutoCloseable {
+
+    private final String name;
+    private final String ownerId;
+    private final long fencingToken;
+    private final long ttlMillis;
+
+    private final ClusterCoordinator coordinator;
+    private volatile boolean released;
+
+    ClusterLease(String name, String ownerId, long fencingToken, long ttlMillis, ClusterCoordinator coordinator) {
+        this.name = name;
+        this.ownerId = ownerId;
+        this.fencingToken = fencingToken;
+        this.ttlMillis = ttlMillis;
+        this.coordinator = coordinator;
+    }
+
+    /**
+     * 보유 확인 및 만료 시간 연장
+     *
+     * @return 여전히 보유 중이면 true
+     */
+    public boolean renew() {
+        return !released && coordinator.renew(this);
+    }
+
+    /**
+     * 쓰기 트랜잭션 안에서 펜싱 토큰 확인
+     *
+     * 이 리스가 여전히 최신 토큰이고 만료 전이면 리스 행에 공유 잠금을 잡으므로,
+     * 현재 트랜잭션이 커밋될 때까지 다른 노드가 리스를 가져갈 수 없습니다.
+     * 잠금을 잡은 뒤 같은 트랜잭션이 끝나기 전에 renew()를 호출하면 자신의 잠금을 기다리게 되므로 호출하지 않아야 합니다.
+     *
+     * @return 최신 토큰이면 true (false면 쓰지 말고 중단)
+     */
+    public boolean fence() {
+        return !released && coordinator.fence(this);
+    }
+
+    /**
+     * 리스 반납
+     */
+    @Override
+    public void close() {
+        if (!released) {
+            released = true;
+            coordinator.release(this);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.petpro.global.coordination;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * 클러스터 조정 DB 저장소 (실행 리스, Redis 장애 시 호출 한도)
+ *
+ * 만료 판단은 DB 시각(now())으로만 하므로 노드 간 시계 차이의 영향을 받지 않습니다.
+ * 호출자 트랜잭션과 무관하게 즉시 커밋되어야 다른 노드가 바로 볼 수 있으므로 펜싱 확인을 제외하고 모두 REQUIRES_NEW로 실행합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CoordinationJdbcRepository {
+
+    private static final String ACQUIRE_LEASE_SQL = """
+            INSERT INTO coordination_leases (name, owner_id, fencing_token, expires_at, updated_at)
+            VALUES (?, ?, 1, now() + ? * INTERVAL '1 millisecond', now())
+            ON CONFLICT (name) DO UPDATE SET
+                owner_id = EXCLUDED.owner_id,
+                fencing_token = coordination_leases.fencing_token + 1,
+                expires_at = EXCLUDED.expires_at,
+                updated_at = now()
+            WHERE coordination_leases.expires_at < now()
+            RETURNING fencing_token
+            """;
+
+    private static final String RENEW_LEASE_SQL = """
+            UPDATE coordination_leases
+               SET expires_at = now() + ? * INTERVAL '1 millisecond', updated_at = now()
+             WHERE name = ? AND owner_id = ? AND fencing_token = ? AND expires_at >= now()
+            """;
+
+    private static final String RELEASE_LEASE_SQL = """
+            UPDATE coordination_leases
+               SET expires_at = now(), updated_at = now()
+             WHERE name = ? AND owner_id = ? AND fencing_token = ?
+            """;
+
+    /** 최신 토큰이고 만료 전이면 리스 행을 공유 잠금 (획득 UPDATE는 이 트랜잭션이 끝날 때까지 대기) */
+    private static final String FENCE_LEASE_SQL = """
+            SELECT fencing_token FROM coordination_leases
+             WHERE name = ? AND owner_id = ? AND fencing_token = ? AND expires_at >= now()
+               FOR SHARE
+            """;
+
+    /** 저장된 값과 하한(Redis에서 본 사용량) 중 큰 값부터 셈 */
+    private static final String ACQUIRE_QUOTA_SQL = """
+            INSERT INTO api_quota_usage (api_name, usage_date, used_count)
+            VALUES (?, ?, ? + 1)
+            ON CONFLICT (api_name, usage_date) DO UPDATE SET
+                used_count = GREATEST(api_quota_usage.used_count, EXCLUDED.used_count - 1) + 1
+            WHERE GREATEST(api_quota_usage.used_count, EXCLUDED.used_count - 1) < ?
+            RETURNING used_count
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 리스 획득 (비어 있거나 만료된 경우에만)
+     *
+     * @return 새 펜싱 토큰, 다른 노드가 보유 중이면 빈 값
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<Long> acquireLease(String name, String ownerId, long ttlMillis) {
+        List<Long> tokens = jdbcTemplate.queryForList(ACQUIRE_LEASE_SQL, Long.class, name, ownerId, ttlMillis);
+        return tokens.stream().findFirst();
+    }
+
+    /**
+     * 리스 연장 (보유 중이고 만료 전인 경우에만)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean renewLease(String name, String ownerId, long fencingToken, long ttlMillis) {
+        return jdbcTemplate.update(RENEW_LEASE_SQL, ttlMillis, name, ownerId, fencingToken) == 1;
+    }
+
+    /**
+     * 펜싱 토큰 확인 및 리스 행 공유 잠금 (호출자 쓰기 트랜잭션에서 실행)
+     *
+     * @return 최신 토큰이고 만료 전이면 true
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean fenceLease(String name, String ownerId, long fencingToken) {
+        return !jdbcTemplate.queryForList(FENCE_LEASE_SQL, Long.class, name, ownerId, fencingToken).isEmpty();
+    }
+
+    /**
+     * 리스 반납 (토큰 이력 유지를 위해 행은 남기고 즉시 만료 처리)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void releaseLease(String name, String ownerId, long fencingToken) {
+        jdbcTemplate.update(RELEASE_LEASE_SQL, name, ownerId, fencingToken);
+    }
+
+    /**
+     * 호출 한도 1회 차감
+     *
+     * @param floor 사용량 하한 (Redis에서 마지막으로 본 사용량)
+     * @return 차감 후 사용량, 한도에 도달했으면 빈 값
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public OptionalLong tryAcquireQuota(String apiName, LocalDate usageDate, int limit, long floor) {
+        if (limit <= 0 || floor >= limit) {
+            return OptionalLong.empty();
+        }
+        List<Long> used = jdbcTemplate.queryForList(ACQUIRE_QUOTA_SQL, Long.class, apiName, usageDate, floor, limit);
+        return used.isEmpty() ? OptionalLong.empty() : OptionalLong.of(used.get(0));
+    }
+
+    /**
+     * 사용한 호출 수 조회
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public int getQuotaUsed(String apiName, LocalDate usageDate) {
+        List<Integer> used = jdbcTemplate.queryForList(
+                "SELECT used_count FROM api_quota_usage WHERE api_name = ? AND usage_date = ?",
+                Integer.class, apiName, usageDate);
+        return used.isEmpty() ? 0 : used.get(0);
+    }
+}
@@ -153,6 +153,8 @@ public enum ErrorCode {
     EXTERNAL_API_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "FH002", "외부 API 호출에 실패했습니다."),
     /** 동기화 진행 중 */
     SYNC_ALREADY_RUNNING(HttpStatus.CONFLICT, "FH003", "이미 동기화가 진행 중입니다."),
+    /** 동기화 실행 리스 상실 */
+    SYNC_LEASE_LOST(HttpStatus.CONFLICT, "FH004", "동기화 실행 권한을 잃어 중단되었습니다."),
 
     // ==================== Coupon (쿠폰) ====================
     /** 쿠폰을 찾을 수 없음 */
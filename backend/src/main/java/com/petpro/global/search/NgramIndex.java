@@ -0,0 +1,248 @@
+package com.petpro.global.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 한글 부분 문자열 검색용 n-gram 역색인
+ *
+ * 문서(행)마다 여러 필드(우선순위 순서)를 정규화한 뒤 1-gram, 2-gram별 게시 목록(행 번호 오름차순 int 배열)을 만듭니다.
+ * 검색어는 같은 방식으로 정규화해 2-gram(한 글자면 1-gram)으로 나누고,
+ * 가장 짧은 게시 목록부터 교집합을 구해 후보를 줄인 뒤 정규화 문자열 포함 여부로 최종 확인합니다.
+ * 따라서 3글자 이상 검색어도 구성 2-gram이 모두 들어 있는 행만 확인 대상이 됩니다.
+ *
+ * 정규화: 유니코드 NFKC(전각 문자, 호환 자모 → 완성형 조합), 영문 소문자화, 공백 제거
+ * → "하늘장례식장"으로 "하늘 장례식장"을, "ABC"로 "abc"를 찾을 수 있습니다.
+ *
+ * 생성 후에는 변경하지 않으므로 여러 스레드에서 동시에 읽어도 안전합니다.
+ */
+public final class NgramIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int[] EMPTY = new int[0];
+
+    /** 일치 유형 (값이 클수록 좋은 일치) */
+    private static final int EXACT = 3;
+    private static final int PREFIX = 2;
+    private static final int CONTAINS = 1;
+
+    private final int size;
+    private final String[][] fields;
+    private final Map<String, int[]> postings;
+
+    private NgramIndex(int size, String[][] fields, Map<String, int[]> postings) {
+        this.size = size;
+        this.fields = fields;
+        this.postings = postings;
+    }
+
+    /**
+     * 색인 생성
+     *
+     * @param documents 행별 필드 값 (앞의 필드일수록 순위 가중치가 높음, null 허용)
+     */
+    public static NgramIndex of(List<String[]> documents) {
+        int n = documents.size();
+        String[][] fields = new String[n][];
+        Map<String, IntList> lists = new HashMap<>();
+        Set<String> grams = new LinkedHashSet<>();
+        for (int row = 0; row < n; row++) {
+            String[] source = documents.get(row);
+            String[] normalized = new String[source.length];
+            grams.clear();
+            for (int f = 0; f < source.length; f++) {
+                normalized[f] = normalize(source[f]);
+                addDocumentGrams(normalized[f], grams);
+            }
+            fields[row] = normalized;
+            for (String gram : grams) {
+                lists.computeIfAbsent(gram, key -> new IntList()).add(row);
+            }
+        }
+
+        Map<String, int[]> postings = new HashMap<>(lists.size() * 2);
+        lists.forEach((gram, list) -> postings.put(gram, list.toArray()));
+        return new NgramIndex(n, fields, postings);
+    }
+
+    /**
+     * 검색용 정규화 (NFKC, 소문자화, 공백 제거)
+     *
+     * @return 정규화 문자열, null이면 빈 문자열
+     */
+    public static String normalize(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(normalized).replaceAll("");
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 검색어를 포함하는 행 조회
+     *
+     * 정규화 후 빈 검색어는 모든 행과 일치합니다.
+     */
+    public Match match(String keyword) {
+        String query = normalize(keyword);
+        BitSet rows = new BitSet(size);
+        if (query.isEmpty()) {
+            rows.set(0, size);
+            return new Match(query, rows, size);
+        }
+
+        int[] candidates = candidates(query);
+        for (int row : candidates) {
+            if (containsQuery(row, query)) {
+                rows.set(row);
+            }
+        }
+        return new Match(query, rows, candidates.length);
+    }
+
+    /**
+     * 행의 일치 점수 (클수록 좋은 일치, 일치하지 않으면 0)
+     *
+     * 필드 우선순위 → 일치 유형(전체 일치 > 앞부분 일치 > 부분 일치) → 일치 위치가 앞일수록 높은 점수이며,
+     * 여러 필드가 일치하면 가장 높은 점수를 사용합니다.
+     *
+     * @param query match()가 반환한 정규화 검색어
+     */
+    public long score(int row, String query) {
+        String[] values = fields[row];
+        long best = 0;
+        for (int f = 0; f < values.length; f++) {
+            int position = values[f].indexOf(query);
+            if (position < 0) {
+                continue;
+            }
+            int type = position > 0 ? CONTAINS : values[f].length() == query.length() ? EXACT : PREFIX;
+            long score = ((long) (values.length - f) << 40)
+                    | ((long) type << 32)
+                    | (Integer.MAX_VALUE - position);
+            best = Math.max(best, score);
+        }
+        return best;
+    }
+
+    /**
+     * 게시 목록 교집합 (짧은 목록부터)
+     */
+    private int[] candidates(String query) {
+        Set<String> grams = new LinkedHashSet<>();
+        addQueryGrams(query, grams);
+        List<int[]> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            int[] list = postings.get(gram);
+            if (list == null) {
+                return EMPTY;
+            }
+            lists.add(list);
+        }
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private boolean containsQuery(int row, String query) {
+        for (String value : fields[row]) {
+            if (value.contains(query)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 정렬된 두 게시 목록의 교집합 (짧은 목록 기준으로 긴 목록을 이진 탐색)
+     */
+    static int[] intersect(int[] shorter, int[] longer) {
+        int[] out = new int[shorter.length];
+        int count = 0;
+        int from = 0;
+        for (int row : shorter) {
+            int found = Arrays.binarySearch(longer, from, longer.length, row);
+            if (found >= 0) {
+                out[count++] = row;
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+            if (from >= longer.length) {
+                break;
+            }
+        }
+        return Arrays.copyOf(out, count);
+    }
+
+    /**
+     * 문서 필드의 1-gram과 2-gram 추가
+     */
+    private static void addDocumentGrams(String value, Set<String> grams) {
+        for (int i = 0; i < value.length(); i++) {
+            grams.add(value.substring(i, i + 1));
+            if (i + 1 < value.length()) {
+                grams.add(value.substring(i, i + 2));
+            }
+        }
+    }
+
+    /**
+     * 검색어의 2-gram 추가 (한 글자 검색어는 1-gram)
+     */
+    private static void addQueryGrams(String query, Set<String> grams) {
+        if (query.length() == 1) {
+            grams.add(query);
+            return;
+        }
+        for (int i = 0; i + 1 < query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param query 정규화 검색어 (score() 호출에 사용)
+     * @param rows 일치하는 행
+     * @param candidates 게시 목록 교집합으로 남은 확인 대상 행 수
+     */
+    public record Match(String query, BitSet rows, int candidates) {
+    }
+
+    /**
+     * 행 번호 누적용 가변 int 배열
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
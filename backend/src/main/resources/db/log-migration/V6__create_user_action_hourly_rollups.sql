@@ -0,0 +1,17 @@
+-- 사용자 행위 시간별 집계 테이블
+-- 행위 로그 저장과 같은 트랜잭션에서 (시간, 행위 유형, 디바이스 유형)별 건수를 누적합니다.
+-- 통계 조회는 온전한 시간 구간을 이 테이블에서 읽고, 조회 기간 양 끝의 부분 시간만 원본 로그를 집계합니다.
+CREATE TABLE user_action_hourly_rollups (
+    bucket_hour DATETIME NOT NULL COMMENT '집계 시간 (정시)',
+    action_type VARCHAR(50) NOT NULL COMMENT '행위 유형',
+    device_type VARCHAR(20) NOT NULL COMMENT '디바이스 유형 (없으면 UNKNOWN)',
+    action_count BIGINT NOT NULL DEFAULT 0 COMMENT '건수',
+
+    PRIMARY KEY (bucket_hour, action_type, device_type)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자 행위 시간별 집계';
+
+-- 기존 로그 집계
+INSERT INTO user_action_hourly_rollups (bucket_hour, action_type, device_type, action_count)
+SELECT DATE_FORMAT(created_at, '%Y-%m-%d %H:00:00'), action_type, COALESCE(device_type, 'UNKNOWN'), COUNT(*)
+FROM user_action_logs
+GROUP BY DATE_FORMAT(created_at, '%Y-%m-%d %H:00:00'), action_type, COALESCE(device_type, 'UNKNOWN');
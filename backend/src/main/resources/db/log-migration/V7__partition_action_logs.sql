@@ -0,0 +1,13 @@
+-- 행위 로그 테이블 월별 RANGE 파티션 전환
+-- 파티션 테이블의 모든 유니크 키에는 파티션 컬럼이 포함되어야 하므로 PK를 (id, created_at)으로 변경합니다.
+-- 처음에는 MAXVALUE 파티션 하나로 시작하고, ActionLogPartitionManager가 기존 데이터의 월부터 월별 파티션으로 나눕니다.
+
+ALTER TABLE user_action_logs DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at);
+ALTER TABLE user_action_logs PARTITION BY RANGE COLUMNS (created_at) (
+    PARTITION p_max VALUES LESS THAN (MAXVALUE)
+);
+
+ALTER TABLE admin_action_logs DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at);
+ALTER TABLE admin_action_logs PARTITION BY RANGE COLUMNS (created_at) (
+    PARTITION p_max VALUES LESS THAN (MAXVALUE)
+);
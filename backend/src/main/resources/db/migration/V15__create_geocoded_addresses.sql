@@ -0,0 +1,36 @@
+-- Geocoding 결과 저장소
+CREATE TABLE geocoded_addresses (
+    id BIGSERIAL PRIMARY KEY,
+
+    -- 조회 키
+    lookup_type VARCHAR(20) NOT NULL,
+    lookup_key VARCHAR(500) NOT NULL,
+
+    -- 결과
+    formatted_address VARCHAR(500),
+    latitude DECIMAL(10, 7) NOT NULL,
+    longitude DECIMAL(10, 7) NOT NULL,
+    place_id VARCHAR(255),
+
+    -- 주소 구성요소
+    country VARCHAR(100),
+    province VARCHAR(100),
+    city VARCHAR(100),
+    district VARCHAR(100),
+    street VARCHAR(200),
+    street_number VARCHAR(50),
+    postal_code VARCHAR(20),
+
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_geocoded_addresses_lookup UNIQUE (lookup_type, lookup_key)
+);
+
+-- 코멘트
+COMMENT ON TABLE geocoded_addresses IS 'Geocoding 결과 저장소 (Google API 재호출 방지)';
+COMMENT ON COLUMN geocoded_addresses.lookup_type IS '조회 유형 (ADDRESS, REVERSE)';
+COMMENT ON COLUMN geocoded_addresses.lookup_key IS '조회 키 (정규화된 주소 또는 반올림한 위도,경도)';
+COMMENT ON COLUMN geocoded_addresses.formatted_address IS 'API가 반환한 전체 주소';
+COMMENT ON COLUMN geocoded_addresses.latitude IS '위도';
+COMMENT ON COLUMN geocoded_addresses.longitude IS '경도';
@@ -0,0 +1,26 @@
+-- 동기화 upsert 키: (name, loc_code)
+-- loc_code가 NULL인 항목도 같은 키로 취급하도록 NULLS NOT DISTINCT 사용 (PostgreSQL 15+)
+
+-- 기존 중복 행 정리 (가장 최근에 동기화된 행만 유지)
+DELETE FROM funeral_homes
+WHERE id IN (
+    SELECT id FROM (
+        SELECT id,
+               ROW_NUMBER() OVER (
+                   PARTITION BY name, loc_code
+                   ORDER BY synced_at DESC NULLS LAST, id DESC
+               ) AS rn
+        FROM funeral_homes
+    ) ranked
+    WHERE ranked.rn > 1
+);
+
+CREATE UNIQUE INDEX uk_funeral_homes_name_loc_code
+    ON funeral_homes (name, loc_code) NULLS NOT DISTINCT;
+
+-- 동기화 처리 속도
+ALTER TABLE funeral_home_sync_logs ADD COLUMN elapsed_ms BIGINT;
+ALTER TABLE funeral_home_sync_logs ADD COLUMN rows_per_second DOUBLE PRECISION;
+
+COMMENT ON COLUMN funeral_home_sync_logs.elapsed_ms IS '소요 시간 (ms)';
+COMMENT ON COLUMN funeral_home_sync_logs.rows_per_second IS '초당 처리 건수';
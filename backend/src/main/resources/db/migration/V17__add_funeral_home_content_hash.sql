@@ -0,0 +1,9 @@
+-- 동기화 변경 감지용 내용 지문
+ALTER TABLE funeral_homes ADD COLUMN content_hash VARCHAR(64);
+
+COMMENT ON COLUMN funeral_homes.content_hash IS '동기화 내용 지문 (API 갱신 필드의 SHA-256)';
+
+-- 변경 없음 건수
+ALTER TABLE funeral_home_sync_logs ADD COLUMN unchanged_count INTEGER DEFAULT 0;
+
+COMMENT ON COLUMN funeral_home_sync_logs.unchanged_count IS '내용이 바뀌지 않아 건너뛴 건수';
@@ -0,0 +1,32 @@
+-- 클러스터 실행 리스 (Redis 장애 시 대체 저장소)
+CREATE TABLE coordination_leases (
+    name VARCHAR(100) PRIMARY KEY,
+    owner_id VARCHAR(200) NOT NULL,
+    fencing_token BIGINT NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE coordination_leases IS '클러스터 실행 리스';
+COMMENT ON COLUMN coordination_leases.name IS '리스 이름 (작업 구분)';
+COMMENT ON COLUMN coordination_leases.owner_id IS '보유 노드 식별자';
+COMMENT ON COLUMN coordination_leases.fencing_token IS '펜싱 토큰 (획득마다 증가)';
+COMMENT ON COLUMN coordination_leases.expires_at IS '만료 시각 (DB 시각 기준)';
+
+-- 외부 API 일일 호출 수 (Redis 장애 시 대체 저장소)
+CREATE TABLE api_quota_usage (
+    api_name VARCHAR(100) NOT NULL,
+    usage_date DATE NOT NULL,
+    used_count INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (api_name, usage_date)
+);
+
+COMMENT ON TABLE api_quota_usage IS '외부 API 일일 호출 수';
+COMMENT ON COLUMN api_quota_usage.api_name IS 'API 구분';
+COMMENT ON COLUMN api_quota_usage.usage_date IS '사용 날짜 (한국 시간 기준)';
+COMMENT ON COLUMN api_quota_usage.used_count IS '호출 수';
+
+-- 동기화 실행 리스의 펜싱 토큰
+ALTER TABLE funeral_home_sync_logs ADD COLUMN fencing_token BIGINT;
+
+COMMENT ON COLUMN funeral_home_sync_logs.fencing_token IS '실행 리스 펜싱 토큰';
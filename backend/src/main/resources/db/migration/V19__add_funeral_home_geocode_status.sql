@@ -0,0 +1,7 @@
+-- 주소로 좌표를 찾지 못한 Geocoding 실패 기록
+-- 값이 있는 행은 주소가 바뀔 때까지 Geocoding 파이프라인 대상에서 제외
+ALTER TABLE funeral_homes ADD COLUMN geocode_status VARCHAR(30);
+ALTER TABLE funeral_homes ADD COLUMN geocode_attempted_at TIMESTAMP;
+
+COMMENT ON COLUMN funeral_homes.geocode_status IS 'Geocoding 실패 상태 (ZERO_RESULTS, INVALID_REQUEST)';
+COMMENT ON COLUMN funeral_homes.geocode_attempted_at IS 'Geocoding 실패 기록 시간';
@@ -0,0 +1,2 @@
+-- 동기화는 내용 지문이 같은 행을 쓰지 않으므로 synced_at은 마지막 동기화 실행 시각이 아님
+COMMENT ON COLUMN funeral_homes.synced_at IS '동기화로 내용이 마지막으로 바뀐 시간 (마지막 동기화 실행 시각은 funeral_home_sync_logs)';
@@ -70,4 +70,19 @@ class FuneralHomeSyncLogTest {
         assertThat(log.getCompletedAt()).isNotNull();
         assertThat(log.getErrorMessage()).isEqualTo("API 호출 실패");
     }
+
+    @Test
+    @DisplayName("처리 속도 기록")
+    void recordThroughput_RowsPerSecond() {
+        // given
+        FuneralHomeSyncLog log = FuneralHomeSyncLog.start(SyncType.FULL);
+        log.complete(3000, 100, 2900, 0);
+
+        // when
+        log.recordThroughput(1500);
+
+        // then
+        assertThat(log.getElapsedMs()).isEqualTo(1500L);
+        assertThat(log.getRowsPerSecond()).isEqualTo(2000.0);
+    }
 }
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -62,6 +63,29 @@ class FuneralHomeTest {
         assertThat(home.getHasFuneral()).isTrue();
     }
 
+    @Test
+    @DisplayName("주소가 바뀌면 Geocoding 실패 기록 초기화")
+    void updateFromApi_ResetsGeocodeStatusOnAddressChange() {
+        // given
+        FuneralHome home = FuneralHome.builder()
+                .name("펫메모리얼").roadAddress("주소1").lotAddress("주소2")
+                .geocodeStatus("ZERO_RESULTS").geocodeAttemptedAt(LocalDateTime.now())
+                .build();
+
+        // when: 주소 외 정보만 변경
+        home.updateFromApi("주소1", "주소2", "02-9999-8888", true, false, false);
+
+        // then
+        assertThat(home.getGeocodeStatus()).isEqualTo("ZERO_RESULTS");
+
+        // when: 주소 변경
+        home.updateFromApi("새주소1", "주소2", "02-9999-8888", true, false, false);
+
+        // then
+        assertThat(home.getGeocodeStatus()).isNull();
+        assertThat(home.getGeocodeAttemptedAt()).isNull();
+    }
+
     @Test
     @DisplayName("좌표 설정")
     void setCoordinates_Success() {
@@ -116,4 +140,28 @@ class FuneralHomeTest {
         // then
         assertThat(home.getIsActive()).isTrue();
     }
+
+    @Test
+    @DisplayName("내용 지문: 같은 내용은 같은 값, 변경 시 다른 값")
+    void contentHash_ChangesOnlyWithContent() {
+        // given
+        FuneralHome home = FuneralHome.fromApiResponse(
+                "펫메모리얼", "주소1", "주소2", "010-0000-0000",
+                "code", "지역", false, false, false
+        );
+        String original = home.getContentHash();
+
+        // then
+        assertThat(original).hasSize(64);
+        assertThat(FuneralHome.contentHashOf("주소1", "주소2", "010-0000-0000", false, false, false))
+                .isEqualTo(original);
+        assertThat(FuneralHome.contentHashOf("주소1", null, "010-0000-0000", false, false, false))
+                .isNotEqualTo(FuneralHome.contentHashOf("주소1", "", "010-0000-0000", false, false, false));
+
+        // when
+        home.updateFromApi("주소1", "주소2", "010-0000-0000", true, false, false);
+
+        // then
+        assertThat(home.getContentHash()).isNotEqualTo(original);
+    }
 }
@@ -0,0 +1,68 @@
+package com.petpro.domain.funeralhome.service;
+
+import com.petpro.domain.funeralhome.event.FuneralHomeDataChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("FuneralHomeDataChangeBroadcaster 테스트")
+class FuneralHomeDataChangeBroadcasterTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final FuneralHomeDataChangeBroadcaster broadcaster = new FuneralHomeDataChangeBroadcaster(
+            redisTemplate, mock(RedisMessageListenerContainer.class), eventPublisher);
+
+    @Test
+    @DisplayName("로컬 변경은 전달하고 다른 노드에서 받은 변경은 다시 전달하지 않음")
+    void broadcastsLocalChangesOnly() {
+        broadcaster.onDataChanged(new FuneralHomeDataChangedEvent("full-sync"));
+        broadcaster.onDataChanged(new FuneralHomeDataChangedEvent("full-sync", true));
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(FuneralHomeDataChangeBroadcaster.CHANNEL), message.capture());
+        assertThat(message.getValue()).endsWith("|full-sync");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 메시지는 remote 이벤트로 발행하고 자신이 보낸 메시지는 무시")
+    void republishesRemoteMessages() {
+        broadcaster.onDataChanged(new FuneralHomeDataChangedEvent("geocoding"));
+        ArgumentCaptor<String> own = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(anyString(), own.capture());
+
+        broadcaster.onMessage(message(own.getValue()), null);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        broadcaster.onMessage(message("other-node|status-update:7"), null);
+        verify(eventPublisher).publishEvent(new FuneralHomeDataChangedEvent("status-update:7", true));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 메시지는 무시")
+    void ignoresMalformedMessages() {
+        broadcaster.onMessage(message("no-separator"), null);
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(FuneralHomeDataChangeBroadcaster.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,144 @@
+package com.petpro.domain.funeralhome.service;
+
+import com.petpro.domain.funeralhome.dto.FuneralHomeRequest;
+import com.petpro.domain.funeralhome.dto.FuneralHomeResponse;
+import com.petpro.domain.funeralhome.entity.FuneralHome;
+import com.petpro.domain.funeralhome.event.FuneralHomeDataChangedEvent;
+import com.petpro.domain.funeralhome.repository.FuneralHomeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("FuneralHomeFacetIndex 테스트")
+class FuneralHomeFacetIndexTest {
+
+    private final FuneralHomeRepository repository = mock(FuneralHomeRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FuneralHomeFacetIndex index = new FuneralHomeFacetIndex(repository, meterRegistry);
+
+    @BeforeEach
+    void setUp() {
+        given(repository.findAll()).willReturn(List.of(
+                home(1L, "하늘 장례식장", "서울 강남구 테헤란로 1", null, "11680", true, true, true),
+                home(2L, "가온 펫", "서울 강남구 역삼로 2", null, "11680", false, true, true),
+                home(3L, "나래 추모공원", "부산 해운대구 센텀로 3", "부산 해운대구 우동 1", "26350", true, false, true),
+                home(4L, "다온 장례", "서울 강남구 도산대로 4", null, "11680", true, true, false),
+                home(5L, "라온 펫", "서울 서초구 서초대로 5", "서울 서초구 장례동 5", "11650", true, true, true)));
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("필터 조합은 이름순 결과와 정확한 전체 건수를 반환")
+    void filtersAreCombinedAndSortedByName() {
+        Page<FuneralHomeResponse.ListItem> page = index.search(FuneralHomeRequest.ListSearch.builder()
+                .locCode("11680")
+                .hasFuneral(true)
+                .isActive(true)
+                .build(), PageRequest.of(0, 20));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(FuneralHomeResponse.ListItem::getId).containsExactly(4L, 1L);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 전달된 데이터 변경 이벤트로도 재적재")
+    void rebuildsOnRemoteDataChange() {
+        given(repository.findAll()).willReturn(List.of(
+                home(6L, "새 장례식장", "서울 강남구 테헤란로 6", null, "11680", true, true, true)));
+
+        index.onDataChanged(new FuneralHomeDataChangedEvent("full-sync", true));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search(FuneralHomeRequest.ListSearch.builder().build(), PageRequest.of(0, 20))
+                .getContent()).extracting(FuneralHomeResponse.ListItem::getId).containsExactly(6L);
+    }
+
+    @Test
+    @DisplayName("키워드는 이름 또는 도로명 주소 부분 일치")
+    void keywordMatchesNameOrRoadAddress() {
+        Page<FuneralHomeResponse.ListItem> byName = index.search(FuneralHomeRequest.ListSearch.builder()
+                .keyword("펫").build(), PageRequest.of(0, 20));
+        Page<FuneralHomeResponse.ListItem> byAddress = index.search(FuneralHomeRequest.ListSearch.builder()
+                .keyword("해운대").build(), PageRequest.of(0, 20));
+
+        assertThat(byName.getContent()).extracting(FuneralHomeResponse.ListItem::getId).containsExactly(2L, 5L);
+        assertThat(byAddress.getContent()).extracting(FuneralHomeResponse.ListItem::getId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("키워드는 공백·대소문자를 무시하고 지번 주소도 검색")
+    void keywordIsNormalizedAndMatchesLotAddress() {
+        Page<FuneralHomeResponse.ListItem> spaced = index.search(FuneralHomeRequest.ListSearch.builder()
+                .keyword("하늘장례").build(), PageRequest.of(0, 20));
+        Page<FuneralHomeResponse.ListItem> byLot = index.search(FuneralHomeRequest.ListSearch.builder()
+                .keyword("우동 1").build(), PageRequest.of(0, 20));
+
+        assertThat(spaced.getContent()).extracting(FuneralHomeResponse.ListItem::getId).containsExactly(1L);
+        assertThat(byLot.getContent()).extracting(FuneralHomeResponse.ListItem::getId).containsExactly(3L);
+        assertThat(meterRegistry.get("funeralhome.keyword.search").tag("sort", "name").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("일치도순은 이름 일치를 주소 일치보다 먼저 반환하고 점수가 같으면 이름순")
+    void relevanceOrdersByMatchQuality() {
+        Page<FuneralHomeResponse.ListItem> page = index.search(FuneralHomeRequest.ListSearch.builder()
+                .keyword("장례")
+                .sort(FuneralHomeRequest.ListSort.RELEVANCE)
+                .build(), PageRequest.of(0, 20));
+        Page<FuneralHomeResponse.ListItem> byName = index.search(FuneralHomeRequest.ListSearch.builder()
+                .keyword("장례")
+                .build(), PageRequest.of(0, 20));
+
+        // 다온 장례 = 하늘 장례식장(이름 3번째 글자부터 일치, 이름순) > 라온 펫(지번 주소 일치)
+        assertThat(page.getContent()).extracting(FuneralHomeResponse.ListItem::getId).containsExactly(4L, 1L, 5L);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(byName.getContent()).extracting(FuneralHomeResponse.ListItem::getId).containsExactly(4L, 5L, 1L);
+    }
+
+    @Test
+    @DisplayName("페이지는 이름순으로 이어지고 범위를 넘으면 빈 목록")
+    void pagination() {
+        FuneralHomeRequest.ListSearch all = FuneralHomeRequest.ListSearch.builder().build();
+
+        assertThat(index.search(all, PageRequest.of(0, 2)).getContent())
+                .extracting(FuneralHomeResponse.ListItem::getId).containsExactly(2L, 3L);
+        assertThat(index.search(all, PageRequest.of(1, 2)).getContent())
+                .extracting(FuneralHomeResponse.ListItem::getId).containsExactly(4L, 5L);
+        Page<FuneralHomeResponse.ListItem> last = index.search(all, PageRequest.of(3, 2));
+        assertThat(last.getContent()).isEmpty();
+        assertThat(last.getTotalElements()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("없는 지역 코드는 빈 결과")
+    void unknownLocCode() {
+        Page<FuneralHomeResponse.ListItem> page = index.search(FuneralHomeRequest.ListSearch.builder()
+                .locCode("99999").build(), PageRequest.of(0, 20));
+
+        assertThat(page.getTotalElements()).isZero();
+    }
+
+    private static FuneralHome home(Long id, String name, String roadAddress, String lotAddress, String locCode,
+                                    boolean active, boolean funeral, boolean crematorium) {
+        return FuneralHome.builder()
+                .id(id)
+                .name(name)
+                .roadAddress(roadAddress)
+                .lotAddress(lotAddress)
+                .locCode(locCode)
+                .isActive(active)
+                .hasFuneral(funeral)
+                .hasCrematorium(crematorium)
+                .hasColumbarium(false)
+                .build();
+    }
+}
@@ -0,0 +1,268 @@
+package com.petpro.domain.funeralhome.service;
+
+import com.petpro.domain.funeralhome.config.GeocodingPipelineConfig;
+import com.petpro.domain.funeralhome.repository.FuneralHomeJdbcRepository;
+import com.petpro.domain.funeralhome.repository.FuneralHomeJdbcRepository.CoordinateUpdate;
+import com.petpro.domain.funeralhome.repository.FuneralHomeJdbcRepository.GeocodeFailure;
+import com.petpro.domain.funeralhome.repository.FuneralHomeRepository;
+import com.petpro.domain.funeralhome.repository.FuneralHomeRepository.GeocodingTarget;
+import com.petpro.domain.location.config.GoogleMapsConfig;
+import com.petpro.domain.location.dto.GeocodingResult;
+import com.petpro.domain.location.exception.GeocodingException;
+import com.petpro.domain.location.exception.GeocodingException.Status;
+import com.petpro.domain.location.service.GeocodingService;
+import com.petpro.global.coordination.ClusterCoordinator;
+import com.petpro.global.coordination.ClusterLease;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FuneralHomeGeocodingPipeline 테스트")
+class FuneralHomeGeocodingPipelineTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private FuneralHomeRepository funeralHomeRepository;
+
+    @Mock
+    private FuneralHomeJdbcRepository funeralHomeJdbcRepository;
+
+    @Mock
+    private GeocodingService geocodingService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ClusterCoordinator clusterCoordinator;
+
+    @Mock
+    private ClusterLease lease;
+
+    private GoogleMapsConfig googleMapsConfig;
+
+    /** 좌표가 없는 장례식장 (id → 주소), 저장되면 빠짐 */
+    private final NavigableMap<Long, String> pending = new ConcurrentSkipListMap<>();
+    private final Queue<List<CoordinateUpdate>> savedChunks = new ConcurrentLinkedQueue<>();
+    private final Queue<GeocodeFailure> failures = new ConcurrentLinkedQueue<>();
+
+    private FuneralHomeGeocodingPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        googleMapsConfig = new GoogleMapsConfig();
+        googleMapsConfig.setApiKey("test-key");
+        googleMapsConfig.setMaxRetries(2);
+        googleMapsConfig.setRequestsPerSecond(1_000);
+        GeocodingPipelineConfig config = new GeocodingPipelineConfig();
+        config.setWorkers(4);
+        config.setBatchSize(BATCH_SIZE);
+        config.setRetryBackoffMs(1);
+        pipeline = new FuneralHomeGeocodingPipeline(funeralHomeRepository, funeralHomeJdbcRepository,
+                geocodingService, googleMapsConfig, config, eventPublisher, clusterCoordinator,
+                new SimpleMeterRegistry());
+
+        // DB 역할: 좌표 없는 행을 ID 순으로 돌려주고, 저장되거나 실패가 기록된 행은 다음 조회에서 제외
+        lenient().when(clusterCoordinator.tryAcquireLease(anyString(), any())).thenReturn(Optional.of(lease));
+        lenient().when(lease.renew()).thenReturn(true);
+        lenient().when(funeralHomeRepository.countGeocodingTargets()).thenAnswer(invocation -> (long) pending.size());
+        lenient().when(funeralHomeRepository.findGeocodingTargets(anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    long afterId = invocation.getArgument(0);
+                    Pageable pageable = invocation.getArgument(1);
+                    return pending.tailMap(afterId, false).entrySet().stream()
+                            .limit(pageable.getPageSize())
+                            .map(entry -> target(entry.getKey(), entry.getValue()))
+                            .toList();
+                });
+        lenient().when(funeralHomeJdbcRepository.updateCoordinates(anyList())).thenAnswer(invocation -> {
+            List<CoordinateUpdate> chunk = List.copyOf(invocation.getArgument(0));
+            savedChunks.add(chunk);
+            chunk.forEach(update -> pending.remove(update.id()));
+            return chunk.size();
+        });
+        lenient().when(funeralHomeJdbcRepository.markGeocodeFailed(anyList())).thenAnswer(invocation -> {
+            List<GeocodeFailure> chunk = invocation.getArgument(0);
+            failures.addAll(chunk);
+            chunk.forEach(failure -> pending.remove(failure.id()));
+            return chunk.size();
+        });
+    }
+
+    @Test
+    @DisplayName("일시적 실패만 재시도하고, 주소 문제는 재시도 없이 실패로 기록")
+    void retriesTransientFailuresOnly() throws Exception {
+        // given
+        pending.put(1L, "일시적 오류 주소");
+        pending.put(2L, "없는 주소");
+        pending.put(3L, "키 거부 주소");
+        given(geocodingService.geocode("일시적 오류 주소"))
+                .willThrow(new GeocodingException("timeout", Status.IO_ERROR))
+                .willThrow(new GeocodingException("busy", Status.OVER_QUERY_LIMIT))
+                .willReturn(result(37.1, 127.1));
+        given(geocodingService.geocode("없는 주소"))
+                .willThrow(new GeocodingException("none", Status.ZERO_RESULTS));
+        given(geocodingService.geocode("키 거부 주소"))
+                .willThrow(new GeocodingException("denied", Status.REQUEST_DENIED));
+
+        // when
+        runToCompletion();
+
+        // then
+        verify(geocodingService, times(3)).geocode("일시적 오류 주소");
+        verify(geocodingService, times(1)).geocode("없는 주소");
+        verify(geocodingService, times(1)).geocode("키 거부 주소");
+        assertThat(savedIds()).containsExactly(1L);
+        assertThat(failures).containsExactly(new GeocodeFailure(2L, "ZERO_RESULTS"));
+        // 키 문제는 주소 탓이 아니므로 다음 실행에서 다시 시도
+        assertThat(pending).containsOnlyKeys(3L);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘긴 일시적 실패는 기록하지 않고 남겨 둠")
+    void givesUpAfterMaxRetries() throws Exception {
+        // given
+        pending.put(1L, "계속 실패하는 주소");
+        given(geocodingService.geocode("계속 실패하는 주소"))
+                .willThrow(new GeocodingException("5xx", Status.SERVER_ERROR));
+
+        // when
+        runToCompletion();
+
+        // then: 최초 1회 + 재시도 2회
+        verify(geocodingService, times(3)).geocode("계속 실패하는 주소");
+        assertThat(failures).isEmpty();
+        assertThat(pending).containsOnlyKeys(1L);
+    }
+
+    @Test
+    @DisplayName("좌표는 batchSize 단위로 모아 저장하고, 저장소에 있는 주소는 API를 호출하지 않음")
+    void batchesSavesAndUsesStoredResults() throws Exception {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            pending.put(id, "주소" + id);
+        }
+        given(geocodingService.findStored(any())).willAnswer(invocation -> {
+            List<String> addresses = List.copyOf(invocation.getArgument(0));
+            return addresses.contains("주소3") ? Map.of("주소3", result(37.3, 127.3)) : Map.of();
+        });
+        given(geocodingService.geocode(anyString())).willReturn(result(37.0, 127.0));
+
+        // when
+        runToCompletion();
+
+        // then
+        assertThat(savedChunks).allSatisfy(chunk -> assertThat(chunk).hasSizeLessThanOrEqualTo(BATCH_SIZE));
+        assertThat(savedIds()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+        verify(geocodingService, never()).geocode("주소3");
+        assertThat(pending).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이전 실행이 중단되면 다음 실행은 남은 항목만 이어서 처리")
+    void resumesLeftoverWork() throws Exception {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            pending.put(id, "주소" + id);
+        }
+        given(geocodingService.geocode(anyString())).willReturn(result(37.0, 127.0));
+        // 첫 실행은 첫 배치 후 리스를 잃고 중단
+        given(lease.renew()).willReturn(true, false, true);
+
+        // when
+        runToCompletion();
+
+        // then
+        assertThat(savedIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(pending).containsOnlyKeys(3L, 4L, 5L);
+
+        // when
+        runToCompletion();
+
+        // then
+        assertThat(savedIds()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+        for (long id = 1; id <= 5; id++) {
+            verify(geocodingService, times(1)).geocode("주소" + id);
+        }
+    }
+
+    @Test
+    @DisplayName("API 키가 없으면 목 좌표가 저장되지 않도록 실행하지 않음")
+    void skipsWithoutApiKey() {
+        // given
+        googleMapsConfig.setApiKey(" ");
+        pending.put(1L, "주소1");
+
+        // when
+        boolean started = pipeline.requestRun("test");
+
+        // then
+        assertThat(started).isFalse();
+        verifyNoInteractions(geocodingService, clusterCoordinator);
+    }
+
+    private void runToCompletion() throws InterruptedException {
+        assertThat(pipeline.requestRun("test")).isTrue();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pipeline.isRunning()) {
+            assertThat(System.nanoTime()).as("pipeline did not finish").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private List<Long> savedIds() {
+        return savedChunks.stream().flatMap(List::stream).map(CoordinateUpdate::id).toList();
+    }
+
+    private static GeocodingResult result(double latitude, double longitude) {
+        return GeocodingResult.builder().latitude(latitude).longitude(longitude).build();
+    }
+
+    private static GeocodingTarget target(long id, String roadAddress) {
+        return new GeocodingTarget() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getRoadAddress() {
+                return roadAddress;
+            }
+
+            @Override
+            public String getLotAddress() {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package com.petpro.domain.funeralhome.service;
+
+import com.petpro.domain.funeralhome.dto.FuneralHomeRequest;
+import com.petpro.domain.funeralhome.repository.FuneralHomeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FuneralHomeService 테스트")
+class FuneralHomeServiceTest {
+
+    @InjectMocks
+    private FuneralHomeService funeralHomeService;
+
+    @Mock
+    private FuneralHomeRepository funeralHomeRepository;
+
+    @Mock
+    private FuneralHomeFacetIndex facetIndex;
+
+    @BeforeEach
+    void setUp() {
+        given(facetIndex.isReady()).willReturn(false);
+    }
+
+    @Test
+    @DisplayName("SQL 검색은 읽기 모델과 같이 키워드의 공백을 제거하고 소문자로 찾음")
+    void sqlFallback_NormalizesKeyword() {
+        given(funeralHomeRepository.findBySearchConditions(any(), any(), any(), any(), any(), any(), any()))
+                .willReturn(Page.empty());
+
+        funeralHomeService.findBySearchConditions(FuneralHomeRequest.ListSearch.builder()
+                .keyword(" Pet 사랑 ")
+                .locCode("11")
+                .build());
+
+        verify(funeralHomeRepository).findBySearchConditions(
+                "pet사랑", "11", null, null, null, null, PageRequest.of(0, 20));
+    }
+
+    @Test
+    @DisplayName("SQL 검색은 LIKE 특수문자를 문자 그대로 찾음")
+    void sqlFallback_EscapesLikeWildcards() {
+        given(funeralHomeRepository.findBySearchConditions(any(), any(), any(), any(), any(), any(), any()))
+                .willReturn(Page.empty());
+
+        funeralHomeService.findBySearchConditions(FuneralHomeRequest.ListSearch.builder()
+                .keyword("100%_!")
+                .build());
+
+        verify(funeralHomeRepository).findBySearchConditions(
+                "100!%!_!!", null, null, null, null, null, PageRequest.of(0, 20));
+    }
+
+    @Test
+    @DisplayName("SQL 검색의 RELEVANCE 정렬은 일치도순 조회를 사용하고, 키워드가 없으면 이름순 조회")
+    void sqlFallback_RelevanceSort() {
+        given(funeralHomeRepository.findBySearchConditionsOrderByRelevance(
+                any(), any(), any(), any(), any(), any(), any(), any())).willReturn(Page.empty());
+        given(funeralHomeRepository.findBySearchConditions(any(), any(), any(), any(), any(), any(), any()))
+                .willReturn(Page.empty());
+
+        funeralHomeService.findBySearchConditions(FuneralHomeRequest.ListSearch.builder()
+                .keyword("서울 중앙")
+                .sort(FuneralHomeRequest.ListSort.RELEVANCE)
+                .build());
+        Page<?> noKeyword = funeralHomeService.findBySearchConditions(FuneralHomeRequest.ListSearch.builder()
+                .keyword("  ")
+                .sort(FuneralHomeRequest.ListSort.RELEVANCE)
+                .build());
+
+        verify(funeralHomeRepository).findBySearchConditionsOrderByRelevance(
+                "서울중앙", "서울중앙", null, null, null, null, null, PageRequest.of(0, 20));
+        verify(funeralHomeRepository).findBySearchConditions(
+                isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), any());
+        assertThat(noKeyword).isEmpty();
+    }
+}
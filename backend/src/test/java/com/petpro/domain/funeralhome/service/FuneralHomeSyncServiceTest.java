@@ -0,0 +1,293 @@
+package com.petpro.domain.funeralhome.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petpro.domain.funeralhome.config.FuneralHomeSyncConfig;
+import com.petpro.domain.funeralhome.dto.FuneralHomeResponse;
+import com.petpro.domain.funeralhome.dto.GovApiResponse;
+import com.petpro.domain.funeralhome.entity.FuneralHome;
+import com.petpro.domain.funeralhome.entity.SyncStatus;
+import com.petpro.domain.funeralhome.event.FuneralHomeDataChangedEvent;
+import com.petpro.domain.funeralhome.repository.FuneralHomeJdbcRepository;
+import com.petpro.domain.funeralhome.repository.FuneralHomeRepository;
+import com.petpro.domain.funeralhome.repository.FuneralHomeRepository.SyncKey;
+import com.petpro.domain.funeralhome.repository.FuneralHomeSyncLogRepository;
+import com.petpro.global.coordination.ClusterCoordinator;
+import com.petpro.global.coordination.ClusterLease;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FuneralHomeSyncService 테스트")
+class FuneralHomeSyncServiceTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Mock
+    private GovApiService govApiService;
+
+    @Mock
+    private FuneralHomeRepository funeralHomeRepository;
+
+    @Mock
+    private FuneralHomeJdbcRepository funeralHomeJdbcRepository;
+
+    @Mock
+    private FuneralHomeSyncLogRepository syncLogRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ClusterCoordinator clusterCoordinator;
+
+    @Mock
+    private ClusterLease lease;
+
+    private FuneralHomeSyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        FuneralHomeSyncConfig config = new FuneralHomeSyncConfig();
+        config.setEngine(FuneralHomeSyncConfig.Engine.BATCH);
+        config.setPageSize(PAGE_SIZE);
+        config.setFetchConcurrency(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        syncService = new FuneralHomeSyncService(govApiService, funeralHomeRepository, funeralHomeJdbcRepository,
+                syncLogRepository, config, transactionTemplate, eventPublisher, clusterCoordinator);
+
+        // 페이지 크기 검증 테스트는 동기화를 실행하지 않음
+        lenient().when(clusterCoordinator.tryAcquireLease(anyString(), any())).thenReturn(Optional.of(lease));
+        lenient().when(lease.renew()).thenReturn(true);
+        lenient().when(lease.fence()).thenReturn(true);
+        lenient().when(syncLogRepository.save(any())).then(returnsFirstArg());
+    }
+
+    @Test
+    @DisplayName("짧은 마지막 페이지에서 조회를 멈추고, 전체를 읽었으면 API에 없는 항목만 비활성화")
+    void fullSync_ShortFinalPage_DeactivatesUnseen() {
+        // given
+        given(funeralHomeRepository.findAllSyncKeys()).willReturn(List.of(
+                syncKey(1L, "하늘", "11", "old-hash", true),
+                syncKey(9L, "폐업", "11", "old-hash", true)));
+        given(govApiService.canCall()).willReturn(true);
+        given(govApiService.fetchFuneralHomes(1, PAGE_SIZE)).willReturn(page(3, item("하늘"), item("바다")));
+        given(govApiService.fetchFuneralHomes(2, PAGE_SIZE)).willReturn(page(3, item("숲")));
+        given(funeralHomeRepository.deactivateByIds(anyList())).willReturn(1);
+
+        // when
+        FuneralHomeResponse.SyncResult result = syncService.runFullSync();
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(SyncStatus.COMPLETED);
+        assertThat(result.getTotalCount()).isEqualTo(3);
+        assertThat(result.getInsertedCount()).isEqualTo(2);
+        assertThat(result.getUpdatedCount()).isEqualTo(1);
+        assertThat(result.getDeletedCount()).isEqualTo(1);
+        verify(govApiService, never()).fetchFuneralHomes(eq(3), anyInt());
+        verify(funeralHomeRepository).deactivateByIds(List.of(9L));
+    }
+
+    @Test
+    @DisplayName("호출 한도로 중간에 멈춘 전체 동기화는 비활성화하지 않음")
+    void fullSync_BudgetExhausted_DoesNotDeactivate() {
+        // given
+        given(funeralHomeRepository.findAllSyncKeys()).willReturn(List.of(
+                syncKey(9L, "폐업", "11", "old-hash", true)));
+        given(govApiService.canCall()).willReturn(true, false);
+        given(govApiService.fetchFuneralHomes(1, PAGE_SIZE)).willReturn(page(5, item("하늘"), item("바다")));
+
+        // when
+        FuneralHomeResponse.SyncResult result = syncService.runFullSync();
+
+        // then
+        assertThat(result.getTotalCount()).isEqualTo(2);
+        assertThat(result.getDeletedCount()).isZero();
+        verify(funeralHomeRepository, never()).deactivateByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("쓰기에 실패한 페이지가 있으면 부분 완료로 기록하고 비활성화하지 않음")
+    void fullSync_PageError_DoesNotDeactivate() {
+        // given
+        given(funeralHomeRepository.findAllSyncKeys()).willReturn(List.of(
+                syncKey(9L, "폐업", "11", "old-hash", true)));
+        given(govApiService.canCall()).willReturn(true);
+        given(govApiService.fetchFuneralHomes(1, PAGE_SIZE)).willReturn(page(3, item("하늘"), item("바다")));
+        given(govApiService.fetchFuneralHomes(2, PAGE_SIZE)).willReturn(page(3, item("숲")));
+        given(funeralHomeJdbcRepository.upsertFromApi(anyList(), any()))
+                .willReturn(2)
+                .willThrow(new IllegalStateException("connection reset"));
+
+        // when
+        FuneralHomeResponse.SyncResult result = syncService.runFullSync();
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(SyncStatus.PARTIAL);
+        assertThat(result.getErrorCount()).isEqualTo(1);
+        assertThat(result.getDeletedCount()).isZero();
+        verify(funeralHomeRepository, never()).deactivateByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("읽은 행 수가 API의 totalCount와 다르면 비활성화하지 않음")
+    void fullSync_TotalCountMismatch_DoesNotDeactivate() {
+        // given
+        given(funeralHomeRepository.findAllSyncKeys()).willReturn(List.of(
+                syncKey(9L, "폐업", "11", "old-hash", true)));
+        given(govApiService.canCall()).willReturn(true);
+        given(govApiService.fetchFuneralHomes(1, PAGE_SIZE)).willReturn(page(7, item("하늘")));
+
+        // when
+        FuneralHomeResponse.SyncResult result = syncService.runFullSync();
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(SyncStatus.COMPLETED);
+        assertThat(result.getDeletedCount()).isZero();
+        verify(funeralHomeRepository, never()).deactivateByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("내용 지문이 같은 항목은 쓰지 않고, 바뀐 항목이 없으면 데이터 변경 이벤트도 발행하지 않음")
+    void sync_SkipsUnchangedRowsByHash() {
+        // given
+        Map<String, String> unchanged = item("하늘");
+        Map<String, String> changed = item("바다");
+        given(funeralHomeRepository.findAllSyncKeys()).willReturn(List.of(
+                syncKey(1L, "하늘", "11", contentHashOf(unchanged), true),
+                syncKey(2L, "바다", "11", "old-hash", true)));
+        given(govApiService.canCall()).willReturn(true);
+        given(govApiService.fetchFuneralHomes(1, PAGE_SIZE)).willReturn(page(2, unchanged, changed));
+        given(govApiService.fetchFuneralHomes(2, PAGE_SIZE)).willReturn(page(2));
+
+        // when
+        FuneralHomeResponse.SyncResult result = syncService.runIncrementalSync();
+
+        // then
+        assertThat(result.getUnchangedCount()).isEqualTo(1);
+        assertThat(result.getUpdatedCount()).isEqualTo(1);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GovApiResponse.Item>> written = ArgumentCaptor.forClass(List.class);
+        verify(funeralHomeJdbcRepository, times(1)).upsertFromApi(written.capture(), any());
+        assertThat(written.getValue()).extracting(GovApiResponse.Item::getNm).containsExactly("바다");
+    }
+
+    @Test
+    @DisplayName("모든 항목이 그대로면 쓰기와 데이터 변경 이벤트 없이 끝남")
+    void sync_AllUnchanged_NoWrites() {
+        // given
+        Map<String, String> unchanged = item("하늘");
+        given(funeralHomeRepository.findAllSyncKeys()).willReturn(List.of(
+                syncKey(1L, "하늘", "11", contentHashOf(unchanged), true)));
+        given(govApiService.canCall()).willReturn(true);
+        given(govApiService.fetchFuneralHomes(1, PAGE_SIZE)).willReturn(page(1, unchanged));
+
+        // when
+        FuneralHomeResponse.SyncResult result = syncService.runIncrementalSync();
+
+        // then
+        assertThat(result.getUnchangedCount()).isEqualTo(1);
+        verify(funeralHomeJdbcRepository, never()).upsertFromApi(anyList(), any());
+        verify(eventPublisher, never()).publishEvent(any(FuneralHomeDataChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 1~100만 허용 (API가 100건으로 줄여 응답하면 마지막 페이지 판단이 틀어짐)")
+    void pageSize_MustNotExceedApiLimit() {
+        FuneralHomeSyncConfig config = new FuneralHomeSyncConfig();
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            config.setPageSize(GovApiService.MAX_NUM_OF_ROWS + 1);
+            Set<ConstraintViolation<FuneralHomeSyncConfig>> violations = factory.getValidator().validate(config);
+            assertThat(violations).extracting(v -> v.getPropertyPath().toString()).containsExactly("pageSize");
+
+            config.setPageSize(0);
+            assertThat(factory.getValidator().validate(config)).hasSize(1);
+
+            config.setPageSize(GovApiService.MAX_NUM_OF_ROWS);
+            assertThat(factory.getValidator().validate(config)).isEmpty();
+        }
+
+        GovApiService realApiService = new GovApiService(null, clusterCoordinator);
+        assertThatThrownBy(() -> realApiService.fetchFuneralHomes(1, GovApiService.MAX_NUM_OF_ROWS + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Map<String, String> item(String name) {
+        return Map.of("nm", name, "locCode", "11", "roadAddr", name + "로 1", "crematorium", "Y");
+    }
+
+    @SafeVarargs
+    private static GovApiResponse page(int totalCount, Map<String, String>... items) {
+        return OBJECT_MAPPER.convertValue(Map.of("response", Map.of(
+                "header", Map.of("resultCode", "00", "resultMsg", "OK"),
+                "body", Map.of("totalCount", totalCount, "items", Map.of("item", new ArrayList<>(List.of(items)))))),
+                GovApiResponse.class);
+    }
+
+    private static String contentHashOf(Map<String, String> item) {
+        return FuneralHome.contentHashOf(item.get("roadAddr"), item.get("lotAddr"), item.get("telno"),
+                "Y".equals(item.get("crematorium")), false, false);
+    }
+
+    private static SyncKey syncKey(Long id, String name, String locCode, String contentHash, Boolean isActive) {
+        return new SyncKey() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getLocCode() {
+                return locCode;
+            }
+
+            @Override
+            public String getContentHash() {
+                return contentHash;
+            }
+
+            @Override
+            public Boolean getIsActive() {
+                return isActive;
+            }
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package com.petpro.domain.funeralhome.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petpro.domain.funeralhome.dto.GovApiResponse;
+import com.petpro.global.coordination.ClusterCoordinator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GovApiService 테스트")
+class GovApiServiceTest {
+
+    @InjectMocks
+    private GovApiService govApiService;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private ClusterCoordinator clusterCoordinator;
+
+    /** 공유 호출 한도 사용량 */
+    private final AtomicInteger quotaUsed = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(govApiService, "baseUrl", "https://example.com/api");
+        ReflectionTestUtils.setField(govApiService, "serviceKey", "test-key");
+
+        GovApiResponse body = new ObjectMapper().readValue("""
+                {"response": {
+                  "header": {"resultCode": "00", "resultMsg": "OK"},
+                  "body": {"totalCount": 250, "items": {"item": [{"nm": "펫메모리얼", "locCode": "6110000"}]}}
+                }}
+                """, GovApiResponse.class);
+        given(restTemplate.getForEntity(anyString(), eq(GovApiResponse.class)))
+                .willReturn(ResponseEntity.ok(body));
+        given(clusterCoordinator.tryAcquireQuota(eq(GovApiService.QUOTA_NAME), anyInt()))
+                .willAnswer(invocation -> {
+                    int limit = invocation.getArgument(1);
+                    return quotaUsed.getAndUpdate(used -> used < limit ? used + 1 : used) < limit;
+                });
+    }
+
+    @Test
+    @DisplayName("병렬 조회: 전체 페이지를 한 번씩 처리")
+    void fetchAllPages_AllPages() {
+        // given
+        ReflectionTestUtils.setField(govApiService, "dailyLimit", 100);
+        Set<Integer> pages = ConcurrentHashMap.newKeySet();
+
+        // when
+        boolean completed = govApiService.fetchAllPages(100, 4, 2, (pageNo, response) -> pages.add(pageNo));
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(pages).containsExactlyInAnyOrder(1, 2, 3);
+        // 페이지 수 조회 1회 + 페이지 3회
+        assertThat(quotaUsed.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("병렬 조회: 호출 한도에 도달하면 한도를 넘지 않고 중단")
+    void fetchAllPages_StopsAtDailyLimit() {
+        // given
+        ReflectionTestUtils.setField(govApiService, "dailyLimit", 3);
+        Set<Integer> pages = ConcurrentHashMap.newKeySet();
+
+        // when
+        boolean completed = govApiService.fetchAllPages(100, 4, 2, (pageNo, response) -> pages.add(pageNo));
+
+        // then
+        assertThat(completed).isFalse();
+        assertThat(pages).hasSize(2);
+        assertThat(quotaUsed.get()).isEqualTo(3);
+        verify(restTemplate, times(3)).getForEntity(anyString(), eq(GovApiResponse.class));
+    }
+}
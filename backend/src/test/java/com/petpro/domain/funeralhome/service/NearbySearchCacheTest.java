@@ -0,0 +1,161 @@
+package com.petpro.domain.funeralhome.service;
+
+import com.petpro.domain.funeralhome.config.NearbySearchConfig;
+import com.petpro.domain.funeralhome.dto.FuneralHomeRequest;
+import com.petpro.domain.funeralhome.dto.FuneralHomeResponse;
+import com.petpro.domain.funeralhome.entity.FuneralHome;
+import com.petpro.domain.funeralhome.repository.FuneralHomeRepository;
+import com.petpro.domain.location.util.GeoHash;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("NearbySearchCache 테스트")
+class NearbySearchCacheTest {
+
+    /** 셀 경계 바로 안쪽·바깥쪽 좌표 간격 (도) */
+    private static final double EDGE_EPSILON = 1e-7;
+
+    private FuneralHomeSpatialIndex spatialIndex;
+    private NearbySearchCache nearbySearchCache;
+    private NearbySearchConfig config;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        // 서울 시청 주변 ±0.3도 안에 무작위 장례식장 2,000곳 (좌표는 DB와 같은 소수점 7자리)
+        Random random = new Random(42);
+        List<FuneralHome> homes = new ArrayList<>();
+        for (long id = 1; id <= 2_000; id++) {
+            homes.add(FuneralHome.builder()
+                    .id(id)
+                    .name("장례식장" + id)
+                    .latitude(coordinate(37.5666805 + (random.nextDouble() - 0.5) * 0.6))
+                    .longitude(coordinate(126.9784147 + (random.nextDouble() - 0.5) * 0.6))
+                    .hasCrematorium(random.nextBoolean())
+                    .hasFuneral(random.nextBoolean())
+                    .hasColumbarium(random.nextBoolean())
+                    .build());
+        }
+        FuneralHomeRepository repository = mock(FuneralHomeRepository.class);
+        given(repository.findAllActiveWithCoordinates()).willReturn(homes);
+        spatialIndex = new FuneralHomeSpatialIndex(repository);
+        spatialIndex.rebuild();
+
+        config = new NearbySearchConfig();
+        nearbySearchCache = new NearbySearchCache(
+                new ConcurrentMapCacheManager(NearbySearchCache.CACHE_NAME), config, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("캐시 결과는 같은 좌표·반경의 직접 검색 결과와 같음 (같은 셀의 다른 좌표는 캐시 적중)")
+    void cachedResultsMatchDirectQuery() {
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            double latitude = 37.5666805 + (random.nextDouble() - 0.5) * 0.4;
+            double longitude = 126.9784147 + (random.nextDouble() - 0.5) * 0.4;
+            assertSameAsDirect(request(latitude, longitude, 1 + random.nextInt(10), 20, null));
+        }
+        // 같은 셀을 여러 번 조회했으므로 적재 횟수는 요청 수보다 적음
+        assertThat(loads.get()).isLessThan(200);
+    }
+
+    @Test
+    @DisplayName("geohash 셀 경계 양쪽 좌표에서도 직접 검색 결과와 같음")
+    void cachedResultsMatchDirectQueryAtCellEdges() {
+        int precision = config.getCache().getGeohashPrecision();
+        Random random = new Random(11);
+        for (int i = 0; i < 30; i++) {
+            double latitude = 37.5666805 + (random.nextDouble() - 0.5) * 0.3;
+            double longitude = 126.9784147 + (random.nextDouble() - 0.5) * 0.3;
+            GeoHash.Cell cell = GeoHash.decode(GeoHash.encode(latitude, longitude, precision));
+            int radius = 1 + random.nextInt(5);
+
+            double[][] points = {
+                    // 네 모서리 바로 안쪽
+                    {cell.minLat() + EDGE_EPSILON, cell.minLng() + EDGE_EPSILON},
+                    {cell.minLat() + EDGE_EPSILON, cell.maxLng() - EDGE_EPSILON},
+                    {cell.maxLat() - EDGE_EPSILON, cell.minLng() + EDGE_EPSILON},
+                    {cell.maxLat() - EDGE_EPSILON, cell.maxLng() - EDGE_EPSILON},
+                    // 네 변 바로 바깥쪽 (이웃 셀)
+                    {cell.minLat() - EDGE_EPSILON, cell.centerLongitude()},
+                    {cell.maxLat() + EDGE_EPSILON, cell.centerLongitude()},
+                    {cell.centerLatitude(), cell.minLng() - EDGE_EPSILON},
+                    {cell.centerLatitude(), cell.maxLng() + EDGE_EPSILON},
+            };
+            for (double[] point : points) {
+                assertSameAsDirect(request(point[0], point[1], radius, 100, null));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("시설 필터가 있어도 직접 검색 결과와 같음")
+    void cachedResultsMatchDirectQueryWithFilter() {
+        Random random = new Random(3);
+        for (int i = 0; i < 50; i++) {
+            double latitude = 37.5666805 + (random.nextDouble() - 0.5) * 0.4;
+            double longitude = 126.9784147 + (random.nextDouble() - 0.5) * 0.4;
+            assertSameAsDirect(request(latitude, longitude, 5, 10, true));
+        }
+    }
+
+    private void assertSameAsDirect(FuneralHomeRequest.NearbySearch request) {
+        List<FuneralHomeResponse.ListItem> cached = nearbySearchCache.find(request,
+                (latitude, longitude, radiusKm) -> {
+                    loads.incrementAndGet();
+                    return search(latitude, longitude, radiusKm, Integer.MAX_VALUE, request);
+                });
+        List<FuneralHomeResponse.ListItem> direct = search(request.getLatitude(), request.getLongitude(),
+                request.getRadius(), request.getLimit(), request);
+
+        assertThat(cached)
+                .as("lat=%s, lng=%s, radius=%s", request.getLatitude(), request.getLongitude(), request.getRadius())
+                .extracting(FuneralHomeResponse.ListItem::getId, FuneralHomeResponse.ListItem::getDistance)
+                .containsExactlyElementsOf(direct.stream()
+                        .map(item -> tuple(item.getId(), item.getDistance()))
+                        .toList());
+    }
+
+    /**
+     * FuneralHomeService의 인덱스 검색과 같은 방식의 직접 검색
+     */
+    private List<FuneralHomeResponse.ListItem> search(double latitude, double longitude, double radiusKm,
+                                                      int limit, FuneralHomeRequest.NearbySearch filter) {
+        return spatialIndex.findWithinRadius(latitude, longitude, radiusKm, limit,
+                        filter.getHasCrematorium(), filter.getHasFuneral(), filter.getHasColumbarium())
+                .stream()
+                .map(hit -> FuneralHomeResponse.ListItem.from(hit.home(),
+                        FuneralHomeService.roundDistance(hit.distanceKm())))
+                .toList();
+    }
+
+    private static FuneralHomeRequest.NearbySearch request(double latitude, double longitude, int radius,
+                                                           int limit, Boolean hasCrematorium) {
+        return FuneralHomeRequest.NearbySearch.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .radius(radius)
+                .limit(limit)
+                .hasCrematorium(hasCrematorium)
+                .build();
+    }
+
+    private static BigDecimal coordinate(double value) {
+        return BigDecimal.valueOf(value).setScale(7, RoundingMode.HALF_UP);
+    }
+}
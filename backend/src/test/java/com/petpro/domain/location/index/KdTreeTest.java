@@ -0,0 +1,105 @@
+package com.petpro.domain.location.index;
+
+import com.petpro.domain.location.util.HaversineCalculator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KdTree 테스트")
+class KdTreeTest {
+
+    private static final int SIZE = 2_000;
+
+    private final double[] lats = new double[SIZE];
+    private final double[] lngs = new double[SIZE];
+
+    KdTreeTest() {
+        Random random = new Random(7);
+        for (int i = 0; i < SIZE; i++) {
+            lats[i] = 34.0 + random.nextDouble() * 4.5;
+            lngs[i] = 126.0 + random.nextDouble() * 3.5;
+        }
+    }
+
+    @Test
+    @DisplayName("반경 검색 결과가 전체 탐색 결과와 일치")
+    void withinRadius_MatchesBruteForce() {
+        KdTree tree = KdTree.build(lats, lngs);
+        double lat = 37.5;
+        double lng = 127.0;
+
+        Neighbors result = tree.withinRadius(lat, lng, 30, 15, null);
+
+        int[] expected = bruteForce(lat, lng, 30, 15, slot -> true);
+        assertThat(slots(result)).containsExactly(expected);
+        for (int i = 1; i < result.size(); i++) {
+            assertThat(result.distanceKm(i)).isGreaterThanOrEqualTo(result.distanceKm(i - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("반경 검색 - 필터 적용")
+    void withinRadius_WithFilter() {
+        KdTree tree = KdTree.build(lats, lngs);
+
+        Neighbors result = tree.withinRadius(36.0, 128.0, 50, 100, slot -> slot % 3 == 0);
+
+        int[] expected = bruteForce(36.0, 128.0, 50, 100, slot -> slot % 3 == 0);
+        assertThat(slots(result)).containsExactly(expected);
+        assertThat(slots(result)).allMatch(slot -> slot % 3 == 0);
+    }
+
+    @Test
+    @DisplayName("최근접 k개 검색 결과가 전체 탐색 결과와 일치")
+    void nearest_MatchesBruteForce() {
+        KdTree tree = KdTree.build(lats, lngs);
+
+        Neighbors result = tree.nearest(35.1, 129.0, 10, null);
+
+        int[] expected = bruteForce(35.1, 129.0, Double.MAX_VALUE, 10, slot -> true);
+        assertThat(slots(result)).containsExactly(expected);
+    }
+
+    @Test
+    @DisplayName("반경 내 지점이 없으면 빈 결과")
+    void withinRadius_Empty() {
+        KdTree tree = KdTree.build(lats, lngs);
+
+        // 동해 한가운데
+        Neighbors result = tree.withinRadius(37.5, 131.5, 5, 10, null);
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("빈 트리 조회")
+    void emptyTree() {
+        KdTree tree = KdTree.build(new double[0], new double[0]);
+
+        assertThat(tree.size()).isZero();
+        assertThat(tree.withinRadius(37.5, 127.0, 10, 10, null).size()).isZero();
+        assertThat(tree.nearest(37.5, 127.0, 10, null).size()).isZero();
+    }
+
+    private int[] bruteForce(double lat, double lng, double radiusKm, int limit,
+                             IntPredicate filter) {
+        return IntStream.range(0, SIZE)
+                .filter(filter)
+                .boxed()
+                .filter(i -> HaversineCalculator.calculate(lat, lng, lats[i], lngs[i]) <= radiusKm)
+                .sorted(Comparator.comparingDouble(i -> HaversineCalculator.calculate(lat, lng, lats[i], lngs[i])))
+                .limit(limit)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private int[] slots(Neighbors neighbors) {
+        return IntStream.range(0, neighbors.size()).map(neighbors::slot).toArray();
+    }
+}
@@ -0,0 +1,75 @@
+package com.petpro.domain.location.index;
+
+import com.petpro.domain.location.util.HaversineCalculator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("TopKScan 테스트")
+class TopKScanTest {
+
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+
+    @Test
+    @DisplayName("전체 정렬 결과의 앞 k개와 일치")
+    void nearest_MatchesFullSort() {
+        assertMatchesFullSort(5_000, 20, Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    @DisplayName("병렬 기준 이상에서도 전체 정렬 결과와 일치")
+    void nearest_Parallel_MatchesFullSort() {
+        assertMatchesFullSort(TopKScan.PARALLEL_THRESHOLD * 3, 50, Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    @DisplayName("반경 밖 지점과 NaN 좌표는 제외")
+    void nearest_WithinRadius_ExcludesFarAndNaN() {
+        double[] lats = {37.5700, Double.NaN, 35.1796, 37.5600};
+        double[] lngs = {126.9800, 126.9780, 129.0756, 126.9700};
+
+        Neighbors result = TopKScan.nearest(LAT, LNG, lats, lngs, 10, 10.0, null);
+
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(result.slot(0)).isEqualTo(0);
+        assertThat(result.slot(1)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("위도·경도 배열 길이가 다르면 예외")
+    void nearest_LengthMismatch() {
+        assertThatThrownBy(() -> TopKScan.nearest(LAT, LNG, new double[2], new double[3], 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertMatchesFullSort(int size, int k, double maxDistanceKm) {
+        Random random = new Random(7);
+        double[] lats = new double[size];
+        double[] lngs = new double[size];
+        for (int i = 0; i < size; i++) {
+            lats[i] = 34.0 + random.nextDouble() * 4.5;
+            lngs[i] = 126.0 + random.nextDouble() * 3.5;
+        }
+
+        Neighbors result = TopKScan.nearest(LAT, LNG, lats, lngs, k, maxDistanceKm, null);
+
+        double[] expected = IntStream.range(0, size)
+                .mapToDouble(i -> HaversineCalculator.calculate(LAT, LNG, lats[i], lngs[i]))
+                .sorted()
+                .limit(k)
+                .toArray();
+        assertThat(result.size()).isEqualTo(k);
+        for (int i = 0; i < k; i++) {
+            assertThat(result.distanceKm(i)).isCloseTo(expected[i], within(1e-9));
+            assertThat(HaversineCalculator.calculate(LAT, LNG, lats[result.slot(i)], lngs[result.slot(i)]))
+                    .isCloseTo(result.distanceKm(i), within(1e-9));
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.petpro.domain.location.service;
+
+import com.petpro.domain.location.config.GeocodeStoreConfig;
+import com.petpro.domain.location.dto.GeocodingResult;
+import com.petpro.domain.location.entity.GeocodeLookupType;
+import com.petpro.domain.location.entity.GeocodedAddress;
+import com.petpro.domain.location.repository.GeocodedAddressRepository;
+import com.petpro.domain.location.util.KoreanAddressNormalizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GeocodeStore 테스트")
+class GeocodeStoreTest {
+
+    private static final String ADDRESS = "서울특별시 중구 세종대로 110";
+
+    @Mock
+    private GeocodedAddressRepository repository;
+
+    private CacheManager redis;
+    private MeterRegistry meterRegistry;
+    private GeocodeStore store;
+
+    @BeforeEach
+    void setUp() {
+        redis = new ConcurrentMapCacheManager(GeocodeStore.CACHE_NAME);
+        meterRegistry = new SimpleMeterRegistry();
+        store = new GeocodeStore(repository, redis, new GeocodeStoreConfig(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("DB에서 찾으면 Redis와 L1을 채우고, 다음 조회는 L1에서 응답")
+    void dbHit_FillsUpperTiers() {
+        // given
+        String key = KoreanAddressNormalizer.normalize(ADDRESS);
+        given(repository.findByLookupTypeAndLookupKey(GeocodeLookupType.ADDRESS, key))
+                .willReturn(Optional.of(GeocodedAddress.of(GeocodeLookupType.ADDRESS, key, result(37.5663, 126.9779))));
+
+        // when
+        Optional<GeocodingResult> first = store.findByAddress(ADDRESS);
+
+        // then: Redis에 채워짐
+        assertThat(first).isPresent();
+        assertThat(redisCache().get("addr:" + key, GeocodingResult.class)).isNotNull();
+
+        // when: Redis를 비워도 L1에서 응답
+        redisCache().clear();
+        Optional<GeocodingResult> second = store.findByAddress(ADDRESS);
+
+        // then
+        assertThat(second).get().extracting(GeocodingResult::getLatitude).isEqualTo(37.5663);
+        verify(repository, times(1)).findByLookupTypeAndLookupKey(any(), anyString());
+        assertThat(tierCount("db")).isEqualTo(1);
+        assertThat(tierCount("l1")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis에서 찾으면 DB를 조회하지 않고 L1을 채움")
+    void redisHit_SkipsDbAndFillsL1() {
+        // given
+        String key = KoreanAddressNormalizer.normalize(ADDRESS);
+        redisCache().put("addr:" + key, result(37.1, 127.1));
+
+        // when
+        Optional<GeocodingResult> first = store.findByAddress(ADDRESS);
+        redisCache().clear();
+        Optional<GeocodingResult> second = store.findByAddress(ADDRESS);
+
+        // then
+        assertThat(first).get().extracting(GeocodingResult::getLatitude).isEqualTo(37.1);
+        assertThat(second).get().extracting(GeocodingResult::getLatitude).isEqualTo(37.1);
+        verify(repository, never()).findByLookupTypeAndLookupKey(any(), anyString());
+        assertThat(tierCount("redis")).isEqualTo(1);
+        assertThat(tierCount("l1")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("어느 계층에도 없으면 빈 값, 표기만 다른 주소는 같은 키로 조회")
+    void miss_UsesNormalizedKey() {
+        // given
+        String key = KoreanAddressNormalizer.normalize(ADDRESS);
+        given(repository.findByLookupTypeAndLookupKey(eq(GeocodeLookupType.ADDRESS), anyString()))
+                .willReturn(Optional.empty());
+
+        // when
+        Optional<GeocodingResult> found = store.findByAddress("  서울  중구 세종대로 110 ");
+
+        // then
+        assertThat(found).isEmpty();
+        verify(repository).findByLookupTypeAndLookupKey(GeocodeLookupType.ADDRESS, key);
+        assertThat(tierCount("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 Redis를 건너뛰고 DB에서 조회")
+    void redisFailure_FallsBackToDb() {
+        // given
+        CacheManager failing = mock(CacheManager.class);
+        given(failing.getCache(GeocodeStore.CACHE_NAME)).willThrow(new IllegalStateException("redis down"));
+        GeocodeStore storeWithoutRedis = new GeocodeStore(repository, failing, new GeocodeStoreConfig(), meterRegistry);
+        String key = KoreanAddressNormalizer.normalize(ADDRESS);
+        given(repository.findByLookupTypeAndLookupKey(GeocodeLookupType.ADDRESS, key))
+                .willReturn(Optional.of(GeocodedAddress.of(GeocodeLookupType.ADDRESS, key, result(37.5, 127.0))));
+
+        // when
+        Optional<GeocodingResult> found = storeWithoutRedis.findByAddress(ADDRESS);
+
+        // then
+        assertThat(found).isPresent();
+    }
+
+    @Test
+    @DisplayName("저장하면 세 계층 모두에 기록되어 다음 조회는 L1에서 응답")
+    void save_WritesAllTiers() {
+        // when
+        store.saveAddress(ADDRESS, result(37.2, 127.2));
+        Optional<GeocodingResult> found = store.findByAddress(ADDRESS);
+
+        // then
+        String key = KoreanAddressNormalizer.normalize(ADDRESS);
+        verify(repository).upsert(any(GeocodedAddress.class));
+        assertThat(redisCache().get("addr:" + key, GeocodingResult.class)).isNotNull();
+        assertThat(found).get().extracting(GeocodingResult::getLatitude).isEqualTo(37.2);
+        verify(repository, never()).findByLookupTypeAndLookupKey(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 L1에 없는 주소만 DB에서 한 번에 조회하고 L1을 채움")
+    void findAll_QueriesDbOnlyForL1Misses() {
+        // given
+        String cachedAddress = "부산광역시 연제구 중앙대로 1001";
+        String storedAddress = "대전광역시 서구 둔산로 100";
+        store.saveAddress(cachedAddress, result(35.1, 129.0));
+        String storedKey = KoreanAddressNormalizer.normalize(storedAddress);
+        given(repository.findByLookupTypeAndLookupKeyIn(eq(GeocodeLookupType.ADDRESS), any()))
+                .willReturn(List.of(GeocodedAddress.of(GeocodeLookupType.ADDRESS, storedKey, result(36.3, 127.3))));
+
+        // when
+        Map<String, GeocodingResult> found = store.findAllByAddresses(List.of(cachedAddress, storedAddress, ADDRESS));
+        Map<String, GeocodingResult> again = store.findAllByAddresses(List.of(cachedAddress, storedAddress));
+
+        // then
+        assertThat(found).containsOnlyKeys(cachedAddress, storedAddress);
+        assertThat(again).containsOnlyKeys(cachedAddress, storedAddress);
+        verify(repository, times(1)).findByLookupTypeAndLookupKeyIn(eq(GeocodeLookupType.ADDRESS), any());
+        assertThat(tierCount("miss")).isEqualTo(1);
+    }
+
+    private Cache redisCache() {
+        return redis.getCache(GeocodeStore.CACHE_NAME);
+    }
+
+    private double tierCount(String tier) {
+        return meterRegistry.get("geocoding.store.requests").tag("tier", tier).counter().count();
+    }
+
+    private static GeocodingResult result(double latitude, double longitude) {
+        return GeocodingResult.builder()
+                .formattedAddress("test")
+                .latitude(latitude)
+                .longitude(longitude)
+                .components(GeocodingResult.AddressComponents.builder().country("대한민국").build())
+                .build();
+    }
+}
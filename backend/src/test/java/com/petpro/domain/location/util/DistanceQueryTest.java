@@ -0,0 +1,74 @@
+package com.petpro.domain.location.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("DistanceQuery 테스트")
+class DistanceQueryTest {
+
+    @Test
+    @DisplayName("exactKm은 HaversineCalculator와 같은 값")
+    void exactKm_MatchesHaversineCalculator() {
+        DistanceQuery query = DistanceQuery.of(37.5666805, 126.9784147);
+
+        assertThat(query.exactKm(35.1795543, 129.0756416))
+                .isCloseTo(HaversineCalculator.calculate(37.5666805, 126.9784147, 35.1795543, 129.0756416),
+                        within(1e-9));
+        assertThat(query.exactKm(37.5666805, 126.9784147)).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("대한민국 범위 50km 이내에서 등장방형 근사 오차는 0.13% 이하")
+    void approxKm_WithinDocumentedBound() {
+        Random random = new Random(3);
+        for (int i = 0; i < 100_000; i++) {
+            double lat = 33.5 + random.nextDouble() * 5.0;
+            double lng = 124.5 + random.nextDouble() * 7.0;
+            double otherLat = lat + (random.nextDouble() * 2 - 1) * 0.3;
+            double otherLng = lng + (random.nextDouble() * 2 - 1) * 0.3;
+            double exact = HaversineCalculator.calculate(lat, lng, otherLat, otherLng);
+            if (exact > 50.0 || exact < 0.001) {
+                continue;
+            }
+
+            double approx = DistanceQuery.of(lat, lng).approxKm(otherLat, otherLng);
+
+            assertThat(Math.abs(approx - exact) / exact).isLessThanOrEqualTo(0.0013);
+        }
+    }
+
+    @Test
+    @DisplayName("isWithinKm은 Haversine 판정과 항상 일치")
+    void isWithinKm_MatchesExact() {
+        Random random = new Random(5);
+        for (int i = 0; i < 100_000; i++) {
+            double lat = 33.0 + random.nextDouble() * 6.0;
+            double lng = 124.0 + random.nextDouble() * 8.0;
+            double otherLat = 33.0 + random.nextDouble() * 6.0;
+            double otherLng = 124.0 + random.nextDouble() * 8.0;
+            double radiusKm = random.nextDouble() * 400.0;
+
+            boolean expected = HaversineCalculator.calculate(lat, lng, otherLat, otherLng) <= radiusKm;
+
+            assertThat(DistanceQuery.of(lat, lng).isWithinKm(otherLat, otherLng, radiusKm)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("squaredDistance는 근사 거리와 같은 순서, squaredRadius로 반경 비교")
+    void squaredDistance_PreservesOrder() {
+        DistanceQuery query = DistanceQuery.of(37.4979, 127.0276);
+
+        double near = query.squaredDistance(37.5044, 127.0490);   // 선릉 약 2km
+        double far = query.squaredDistance(37.5663, 126.9779);    // 시청 약 9km
+
+        assertThat(near).isLessThan(far);
+        assertThat(near).isLessThan(DistanceQuery.squaredRadius(3.0));
+        assertThat(far).isGreaterThan(DistanceQuery.squaredRadius(3.0));
+    }
+}
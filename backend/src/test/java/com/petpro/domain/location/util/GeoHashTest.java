@@ -0,0 +1,56 @@
+package com.petpro.domain.location.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GeoHash 테스트")
+class GeoHashTest {
+
+    @Test
+    @DisplayName("알려진 좌표 인코딩")
+    void encode_KnownValue() {
+        assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+    }
+
+    @Test
+    @DisplayName("가까운 좌표는 같은 셀로 양자화")
+    void encode_NearbyPointsShareCell() {
+        // 강남역 부근 약 1m 차이
+        String a = GeoHash.encode(37.497942, 127.027621, 6);
+        String b = GeoHash.encode(37.497950, 127.027630, 6);
+
+        assertThat(a).isEqualTo(b);
+    }
+
+    @Test
+    @DisplayName("디코딩한 셀이 원래 좌표를 포함")
+    void decode_ContainsOriginalPoint() {
+        double lat = 37.5666805;
+        double lng = 126.9784147;
+
+        GeoHash.Cell cell = GeoHash.decode(GeoHash.encode(lat, lng, 6));
+
+        assertThat(lat).isBetween(cell.minLat(), cell.maxLat());
+        assertThat(lng).isBetween(cell.minLng(), cell.maxLng());
+        assertThat(HaversineCalculator.calculate(cell.centerLatitude(), cell.centerLongitude(), lat, lng))
+                .isLessThanOrEqualTo(cell.circumradiusKm());
+    }
+
+    @Test
+    @DisplayName("정밀도 6 셀 외접 반경은 1km 미만")
+    void circumradius_Precision6() {
+        GeoHash.Cell cell = GeoHash.decode(GeoHash.encode(37.5, 127.0, 6));
+
+        assertThat(cell.circumradiusKm()).isBetween(0.3, 1.0);
+    }
+
+    @Test
+    @DisplayName("잘못된 정밀도")
+    void encode_InvalidPrecision() {
+        assertThatThrownBy(() -> GeoHash.encode(37.5, 127.0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,43 @@
+package com.petpro.domain.location.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KoreanAddressNormalizer 테스트")
+class KoreanAddressNormalizerTest {
+
+    @Test
+    @DisplayName("공백·괄호 참고항목·시도 약칭 차이는 같은 키로 정규화")
+    void normalize_EquivalentAddresses() {
+        String expected = "서울특별시 강남구 테헤란로 152";
+
+        assertThat(KoreanAddressNormalizer.normalize("서울특별시 강남구 테헤란로 152")).isEqualTo(expected);
+        assertThat(KoreanAddressNormalizer.normalize("  서울시 강남구   테헤란로 152 (역삼동, 강남파이낸스센터)"))
+                .isEqualTo(expected);
+        assertThat(KoreanAddressNormalizer.normalize("대한민국 서울 강남구 테헤란로 152")).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("지번 주소의 번지 표기와 하이픈 공백 정리")
+    void normalize_LotAddress() {
+        assertThat(KoreanAddressNormalizer.normalize("경기 성남시 분당구 정자동 123 - 4번지"))
+                .isEqualTo("경기도 성남시 분당구 정자동 123-4");
+    }
+
+    @Test
+    @DisplayName("경기도 광주시는 광주광역시로 바꾸지 않음")
+    void normalize_KeepsGwangjuCityInGyeonggi() {
+        assertThat(KoreanAddressNormalizer.normalize("경기도 광주시 오포읍 123"))
+                .isEqualTo("경기도 광주시 오포읍 123");
+    }
+
+    @Test
+    @DisplayName("빈 주소는 null")
+    void normalize_Blank() {
+        assertThat(KoreanAddressNormalizer.normalize(null)).isNull();
+        assertThat(KoreanAddressNormalizer.normalize("   ")).isNull();
+        assertThat(KoreanAddressNormalizer.normalize("(참고)")).isNull();
+    }
+}
@@ -0,0 +1,45 @@
+package com.petpro.domain.location.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TokenBucketRateLimiter 테스트")
+class TokenBucketRateLimiterTest {
+
+    @Test
+    @DisplayName("burst만큼은 대기 없이 획득")
+    void tryAcquire_UpToBurst() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 3);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 채워질 때까지 대기")
+    void acquire_WaitsForRefill() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(20, 1);
+        limiter.acquire();
+
+        long startedAt = System.nanoTime();
+        limiter.acquire();
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // 초당 20개 → 약 50ms 후 다음 토큰
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("잘못된 설정값 거부")
+    void constructor_InvalidArguments() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(10, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
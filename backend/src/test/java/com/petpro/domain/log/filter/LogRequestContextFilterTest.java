@@ -0,0 +1,104 @@
+package com.petpro.domain.log.filter;
+
+import com.petpro.domain.log.entity.DeviceType;
+import com.petpro.domain.log.util.LogRequestContext;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LogRequestContextFilter 테스트")
+class LogRequestContextFilterTest {
+
+    private static final String IPHONE_UA = "Mozilla/5.0 (iPhone; CPU iPhone OS 17_4 like Mac OS X) "
+            + "AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.4 Mobile/15E148 Safari/604.1";
+
+    private final LogRequestContextFilter filter = new LogRequestContextFilter();
+
+    @Test
+    @DisplayName("요청 처리 중에는 요청 컨텍스트 스냅샷과 traceId를 제공하고 끝나면 제거")
+    void bindsSnapshotDuringRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Forwarded-For", "203.0.113.7, 10.0.0.1");
+        request.addHeader("User-Agent", IPHONE_UA);
+        request.addHeader(LogRequestContextFilter.REQUEST_ID_HEADER, "req-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<LogRequestContext> captured = new AtomicReference<>();
+        AtomicReference<String> mdcTraceId = new AtomicReference<>();
+
+        FilterChain chain = (req, res) -> {
+            captured.set(LogRequestContext.current());
+            mdcTraceId.set(MDC.get(LogRequestContextFilter.TRACE_ID_MDC_KEY));
+        };
+        filter.doFilter(request, response, chain);
+
+        assertThat(captured.get()).isEqualTo(
+                new LogRequestContext("203.0.113.7", IPHONE_UA, DeviceType.MOBILE, "req-123"));
+        assertThat(mdcTraceId.get()).isEqualTo("req-123");
+        assertThat(response.getHeader(LogRequestContextFilter.REQUEST_ID_HEADER)).isEqualTo("req-123");
+        assertThat(LogRequestContext.current()).isNull();
+        assertThat(MDC.get(LogRequestContextFilter.TRACE_ID_MDC_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 요청 ID는 새 ID로 대체하고 트레이싱이 넣은 traceId는 유지")
+    void resolvesTraceId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(LogRequestContextFilter.REQUEST_ID_HEADER, "bad id\nforged");
+        AtomicReference<LogRequestContext> captured = new AtomicReference<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> captured.set(LogRequestContext.current()));
+
+        assertThat(captured.get().traceId()).matches("[0-9a-f]{32}");
+        assertThat(captured.get().deviceType()).isEqualTo(DeviceType.OTHER);
+
+        MDC.put(LogRequestContextFilter.TRACE_ID_MDC_KEY, "otel-trace");
+        try {
+            filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                    (req, res) -> captured.set(LogRequestContext.current()));
+            assertThat(captured.get().traceId()).isEqualTo("otel-trace");
+            assertThat(MDC.get(LogRequestContextFilter.TRACE_ID_MDC_KEY)).isEqualTo("otel-trace");
+        } finally {
+            MDC.remove(LogRequestContextFilter.TRACE_ID_MDC_KEY);
+        }
+    }
+
+    @Test
+    @DisplayName("필터 밖에서는 HTTP 요청에서 직접 스냅샷 생성")
+    void resolvesWithoutFilter() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("198.51.100.2");
+        request.addHeader("User-Agent", "Mozilla/5.0 (iPad; CPU OS 17_4 like Mac OS X)");
+
+        LogRequestContext context = LogRequestContext.resolve(request);
+
+        assertThat(context.ipAddress()).isEqualTo("198.51.100.2");
+        assertThat(context.deviceType()).isEqualTo(DeviceType.TABLET);
+        assertThat(context.traceId()).isNull();
+    }
+
+    @Test
+    @DisplayName("UserAgent는 500자, X-Forwarded-For는 첫 번째 홉만 45자로 잘라 스냅샷 생성")
+    void truncatesClientSuppliedHeaders() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        String longHop = "2001:0db8:85a3:0000:0000:8a2e:0370:7334%forged-zone-suffix";
+        request.addHeader("X-Forwarded-For", "  " + longHop + " , 10.0.0.1, 10.0.0.2");
+        request.addHeader("User-Agent", IPHONE_UA + "x".repeat(1000));
+
+        LogRequestContext context = LogRequestContext.capture(request, null);
+
+        assertThat(context.ipAddress())
+                .hasSize(LogRequestContext.MAX_IP_ADDRESS_LENGTH)
+                .isEqualTo(longHop.substring(0, LogRequestContext.MAX_IP_ADDRESS_LENGTH));
+        assertThat(context.userAgent())
+                .hasSize(LogRequestContext.MAX_USER_AGENT_LENGTH)
+                .startsWith(IPHONE_UA);
+        assertThat(context.deviceType()).isEqualTo(DeviceType.MOBILE);
+    }
+}
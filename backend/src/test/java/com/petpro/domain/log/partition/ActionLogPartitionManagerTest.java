@@ -0,0 +1,81 @@
+package com.petpro.domain.log.partition;
+
+import com.petpro.domain.log.partition.ActionLogPartitionManager.Plan;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ActionLogPartitionManager 파티션 계획 테스트")
+class ActionLogPartitionManagerTest {
+
+    private static final YearMonth CURRENT = YearMonth.of(2026, 10);
+    private static final LogPartition MAX = new LogPartition("p_max", null);
+
+    private static LogPartition monthly(int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return new LogPartition(LogPartitionRepository.partitionName(yearMonth), yearMonth.plusMonths(1).atDay(1));
+    }
+
+    @Test
+    @DisplayName("마지막 월 파티션 다음 달부터 monthsAhead개월 뒤까지 생성")
+    void createsFuturePartitions() {
+        Plan plan = ActionLogPartitionManager.plan(
+                List.of(monthly(2026, 9), monthly(2026, 10), MAX), CURRENT, null, 3, 0);
+
+        assertThat(plan.create()).containsExactly(
+                YearMonth.of(2026, 11), YearMonth.of(2026, 12), YearMonth.of(2027, 1));
+        assertThat(plan.expire()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 충분히 만들어 두었으면 생성하지 않음")
+    void nothingToCreate() {
+        Plan plan = ActionLogPartitionManager.plan(
+                List.of(monthly(2026, 12), monthly(2027, 1), MAX), CURRENT, null, 3, 0);
+
+        assertThat(plan.create()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상한이 보관 기준 월 시작 이하인 파티션만 만료")
+    void expiresPartitionsOlderThanRetention() {
+        Plan plan = ActionLogPartitionManager.plan(
+                List.of(monthly(2025, 8), monthly(2025, 9), monthly(2025, 10), monthly(2027, 1), MAX),
+                CURRENT, null, 3, 12);
+
+        assertThat(plan.expire()).extracting(LogPartition::name).containsExactly("p202508", "p202509");
+    }
+
+    @Test
+    @DisplayName("처음 실행 시 기존 로그의 월부터 나누고 보관 기간 이전 로그는 한 파티션에 모아 만료")
+    void firstRunSplitsExistingData() {
+        Plan plan = ActionLogPartitionManager.plan(List.of(MAX), CURRENT, YearMonth.of(2020, 1), 1, 12);
+
+        assertThat(plan.create()).first().isEqualTo(YearMonth.of(2025, 9));
+        assertThat(plan.create()).last().isEqualTo(YearMonth.of(2026, 11));
+        assertThat(plan.expire()).singleElement()
+                .isEqualTo(new LogPartition("p202509", LocalDate.of(2025, 10, 1)));
+    }
+
+    @Test
+    @DisplayName("로그가 없는 테이블은 현재 월부터 생성")
+    void firstRunWithoutData() {
+        Plan plan = ActionLogPartitionManager.plan(List.of(MAX), CURRENT, null, 2, 12);
+
+        assertThat(plan.create()).containsExactly(
+                YearMonth.of(2026, 10), YearMonth.of(2026, 11), YearMonth.of(2026, 12));
+        assertThat(plan.expire()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("PARTITION_DESCRIPTION 해석")
+    void parsesUpperBound() {
+        assertThat(LogPartitionRepository.parseUpperBound("'2026-11-01 00:00:00'")).isEqualTo(LocalDate.of(2026, 11, 1));
+        assertThat(LogPartitionRepository.parseUpperBound("MAXVALUE")).isNull();
+    }
+}
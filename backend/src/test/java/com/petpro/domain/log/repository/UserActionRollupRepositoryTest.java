@@ -0,0 +1,56 @@
+package com.petpro.domain.log.repository;
+
+import com.petpro.domain.log.repository.UserActionRollupRepository.HourRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserActionRollupRepository 조회 기간 분할 테스트")
+class UserActionRollupRepositoryTest {
+
+    private static LocalDateTime at(int day, int hour, int minute) {
+        return LocalDateTime.of(2026, 3, day, hour, minute);
+    }
+
+    @Test
+    @DisplayName("온전한 시간은 집계 구간, 양 끝 부분 시간은 원본 로그 구간으로 분할")
+    void splitsPartialHours() {
+        HourRange range = HourRange.of(at(1, 9, 15), at(3, 18, 40));
+
+        assertThat(range.rollupStart()).isEqualTo(at(1, 10, 0));
+        assertThat(range.rollupEnd()).isEqualTo(at(3, 18, 0));
+        assertThat(range.start()).isEqualTo(at(1, 9, 15));
+        assertThat(range.end()).isEqualTo(at(3, 18, 40));
+    }
+
+    @Test
+    @DisplayName("정시로 시작하는 기간은 앞쪽 원본 로그 구간이 비어 있음")
+    void alignedStart() {
+        HourRange range = HourRange.of(at(1, 0, 0), at(2, 0, 0));
+
+        assertThat(range.rollupStart()).isEqualTo(range.start());
+        assertThat(range.rollupEnd()).isEqualTo(at(2, 0, 0));
+    }
+
+    @Test
+    @DisplayName("한 시간 안의 기간은 집계 구간 없이 전체를 원본 로그로 집계")
+    void withinSingleHour() {
+        HourRange range = HourRange.of(at(1, 9, 15), at(1, 9, 45));
+
+        assertThat(range.rollupStart()).isEqualTo(range.rollupEnd());
+        assertThat(range.rollupStart()).isEqualTo(range.start());
+        assertThat(range.end()).isEqualTo(at(1, 9, 45));
+    }
+
+    @Test
+    @DisplayName("정시를 하나만 걸치는 기간은 집계 구간 없이 앞뒤 원본 로그 구간으로 분할")
+    void acrossSingleHourBoundary() {
+        HourRange range = HourRange.of(at(1, 9, 15), at(1, 10, 20));
+
+        assertThat(range.rollupStart()).isEqualTo(at(1, 10, 0));
+        assertThat(range.rollupEnd()).isEqualTo(at(1, 10, 0));
+    }
+}
@@ -0,0 +1,181 @@
+package com.petpro.domain.log.writer;
+
+import com.petpro.domain.log.config.LogWriterConfig;
+import com.petpro.domain.log.entity.AdminActionLog;
+import com.petpro.domain.log.entity.AdminActionType;
+import com.petpro.domain.log.entity.TargetType;
+import com.petpro.domain.log.entity.UserActionLog;
+import com.petpro.domain.log.entity.UserActionType;
+import com.petpro.domain.log.repository.ActionLogJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ActionLogBatchWriter 테스트")
+class ActionLogBatchWriterTest {
+
+    private final ActionLogJdbcRepository repository = mock(ActionLogJdbcRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ActionLogSpool spool;
+    private ActionLogBatchWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+            spool.close();
+        }
+    }
+
+    @Test
+    @DisplayName("batchSize 단위로 묶어 저장하고 종료 시 남은 로그를 모두 저장")
+    @SuppressWarnings("unchecked")
+    void flushesInBatchesAndDrainsOnStop() {
+        writer = start(3, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 7; i++) {
+            writer.write(userLog(i));
+        }
+        writer.stop();
+
+        ArgumentCaptor<List<UserActionLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository, atLeastOnce()).insertUserActions(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(3));
+        assertThat(captor.getAllValues().stream().mapToInt(List::size).sum()).isEqualTo(7);
+        assertThat(meterRegistry.get("log.writer.flush.size").tag("type", "user").summary().totalAmount())
+                .isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("batchSize를 채우지 못해도 flushInterval이 지나면 저장")
+    void flushesByInterval() {
+        writer = start(100, Duration.ofMillis(20));
+
+        writer.write(adminLog());
+
+        verify(repository, timeout(2000)).insertAdminActions(anyList());
+    }
+
+    @Test
+    @DisplayName("스풀이 꺼져 있으면 종료 후 들어온 로그는 호출 스레드에서 바로 저장")
+    void writesOnCallerThreadAfterStop() {
+        writer = start(100, Duration.ofMinutes(1));
+        writer.stop();
+
+        UserActionLog entry = userLog(1);
+        writer.write(entry);
+
+        verify(repository).insertUserActions(List.of(entry));
+        assertThat(meterRegistry.get("log.writer.caller.writes").tag("type", "user").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스풀이 꺼져 있으면 저장 실패는 예외를 전파하지 않고 실패 건수로 기록")
+    void failedBatchIsCounted() {
+        willThrow(new IllegalStateException("db down")).given(repository).insertAdminActions(anyList());
+        writer = start(100, Duration.ofMinutes(1));
+        writer.stop();
+
+        writer.write(adminLog());
+
+        assertThat(meterRegistry.get("log.writer.failed").tag("type", "admin").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 묶음은 스풀에 기록하고 이후 묶음은 DB를 건너뛰고 스풀에 기록")
+    void spoolsFailedBatchesAndBypassesDatabase(@TempDir Path spoolDirectory) {
+        willThrow(new IllegalStateException("db down")).given(repository).insertUserActions(anyList());
+        writer = start(100, Duration.ofMinutes(1), spoolDirectory);
+
+        writer.write(userLog(1));
+        writer.write(adminLog());
+        writer.stop();
+
+        // 사용자 로그 저장 실패 → 스풀, 이어지는 운영자 로그는 DB를 시도하지 않고 스풀
+        verify(repository).insertUserActions(anyList());
+        verify(repository, never()).insertAdminActions(anyList());
+        assertThat(spool.pendingRecords()).isEqualTo(2);
+        assertThat(meterRegistry.get("log.writer.failed").tag("type", "user").counter().count()).isZero();
+
+        writer.write(userLog(2));
+
+        // 종료 후 들어온 로그도 호출 스레드에서 DB 대신 스풀에 기록
+        assertThat(spool.pendingRecords()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("데이터 오류 묶음은 한 건씩 다시 저장해 실패한 행만 버리고 스풀·DB 우회는 하지 않음")
+    void rejectsOnlyInvalidRowsOnDataError(@TempDir Path spoolDirectory) {
+        given(repository.insertUserActions(anyList())).willAnswer(invocation -> {
+            List<UserActionLog> logs = invocation.getArgument(0);
+            if (logs.stream().anyMatch(log -> log.getUserId() == 666L)) {
+                throw new DataIntegrityViolationException("Data too long for column 'user_agent' at row 1");
+            }
+            return logs.size();
+        });
+        writer = start(100, Duration.ofMinutes(1), spoolDirectory);
+
+        writer.write(userLog(1));
+        writer.write(userLog(666));
+        writer.write(userLog(2));
+        writer.write(adminLog());
+        writer.stop();
+
+        assertThat(meterRegistry.get("log.writer.rejected").tag("type", "user").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("log.writer.flush.size").tag("type", "user").summary().totalAmount())
+                .isEqualTo(2);
+        assertThat(spool.pendingRecords()).isZero();
+        // 데이터 오류는 장애가 아니므로 이어지는 운영자 로그는 DB에 저장
+        verify(repository).insertAdminActions(anyList());
+    }
+
+    private ActionLogBatchWriter start(int batchSize, Duration flushInterval) {
+        return start(batchSize, flushInterval, null);
+    }
+
+    private ActionLogBatchWriter start(int batchSize, Duration flushInterval, Path spoolDirectory) {
+        LogWriterConfig config = new LogWriterConfig();
+        config.setBatchSize(batchSize);
+        config.setFlushInterval(flushInterval);
+        config.setBufferCapacity(64);
+        config.getSpool().setEnabled(spoolDirectory != null);
+        if (spoolDirectory != null) {
+            config.getSpool().setDirectory(spoolDirectory.toString());
+            config.getSpool().setSegmentSize(DataSize.ofKilobytes(64));
+        }
+        spool = new ActionLogSpool(config, meterRegistry);
+        spool.open();
+        ActionLogBatchWriter created = new ActionLogBatchWriter(repository, spool, config, meterRegistry);
+        created.start();
+        return created;
+    }
+
+    private static UserActionLog userLog(long userId) {
+        return UserActionLog.create(userId, UserActionType.values()[0], TargetType.values()[0], null,
+                null, null, null, null, null);
+    }
+
+    private static AdminActionLog adminLog() {
+        return AdminActionLog.create(1L, AdminActionType.values()[0], TargetType.values()[0], null,
+                null, null, null, null);
+    }
+}
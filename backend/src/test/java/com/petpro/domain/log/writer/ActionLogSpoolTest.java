@@ -0,0 +1,162 @@
+package com.petpro.domain.log.writer;
+
+import com.petpro.domain.log.config.LogWriterConfig;
+import com.petpro.domain.log.entity.AdminActionLog;
+import com.petpro.domain.log.entity.AdminActionType;
+import com.petpro.domain.log.entity.DeviceType;
+import com.petpro.domain.log.entity.TargetType;
+import com.petpro.domain.log.entity.UserActionLog;
+import com.petpro.domain.log.entity.UserActionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ActionLogSpool 테스트")
+class ActionLogSpoolTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("기록한 로그를 필드 그대로 재저장하고 끝난 세그먼트는 삭제")
+    void appendAndReplay() throws Exception {
+        ActionLogSpool spool = open(DataSize.ofKilobytes(64));
+        UserActionLog userLog = UserActionLog.create(7L, UserActionType.values()[0], TargetType.COUPON, 42L,
+                "쿠폰 사용", "{\"a\":1}", "10.0.0.1", "Mozilla/5.0", DeviceType.MOBILE);
+        AdminActionLog adminLog = AdminActionLog.create(1L, AdminActionType.values()[0], TargetType.USER, null,
+                null, null, null, null);
+
+        assertThat(spool.append(List.of(userLog, adminLog))).isTrue();
+        List<UserActionLog> users = new ArrayList<>();
+        List<AdminActionLog> admins = new ArrayList<>();
+        int replayed = 0;
+        for (Path segment : spool.sealForReplay()) {
+            replayed += spool.replay(segment, 100, (u, a) -> {
+                users.addAll(u);
+                admins.addAll(a);
+            });
+        }
+
+        assertThat(replayed).isEqualTo(2);
+        assertThat(users).singleElement().satisfies(log -> {
+            assertThat(log.getUserId()).isEqualTo(7L);
+            assertThat(log.getTargetType()).isEqualTo(TargetType.COUPON);
+            assertThat(log.getTargetId()).isEqualTo(42L);
+            assertThat(log.getDescription()).isEqualTo("쿠폰 사용");
+            assertThat(log.getDeviceType()).isEqualTo(DeviceType.MOBILE);
+            assertThat(log.getCreatedAt()).isEqualTo(userLog.getCreatedAt());
+        });
+        assertThat(admins).singleElement().satisfies(log -> assertThat(log.getTargetId()).isNull());
+        assertThat(spool.hasPending()).isFalse();
+        assertThat(spool.sealForReplay()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재저장에 실패하면 완료한 묶음 다음부터 이어서 재저장")
+    void resumesFromCheckpointAfterFailure() throws Exception {
+        ActionLogSpool spool = open(DataSize.ofKilobytes(64));
+        spool.append(IntStream.range(0, 5).mapToObj(ActionLogSpoolTest::userLog).toList());
+        Path segment = spool.sealForReplay().get(0);
+
+        List<Long> written = new ArrayList<>();
+        assertThatThrownBy(() -> spool.replay(segment, 2, (users, admins) -> {
+            if (!written.isEmpty()) {
+                throw new IllegalStateException("db down");
+            }
+            users.forEach(log -> written.add(log.getUserId()));
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(spool.pendingRecords()).isEqualTo(3);
+
+        spool.replay(segment, 2, (users, admins) -> users.forEach(log -> written.add(log.getUserId())));
+
+        assertThat(written).containsExactly(0L, 1L, 2L, 3L, 4L);
+        assertThat(Files.exists(segment)).isFalse();
+    }
+
+    @Test
+    @DisplayName("데이터 오류가 반복되는 세그먼트는 dead-letter로 옮기고, 장애 오류는 계속 재시도")
+    void movesSegmentToDeadLetterAfterRepeatedDataErrors() throws Exception {
+        ActionLogSpool spool = open(DataSize.ofKilobytes(64));
+        spool.append(IntStream.range(0, 3).mapToObj(ActionLogSpoolTest::userLog).toList());
+        Path segment = spool.sealForReplay().get(0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> spool.replay(segment, 10, (users, admins) -> {
+                throw new IllegalStateException("db down");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(Files.exists(segment)).isTrue();
+
+        ActionLogSpool.ReplaySink invalid = (users, admins) -> {
+            throw new DataIntegrityViolationException("Data too long for column 'user_agent' at row 1");
+        };
+        assertThatThrownBy(() -> spool.replay(segment, 10, invalid)).isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> spool.replay(segment, 10, invalid)).isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(spool.replay(segment, 10, invalid)).isZero();
+
+        assertThat(Files.exists(segment)).isFalse();
+        assertThat(Files.exists(directory.resolve("dead-letter").resolve(segment.getFileName()))).isTrue();
+        assertThat(spool.pendingRecords()).isZero();
+        assertThat(spool.sealForReplay()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 다음 세그먼트로 넘어가고 재시작 후에도 남은 로그를 집계")
+    void rollsSegmentsAndRecoversAfterRestart() throws Exception {
+        ActionLogSpool spool = open(DataSize.ofKilobytes(1));
+        spool.append(IntStream.range(0, 30).mapToObj(ActionLogSpoolTest::userLog).toList());
+        spool.close();
+
+        ActionLogSpool reopened = open(DataSize.ofKilobytes(1));
+        List<Path> segments = reopened.sealedSegments();
+
+        assertThat(segments).hasSizeGreaterThan(1);
+        assertThat(reopened.pendingRecords()).isEqualTo(30);
+        reopened.append(List.of(userLog(99)));
+        assertThat(reopened.sealForReplay()).hasSize(segments.size() + 1);
+    }
+
+    @Test
+    @DisplayName("사용 중인데 디렉터리가 없거나 상대 경로이면 시작 실패")
+    void requiresAbsoluteDirectory() {
+        for (String configured : new String[]{null, "", "./data/action-log-spool"}) {
+            LogWriterConfig config = new LogWriterConfig();
+            config.getSpool().setDirectory(configured);
+            ActionLogSpool spool = new ActionLogSpool(config, new SimpleMeterRegistry());
+
+            assertThatThrownBy(spool::open)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("absolute path");
+        }
+    }
+
+    private ActionLogSpool open(DataSize segmentSize) {
+        LogWriterConfig config = new LogWriterConfig();
+        config.getSpool().setDirectory(directory.toString());
+        config.getSpool().setSegmentSize(segmentSize);
+        ActionLogSpool spool = new ActionLogSpool(config, new SimpleMeterRegistry());
+        spool.open();
+        return spool;
+    }
+
+    private static UserActionLog userLog(long userId) {
+        return UserActionLog.builder()
+                .userId(userId)
+                .actionType(UserActionType.values()[0])
+                .createdAt(LocalDateTime.of(2026, 1, 1, 12, 0))
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.petpro.domain.log.writer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LogRingBuffer 테스트")
+class LogRingBufferTest {
+
+    @Test
+    @DisplayName("용량은 2의 거듭제곱으로 올리고 가득 차면 offer 실패")
+    void boundedCapacity() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(3);
+
+        assertThat(buffer.capacity()).isEqualTo(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        assertThat(buffer.poll()).isZero();
+        assertThat(buffer.offer(4)).isTrue();
+    }
+
+    @Test
+    @DisplayName("drainTo는 넣은 순서대로 최대 개수까지 꺼냄")
+    void drainInOrder() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(8);
+        for (int i = 0; i < 6; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> sink = new ArrayList<>();
+
+        assertThat(buffer.drainTo(sink, 4)).isEqualTo(4);
+        assertThat(sink).containsExactly(0, 1, 2, 3);
+        assertThat(buffer.drainTo(sink, 10)).isEqualTo(2);
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 생산자·소비자가 동시에 사용해도 유실·중복 없음")
+    void concurrentProducersAndConsumers() throws Exception {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(64);
+        int producers = 4;
+        int perProducer = 2_000;
+        Set<Integer> received = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        CountDownLatch produced = new CountDownLatch(producers);
+        ExecutorService executor = Executors.newFixedThreadPool(producers + 2);
+        try {
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(base + i)) {
+                            Thread.yield();
+                        }
+                    }
+                    produced.countDown();
+                });
+            }
+            for (int c = 0; c < 2; c++) {
+                executor.submit(() -> {
+                    while (produced.getCount() > 0 || !buffer.isEmpty()) {
+                        Integer value = buffer.poll();
+                        if (value == null) {
+                            Thread.yield();
+                        } else if (!received.add(value)) {
+                            duplicates.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < producers * perProducer; i++) {
+            expected.add(i);
+        }
+        assertThat(duplicates.get()).isZero();
+        assertThat(received).isEqualTo(expected);
+    }
+}
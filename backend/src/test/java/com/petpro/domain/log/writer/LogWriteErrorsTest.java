@@ -0,0 +1,35 @@
+package com.petpro.domain.log.writer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.UncategorizedSQLException;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LogWriteErrors 테스트")
+class LogWriteErrorsTest {
+
+    @Test
+    @DisplayName("값 초과·제약 위반은 데이터 오류")
+    void dataErrors() {
+        SQLException tooLong = new SQLException("Data too long for column 'ip_address'", "22001", 1406);
+        SQLException duplicate = new SQLException("Duplicate entry", "23000", 1062);
+
+        assertThat(LogWriteErrors.isDataError(new UncategorizedSQLException("insert", "INSERT ...", tooLong))).isTrue();
+        assertThat(LogWriteErrors.isDataError(new RuntimeException(duplicate))).isTrue();
+        assertThat(LogWriteErrors.isDataError(new SQLException("Incorrect string value", "HY000", 1366))).isTrue();
+    }
+
+    @Test
+    @DisplayName("연결 실패·알 수 없는 오류는 장애")
+    void outageErrors() {
+        SQLException linkFailure = new SQLTransientConnectionException("Communications link failure", "08S01");
+
+        assertThat(LogWriteErrors.isDataError(new DataAccessResourceFailureException("down", linkFailure))).isFalse();
+        assertThat(LogWriteErrors.isDataError(new IllegalStateException("db down"))).isFalse();
+    }
+}
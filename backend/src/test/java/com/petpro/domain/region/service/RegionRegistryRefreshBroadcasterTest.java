@@ -0,0 +1,55 @@
+package com.petpro.domain.region.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("RegionRegistryRefreshBroadcaster 테스트")
+class RegionRegistryRefreshBroadcasterTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final RegionRegistry regionRegistry = mock(RegionRegistry.class);
+    private final RegionRegistryRefreshBroadcaster broadcaster = new RegionRegistryRefreshBroadcaster(
+            redisTemplate, mock(RedisMessageListenerContainer.class), regionRegistry);
+
+    @Test
+    @DisplayName("다른 노드의 요청은 재적재하고 자신이 보낸 요청은 무시")
+    void refreshesOnRemoteRequestOnly() {
+        broadcaster.broadcast();
+        ArgumentCaptor<String> own = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(RegionRegistryRefreshBroadcaster.CHANNEL), own.capture());
+
+        broadcaster.onMessage(message(own.getValue()), null);
+        verify(regionRegistry, never()).refresh();
+
+        broadcaster.onMessage(message("other-node"), null);
+        verify(regionRegistry).refresh();
+    }
+
+    @Test
+    @DisplayName("재적재에 실패해도 예외를 리스너 컨테이너로 전파하지 않음")
+    void swallowsRefreshFailure() {
+        willThrow(new IllegalStateException("db down")).given(regionRegistry).refresh();
+
+        broadcaster.onMessage(message("other-node"), null);
+
+        verify(regionRegistry).refresh();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                RegionRegistryRefreshBroadcaster.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,82 @@
+package com.petpro.domain.region.service;
+
+import com.petpro.domain.region.config.RegionRegistryConfig;
+import com.petpro.domain.region.dto.RegionResponse.CityDto;
+import com.petpro.domain.region.dto.RegionResponse.MetroDto;
+import com.petpro.domain.region.dto.RegionResponse.RegionDto;
+import com.petpro.domain.region.entity.RegionCode;
+import com.petpro.domain.region.entity.RegionType;
+import com.petpro.domain.region.repository.RegionCodeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("RegionRegistry 테스트")
+class RegionRegistryTest {
+
+    private final RegionCodeRepository repository = mock(RegionCodeRepository.class);
+    private final RegionRegistry registry = new RegionRegistry(repository, new RegionRegistryConfig());
+
+    @Test
+    @DisplayName("한 번 적재한 트리에서 코드 조회·하위 목록·활성 시/군/구 수를 제공")
+    void servesLookupsFromSingleLoad() {
+        given(repository.findAll()).willReturn(List.of(
+                region(1L, "11", "서울특별시", RegionType.METRO, null, 1, true),
+                region(2L, "26", "부산광역시", RegionType.METRO, null, 2, true),
+                region(3L, "11020", "중구", RegionType.CITY, "11", 2, true),
+                region(4L, "11010", "종로구", RegionType.CITY, "11", 1, true),
+                region(5L, "11030", "폐지구", RegionType.CITY, "11", 3, false),
+                region(6L, "99", "폐지도", RegionType.METRO, null, 3, false)));
+
+        assertThat(registry.metros().getMetros())
+                .extracting(MetroDto::getCode, MetroDto::getCityCount)
+                .containsExactly(tuple("11", 2L),
+                        tuple("26", 0L));
+        assertThat(registry.cities("11").getCities()).extracting(CityDto::getCode)
+                .containsExactly("11010", "11020");
+        assertThat(registry.childCodes("11")).containsExactly("11010", "11020", "11030");
+        assertThat(registry.find("11020").getParentCode()).isEqualTo("11");
+        assertThat(registry.contains("77")).isFalse();
+        assertThat(registry.cities("77")).isNull();
+        assertThat(registry.allActive()).extracting(RegionDto::getCode)
+                .containsExactly("11010", "11020", "11", "26");
+        assertThat(registry.hierarchy().getRegions()).hasSize(2);
+
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("재적재하면 새 스냅샷으로 교체")
+    void refreshReplacesSnapshot() {
+        given(repository.findAll())
+                .willReturn(List.of(region(1L, "11", "서울특별시", RegionType.METRO, null, 1, true)))
+                .willReturn(List.of(region(1L, "11", "서울특별시", RegionType.METRO, null, 1, false)));
+
+        assertThat(registry.metros().getTotalCount()).isEqualTo(1);
+        registry.refresh();
+
+        assertThat(registry.metros().getTotalCount()).isZero();
+        assertThat(registry.contains("11")).isTrue();
+    }
+
+    private static RegionCode region(Long id, String code, String name, RegionType type,
+                                     String parentCode, int sortOrder, boolean active) {
+        return RegionCode.builder()
+                .id(id)
+                .code(code)
+                .name(name)
+                .type(type)
+                .parentCode(parentCode)
+                .sortOrder(sortOrder)
+                .isActive(active)
+                .build();
+    }
+}
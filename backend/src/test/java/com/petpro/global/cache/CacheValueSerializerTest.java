@@ -0,0 +1,86 @@
+package com.petpro.global.cache;
+
+import com.petpro.domain.funeralhome.dto.FuneralHomeResponse;
+import com.petpro.domain.region.dto.RegionResponse;
+import com.petpro.domain.region.entity.RegionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CacheValueSerializer 테스트")
+class CacheValueSerializerTest {
+
+    private final CacheValueSerializer json = new CacheValueSerializer(CacheCodec.JSON, 0);
+    private final CacheValueSerializer smile = new CacheValueSerializer(CacheCodec.SMILE, 0);
+
+    @Test
+    @DisplayName("SMILE은 JSON보다 작고, 두 형식 모두 같은 DTO로 복원")
+    void roundTrip_SmileIsSmaller() {
+        FuneralHomeResponse.NearbyResult result = nearbyResult(50);
+
+        byte[] jsonBytes = json.serialize(result);
+        byte[] smileBytes = smile.serialize(result);
+
+        assertThat(smileBytes.length).isLessThan(jsonBytes.length);
+        FuneralHomeResponse.NearbyResult restored = (FuneralHomeResponse.NearbyResult) smile.deserialize(smileBytes);
+        assertThat(restored.getContent()).hasSize(50);
+        assertThat(restored.getContent().get(7).getName()).isEqualTo("장례식장 7");
+        assertThat(restored.getContent().get(7).getLatitude()).isEqualByComparingTo("37.5007");
+        assertThat(((FuneralHomeResponse.NearbyResult) json.deserialize(jsonBytes)).getRadius()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("형식을 바꿔도 기존 형식으로 저장된 값을 읽음")
+    void deserialize_DetectsFormat() {
+        RegionResponse.HierarchyListDto hierarchy = new RegionResponse.HierarchyListDto(List.of(
+                RegionResponse.HierarchyDto.builder()
+                        .code("11").name("서울특별시").type(RegionType.METRO)
+                        .children(List.of(RegionResponse.HierarchyDto.builder()
+                                .code("11680").name("강남구").type(RegionType.CITY).children(List.of()).build()))
+                        .build()));
+
+        Object fromJson = smile.deserialize(json.serialize(hierarchy));
+        Object fromSmile = json.deserialize(smile.serialize(hierarchy));
+
+        assertThat(((RegionResponse.HierarchyListDto) fromJson).getRegions().get(0).getChildren().get(0).getName())
+                .isEqualTo("강남구");
+        assertThat(((RegionResponse.HierarchyListDto) fromSmile).getRegions().get(0).getType())
+                .isEqualTo(RegionType.METRO);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 CacheValueTooLargeException")
+    void serialize_RejectsOversizedValue() {
+        CacheValueSerializer limited = new CacheValueSerializer(CacheCodec.SMILE, 1024);
+
+        assertThat(limited.serialize(nearbyResult(1))).isNotEmpty();
+        assertThatThrownBy(() -> limited.serialize(nearbyResult(100)))
+                .isInstanceOf(CacheValueTooLargeException.class);
+    }
+
+    private static FuneralHomeResponse.NearbyResult nearbyResult(int size) {
+        List<FuneralHomeResponse.ListItem> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(FuneralHomeResponse.ListItem.builder()
+                    .id((long) i)
+                    .name("장례식장 " + i)
+                    .roadAddress("서울특별시 강남구 테헤란로 " + i)
+                    .phone("02-000-" + i)
+                    .locName("서울특별시")
+                    .hasCrematorium(i % 2 == 0)
+                    .hasColumbarium(true)
+                    .hasFuneral(false)
+                    .latitude(new BigDecimal("37.5").add(BigDecimal.valueOf(i, 4)))
+                    .longitude(new BigDecimal("127.0"))
+                    .distance(i * 0.1)
+                    .build());
+        }
+        return FuneralHomeResponse.NearbyResult.builder().content(items).totalCount(size).radius(10).build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.petpro.global.cache;
+
+import com.petpro.global.config.SecondLevelCacheConfig;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SecondLevelCacheSupport 테스트")
+class SecondLevelCacheSupportTest {
+
+    @Test
+    @DisplayName("설정된 영역과 쿼리 캐시 갱신 시각 영역을 유닛별 캐시 관리자에 생성")
+    void createsConfiguredRegionsPerUnit() {
+        SecondLevelCacheConfig config = new SecondLevelCacheConfig();
+        SecondLevelCacheConfig.Region region = new SecondLevelCacheConfig.Region();
+        region.setMaxEntries(10);
+        region.setTtl(Duration.ofMinutes(1));
+        config.getUnits().put("test-main", unitWith("regionCodes", region));
+        config.getUnits().put("test-coupon", unitWith("coupons", region));
+
+        Map<String, Object> mainProperties = new HashMap<>();
+        Map<String, Object> couponProperties = new HashMap<>();
+        SecondLevelCacheSupport.apply(mainProperties, "test-main", config);
+        SecondLevelCacheSupport.apply(couponProperties, "test-coupon", config);
+
+        CacheManager main = (CacheManager) mainProperties.get(ConfigSettings.CACHE_MANAGER);
+        CacheManager coupon = (CacheManager) couponProperties.get(ConfigSettings.CACHE_MANAGER);
+        try {
+            assertThat(main).isNotSameAs(coupon);
+            assertThat(main.getCacheNames()).containsExactlyInAnyOrder("regionCodes", "default-update-timestamps-region");
+            assertThat(coupon.getCacheNames()).containsExactlyInAnyOrder("coupons", "default-update-timestamps-region");
+            assertThat(mainProperties).containsEntry("hibernate.cache.use_query_cache", true)
+                    .containsEntry(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        } finally {
+            main.close();
+            coupon.close();
+        }
+    }
+
+    @Test
+    @DisplayName("비활성화하면 캐시 관리자 없이 2차 캐시·쿼리 캐시를 끔")
+    void disabled() {
+        SecondLevelCacheConfig config = new SecondLevelCacheConfig();
+        config.setEnabled(false);
+        Map<String, Object> properties = new HashMap<>();
+
+        SecondLevelCacheSupport.apply(properties, "main", config);
+
+        assertThat(properties).containsEntry("hibernate.cache.use_second_level_cache", false)
+                .containsEntry("hibernate.cache.use_query_cache", false)
+                .doesNotContainKey(ConfigSettings.CACHE_MANAGER);
+    }
+
+    private static SecondLevelCacheConfig.Unit unitWith(String name, SecondLevelCacheConfig.Region region) {
+        SecondLevelCacheConfig.Unit unit = new SecondLevelCacheConfig.Unit();
+        unit.getRegions().put(name, region);
+        return unit;
+    }
+}
@@ -0,0 +1,156 @@
+package com.petpro.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SingleFlightCache 테스트")
+class SingleFlightCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrentMapCache delegate = new ConcurrentMapCache("funeralHomes", false);
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 한 번만 계산하고 나머지는 결과를 공유")
+    void concurrentMisses_LoadOnce() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache(delegate, null, Duration.ofSeconds(5),
+                null, 0, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cache.get("detail:1", () -> {
+                    loads.incrementAndGet();
+                    release.await(5, TimeUnit.SECONDS);
+                    return "home";
+                })));
+            }
+            while (coalesced("local") < callers - 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("home");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(delegate.get("detail:1", String.class)).isEqualTo("home");
+    }
+
+    @Test
+    @DisplayName("계산 중 Error가 나도 기다리던 호출이 같은 Error로 깨어나고 다음 호출은 다시 계산")
+    void loaderError_ReleasesWaiters() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache(delegate, null, Duration.ofSeconds(5),
+                null, 0, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                results.add(executor.submit(() -> cache.get("detail:1", () -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    throw new StackOverflowError("loader");
+                })));
+            }
+            while (coalesced("local") < 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                        .isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(StackOverflowError.class);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(cache.get("detail:1", () -> "home")).isEqualTo("home");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 잠금을 보유하면 계산하지 않고 그 결과를 기다림")
+    void lockHeldElsewhere_WaitsForRemoteLoad() throws Exception {
+        DistributedLoadLock lock = mock(DistributedLoadLock.class);
+        given(lock.tryLock(anyString(), any(), any())).willReturn(null);
+        SingleFlightCache cache = new SingleFlightCache(delegate, lock, Duration.ofSeconds(5),
+                null, 0, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        Thread otherNode = Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delegate.put("detail:1", "loaded elsewhere");
+        });
+
+        String value = cache.get("detail:1", () -> {
+            loads.incrementAndGet();
+            return "local";
+        });
+        otherNode.join();
+
+        assertThat(value).isEqualTo("loaded elsewhere");
+        assertThat(loads).hasValue(0);
+        assertThat(coalesced("remote")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("만료가 가까워지면 기존 값을 반환하면서 백그라운드로 다시 계산")
+    void nearExpiry_RefreshesEarly() {
+        AtomicLong now = new AtomicLong();
+        // -ln(0.5) ≈ 0.69: 계산 1초 × beta 1 기준, 남은 TTL이 약 0.69초 이하이면 갱신
+        SingleFlightCache cache = new SingleFlightCache(delegate, null, Duration.ofSeconds(5),
+                Duration.ofSeconds(10), 1.0, meterRegistry, Runnable::run, now::get, () -> 0.5);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("detail:1", () -> {
+            now.addAndGet(1_000);
+            return "v" + loads.incrementAndGet();
+        });
+
+        now.set(5_000);
+        assertThat(cache.get("detail:1", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(loads).hasValue(1);
+
+        now.set(10_500);
+        assertThat(cache.get("detail:1", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(loads).hasValue(2);
+        assertThat(delegate.get("detail:1", String.class)).isEqualTo("v2");
+        assertThat(meterRegistry.get("cache.load.early.refresh").counter().count()).isEqualTo(1.0);
+    }
+
+    private double coalesced(String scope) {
+        return meterRegistry.get("cache.load.coalesced").tag("scope", scope).counter().count();
+    }
+}
@@ -0,0 +1,100 @@
+package com.petpro.global.cache;
+
+import com.petpro.global.config.CachePolicyConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("TwoLevelCache 테스트")
+class TwoLevelCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final CacheInvalidationPublisher publisher = new CacheInvalidationPublisher(redisTemplate, "test");
+    private final ConcurrentMapCache remote = new ConcurrentMapCache("regions");
+    private final TwoLevelCache cache =
+            new TwoLevelCache("regions", remote, 100, Duration.ofMinutes(1), publisher, meterRegistry);
+
+    @Test
+    @DisplayName("L2에서 찾은 값은 L1에 채워 다음 조회부터 L1에서 반환")
+    void get_FillsLocalFromRemote() {
+        remote.put("hierarchy", "value");
+
+        assertThat(cache.get("hierarchy", String.class)).isEqualTo("value");
+        remote.evict("hierarchy");
+
+        assertThat(cache.get("hierarchy", String.class)).isEqualTo("value");
+        assertThat(localRequests("hit")).isEqualTo(1.0);
+        assertThat(localRequests("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("clear는 L1·L2를 지우고 무효화 메시지 발행")
+    void clear_PublishesInvalidation() {
+        cache.put("metros", "value");
+
+        cache.clear();
+
+        assertThat(cache.get("metros")).isNull();
+        verify(redisTemplate).convertAndSend(eq("test"), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지는 L1만 삭제")
+    void remoteInvalidation_EvictsOnlyLocal() {
+        CachePolicyConfig.Policy policy = new CachePolicyConfig.Policy();
+        policy.setLocalMaxSize(100);
+        ConcurrentMapCacheManager remoteManager = new ConcurrentMapCacheManager("regions", "users");
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(remoteManager, Map.of("regions", policy),
+                publisher, meterRegistry);
+        Cache regions = manager.getCache("regions");
+        regions.put("metros", "old");
+        remoteManager.getCache("regions").put("metros", "new");
+
+        CacheInvalidationPublisher otherNode = new CacheInvalidationPublisher(redisTemplate, "test");
+        String message = captureMessage(otherNode, "regions", "metros");
+        manager.onMessage(new DefaultMessage("test".getBytes(), message.getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(regions.get("metros", String.class)).isEqualTo("new");
+        assertThat(manager.getCache("users")).isNotInstanceOf(TwoLevelCache.class);
+    }
+
+    @Test
+    @DisplayName("자신이 보낸 메시지와 잘못된 형식은 무시, 키에 구분자가 있어도 해석")
+    void parse() {
+        CacheInvalidationPublisher otherNode = new CacheInvalidationPublisher(redisTemplate, "test");
+
+        assertThat(publisher.parse(captureMessage(publisher, "regions", "a"))).isNull();
+        assertThat(publisher.parse("garbage")).isNull();
+        assertThat(publisher.parse(captureMessage(otherNode, "funeralHomes", "nearby:wydm9|5")))
+                .isEqualTo(new CacheInvalidationPublisher.Invalidation("funeralHomes", "nearby:wydm9|5"));
+    }
+
+    private String captureMessage(CacheInvalidationPublisher source, String cacheName, String key) {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        source.publishEvict(cacheName, key);
+        verify(redisTemplate, atLeastOnce()).convertAndSend(eq("test"), captor.capture());
+        return captor.getValue();
+    }
+
+    private double localRequests(String result) {
+        return meterRegistry.get("cache.local.requests").tag("cache", "regions").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,112 @@
+package com.petpro.global.config.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("DataSourceAspect 테스트")
+class DataSourceAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSourceAspect aspect = new DataSourceAspect(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        DataSourceContextHolder.clearDataSourceType();
+    }
+
+    @Test
+    @DisplayName("클래스 레벨 readOnly는 Slave, 메서드 레벨 @Transactional이 우선")
+    void classLevelReadOnly() throws Throwable {
+        ReadOnlyService target = new ReadOnlyService();
+
+        assertThat(routedType(target, "find")).isEqualTo(DataSourceType.SLAVE);
+        assertThat(routedType(target, "save")).isEqualTo(DataSourceType.MASTER);
+    }
+
+    @Test
+    @DisplayName("@Transactional을 메타 어노테이션으로 가진 합성 어노테이션 인식")
+    void metaAnnotation() throws Throwable {
+        assertThat(routedType(new MetaAnnotatedService(), "find")).isEqualTo(DataSourceType.SLAVE);
+    }
+
+    @Test
+    @DisplayName("호출 후 바깥 설정 복원, 라우팅 결과를 서비스별 메트릭으로 기록")
+    void restoresPreviousTypeAndRecordsMetrics() throws Throwable {
+        DataSourceContextHolder.setDataSourceType(DataSourceType.MASTER);
+
+        routedType(new ReadOnlyService(), "find");
+        routedType(new ReadOnlyService(), "find");
+
+        assertThat(DataSourceContextHolder.peekDataSourceType()).isEqualTo(DataSourceType.MASTER);
+        assertThat(meterRegistry.get("datasource.routing.decisions")
+                .tag("service", "ReadOnlyService").tag("type", "slave").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("datasource.routing.duration")
+                .tag("service", "ReadOnlyService").tag("type", "slave").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("설정이 없던 스레드는 호출 후 비워짐")
+    void clearsWhenNoPreviousType() throws Throwable {
+        routedType(new ReadOnlyService(), "find");
+
+        assertThat(DataSourceContextHolder.peekDataSourceType()).isNull();
+    }
+
+    private DataSourceType routedType(Object target, String methodName) throws Throwable {
+        Method method = target.getClass().getMethod(methodName);
+        MethodSignature signature = mock(MethodSignature.class);
+        given(signature.getMethod()).willReturn(method);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(joinPoint.getTarget()).willReturn(target);
+
+        AtomicReference<DataSourceType> routed = new AtomicReference<>();
+        given(joinPoint.proceed()).willAnswer(invocation -> {
+            routed.set(DataSourceContextHolder.getDataSourceType());
+            return null;
+        });
+
+        aspect.determineDataSource(joinPoint);
+        return routed.get();
+    }
+
+    @Transactional(readOnly = true)
+    static class ReadOnlyService {
+
+        public void find() {
+        }
+
+        @Transactional
+        public void save() {
+        }
+    }
+
+    @Target({ElementType.TYPE, ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Transactional(readOnly = true)
+    @interface ReadOnlyTransactional {
+    }
+
+    static class MetaAnnotatedService {
+
+        @ReadOnlyTransactional
+        public void find() {
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.petpro.global.config.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ReplicationLagMonitor 테스트")
+class ReplicationLagMonitorTest {
+
+    private final ReplicaNode node = new ReplicaNode("slave1", mock(DataSource.class), 1);
+    private final ReplicationLagMonitor monitor =
+            new ReplicationLagMonitor(mock(DataSource.class), List.of(node), 1);
+
+    @Test
+    @DisplayName("재생 위치 이하인 가장 최근 Master 기록 시각이 반영 시각")
+    void record_CaughtUpToLatestReplayedSample() {
+        monitor.record(1_000, 100, new long[]{100});
+        assertThat(node.getCaughtUpToMillis()).isEqualTo(1_000);
+        assertThat(node.getReplayLagMillis()).isZero();
+
+        monitor.record(1_500, 200, new long[]{150});
+        assertThat(node.getCaughtUpToMillis()).isEqualTo(1_000);
+        assertThat(node.getReplayLagMillis()).isEqualTo(500);
+        assertThat(node.isCaughtUpTo(1_200)).isFalse();
+
+        monitor.record(2_000, 200, new long[]{200});
+        assertThat(node.getCaughtUpToMillis()).isEqualTo(2_000);
+        assertThat(node.isCaughtUpTo(1_200)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재생 위치를 알 수 없으면 반영 시각을 갱신하지 않음")
+    void record_UnknownReplayKeepsPrevious() {
+        monitor.record(1_000, 100, new long[]{100});
+        monitor.record(2_000, 100, new long[]{ReplicationLagMonitor.UNKNOWN_LSN});
+
+        assertThat(node.getCaughtUpToMillis()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("보관된 기록보다 더 뒤처지면 반영 시각 없음")
+    void record_TooFarBehind() {
+        monitor.record(1_000, 500, new long[]{100});
+
+        assertThat(node.getCaughtUpToMillis()).isZero();
+        assertThat(node.getReplayLagMillis()).isEqualTo(-1);
+    }
+}
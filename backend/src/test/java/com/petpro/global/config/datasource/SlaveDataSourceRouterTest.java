@@ -0,0 +1,113 @@
+package com.petpro.global.config.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SlaveDataSourceRouter 테스트")
+class SlaveDataSourceRouterTest {
+
+    @Test
+    @DisplayName("Round Robin: 두 Slave에 번갈아 분배")
+    void roundRobin_AlternatesSlaves() {
+        DataSource slave1 = mock(DataSource.class);
+        DataSource slave2 = mock(DataSource.class);
+        SlaveDataSourceRouter router = new SlaveDataSourceRouter(List.of(slave1, slave2));
+
+        assertThat(router.getNextSlaveDataSource()).isSameAs(slave1);
+        assertThat(router.getNextSlaveDataSource()).isSameAs(slave2);
+        assertThat(router.getNextSlaveDataSource()).isSameAs(slave1);
+    }
+
+    @Test
+    @DisplayName("Weighted: 가중치 비율로 분배")
+    void weighted_FollowsWeights() {
+        DataSource slave1 = mock(DataSource.class);
+        DataSource slave2 = mock(DataSource.class);
+        SlaveDataSourceRouter router = new SlaveDataSourceRouter(
+                List.of(new ReplicaNode("slave1", slave1, 3), new ReplicaNode("slave2", slave2, 1)),
+                ReplicaBalancer.of(ReplicaRoutingConfig.Strategy.WEIGHTED), 1, 1);
+
+        Map<DataSource, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 40_000; i++) {
+            counts.merge(router.getNextSlaveDataSource(), 1, Integer::sum);
+        }
+
+        assertThat(counts.get(slave1) / (double) counts.get(slave2)).isBetween(2.7, 3.3);
+    }
+
+    @Test
+    @DisplayName("상태 확인 연속 실패 시 제외, 성공하면 복귀")
+    void checkHealth_RemovesAndRestoresSlave() throws SQLException {
+        DataSource healthy = healthyDataSource();
+        DataSource failing = mock(DataSource.class);
+        given(failing.getConnection()).willThrow(new SQLException("down"));
+        SlaveDataSourceRouter router = new SlaveDataSourceRouter(
+                List.of(new ReplicaNode("slave1", healthy, 1), new ReplicaNode("slave2", failing, 1)),
+                new ReplicaBalancer.RoundRobin(), 2, 1);
+
+        router.checkHealth();
+        assertThat(router.getHealthyNodes()).hasSize(2);
+
+        router.checkHealth();
+        assertThat(router.getHealthyNodes()).extracting(ReplicaNode::getName).containsExactly("slave1");
+        assertThat(router.getNextSlaveDataSource()).isSameAs(healthy);
+        assertThat(router.getNextSlaveDataSource()).isSameAs(healthy);
+
+        Connection recovered = mock(Connection.class);
+        given(recovered.isValid(anyInt())).willReturn(true);
+        given(failing.getConnection()).willReturn(recovered);
+        router.checkHealth();
+        assertThat(router.getHealthyNodes()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("정상 Slave가 없으면 null (Master 사용)")
+    void noHealthySlave_ReturnsNull() {
+        DataSource slave = mock(DataSource.class);
+        SlaveDataSourceRouter router = new SlaveDataSourceRouter(List.of(slave));
+
+        assertThat(router.markFailed(slave)).isTrue();
+
+        assertThat(router.getNextSlaveDataSource()).isNull();
+        assertThat(router.markFailed(mock(DataSource.class))).isFalse();
+    }
+
+    @Test
+    @DisplayName("최소 반영 시각이 주어지면 따라잡은 Slave만 사용하고, 없으면 null")
+    void requiredCaughtUpTo_SkipsLaggingSlave() {
+        DataSource slave1 = mock(DataSource.class);
+        DataSource slave2 = mock(DataSource.class);
+        ReplicaNode node1 = new ReplicaNode("slave1", slave1, 1);
+        ReplicaNode node2 = new ReplicaNode("slave2", slave2, 1);
+        node1.recordReplication(2_000, 0);
+        node2.recordReplication(1_000, 1_000);
+        SlaveDataSourceRouter router = new SlaveDataSourceRouter(
+                List.of(node1, node2), new ReplicaBalancer.RoundRobin(), 1, 1);
+
+        assertThat(router.getNextSlaveDataSource(1_500)).isSameAs(slave1);
+        assertThat(router.getNextSlaveDataSource(1_500)).isSameAs(slave1);
+        assertThat(router.getNextSlaveDataSource(2_500)).isNull();
+        assertThat(List.of(router.getNextSlaveDataSource(0), router.getNextSlaveDataSource(0)))
+                .containsExactlyInAnyOrder(slave1, slave2);
+    }
+
+    private static DataSource healthyDataSource() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        given(connection.isValid(anyInt())).willReturn(true);
+        given(dataSource.getConnection()).willReturn(connection);
+        return dataSource;
+    }
+}
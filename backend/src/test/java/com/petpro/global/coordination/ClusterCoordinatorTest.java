@@ -0,0 +1,122 @@
+package com.petpro.global.coordination;
+
+import com.petpro.global.config.CoordinationConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClusterCoordinator 테스트")
+class ClusterCoordinatorTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private CoordinationJdbcRepository jdbcRepository;
+
+    private ClusterCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        coordinator = new ClusterCoordinator(redisTemplate, jdbcRepository,
+                new CoordinationConfig(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 호출 한도는 DB에서 차감")
+    void tryAcquireQuota_FallsBackToDatabase() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .willThrow(new RedisConnectionFailureException("down"));
+        given(jdbcRepository.tryAcquireQuota(eq("api"), any(LocalDate.class), eq(10), eq(0L)))
+                .willReturn(OptionalLong.of(1));
+
+        // when
+        boolean acquired = coordinator.tryAcquireQuota("api", 10);
+
+        // then
+        assertThat(acquired).isTrue();
+        verify(jdbcRepository).tryAcquireQuota(eq("api"), any(LocalDate.class), eq(10), eq(0L));
+    }
+
+    @Test
+    @DisplayName("Redis에서 본 사용량을 DB 대체 시 하한으로 넘기고, 복구 후에는 DB 사용량부터 Redis에서 셈")
+    void tryAcquireQuota_CarriesUsageAcrossStores() {
+        // given: Redis에서 8회 사용 확인 → Redis 장애 → DB에서 9회째 → Redis 복구
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .willReturn(8L)
+                .willThrow(new RedisConnectionFailureException("down"))
+                .willReturn(10L);
+        given(jdbcRepository.tryAcquireQuota(eq("api"), any(LocalDate.class), eq(10), eq(8L)))
+                .willReturn(OptionalLong.of(9));
+
+        // when
+        coordinator.tryAcquireQuota("api", 10);
+        coordinator.tryAcquireQuota("api", 10);
+        coordinator.tryAcquireQuota("api", 10);
+
+        // then
+        verify(jdbcRepository).tryAcquireQuota(eq("api"), any(LocalDate.class), eq(10), eq(8L));
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq("10"), any(), eq("9"));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 리스를 보유 중이면 획득 실패")
+    void tryAcquireLease_HeldByOtherNode() {
+        // given
+        given(jdbcRepository.acquireLease(eq("sync"), anyString(), anyLong())).willReturn(Optional.empty());
+
+        // when
+        Optional<ClusterLease> lease = coordinator.tryAcquireLease("sync", Duration.ofMinutes(10));
+
+        // then
+        assertThat(lease).isEmpty();
+    }
+
+    @Test
+    @DisplayName("리스는 Redis 상태와 무관하게 DB에서 획득·연장·펜싱·반납")
+    void tryAcquireLease_UsesDatabaseOnly() {
+        // given
+        given(jdbcRepository.acquireLease(eq("sync"), anyString(), eq(600_000L))).willReturn(Optional.of(7L));
+        given(jdbcRepository.renewLease(eq("sync"), anyString(), eq(7L), anyLong())).willReturn(true);
+        given(jdbcRepository.fenceLease(eq("sync"), anyString(), eq(7L))).willReturn(true);
+
+        // when
+        ClusterLease lease = coordinator.tryAcquireLease("sync", Duration.ofMinutes(10)).orElseThrow();
+        boolean renewed = lease.renew();
+        boolean fenced = lease.fence();
+        lease.close();
+
+        // then
+        assertThat(lease.getFencingToken()).isEqualTo(7L);
+        assertThat(renewed).isTrue();
+        assertThat(fenced).isTrue();
+        assertThat(lease.renew()).isFalse();
+        assertThat(lease.fence()).isFalse();
+        verify(jdbcRepository).releaseLease(eq("sync"), anyString(), eq(7L));
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,68 @@
+package com.petpro.global.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NgramIndex 테스트")
+class NgramIndexTest {
+
+    private final NgramIndex index = NgramIndex.of(List.of(
+            new String[]{"하늘 장례식장", "서울 강남구 테헤란로 1"},
+            new String[]{"장례", null},
+            new String[]{"장례식장 하늘", "부산 해운대구 센텀로 3"},
+            new String[]{"ＰＥＴ Home", "서울 서초구 장례로 5"}));
+
+    @Test
+    @DisplayName("2-gram 교집합 후보 중 정규화 문자열 포함 행만 반환")
+    void matchesSubstringOfAnyField() {
+        NgramIndex.Match match = index.match("장례식");
+
+        assertThat(match.rows().stream().toArray()).containsExactly(0, 2);
+        assertThat(match.candidates()).isEqualTo(2);
+        assertThat(index.match("해운대").rows().stream().toArray()).containsExactly(2);
+        assertThat(index.match("없는이름").rows().isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 1-gram 게시 목록으로 조회")
+    void singleCharacterQuery() {
+        assertThat(index.match("늘").rows().stream().toArray()).containsExactly(0, 2);
+    }
+
+    @Test
+    @DisplayName("전각 문자·대소문자·공백 차이를 정규화")
+    void normalizesQueryAndDocuments() {
+        assertThat(index.match("pet home").rows().stream().toArray()).containsExactly(3);
+        assertThat(index.match("하늘장례").rows().stream().toArray()).containsExactly(0);
+        assertThat(index.match("  ").rows().cardinality()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("점수는 앞 필드 > 전체 일치 > 앞부분 일치 > 앞쪽 부분 일치 순")
+    void scoresByFieldAndMatchQuality() {
+        String query = index.match("장례").query();
+
+        long exact = index.score(1, query);
+        long prefix = index.score(2, query);
+        long contains = index.score(0, query);
+        long secondField = index.score(3, query);
+
+        assertThat(exact).isGreaterThan(prefix);
+        assertThat(prefix).isGreaterThan(contains);
+        assertThat(contains).isGreaterThan(secondField);
+        assertThat(secondField).isPositive();
+        assertThat(index.score(0, NgramIndex.normalize("해운대"))).isZero();
+    }
+
+    @Test
+    @DisplayName("정렬된 게시 목록 교집합")
+    void intersect() {
+        assertThat(NgramIndex.intersect(new int[]{1, 4, 7, 9}, new int[]{0, 1, 2, 7, 8, 9, 10}))
+                .containsExactly(1, 7, 9);
+        assertThat(NgramIndex.intersect(new int[]{11}, new int[]{1, 2})).isEmpty();
+    }
+}
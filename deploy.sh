@@ -153,6 +153,10 @@ mkdir -p logs
 
 APP_ENV="${APP_ENV:-prod}"
 
+# 행위 로그 스풀 (로그 DB 장애 시 임시 저장, 재배포 후에도 남아 있어야 재저장됨)
+export LOG_SPOOL_DIR="${LOG_SPOOL_DIR:-$(pwd)/data/action-log-spool}"
+mkdir -p "$LOG_SPOOL_DIR"
+
 nohup java -Xms128m -Xmx384m -jar backend.jar \
     --spring.profiles.active="$APP_ENV" \
     > logs/backend.log 2>&1 &